@@ -0,0 +1,15 @@
+#!/bin/sh
+# Build the application and the benchmarks, then run JMH and write the
+# results as JSON to benchmarks/results/. Extra arguments go to JMH, e.g.
+#   ./benchmarks/run-benchmarks.sh DaoBenchmark -p students=10000
+#   ./benchmarks/run-benchmarks.sh -l
+set -e
+cd "$(dirname "$0")/.."
+
+mvn -B -q install -DskipTests
+mvn -B -q -f benchmarks/pom.xml package
+
+mkdir -p benchmarks/results
+RESULT="benchmarks/results/jmh-$(date +%Y%m%d-%H%M%S).json"
+java -jar benchmarks/target/benchmarks.jar -rf json -rff "$RESULT" "$@"
+echo "Results written to $RESULT"
@@ -0,0 +1,73 @@
+package com.studentmanagement.benchmarks;
+
+import com.studentmanagement.dao.impl.CachingStudentDAO;
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.model.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CachingStudentDAO lookups against an in-memory delegate, so the numbers
+ * are the cache's own overhead: hits on a warm working set, misses that load
+ * and admit, and ids the negative cache knows are missing. Runs on four
+ * threads to include contention on the shared cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class CacheBenchmark {
+    private static final int STUDENTS = 100_000;
+    private static final int CACHE_SIZE = 10_000;
+    private static final int HOT_SET = 5_000;
+
+    private CachingStudentDAO cache;
+
+    @Setup(Level.Trial)
+    public void warm() throws StudentManagementException {
+        cache = new CachingStudentDAO(new InMemoryStudentDAO(STUDENTS, 42), CACHE_SIZE,
+                TimeUnit.MINUTES.toMillis(10), TimeUnit.MINUTES.toMillis(10));
+        for (int round = 0; round < 3; round++) {
+            for (int id = 1; id <= HOT_SET; id++) {
+                cache.getStudentById(id);
+            }
+        }
+        for (int id = STUDENTS + 1; id <= STUDENTS + 100; id++) {
+            cache.getStudentById(id);
+        }
+    }
+
+    @Benchmark
+    public Student hit() throws StudentManagementException {
+        return cache.getStudentById(1 + ThreadLocalRandom.current().nextInt(HOT_SET));
+    }
+
+    /**
+     * Ids spread over all students: mostly misses that load from the delegate
+     */
+    @Benchmark
+    public Student miss() throws StudentManagementException {
+        return cache.getStudentById(1 + ThreadLocalRandom.current().nextInt(STUDENTS));
+    }
+
+    @Benchmark
+    public Student knownMissing() throws StudentManagementException {
+        return cache.getStudentById(STUDENTS + 1 + ThreadLocalRandom.current().nextInt(100));
+    }
+}
@@ -0,0 +1,120 @@
+package com.studentmanagement.benchmarks;
+
+import com.studentmanagement.dao.StudentDAO;
+import com.studentmanagement.dao.impl.StudentDAOImpl;
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.model.Page;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.util.DatabaseConnection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StudentDAOImpl end to end - connection pool, SQL, driver and row mapping -
+ * against an embedded H2 database in MySQL mode seeded with 10k, 100k and
+ * 1M students. Absolute numbers are not MySQL's, but the relative cost of
+ * the queries and how it grows with the table are.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DaoBenchmark {
+    private static final int PAGE_SIZE = 50;
+    private static final int SEARCH_LIMIT = 20;
+
+    @Param({"10000", "100000", "1000000"})
+    public int students;
+
+    private StudentDAO dao;
+    private String[] prefixes;
+
+    @Setup(Level.Trial)
+    public void seed() throws SQLException, IOException {
+        H2Database.configure();
+        H2Database.seed(students, 42);
+        dao = new StudentDAOImpl();
+
+        Random random = new Random(7);
+        prefixes = new String[64];
+        for (int i = 0; i < prefixes.length; i++) {
+            prefixes[i] = SyntheticStudents.namePrefix(random);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        DatabaseConnection.shutdown();
+    }
+
+    private int randomId() {
+        return 1 + ThreadLocalRandom.current().nextInt(students);
+    }
+
+    @Benchmark
+    public Student getStudentById() throws StudentManagementException {
+        return dao.getStudentById(randomId());
+    }
+
+    /**
+     * First page and a page from the middle of the table by keyset cursor
+     */
+    @Benchmark
+    public Page<Student> getStudentsPage() throws StudentManagementException {
+        Page<Student> first = dao.getStudentsPage(null, PAGE_SIZE, false);
+        return first.getNextCursor() == null ? first : dao.getStudentsPage(first.getNextCursor(), PAGE_SIZE, false);
+    }
+
+    @Benchmark
+    public List<Student> searchStudentsByName() throws StudentManagementException {
+        return dao.searchStudentsByName(prefixes[ThreadLocalRandom.current().nextInt(prefixes.length)], SEARCH_LIMIT);
+    }
+
+    @Benchmark
+    public List<Student> searchStudentsByNamePrefix() throws StudentManagementException {
+        return dao.searchStudentsByNamePrefix(prefixes[ThreadLocalRandom.current().nextInt(prefixes.length)],
+                SEARCH_LIMIT);
+    }
+
+    /**
+     * One course is an eighth of the table, so this is the large-result path
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Student> getStudentsByCourse() throws StudentManagementException {
+        return dao.getStudentsByCourse(1 + ThreadLocalRandom.current().nextInt(SyntheticStudents.COURSES));
+    }
+
+    /**
+     * Moves a student to another course and age: row lock, update and the
+     * enrollment summary deltas in one transaction
+     */
+    @Benchmark
+    public boolean updateStudent() throws StudentManagementException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int studentId = randomId();
+        Student student = new Student(studentId, "Updated Student", 16 + random.nextInt(50),
+                "updated" + studentId + "@example.com", 1 + random.nextInt(SyntheticStudents.COURSES));
+        return dao.updateStudent(student);
+    }
+}
@@ -0,0 +1,117 @@
+package com.studentmanagement.benchmarks;
+
+import com.studentmanagement.model.Student;
+import com.studentmanagement.util.DatabaseConnection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+
+/**
+ * Embedded H2 database in MySQL mode behind DatabaseConnection, for the
+ * end-to-end DAO benchmarks. The application reads db.* system properties
+ * over database.properties, so configure() must run before anything touches
+ * DatabaseConnection.
+ */
+final class H2Database {
+    private static final String SCHEMA = "database/init_db_h2.sql";
+    private static final int BATCH_SIZE = 5_000;
+
+    private H2Database() {
+    }
+
+    static void configure() {
+        System.setProperty("db.driver", "org.h2.Driver");
+        System.setProperty("db.url", "jdbc:h2:mem:benchmarks;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        System.setProperty("db.username", "sa");
+        System.setProperty("db.password", "");
+        System.setProperty("db.replica.urls", "");
+        System.setProperty("db.search.fullTextMode", "OFF");
+        System.setProperty("db.students.writeProcedures", "false");
+    }
+
+    /**
+     * Create the schema and replace all rows with `students` synthetic students
+     */
+    static void seed(int students, long seed) throws SQLException, IOException {
+        try (Connection connection = DatabaseConnection.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : readSchema().split(";")) {
+                    if (!sql.trim().isEmpty()) {
+                        statement.execute(sql);
+                    }
+                }
+                statement.execute("DELETE FROM age_stats");
+                statement.execute("DELETE FROM course_stats");
+                statement.execute("DELETE FROM students");
+                statement.execute("DELETE FROM courses");
+            }
+
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO courses (course_id, course_name, description) VALUES (?, ?, ?)")) {
+                for (int courseId = 1; courseId <= SyntheticStudents.COURSES; courseId++) {
+                    insert.setInt(1, courseId);
+                    insert.setString(2, SyntheticStudents.courseName(courseId));
+                    insert.setString(3, "Benchmark course " + courseId);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+
+            Random random = new Random(seed);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO students (student_id, name, age, email, course_id) VALUES (?, ?, ?, ?, ?)")) {
+                for (int i = 0; i < students; i++) {
+                    Student student = SyntheticStudents.student(random, i);
+                    insert.setInt(1, student.getStudentId());
+                    insert.setString(2, student.getName());
+                    insert.setInt(3, student.getAge());
+                    insert.setString(4, student.getEmail());
+                    insert.setInt(5, student.getCourseId());
+                    insert.addBatch();
+                    if ((i + 1) % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                }
+                insert.executeBatch();
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE students ALTER COLUMN student_id RESTART WITH " + (students + 1));
+                statement.execute("INSERT INTO course_stats (course_id, student_count, age_sum) "
+                        + "SELECT course_id, COUNT(*), SUM(age) FROM students WHERE course_id IS NOT NULL "
+                        + "GROUP BY course_id");
+                statement.execute("INSERT INTO age_stats (age, student_count) "
+                        + "SELECT age, COUNT(*) FROM students GROUP BY age");
+            }
+            connection.commit();
+        }
+    }
+
+    /**
+     * The schema script, from the working directory (the repository root when
+     * started by run-benchmarks.sh) or the classpath
+     */
+    private static String readSchema() throws IOException {
+        Path path = Paths.get(SCHEMA);
+        if (Files.exists(path)) {
+            return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        }
+        try (InputStream in = H2Database.class.getResourceAsStream("/" + SCHEMA)) {
+            if (in == null) {
+                throw new IOException(SCHEMA + " not found; run the benchmarks from the repository root");
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
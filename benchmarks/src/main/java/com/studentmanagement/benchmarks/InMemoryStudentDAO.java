@@ -0,0 +1,56 @@
+package com.studentmanagement.benchmarks;
+
+import com.studentmanagement.dao.ForwardingStudentDAO;
+import com.studentmanagement.dao.RowHandler;
+import com.studentmanagement.dao.StudentDAO;
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.model.Student;
+
+import java.lang.reflect.Proxy;
+import java.util.Random;
+
+/**
+ * StudentDAO over an array of synthetic students, for benchmarks that
+ * measure the layers above the database. Methods not overridden here fail
+ * with UnsupportedOperationException.
+ */
+final class InMemoryStudentDAO extends ForwardingStudentDAO {
+    private final Student[] students;
+
+    InMemoryStudentDAO(int count, long seed) {
+        super(unsupported());
+        Random random = new Random(seed);
+        this.students = new Student[count];
+        for (int i = 0; i < count; i++) {
+            students[i] = SyntheticStudents.student(random, i);
+        }
+    }
+
+    int size() {
+        return students.length;
+    }
+
+    Student get(int index) {
+        return students[index];
+    }
+
+    @Override
+    public Student getStudentById(int studentId) {
+        return studentId >= 1 && studentId <= students.length ? new Student(students[studentId - 1]) : null;
+    }
+
+    @Override
+    public long forEachStudent(RowHandler<Student> handler, boolean reuseInstance) throws StudentManagementException {
+        for (Student student : students) {
+            handler.handle(student);
+        }
+        return students.length;
+    }
+
+    private static StudentDAO unsupported() {
+        return (StudentDAO) Proxy.newProxyInstance(StudentDAO.class.getClassLoader(),
+                new Class<?>[] {StudentDAO.class}, (proxy, method, args) -> {
+                    throw new UnsupportedOperationException(method.getName() + " is not simulated");
+                });
+    }
+}
@@ -0,0 +1,105 @@
+package com.studentmanagement.benchmarks;
+
+import com.studentmanagement.dao.impl.StudentRowMapper;
+import com.studentmanagement.model.CourseDictionary;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.model.StudentRecord;
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning JOIN rows into Students, without the driver's network and
+ * parsing work: StudentRowMapper over an in-memory ResultSet, allocating a
+ * Student per row versus reusing one the way forEachStudent does, and
+ * mapping to compact StudentRecords. Run with -prof gc for bytes per row;
+ * StudentFootprint measures what the rows retain.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowMappingBenchmark {
+
+    @Param({"1000"})
+    public int rows;
+
+    private SimpleResultSet resultSet;
+    private final CourseDictionary courses = new CourseDictionary();
+
+    @Setup
+    public void generate() {
+        Random random = new Random(42);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        resultSet = new SimpleResultSet();
+        resultSet.setAutoClose(false);
+        resultSet.addColumn("student_id", Types.INTEGER, 10, 0);
+        resultSet.addColumn("name", Types.VARCHAR, 100, 0);
+        resultSet.addColumn("age", Types.INTEGER, 10, 0);
+        resultSet.addColumn("email", Types.VARCHAR, 150, 0);
+        resultSet.addColumn("course_id", Types.INTEGER, 10, 0);
+        resultSet.addColumn("course_name", Types.VARCHAR, 100, 0);
+        resultSet.addColumn("created_at", Types.TIMESTAMP, 0, 0);
+        resultSet.addColumn("updated_at", Types.TIMESTAMP, 0, 0);
+        for (int i = 0; i < rows; i++) {
+            Student student = SyntheticStudents.student(random, i);
+            resultSet.addRow(student.getStudentId(), student.getName(), student.getAge(), student.getEmail(),
+                    student.getCourseId(), student.getCourseName(), now, now);
+        }
+    }
+
+    @Benchmark
+    public void mapNewInstance(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        StudentRowMapper mapper = new StudentRowMapper(resultSet);
+        while (resultSet.next()) {
+            blackhole.consume(mapper.map(resultSet));
+        }
+    }
+
+    @Benchmark
+    public void mapReusedInstance(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        StudentRowMapper mapper = new StudentRowMapper(resultSet);
+        Student reused = new Student();
+        while (resultSet.next()) {
+            blackhole.consume(mapper.mapInto(resultSet, reused));
+        }
+    }
+
+    @Benchmark
+    public void mapRecord(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        StudentRowMapper mapper = new StudentRowMapper(resultSet);
+        while (resultSet.next()) {
+            blackhole.consume(mapper.mapRecord(resultSet, courses, false));
+        }
+    }
+
+    @Benchmark
+    public void mapRecordUtf8Email(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        StudentRowMapper mapper = new StudentRowMapper(resultSet);
+        while (resultSet.next()) {
+            blackhole.consume(mapper.mapRecord(resultSet, courses, true));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.studentmanagement.benchmarks;
+
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.search.FuzzyStudentIndex;
+import com.studentmanagement.search.StudentNameIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory name searches over 10k to 1M students: substring, prefix and
+ * fuzzy lookups, plus the cost of rebuilding the indexes from a scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SearchBenchmark {
+    private static final int LIMIT = 20;
+
+    @Param({"10000", "100000", "1000000"})
+    public int students;
+
+    private InMemoryStudentDAO source;
+    private StudentNameIndex nameIndex;
+    private FuzzyStudentIndex fuzzyIndex;
+    private String[] substrings;
+    private String[] prefixes;
+    private String[] misspelled;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void build() throws StudentManagementException {
+        source = new InMemoryStudentDAO(students, 42);
+        nameIndex = new StudentNameIndex();
+        nameIndex.build(source);
+        fuzzyIndex = new FuzzyStudentIndex();
+        fuzzyIndex.build(source);
+
+        Random random = new Random(7);
+        substrings = new String[256];
+        prefixes = new String[256];
+        misspelled = new String[256];
+        for (int i = 0; i < substrings.length; i++) {
+            String name = source.get(random.nextInt(students)).getName();
+            String last = name.substring(name.indexOf(' ') + 1);
+            substrings[i] = last.substring(1, Math.min(5, last.length()));
+            prefixes[i] = SyntheticStudents.namePrefix(random);
+            misspelled[i] = last.substring(0, last.length() - 2) + "x" + last.charAt(last.length() - 1);
+        }
+    }
+
+    private int nextQuery() {
+        return next++ & 255;
+    }
+
+    @Benchmark
+    public List<Integer> substring() {
+        return nameIndex.search(substrings[nextQuery()], LIMIT);
+    }
+
+    @Benchmark
+    public List<Integer> prefix() {
+        return nameIndex.searchPrefix(prefixes[nextQuery()], LIMIT);
+    }
+
+    @Benchmark
+    public List<FuzzyStudentIndex.Hit> fuzzy() {
+        return fuzzyIndex.search(misspelled[nextQuery()], 1, LIMIT);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public long rebuildNameIndex() throws StudentManagementException {
+        return new StudentNameIndex().build(source);
+    }
+}
@@ -0,0 +1,87 @@
+package com.studentmanagement.benchmarks;
+
+import com.studentmanagement.model.CourseDictionary;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.model.StudentRecord;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Retained heap per row of a large listing held as Student beans versus
+ * StudentRecords. Rows are built the way a driver delivers them, with new
+ * Strings and Timestamps for every row. Not a JMH benchmark; run with
+ *   java -cp benchmarks/target/benchmarks.jar com.studentmanagement.benchmarks.StudentFootprint [rows]
+ */
+public final class StudentFootprint {
+    private static final int DEFAULT_ROWS = 1_000_000;
+    private static final long SEED = 42;
+
+    private StudentFootprint() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROWS;
+        System.out.printf("%,d rows%n", rows);
+
+        long base = usedHeap();
+        List<Student> students = students(rows);
+        long beanBytes = usedHeap() - base;
+        report("Student", beanBytes, rows, beanBytes);
+        students.clear();
+
+        base = usedHeap();
+        List<StudentRecord> records = records(rows, false);
+        report("StudentRecord", usedHeap() - base, rows, beanBytes);
+        records.clear();
+
+        base = usedHeap();
+        records = records(rows, true);
+        report("StudentRecord (UTF-8 email)", usedHeap() - base, rows, beanBytes);
+        records.clear();
+    }
+
+    private static List<Student> students(int rows) {
+        Random random = new Random(SEED);
+        long now = System.currentTimeMillis();
+        List<Student> students = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            students.add(row(random, i, now));
+        }
+        return students;
+    }
+
+    private static List<StudentRecord> records(int rows, boolean emailAsUtf8) {
+        Random random = new Random(SEED);
+        long now = System.currentTimeMillis();
+        CourseDictionary courses = new CourseDictionary();
+        List<StudentRecord> records = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            records.add(StudentRecord.from(row(random, i, now), courses, emailAsUtf8));
+        }
+        return records;
+    }
+
+    private static Student row(Random random, int index, long now) {
+        Student student = SyntheticStudents.student(random, index);
+        student.setCreatedAt(new Timestamp(now - index));
+        student.setUpdatedAt(new Timestamp(now));
+        return student;
+    }
+
+    private static void report(String label, long bytes, int rows, long beanBytes) {
+        System.out.printf("%-28s %6.1f bytes/row (%.0f%% of Student)%n",
+                label, (double) bytes / rows, 100.0 * bytes / beanBytes);
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,51 @@
+package com.studentmanagement.benchmarks;
+
+import com.studentmanagement.model.Student;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Deterministic student rows for the benchmarks: the same seed gives the
+ * same names, ages, emails and courses on every run.
+ */
+final class SyntheticStudents {
+    static final int COURSES = 8;
+
+    private static final String[] FIRST_NAMES = {
+        "Alice", "Bob", "Carmen", "David", "Elena", "Farid", "Grace", "Hiro", "Ines", "Jonas",
+        "Kavya", "Liam", "Mei", "Nikolai", "Olga", "Priya", "Quentin", "Rosa", "Samir", "Tara"
+    };
+    private static final String[] LAST_NAMES = {
+        "Anderson", "Brown", "Chen", "Dubois", "Evans", "Fischer", "Garcia", "Hansen", "Ivanova", "Johnson",
+        "Kowalski", "Lopez", "Martin", "Nakamura", "Okafor", "Patel", "Rossi", "Schmidt", "Tanaka", "Williams"
+    };
+
+    private SyntheticStudents() {
+    }
+
+    /**
+     * @param index 0-based row number; also makes the email unique
+     */
+    static Student student(Random random, int index) {
+        String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        Student student = new Student(first + " " + last, 16 + random.nextInt(50),
+                first.toLowerCase(Locale.ROOT) + "." + last.toLowerCase(Locale.ROOT) + index + "@example.com",
+                1 + random.nextInt(COURSES));
+        student.setStudentId(index + 1);
+        student.setCourseName(courseName(student.getCourseId()));
+        return student;
+    }
+
+    static String courseName(int courseId) {
+        return "Course " + courseId;
+    }
+
+    /**
+     * @return a name prefix that matches some of the generated students
+     */
+    static String namePrefix(Random random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)].substring(0, 3);
+    }
+}
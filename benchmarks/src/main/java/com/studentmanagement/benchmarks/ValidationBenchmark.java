@@ -0,0 +1,65 @@
+package com.studentmanagement.benchmarks;
+
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.service.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StudentService.validateStudentData on the rows an import sees: valid ones
+ * and the common rejections, which should cost about the same as a pass.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private StudentService service;
+
+    @Setup
+    public void setUp() {
+        service = new StudentService(new InMemoryStudentDAO(0, 0), null);
+    }
+
+    @Benchmark
+    public boolean valid() {
+        return validate("Alice Anderson", "21", "alice.anderson@example.com", "3");
+    }
+
+    @Benchmark
+    public boolean ageNotANumber() {
+        return validate("Alice Anderson", "twenty", "alice.anderson@example.com", "3");
+    }
+
+    @Benchmark
+    public boolean invalidEmail() {
+        return validate("Alice Anderson", "21", "alice.anderson-at-example.com", "3");
+    }
+
+    @Benchmark
+    public boolean invalidCourse() {
+        return validate("Alice Anderson", "21", "alice.anderson@example.com", "x");
+    }
+
+    private boolean validate(String name, String age, String email, String courseId) {
+        try {
+            service.validateStudentData(name, age, email, courseId);
+            return true;
+        } catch (StudentManagementException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+-- Add the enrollment statistics tables to an existing database and fill
+-- them from the current students. Run once before deploying a version that
+-- maintains them; student writes fail while the tables are missing.
+USE student_management_system;
+
+CREATE TABLE IF NOT EXISTS course_stats (
+    course_id INT PRIMARY KEY,
+    student_count INT NOT NULL DEFAULT 0,
+    age_sum BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (course_id) REFERENCES courses(course_id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS age_stats (
+    age INT PRIMARY KEY,
+    student_count INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+START TRANSACTION;
+-- Rebuild enrollment statistics from the students table
+DELETE FROM course_stats;
+INSERT INTO course_stats (course_id, student_count, age_sum)
+SELECT course_id, COUNT(*), SUM(age) FROM students WHERE course_id IS NOT NULL GROUP BY course_id;
+DELETE FROM age_stats;
+INSERT INTO age_stats (age, student_count)
+SELECT age, COUNT(*) FROM students GROUP BY age;
+COMMIT;
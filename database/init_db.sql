@@ -24,8 +24,33 @@ CREATE TABLE IF NOT EXISTS students (
     FOREIGN KEY (course_id) REFERENCES courses(course_id) ON DELETE SET NULL
 );
 
+-- Enrollment statistics, maintained in the same transaction as every
+-- student insert, update and delete so dashboards read one row per course
+-- instead of scanning students. Students without a course are counted only
+-- in age_stats. Rebuild with add_course_stats.sql if they ever drift.
+CREATE TABLE IF NOT EXISTS course_stats (
+    course_id INT PRIMARY KEY,
+    student_count INT NOT NULL DEFAULT 0,
+    age_sum BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (course_id) REFERENCES courses(course_id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS age_stats (
+    age INT PRIMARY KEY,
+    student_count INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
 -- Create indexes for better performance
 CREATE INDEX idx_student_name ON students(name);
 CREATE INDEX idx_student_age ON students(age);
 CREATE INDEX idx_student_email ON students(email);
-CREATE INDEX idx_course_name ON courses(course_name);
\ No newline at end of file
+CREATE INDEX idx_course_name ON courses(course_name);
+
+-- FULLTEXT indexes for MATCH ... AGAINST searches (db.search.fullTextMode).
+-- They match whole words and word prefixes, not arbitrary substrings;
+-- words shorter than innodb_ft_min_token_size (3) are not indexed.
+CREATE FULLTEXT INDEX ft_course_name ON courses(course_name);
+CREATE FULLTEXT INDEX ft_course_name_description ON courses(course_name, description);
+CREATE FULLTEXT INDEX ft_student_name ON students(name);
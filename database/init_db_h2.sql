@@ -0,0 +1,41 @@
+-- Student Management System schema for H2 in MySQL mode, used by the
+-- benchmarks module and other in-memory runs. Same tables and indexes as
+-- init_db.sql without the FULLTEXT indexes, so run with
+-- db.search.fullTextMode=OFF and db.students.writeProcedures=false.
+CREATE TABLE IF NOT EXISTS courses (
+    course_id INT AUTO_INCREMENT PRIMARY KEY,
+    course_name VARCHAR(100) NOT NULL,
+    description TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS students (
+    student_id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    age INT NOT NULL CHECK (age >= 16 AND age <= 100),
+    email VARCHAR(150) UNIQUE NOT NULL,
+    course_id INT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (course_id) REFERENCES courses(course_id) ON DELETE SET NULL
+);
+
+CREATE TABLE IF NOT EXISTS course_stats (
+    course_id INT PRIMARY KEY,
+    student_count INT NOT NULL DEFAULT 0,
+    age_sum BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (course_id) REFERENCES courses(course_id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS age_stats (
+    age INT PRIMARY KEY,
+    student_count INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_student_name ON students(name);
+CREATE INDEX IF NOT EXISTS idx_student_age ON students(age);
+CREATE INDEX IF NOT EXISTS idx_student_email ON students(email);
+CREATE INDEX IF NOT EXISTS idx_course_name ON courses(course_name);
@@ -28,4 +28,12 @@ INSERT INTO students (name, age, email, course_id) VALUES
 ('Amanda White', 19, 'amanda.white@email.com', 2),
 ('Matthew Thompson', 26, 'matthew.thompson@email.com', 5),
 ('Jessica Moore', 20, 'jessica.moore@email.com', 6),
-('Daniel Clark', 22, 'daniel.clark@email.com', 4);
\ No newline at end of file
+('Daniel Clark', 22, 'daniel.clark@email.com', 4);
+
+-- Rebuild enrollment statistics from the students table
+DELETE FROM course_stats;
+INSERT INTO course_stats (course_id, student_count, age_sum)
+SELECT course_id, COUNT(*), SUM(age) FROM students WHERE course_id IS NOT NULL GROUP BY course_id;
+DELETE FROM age_stats;
+INSERT INTO age_stats (age, student_count)
+SELECT age, COUNT(*) FROM students GROUP BY age;
@@ -0,0 +1,103 @@
+-- Stored procedures for single student writes. Each CALL inserts or updates
+-- the student and adjusts course_stats and age_stats in one transaction and
+-- one round trip. The course, email and age are not checked beforehand: the
+-- foreign key, unique index and CHECK constraint reject the row and the
+-- error (1452, 1062, 3819) is re-raised to the caller unchanged.
+-- Safe to run again; the application uses plain JDBC transactions while
+-- the procedures are missing.
+USE student_management_system;
+
+DROP PROCEDURE IF EXISTS change_course_stats;
+DROP PROCEDURE IF EXISTS change_age_stats;
+DROP PROCEDURE IF EXISTS add_student;
+DROP PROCEDURE IF EXISTS update_student;
+
+DELIMITER //
+
+-- A NULL course means no course; such students are counted only in age_stats
+CREATE PROCEDURE change_course_stats(IN p_course_id INT, IN p_count INT, IN p_age_sum BIGINT)
+BEGIN
+    IF p_course_id IS NOT NULL AND (p_count <> 0 OR p_age_sum <> 0) THEN
+        INSERT INTO course_stats (course_id, student_count, age_sum) VALUES (p_course_id, p_count, p_age_sum)
+        ON DUPLICATE KEY UPDATE student_count = student_count + VALUES(student_count),
+            age_sum = age_sum + VALUES(age_sum);
+    END IF;
+END //
+
+CREATE PROCEDURE change_age_stats(IN p_age INT, IN p_count INT)
+BEGIN
+    IF p_count <> 0 THEN
+        INSERT INTO age_stats (age, student_count) VALUES (p_age, p_count)
+        ON DUPLICATE KEY UPDATE student_count = student_count + VALUES(student_count);
+    END IF;
+END //
+
+-- Returns one row with the generated student_id
+CREATE PROCEDURE add_student(IN p_name VARCHAR(100), IN p_age INT, IN p_email VARCHAR(150), IN p_course_id INT)
+BEGIN
+    DECLARE v_student_id INT;
+    DECLARE EXIT HANDLER FOR SQLEXCEPTION
+    BEGIN
+        ROLLBACK;
+        RESIGNAL;
+    END;
+
+    START TRANSACTION;
+    INSERT INTO students (name, age, email, course_id) VALUES (p_name, p_age, p_email, p_course_id);
+    SET v_student_id = LAST_INSERT_ID();
+    CALL change_course_stats(p_course_id, 1, p_age);
+    CALL change_age_stats(p_age, 1);
+    COMMIT;
+    SELECT v_student_id AS student_id;
+END //
+
+-- Returns one row: updated = 1, or 0 if the student does not exist.
+-- Stats rows are locked course_stats first, then age_stats, each in
+-- ascending key order, like the JDBC path, so the two cannot deadlock.
+CREATE PROCEDURE update_student(IN p_name VARCHAR(100), IN p_age INT, IN p_email VARCHAR(150),
+                                IN p_course_id INT, IN p_student_id INT)
+BEGIN
+    DECLARE v_found INT DEFAULT 0;
+    DECLARE v_old_course INT;
+    DECLARE v_old_age INT;
+    DECLARE EXIT HANDLER FOR SQLEXCEPTION
+    BEGIN
+        ROLLBACK;
+        RESIGNAL;
+    END;
+
+    START TRANSACTION;
+    SELECT 1, course_id, age INTO v_found, v_old_course, v_old_age
+    FROM students WHERE student_id = p_student_id FOR UPDATE;
+
+    IF v_found = 0 THEN
+        ROLLBACK;
+        SELECT 0 AS updated;
+    ELSE
+        UPDATE students SET name = p_name, age = p_age, email = p_email, course_id = p_course_id
+        WHERE student_id = p_student_id;
+
+        IF v_old_course <=> p_course_id THEN
+            CALL change_course_stats(p_course_id, 0, p_age - v_old_age);
+        ELSEIF v_old_course < p_course_id THEN
+            CALL change_course_stats(v_old_course, -1, -v_old_age);
+            CALL change_course_stats(p_course_id, 1, p_age);
+        ELSE
+            CALL change_course_stats(p_course_id, 1, p_age);
+            CALL change_course_stats(v_old_course, -1, -v_old_age);
+        END IF;
+
+        IF v_old_age < p_age THEN
+            CALL change_age_stats(v_old_age, -1);
+            CALL change_age_stats(p_age, 1);
+        ELSEIF v_old_age > p_age THEN
+            CALL change_age_stats(p_age, 1);
+            CALL change_age_stats(v_old_age, -1);
+        END IF;
+
+        COMMIT;
+        SELECT 1 AS updated;
+    END IF;
+END //
+
+DELIMITER ;
@@ -4,6 +4,11 @@
 let students = [];
 let courses = [];
 let currentStudents = [];
+let enrollmentReport = null;
+// True when the API is unreachable (e.g. admin.html opened from disk); edits then stay in the page
+let offline = false;
+
+const STUDENT_LIST_LIMIT = 1000;
 
 // Initialize the application
 document.addEventListener('DOMContentLoaded', function() {
@@ -74,15 +79,53 @@ function updateActiveNav(active) {
     }
 }
 
+// API helper: returns the parsed JSON body, or throws an Error with the server's message
+async function api(path, options = {}) {
+    const init = { ...options, headers: { 'Accept': 'application/json' } };
+    if (options.body !== undefined) {
+        init.headers['Content-Type'] = 'application/json';
+        init.body = JSON.stringify(options.body);
+    }
+    const response = await fetch(path, init);
+    if (response.status === 204) {
+        return null;
+    }
+    const data = await response.json().catch(() => null);
+    if (!response.ok) {
+        throw new Error(data && data.error ? data.error : `Request failed (${response.status})`);
+    }
+    return data;
+}
+
 // Data loading functions
 async function loadInitialData() {
     try {
-        await Promise.all([loadStudents(), loadCourses()]);
+        await Promise.all([fetchStudents(), fetchCourses()]);
     } catch (error) {
         console.error('Error loading initial data:', error);
-        showAlert('Error loading data. Using sample data.', 'warning');
+        showAlert('Server not available. Using sample data.', 'warning');
+        offline = true;
         loadSampleData();
     }
+    currentStudents = [...students];
+    displayStudents(currentStudents);
+    displayCourses(courses);
+    loadDashboardData();
+}
+
+async function fetchStudents() {
+    const page = await api(`/api/students?limit=${STUDENT_LIST_LIMIT}`);
+    students = page.items;
+}
+
+async function fetchCourses() {
+    const result = await api('/api/courses');
+    courses = result.items;
+}
+
+async function fetchReport() {
+    enrollmentReport = await api('/api/reports/enrollment');
+    return enrollmentReport;
 }
 
 function loadSampleData() {
@@ -113,12 +156,9 @@ function loadSampleData() {
 
 async function loadStudents() {
     try {
-        // In a real application, this would be an API call
-        // const response = await fetch('/api/students');
-        // students = await response.json();
-        
-        // For demo purposes, use sample data
-        if (students.length === 0) {
+        if (!offline) {
+            await fetchStudents();
+        } else if (students.length === 0) {
             loadSampleData();
         }
         currentStudents = [...students];
@@ -131,12 +171,9 @@ async function loadStudents() {
 
 async function loadCourses() {
     try {
-        // In a real application, this would be an API call
-        // const response = await fetch('/api/courses');
-        // courses = await response.json();
-        
-        // For demo purposes, use sample data
-        if (courses.length === 0) {
+        if (!offline) {
+            await fetchCourses();
+        } else if (courses.length === 0) {
             loadSampleData();
         }
         displayCourses(courses);
@@ -208,7 +245,7 @@ function displayCourses(coursesToShow) {
     }
 
     coursesToShow.forEach(course => {
-        const studentCount = students.filter(s => s.courseId === course.courseId).length;
+        const studentCount = countStudentsInCourse(course.courseId);
         const row = document.createElement('tr');
         row.innerHTML = `
             <td>${course.courseId}</td>
@@ -228,8 +265,32 @@ function displayCourses(coursesToShow) {
     });
 }
 
+// Number of students in a course; the report counts every student, the list only the first page
+function countStudentsInCourse(courseId) {
+    if (enrollmentReport) {
+        const entry = enrollmentReport.courses.find(c => c.courseId === courseId);
+        return entry ? entry.studentCount : 0;
+    }
+    return students.filter(s => s.courseId === courseId).length;
+}
+
 // Dashboard functions
-function loadDashboardData() {
+async function loadDashboardData() {
+    if (!offline) {
+        try {
+            const report = await fetchReport();
+            document.getElementById('total-students').textContent = report.totalStudents;
+            document.getElementById('total-courses').textContent = report.totalCourses;
+            document.getElementById('avg-age').textContent = report.averageAge.toFixed(1);
+            const popular = report.courses.reduce((best, c) =>
+                c.studentCount > (best ? best.studentCount : 0) ? c : best, null);
+            document.getElementById('popular-course').textContent = popular ? popular.courseName : '-';
+            return;
+        } catch (error) {
+            console.error('Error loading report:', error);
+        }
+    }
+
     // Update statistics
     document.getElementById('total-students').textContent = students.length;
     document.getElementById('total-courses').textContent = courses.length;
@@ -261,7 +322,12 @@ function loadDashboardData() {
 }
 
 // Search and filter functions
-function searchStudents() {
+async function searchStudents() {
+    if (!offline) {
+        await searchStudentsOnServer();
+        return;
+    }
+
     const name = document.getElementById('search-name').value.toLowerCase();
     const courseId = document.getElementById('filter-course').value;
     const minAge = parseInt(document.getElementById('min-age').value) || 0;
@@ -279,6 +345,50 @@ function searchStudents() {
     displayStudents(currentStudents);
 }
 
+// Filters are applied by the server; a name that finds nobody is retried as a typo-tolerant search
+async function searchStudentsOnServer() {
+    const name = document.getElementById('search-name').value.trim();
+    const params = new URLSearchParams({ limit: STUDENT_LIST_LIMIT });
+    if (name) params.set('name', name);
+    const courseId = document.getElementById('filter-course').value;
+    if (courseId) params.set('courseId', courseId);
+    const minAge = document.getElementById('min-age').value;
+    if (minAge) params.set('minAge', minAge);
+    const maxAge = document.getElementById('max-age').value;
+    if (maxAge) params.set('maxAge', maxAge);
+
+    try {
+        let result = await api(`/api/students?${params}`);
+        if (result.items.length === 0 && name) {
+            params.delete('name');
+            params.set('q', name);
+            result = await api(`/api/students?${params}`);
+            if (result.items.length > 0) {
+                showAlert(`No exact matches for "${name}"; showing similar names.`, 'info');
+            }
+        }
+        currentStudents = result.items;
+        displayStudents(currentStudents);
+    } catch (error) {
+        console.error('Error searching students:', error);
+        showAlert(error.message, 'error');
+    }
+}
+
+// Reload everything an edit can change
+async function refreshAfterChange() {
+    try {
+        await Promise.all([fetchStudents(), fetchCourses()]);
+    } catch (error) {
+        console.error('Error reloading data:', error);
+    }
+    currentStudents = [...students];
+    displayStudents(currentStudents);
+    loadCoursesForSelect();
+    await loadDashboardData();
+    displayCourses(courses);
+}
+
 // Student CRUD operations
 function showAddStudentModal() {
     loadCoursesForSelect();
@@ -287,7 +397,7 @@ function showAddStudentModal() {
     modal.show();
 }
 
-function addStudent() {
+async function addStudent() {
     const form = document.getElementById('add-student-form');
     if (!form.checkValidity()) {
         form.reportValidity();
@@ -299,6 +409,19 @@ function addStudent() {
     const email = document.getElementById('student-email').value;
     const courseId = parseInt(document.getElementById('student-course').value);
 
+    if (!offline) {
+        try {
+            await api('/api/students', { method: 'POST', body: { name, age, email, courseId } });
+        } catch (error) {
+            showAlert(error.message, 'error');
+            return;
+        }
+        bootstrap.Modal.getInstance(document.getElementById('addStudentModal')).hide();
+        await refreshAfterChange();
+        showAlert('Student added successfully!', 'success');
+        return;
+    }
+
     // Validate email uniqueness
     if (students.some(s => s.email.toLowerCase() === email.toLowerCase())) {
         showAlert('Email address already exists', 'error');
@@ -331,7 +454,8 @@ function addStudent() {
 }
 
 function editStudent(studentId) {
-    const student = students.find(s => s.studentId === studentId);
+    const student = students.find(s => s.studentId === studentId)
+        || currentStudents.find(s => s.studentId === studentId);
     if (!student) {
         showAlert('Student not found', 'error');
         return;
@@ -356,13 +480,26 @@ function editStudent(studentId) {
     modal.show();
 }
 
-function updateStudent() {
+async function updateStudent() {
     const studentId = parseInt(document.getElementById('edit-student-id').value);
     const name = document.getElementById('edit-student-name').value;
     const age = parseInt(document.getElementById('edit-student-age').value);
     const email = document.getElementById('edit-student-email').value;
     const courseId = parseInt(document.getElementById('edit-student-course').value);
 
+    if (!offline) {
+        try {
+            await api(`/api/students/${studentId}`, { method: 'PUT', body: { name, age, email, courseId } });
+        } catch (error) {
+            showAlert(error.message, 'error');
+            return;
+        }
+        bootstrap.Modal.getInstance(document.getElementById('editStudentModal')).hide();
+        await refreshAfterChange();
+        showAlert('Student updated successfully!', 'success');
+        return;
+    }
+
     // Validate email uniqueness (excluding current student)
     if (students.some(s => s.studentId !== studentId && s.email.toLowerCase() === email.toLowerCase())) {
         showAlert('Email address already exists', 'error');
@@ -399,14 +536,26 @@ function updateStudent() {
     showAlert('Student updated successfully!', 'success');
 }
 
-function deleteStudent(studentId) {
-    const student = students.find(s => s.studentId === studentId);
+async function deleteStudent(studentId) {
+    const student = students.find(s => s.studentId === studentId)
+        || currentStudents.find(s => s.studentId === studentId);
     if (!student) {
         showAlert('Student not found', 'error');
         return;
     }
 
     if (confirm(`Are you sure you want to delete ${student.name}? This action cannot be undone.`)) {
+        if (!offline) {
+            try {
+                await api(`/api/students/${studentId}`, { method: 'DELETE' });
+            } catch (error) {
+                showAlert(error.message, 'error');
+                return;
+            }
+            await refreshAfterChange();
+            showAlert('Student deleted successfully!', 'success');
+            return;
+        }
         students = students.filter(s => s.studentId !== studentId);
         currentStudents = [...students];
         displayStudents(currentStudents);
@@ -422,7 +571,7 @@ function showAddCourseModal() {
     modal.show();
 }
 
-function addCourse() {
+async function addCourse() {
     const form = document.getElementById('add-course-form');
     if (!form.checkValidity()) {
         form.reportValidity();
@@ -432,6 +581,19 @@ function addCourse() {
     const courseName = document.getElementById('course-name').value;
     const description = document.getElementById('course-description').value;
 
+    if (!offline) {
+        try {
+            await api('/api/courses', { method: 'POST', body: { courseName, description } });
+        } catch (error) {
+            showAlert(error.message, 'error');
+            return;
+        }
+        bootstrap.Modal.getInstance(document.getElementById('addCourseModal')).hide();
+        await refreshAfterChange();
+        showAlert('Course added successfully!', 'success');
+        return;
+    }
+
     // Validate course name uniqueness
     if (courses.some(c => c.courseName.toLowerCase() === courseName.toLowerCase())) {
         showAlert('Course name already exists', 'error');
@@ -478,11 +640,24 @@ function editCourse(courseId) {
     modal.show();
 }
 
-function updateCourse() {
+async function updateCourse() {
     const courseId = parseInt(document.getElementById('edit-course-id').value);
     const courseName = document.getElementById('edit-course-name').value;
     const description = document.getElementById('edit-course-description').value;
 
+    if (!offline) {
+        try {
+            await api(`/api/courses/${courseId}`, { method: 'PUT', body: { courseName, description } });
+        } catch (error) {
+            showAlert(error.message, 'error');
+            return;
+        }
+        bootstrap.Modal.getInstance(document.getElementById('editCourseModal')).hide();
+        await refreshAfterChange();
+        showAlert('Course updated successfully!', 'success');
+        return;
+    }
+
     // Validate course name uniqueness (excluding current course)
     if (courses.some(c => c.courseId !== courseId && c.courseName.toLowerCase() === courseName.toLowerCase())) {
         showAlert('Course name already exists', 'error');
@@ -522,20 +697,31 @@ function updateCourse() {
     showAlert('Course updated successfully!', 'success');
 }
 
-function deleteCourse(courseId) {
+async function deleteCourse(courseId) {
     const course = courses.find(c => c.courseId === courseId);
     if (!course) {
         showAlert('Course not found', 'error');
         return;
     }
 
-    const enrolledStudents = students.filter(s => s.courseId === courseId);
-    if (enrolledStudents.length > 0) {
-        showAlert(`Cannot delete course "${course.courseName}" because ${enrolledStudents.length} student(s) are enrolled in it.`, 'error');
+    const enrolledCount = countStudentsInCourse(courseId);
+    if (enrolledCount > 0) {
+        showAlert(`Cannot delete course "${course.courseName}" because ${enrolledCount} student(s) are enrolled in it.`, 'error');
         return;
     }
 
     if (confirm(`Are you sure you want to delete the course "${course.courseName}"? This action cannot be undone.`)) {
+        if (!offline) {
+            try {
+                await api(`/api/courses/${courseId}`, { method: 'DELETE' });
+            } catch (error) {
+                showAlert(error.message, 'error');
+                return;
+            }
+            await refreshAfterChange();
+            showAlert('Course deleted successfully!', 'success');
+            return;
+        }
         courses = courses.filter(c => c.courseId !== courseId);
         displayCourses(courses);
         loadCoursesForSelect();
@@ -654,7 +840,31 @@ function showAlert(message, type) {
     }, 5000);
 }
 
-function generateReports() {
+async function generateReports() {
+    if (!offline) {
+        try {
+            const report = await fetchReport();
+            let ageHtml = '<h6>Age Groups:</h6><ul class="list-unstyled">';
+            report.ageHistogram.forEach(bucket => {
+                ageHtml += `<li><span class="badge bg-primary me-2">${bucket.studentCount}</span>${bucket.minAge}-${bucket.maxAge} years</li>`;
+            });
+            ageHtml += '</ul>';
+            document.getElementById('age-distribution').innerHTML = ageHtml;
+
+            let courseHtml = '<h6>Students per Course:</h6><ul class="list-unstyled">';
+            report.courses.filter(c => c.studentCount > 0).forEach(c => {
+                courseHtml += `<li><span class="badge bg-success me-2">${c.studentCount}</span>${c.courseName}</li>`;
+            });
+            courseHtml += '</ul>';
+            document.getElementById('course-distribution').innerHTML = courseHtml;
+            return;
+        } catch (error) {
+            console.error('Error loading report:', error);
+            showAlert(error.message, 'error');
+            return;
+        }
+    }
+
     // Age distribution
     const ageDistribution = {};
     students.forEach(student => {
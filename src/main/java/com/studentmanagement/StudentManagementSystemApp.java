@@ -1,24 +1,76 @@
 package com.studentmanagement;
 
+import com.studentmanagement.api.ApiServer;
+import com.studentmanagement.api.RequestExecutors;
 import com.studentmanagement.service.StudentService;
 import com.studentmanagement.service.CourseService;
+import com.studentmanagement.service.ReportService;
 import com.studentmanagement.model.Student;
+import com.studentmanagement.model.AgeBucket;
 import com.studentmanagement.model.Course;
+import com.studentmanagement.model.CourseEnrollment;
+import com.studentmanagement.model.EnrollmentReport;
+import com.studentmanagement.model.FuzzyMatch;
+import com.studentmanagement.model.Page;
+import com.studentmanagement.model.StatsDrift;
+import com.studentmanagement.dao.DAOFactory;
+import com.studentmanagement.dao.impl.CachingCourseDAO;
+import com.studentmanagement.dao.impl.RetryExecutor;
 import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.export.DataExporter;
+import com.studentmanagement.export.ExportFormat;
+import com.studentmanagement.importer.ImportFormat;
+import com.studentmanagement.importer.ImportProgress;
+import com.studentmanagement.importer.StudentImporter;
+import com.studentmanagement.loadtest.MixedWorkload;
+import com.studentmanagement.loadtest.SyntheticDataLoader;
+import com.studentmanagement.report.StatsReconciliationJob;
+import com.studentmanagement.tracing.OtlpJsonExporter;
+import com.studentmanagement.tracing.Trace;
+import com.studentmanagement.tracing.Tracer;
+import com.studentmanagement.util.CacheStatistics;
+import com.studentmanagement.util.CircuitBreaker;
+import com.studentmanagement.util.ConcurrencyLimiter;
+import com.studentmanagement.util.DatabaseConfig;
 import com.studentmanagement.util.DatabaseConnection;
+import com.studentmanagement.util.PoolStatistics;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Main application class for Student Management System
- * This class provides a console-based interface for testing the system
+ * This class provides a console-based interface for testing the system.
+ * Run with "import <file> [--resume]" to bulk load students, or with
+ * "export students|courses <file>" to write a CSV/JSON extract (add .gz to compress),
+ * or with "reconcile-stats [--dry-run]" to check the enrollment summary tables,
+ * without the menu. Run with "serve [port] [frontendDir]" to start the HTTP API
+ * and admin frontend instead. "generate-data
+ * <students> [courses] [--sql file]" creates synthetic data and "loadtest
+ * [clients] [seconds] [readPercent]" runs a mixed workload through the services.
  */
 public class StudentManagementSystemApp {
     
     private static final StudentService studentService = new StudentService();
     private static final CourseService courseService = new CourseService();
+    private static final ReportService reportService = new ReportService();
     private static final Scanner scanner = new Scanner(System.in);
+    private static final int STUDENT_PAGE_SIZE = 20;
+    private static final int FUZZY_SEARCH_LIMIT = 10;
+    private static final long GENERATOR_SEED = 42;
+    private static final int GENERATOR_BATCH_SIZE = 1000;
+    private static final int GENERATED_COURSES = 30;
+    private static final int WORKLOAD_CLIENTS = 32;
+    private static final int WORKLOAD_SECONDS = 30;
+    private static final int WORKLOAD_READ_PERCENT = 90;
     
     public static void main(String[] args) {
         System.out.println("=== Student Management System ===");
@@ -33,6 +85,81 @@ public class StudentManagementSystemApp {
         
         System.out.println("Database connection successful!");
         
+        if (args.length > 0 && "import".equals(args[0])) {
+            if (args.length < 2) {
+                System.err.println("Usage: import <file.csv|file.ndjson> [--resume]");
+                DatabaseConnection.shutdown();
+                return;
+            }
+            boolean resume = args.length > 2 && "--resume".equals(args[2]);
+            boolean success = runImport(Paths.get(args[1]), resume);
+            DatabaseConnection.shutdown();
+            if (!success) {
+                System.exit(1);
+            }
+            return;
+        }
+        
+        if (args.length > 0 && "export".equals(args[0])) {
+            if (args.length < 3) {
+                System.err.println("Usage: export students|courses <file.csv|file.json>[.gz]");
+                DatabaseConnection.shutdown();
+                return;
+            }
+            boolean success = runExport(args[1], Paths.get(args[2]));
+            DatabaseConnection.shutdown();
+            if (!success) {
+                System.exit(1);
+            }
+            return;
+        }
+        
+        if (args.length > 0 && "generate-data".equals(args[0])) {
+            boolean success = runGenerateData(args);
+            DatabaseConnection.shutdown();
+            if (!success) {
+                System.exit(1);
+            }
+            return;
+        }
+        
+        if (args.length > 0 && "reconcile-stats".equals(args[0])) {
+            boolean dryRun = args.length > 1 && "--dry-run".equals(args[1]);
+            boolean success = runReconcileStats(!dryRun);
+            DatabaseConnection.shutdown();
+            if (!success) {
+                System.exit(1);
+            }
+            return;
+        }
+        
+        long reconcileIntervalMs = DatabaseConnection.getConfig().getStatsReconcileIntervalMs();
+        if (reconcileIntervalMs > 0) {
+            new StatsReconciliationJob(DAOFactory.getReportDAO(), true).start(reconcileIntervalMs);
+        }
+        
+        // Build the in-memory name search index while the user navigates the menu
+        DAOFactory.getStudentSearchDAO().startBuild();
+        DAOFactory.getEnrollmentCountingDAO().startBuild(
+                DatabaseConnection.getConfig().getCountersRebuildIntervalMs());
+        
+        if (args.length > 0 && "loadtest".equals(args[0])) {
+            boolean success = runWorkload(args);
+            DatabaseConnection.shutdown();
+            if (!success) {
+                System.exit(1);
+            }
+            return;
+        }
+        
+        if (args.length > 0 && "serve".equals(args[0])) {
+            if (!runServer(args)) {
+                DatabaseConnection.shutdown();
+                System.exit(1);
+            }
+            return;
+        }
+        
         // Show main menu
         showMainMenu();
     }
@@ -45,6 +172,7 @@ public class StudentManagementSystemApp {
             System.out.println("3. Reports");
             System.out.println("4. Demo Data");
             System.out.println("5. Frontend Instructions");
+            System.out.println("6. Export Data");
             System.out.println("0. Exit");
             System.out.print("Choose an option: ");
             
@@ -66,8 +194,12 @@ public class StudentManagementSystemApp {
                 case 5:
                     showFrontendInstructions();
                     break;
+                case 6:
+                    exportData();
+                    break;
                 case 0:
                     System.out.println("Thank you for using Student Management System!");
+                    DatabaseConnection.shutdown();
                     return;
                 default:
                     System.out.println("Invalid choice. Please try again.");
@@ -85,6 +217,8 @@ public class StudentManagementSystemApp {
             System.out.println("5. Filter Students by Age Range");
             System.out.println("6. Update Student");
             System.out.println("7. Delete Student");
+            System.out.println("8. Import Students from File");
+            System.out.println("9. Fuzzy Search (name or email, typos allowed)");
             System.out.println("0. Back to Main Menu");
             System.out.print("Choose an option: ");
             
@@ -112,6 +246,12 @@ public class StudentManagementSystemApp {
                 case 7:
                     deleteStudent();
                     break;
+                case 8:
+                    importStudents();
+                    break;
+                case 9:
+                    fuzzySearchStudents();
+                    break;
                 case 0:
                     return;
                 default:
@@ -127,6 +267,7 @@ public class StudentManagementSystemApp {
             System.out.println("2. View All Courses");
             System.out.println("3. Update Course");
             System.out.println("4. Delete Course");
+            System.out.println("5. Search Courses");
             System.out.println("0. Back to Main Menu");
             System.out.print("Choose an option: ");
             
@@ -145,6 +286,9 @@ public class StudentManagementSystemApp {
                 case 4:
                     deleteCourse();
                     break;
+                case 5:
+                    searchCourses();
+                    break;
                 case 0:
                     return;
                 default:
@@ -195,24 +339,40 @@ public class StudentManagementSystemApp {
     private static void viewAllStudents() {
         try {
             System.out.println("\n--- All Students ---");
-            List<Student> students = studentService.getAllStudents();
+            Page<Student> page = studentService.getStudentsPage(null, STUDENT_PAGE_SIZE, true);
             
-            if (students.isEmpty()) {
+            if (page.getItems().isEmpty()) {
                 System.out.println("No students found.");
                 return;
             }
             
-            System.out.printf("%-5s %-20s %-5s %-30s %-20s%n", "ID", "Name", "Age", "Email", "Course");
-            System.out.println("================================================================================");
-            
-            for (Student student : students) {
-                System.out.printf("%-5d %-20s %-5d %-30s %-20s%n",
-                    student.getStudentId(),
-                    student.getName(),
-                    student.getAge(),
-                    student.getEmail(),
-                    student.getCourseName() != null ? student.getCourseName() : "N/A"
-                );
+            System.out.println("About " + page.getEstimatedTotal() + " students in total");
+            int pageNumber = 1;
+            while (true) {
+                System.out.println("\nPage " + pageNumber + ":");
+                System.out.printf("%-5s %-20s %-5s %-30s %-20s%n", "ID", "Name", "Age", "Email", "Course");
+                System.out.println("================================================================================");
+                
+                for (Student student : page.getItems()) {
+                    System.out.printf("%-5d %-20s %-5d %-30s %-20s%n",
+                        student.getStudentId(),
+                        student.getName(),
+                        student.getAge(),
+                        student.getEmail(),
+                        student.getCourseName() != null ? student.getCourseName() : "N/A"
+                    );
+                }
+                
+                if (!page.hasNext()) {
+                    return;
+                }
+                
+                System.out.print("Press Enter for the next page or 'q' to return: ");
+                if ("q".equalsIgnoreCase(scanner.nextLine().trim())) {
+                    return;
+                }
+                page = studentService.getStudentsPage(page.getNextCursor(), STUDENT_PAGE_SIZE, false);
+                pageNumber++;
             }
             
         } catch (StudentManagementException e) {
@@ -251,6 +411,44 @@ public class StudentManagementSystemApp {
         }
     }
     
+    private static void fuzzySearchStudents() {
+        try {
+            System.out.print("Enter name or email to search: ");
+            String query = scanner.nextLine();
+            System.out.print("Max typos per word (Enter for " + StudentService.DEFAULT_MAX_EDIT_DISTANCE + "): ");
+            String distanceInput = scanner.nextLine().trim();
+            int maxDistance = distanceInput.isEmpty() ? StudentService.DEFAULT_MAX_EDIT_DISTANCE : Integer.parseInt(distanceInput);
+            
+            List<FuzzyMatch> matches = studentService.fuzzySearchStudents(query, maxDistance, FUZZY_SEARCH_LIMIT);
+            
+            if (matches.isEmpty()) {
+                System.out.println("No students found close to: " + query);
+                return;
+            }
+            
+            System.out.println("Closest matches:");
+            System.out.printf("%-6s %-5s %-20s %-5s %-30s %-20s%n", "Score", "ID", "Name", "Age", "Email", "Course");
+            System.out.println("=======================================================================================");
+            
+            for (FuzzyMatch match : matches) {
+                Student student = match.getStudent();
+                System.out.printf("%-6.2f %-5d %-20s %-5d %-30s %-20s%n",
+                    match.getScore(),
+                    student.getStudentId(),
+                    student.getName(),
+                    student.getAge(),
+                    student.getEmail(),
+                    student.getCourseName() != null ? student.getCourseName() : "N/A"
+                );
+            }
+            
+        } catch (NumberFormatException e) {
+            System.err.println("Please enter a valid number of typos.");
+        } catch (StudentManagementException e) {
+            System.err.println("Error searching students: " + e.getMessage());
+        }
+    }
+    
     private static void filterStudentsByCourse() {
         try {
             System.out.print("Enter course name to filter by: ");
@@ -406,6 +604,40 @@ public class StudentManagementSystemApp {
         }
     }
     
+    private static void importStudents() {
+        System.out.print("Enter path of CSV or NDJSON file: ");
+        String path = scanner.nextLine().trim();
+        System.out.print("Resume from last checkpoint? (y/N): ");
+        boolean resume = "y".equalsIgnoreCase(scanner.nextLine().trim());
+        runImport(Paths.get(path), resume);
+    }
+    
+    /**
+     * Run a bulk import, printing progress every few seconds
+     * @return true if the import completed
+     */
+    private static boolean runImport(Path file, boolean resume) {
+        ImportProgress progress = new ImportProgress();
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        reporter.scheduleAtFixedRate(() -> System.out.println("Import progress: " + progress), 5, 5, TimeUnit.SECONDS);
+        try {
+            System.out.println("Importing " + file + (resume ? " (resuming)" : "") + "...");
+            new StudentImporter(studentService).importFile(file, ImportFormat.fromFileName(file), resume, progress);
+            System.out.println("Import complete: " + progress);
+            if (progress.getRowsRejected() > 0) {
+                System.out.println("Rejected rows were written to " + file + ".rejects");
+            }
+            return true;
+        } catch (StudentManagementException e) {
+            System.err.println("Import failed: " + e.getMessage());
+            System.err.println("Progress so far: " + progress);
+            System.err.println("Re-run with --resume to continue after the last committed line.");
+            return false;
+        } finally {
+            reporter.shutdownNow();
+        }
+    }
+    
     // Course operations
     private static void addCourse() {
         try {
@@ -437,19 +669,42 @@ public class StudentManagementSystemApp {
                 return;
             }
             
-            System.out.printf("%-5s %-30s %-50s%n", "ID", "Course Name", "Description");
-            System.out.println("=================================================================================");
+            printCourses(courses);
             
-            for (Course course : courses) {
-                System.out.printf("%-5d %-30s %-50s%n",
-                    course.getCourseId(),
-                    course.getCourseName(),
-                    course.getDescription() != null ? course.getDescription() : "N/A"
-                );
+        } catch (StudentManagementException e) {
+            System.err.println("Error retrieving courses: " + e.getMessage());
+        }
+    }
+    
+    private static void searchCourses() {
+        try {
+            System.out.print("Enter words to search for in course names and descriptions: ");
+            String text = scanner.nextLine();
+            
+            List<Course> courses = courseService.searchCourses(text);
+            
+            if (courses.isEmpty()) {
+                System.out.println("No courses found.");
+                return;
             }
             
+            printCourses(courses);
+            
         } catch (StudentManagementException e) {
-            System.err.println("Error retrieving courses: " + e.getMessage());
+            System.err.println("Error searching courses: " + e.getMessage());
+        }
+    }
+    
+    private static void printCourses(List<Course> courses) {
+        System.out.printf("%-5s %-30s %-50s%n", "ID", "Course Name", "Description");
+        System.out.println("=================================================================================");
+        
+        for (Course course : courses) {
+            System.out.printf("%-5d %-30s %-50s%n",
+                course.getCourseId(),
+                course.getCourseName(),
+                course.getDescription() != null ? course.getDescription() : "N/A"
+            );
         }
     }
     
@@ -527,29 +782,290 @@ public class StudentManagementSystemApp {
         try {
             System.out.println("\n=== REPORTS ===");
             
-            List<Student> students = studentService.getAllStudents();
-            List<Course> courses = courseService.getAllCourses();
+            EnrollmentReport report = reportService.getEnrollmentReport();
             
-            System.out.println("Total Students: " + students.size());
-            System.out.println("Total Courses: " + courses.size());
+            System.out.println("Total Students: " + report.getTotalStudents());
+            System.out.println("Total Courses: " + report.getTotalCourses());
             
-            if (!students.isEmpty()) {
-                double avgAge = students.stream().mapToInt(Student::getAge).average().orElse(0.0);
-                System.out.printf("Average Student Age: %.1f years%n", avgAge);
+            if (report.getTotalStudents() > 0) {
+                System.out.printf("Average Student Age: %.1f years (%d-%d)%n",
+                        report.getAverageAge(), report.getMinAge(), report.getMaxAge());
                 
                 // Course enrollment statistics
                 System.out.println("\nCourse Enrollment:");
-                for (Course course : courses) {
-                    long count = students.stream().filter(s -> s.getCourseId() == course.getCourseId()).count();
-                    System.out.println("- " + course.getCourseName() + ": " + count + " students");
+                for (CourseEnrollment course : report.getCourses()) {
+                    System.out.println("- " + course.getCourseName() + ": " + course.getStudentCount() + " students");
+                }
+                if (report.getUnassignedStudents() > 0) {
+                    System.out.println("- (no course): " + report.getUnassignedStudents() + " students");
+                }
+                
+                System.out.println("\nAge Distribution:");
+                for (AgeBucket bucket : report.getAgeHistogram()) {
+                    System.out.printf("- %d-%d: %d students%n",
+                            bucket.getMinAge(), bucket.getMaxAge(), bucket.getStudentCount());
                 }
             }
-            
-        } catch (StudentManagementException e) {
+            System.out.println("(from " + describeSource(report.getSource()) + ")");
+            
+            PoolStatistics poolStats = DatabaseConnection.getPoolStatistics();
+            System.out.println("\nConnection Pool:");
+            System.out.println("- Active: " + poolStats.getActiveConnections() + ", Idle: " + poolStats.getIdleConnections() +
+                    ", Waiting: " + poolStats.getWaitingThreads());
+            System.out.printf("- Borrow latency: p50=%dus, p99=%dus, max=%dus (%d borrows, %d timeouts)%n",
+                    poolStats.getBorrowP50Micros(), poolStats.getBorrowP99Micros(), poolStats.getBorrowMaxMicros(),
+                    poolStats.getBorrowCount(), poolStats.getBorrowTimeouts());
+            
+            RetryExecutor retries = DAOFactory.getRetryExecutor();
+            System.out.println("\nRetries:");
+            System.out.printf("- %d calls, %d retries, %d recovered, %d gave up after %d attempts, "
+                            + "%d writes not retried (may have been applied)%n",
+                    retries.getCalls(), retries.getRetries(), retries.getRecovered(), retries.getExhausted(),
+                    retries.getPolicy().getMaxAttempts(), retries.getUnsafeToRetry());
+            System.out.printf("- Budget: %.1f retries available, %d granted, %d denied%n",
+                    retries.getBudget().getAvailable(), retries.getBudget().getGranted(),
+                    retries.getBudget().getDenied());
+            CircuitBreaker breaker = retries.getCircuitBreaker();
+            System.out.printf("- Circuit breaker: %s, opened %d times, %d calls refused, %d connection failures%n",
+                    breaker.getState(), breaker.getOpenCount(), breaker.getRejected(), breaker.getFailures());
+            
+            System.out.println("\nDAO Calls:");
+            DAOFactory.getMetricsRegistry().writeTable(System.out);
+            
+            CachingCourseDAO courseCache = DAOFactory.getCourseCache();
+            System.out.println("\nCourse Cache:");
+            System.out.printf("- %d courses cached, hit ratio %.1f%% (%d hits, %d misses, %d loads)%n",
+                    courseCache.getSize(), courseCache.getHitRatio() * 100, courseCache.getHitCount(),
+                    courseCache.getMissCount(), courseCache.getLoadCount());
+            
+            CacheStatistics studentCache = DAOFactory.getStudentCache().getStatistics();
+            System.out.println("\nStudent Cache:");
+            System.out.printf("- %d/%d students cached, hit ratio %.1f%% (%d hits, %d of them not-found, %d misses)%n",
+                    studentCache.getSize(), studentCache.getMaximumSize(), studentCache.getHitRatio() * 100,
+                    studentCache.getHitCount(), studentCache.getNegativeHitCount(), studentCache.getMissCount());
+            System.out.printf("- %d evictions, load latency mean=%.0fus p99=%dus%n",
+                    studentCache.getEvictionCount(), studentCache.getLoadMeanMicros(), studentCache.getLoadP99Micros());
+            
+        } catch (StudentManagementException | IOException e) {
             System.err.println("Error generating reports: " + e.getMessage());
         }
     }
     
+    private static String describeSource(EnrollmentReport.Source source) {
+        switch (source) {
+            case COUNTERS:
+                return "in-memory counters";
+            case SUMMARY_TABLES:
+                return "summary tables";
+            default:
+                return "database";
+        }
+    }
+    
+    private static void exportData() {
+        System.out.print("Export students, courses or traces? ");
+        String entity = scanner.nextLine().trim().toLowerCase();
+        if ("traces".equals(entity)) {
+            System.out.print("Enter output file (.json): ");
+            exportTraces(Paths.get(scanner.nextLine().trim()));
+            return;
+        }
+        System.out.print("Enter output file (.csv or .json, add .gz to compress): ");
+        String path = scanner.nextLine().trim();
+        runExport(entity, Paths.get(path));
+    }
+    
+    /**
+     * Export students or courses to a file
+     * @return true if the export completed
+     */
+    private static boolean runExport(String entity, Path file) {
+        DataExporter exporter = new DataExporter(studentService, courseService);
+        ExportFormat format = ExportFormat.fromFileName(file);
+        boolean gzip = ExportFormat.isGzipFileName(file);
+        try {
+            long start = System.nanoTime();
+            long count;
+            if ("students".equals(entity)) {
+                count = exporter.exportStudents(file, format, gzip);
+            } else if ("courses".equals(entity)) {
+                count = exporter.exportCourses(file, format, gzip);
+            } else {
+                System.err.println("Unknown export type: " + entity + " (expected students or courses)");
+                return false;
+            }
+            System.out.printf("Exported %d %s to %s in %.1f s%n", count, entity, file, (System.nanoTime() - start) / 1e9);
+            return true;
+        } catch (StudentManagementException e) {
+            System.err.println("Export failed: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Write the traces recorded in this session to a file as OTLP JSON
+     */
+    private static void exportTraces(Path file) {
+        List<Trace> traces = Tracer.getBuffer().snapshot();
+        if (traces.isEmpty()) {
+            System.out.println("No traces recorded (sample rate " + Tracer.getSampleRate()
+                    + ", set db.tracing.sampleRate to enable tracing).");
+            return;
+        }
+        try {
+            int spans = OtlpJsonExporter.export(traces, file);
+            System.out.printf("Exported %d traces (%d spans) to %s%n", traces.size(), spans, file);
+        } catch (IOException e) {
+            System.err.println("Export failed: " + e.getMessage());
+        }
+    }
+    
+    private static boolean runReconcileStats(boolean repair) {
+        try {
+            List<StatsDrift> drift = reportService.reconcileStats(repair);
+            if (drift.isEmpty()) {
+                System.out.println("Enrollment statistics are accurate.");
+                return true;
+            }
+            System.out.println("Enrollment statistics drifted in " + drift.size() + " rows"
+                    + (repair ? " (repaired):" : ":"));
+            for (StatsDrift row : drift) {
+                System.out.println("- " + row);
+            }
+            return true;
+        } catch (StudentManagementException e) {
+            System.err.println("Reconciliation failed: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Start the HTTP API; the JVM keeps running until it is interrupted
+     */
+    private static boolean runServer(String[] args) {
+        int port = ApiServer.DEFAULT_PORT;
+        if (args.length > 1) {
+            try {
+                port = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                System.err.println("Invalid port: " + args[1]);
+                return false;
+            }
+        }
+        Path frontendDir = Paths.get(args.length > 2 ? args[2] : "frontend");
+        if (!Files.isDirectory(frontendDir)) {
+            System.err.println("Frontend directory " + frontendDir.toAbsolutePath()
+                    + " not found, serving the API only");
+            frontendDir = null;
+        }
+        
+        DatabaseConfig config = DatabaseConnection.getConfig();
+        RequestExecutors.Mode mode;
+        try {
+            mode = RequestExecutors.Mode.fromString(config.getApiExecutor());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown db.api.executor '" + config.getApiExecutor() + "', using PLATFORM");
+            mode = RequestExecutors.Mode.PLATFORM;
+        }
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(config.getApiMaxConcurrentRequests(),
+                config.getApiQueueTimeoutMs());
+        ApiServer server;
+        try {
+            server = new ApiServer(port, frontendDir, RequestExecutors.create(mode, config.getApiThreads()),
+                    limiter, studentService, courseService, reportService);
+        } catch (IOException e) {
+            System.err.println("Could not start HTTP server on port " + port + ": " + e.getMessage());
+            return false;
+        }
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            DatabaseConnection.shutdown();
+        }, "api-shutdown"));
+        System.out.println("Serving http://localhost:" + server.getPort() + "/ (API under /api) on "
+                + mode + " threads, " + limiter.getMaxConcurrent() + " concurrent API requests; Ctrl+C to stop");
+        return true;
+    }
+    
+    /**
+     * Generate students and courses through the services, or as a SQL script with --sql
+     */
+    private static boolean runGenerateData(String[] args) {
+        long students;
+        int courses;
+        Path sqlFile = null;
+        try {
+            students = Long.parseLong(args[1]);
+            courses = args.length > 2 && !args[2].startsWith("--") ? Integer.parseInt(args[2]) : GENERATED_COURSES;
+            for (int i = 2; i < args.length; i++) {
+                if ("--sql".equals(args[i])) {
+                    sqlFile = Paths.get(args[++i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Usage: generate-data <students> [courses] [--sql <file>]");
+            return false;
+        }
+        
+        SyntheticDataLoader loader = new SyntheticDataLoader(GENERATOR_SEED);
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        reporter.scheduleAtFixedRate(() -> System.out.println("Generated " + loader.getStudentsWritten()
+                + " of " + students + " students"), 5, 5, TimeUnit.SECONDS);
+        long start = System.nanoTime();
+        try {
+            if (sqlFile != null) {
+                loader.writeSql(sqlFile, courses, students);
+                System.out.println("Wrote " + courses + " courses and " + students + " students to " + sqlFile);
+            } else {
+                int[] courseIds = loader.createCourses(courseService, courses);
+                long inserted = loader.loadStudents(studentService, courseIds, students, GENERATOR_BATCH_SIZE);
+                System.out.println("Inserted " + inserted + " students into " + courseIds.length + " courses ("
+                        + loader.getStudentsRejected() + " rejected)");
+            }
+            System.out.printf("Done in %.1fs%n", (System.nanoTime() - start) / 1e9);
+            return true;
+        } catch (StudentManagementException | IOException e) {
+            System.err.println("Data generation failed after " + loader.getStudentsWritten() + " students: "
+                    + e.getMessage());
+            return false;
+        } finally {
+            reporter.shutdownNow();
+        }
+    }
+    
+    /**
+     * Run the closed-loop mixed workload through the services and print throughput and latencies
+     */
+    private static boolean runWorkload(String[] args) {
+        int clients;
+        int seconds;
+        int readPercent;
+        try {
+            clients = args.length > 1 ? Integer.parseInt(args[1]) : WORKLOAD_CLIENTS;
+            seconds = args.length > 2 ? Integer.parseInt(args[2]) : WORKLOAD_SECONDS;
+            readPercent = args.length > 3 ? Integer.parseInt(args[3]) : WORKLOAD_READ_PERCENT;
+        } catch (NumberFormatException e) {
+            System.err.println("Usage: loadtest [clients] [seconds] [readPercent]");
+            return false;
+        }
+        try {
+            MixedWorkload workload = new MixedWorkload(studentService, courseService, GENERATOR_SEED);
+            int students = workload.prepare();
+            System.out.println("Workload: " + clients + " clients for " + seconds + "s, " + readPercent
+                    + "% reads over " + students + " students");
+            MixedWorkload.Result result = workload.run(clients, readPercent,
+                    Duration.ofSeconds(Math.max(1, seconds / 5)), Duration.ofSeconds(seconds));
+            System.out.print(result);
+            return true;
+        } catch (StudentManagementException | IllegalArgumentException | IllegalStateException e) {
+            System.err.println("Load test failed: " + e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
     private static void showDemoData() {
         System.out.println("\n=== DEMO DATA ===");
         System.out.println("This system comes with sample data that gets populated when you run the SQL scripts.");
@@ -580,8 +1096,9 @@ public class StudentManagementSystemApp {
         System.out.println("- Form validation");
         System.out.println("- Modern UI with icons and animations");
         System.out.println();
-        System.out.println("Note: The frontend currently uses sample data.");
-        System.out.println("To connect to the Java backend, you would need to implement REST APIs.");
+        System.out.println("To use live data, start the application with the \"serve\" argument");
+        System.out.println("and open http://localhost:" + ApiServer.DEFAULT_PORT + "/ instead of the file.");
+        System.out.println("Opened directly from disk, the frontend falls back to sample data.");
     }
     
     // Utility methods
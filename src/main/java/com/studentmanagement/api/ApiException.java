@@ -0,0 +1,17 @@
+package com.studentmanagement.api;
+
+/**
+ * A request that cannot be served, with the HTTP status to answer it with
+ */
+class ApiException extends Exception {
+    private final int status;
+
+    ApiException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    int getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,186 @@
+package com.studentmanagement.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.exception.TransientDatabaseException;
+import com.studentmanagement.tracing.Span;
+import com.studentmanagement.tracing.Tracer;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class for the JSON endpoints.
+ *
+ * Subclasses handle one resource and throw ApiException for requests they
+ * cannot serve. A StudentManagementException is answered by its ErrorCode:
+ * VALIDATION 400, NOT_FOUND 404, CONFLICT 409, TRANSIENT_DATABASE 503 (with
+ * Retry-After when retryable) and DATABASE 500. An unclassified one without
+ * a cause is a rejected request (400), with a cause a failure (500). Either
+ * way the client gets {"status", "code", "error"} and the exchange is closed.
+ * A sampled request is traced from here, with a root span per request.
+ */
+abstract class ApiHandler implements HttpHandler {
+    private static final Logger LOG = LoggerFactory.getLogger(ApiHandler.class);
+
+    static final String JSON_TYPE = "application/json; charset=utf-8";
+
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+    private static final int INITIAL_BUFFER_BYTES = 4096;
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    /**
+     * Writes one JSON document
+     */
+    interface JsonBody {
+        void write(JsonGenerator json) throws IOException;
+    }
+
+    @Override
+    public final void handle(HttpExchange exchange) throws IOException {
+        Span span = Tracer.startServerSpan(exchange.getRequestMethod(), exchange.getHttpContext().getPath());
+        try {
+            handle(exchange, pathSegments(exchange), QueryParams.parse(exchange.getRequestURI()));
+        } catch (ApiException e) {
+            sendError(exchange, e.getStatus(), e.getMessage());
+        } catch (StudentManagementException e) {
+            int status = statusFor(e);
+            if (status >= 500) {
+                LOG.error("API request {} {} failed: {}", exchange.getRequestMethod(), exchange.getRequestURI(),
+                        e.getMessage());
+                span.recordError(e);
+            }
+            if (e instanceof TransientDatabaseException && ((TransientDatabaseException) e).isRetryable()) {
+                exchange.getResponseHeaders().set("Retry-After", RETRY_AFTER_SECONDS);
+            }
+            sendError(exchange, status, e.getErrorCode().name(), e.getMessage());
+        } catch (RuntimeException e) {
+            LOG.error("API request {} {} failed", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+            span.recordError(e);
+            sendError(exchange, 500, "Internal server error");
+        } finally {
+            exchange.close();
+            if (span.isRecording()) {
+                span.setAttribute("http.method", exchange.getRequestMethod())
+                        .setAttribute("http.target", exchange.getRequestURI().getPath())
+                        .setAttribute("http.status_code", exchange.getResponseCode())
+                        .close();
+            }
+        }
+    }
+
+    /**
+     * @param path path segments after the context path, e.g. ["42"] for /api/students/42
+     */
+    protected abstract void handle(HttpExchange exchange, List<String> path, QueryParams params)
+            throws IOException, ApiException, StudentManagementException;
+
+    /**
+     * Send a 200 JSON response that can be revalidated with If-None-Match
+     */
+    protected void sendJson(HttpExchange exchange, JsonBody body) throws IOException {
+        sendJson(exchange, 200, body);
+    }
+
+    protected void sendJson(HttpExchange exchange, int status, JsonBody body) throws IOException {
+        HttpResponses.Buffer buffer = new HttpResponses.Buffer(INITIAL_BUFFER_BYTES);
+        try (JsonGenerator json = JsonCodec.JSON_FACTORY.createGenerator(buffer)) {
+            body.write(json);
+        }
+        byte[] bytes = buffer.array();
+        int length = buffer.size();
+        String etag = status == 200 ? HttpResponses.etag(bytes, length) : null;
+        HttpResponses.send(exchange, status, JSON_TYPE, bytes, length, etag, null);
+    }
+
+    protected void sendNoContent(HttpExchange exchange) throws IOException {
+        exchange.sendResponseHeaders(204, -1);
+    }
+
+    protected void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        sendError(exchange, status, null, message);
+    }
+
+    private void sendError(HttpExchange exchange, int status, String code, String message) throws IOException {
+        try {
+            sendJson(exchange, status, json -> JsonCodec.writeError(json, status, code, message));
+        } catch (IOException e) {
+            // The client has gone or the headers were already sent; nothing more to tell it
+        }
+    }
+
+    private static int statusFor(StudentManagementException e) {
+        switch (e.getErrorCode()) {
+            case VALIDATION:
+                return 400;
+            case NOT_FOUND:
+                return 404;
+            case CONFLICT:
+                return 409;
+            case TRANSIENT_DATABASE:
+                return 503;
+            case DATABASE:
+                return 500;
+            default:
+                return e.getCause() == null ? 400 : 500;
+        }
+    }
+
+    /**
+     * @throws ApiException 405, listing the methods the resource does support
+     */
+    protected static ApiException methodNotAllowed(HttpExchange exchange, String allowed) {
+        exchange.getResponseHeaders().set("Allow", allowed);
+        return new ApiException(405, "Method " + exchange.getRequestMethod() + " not allowed");
+    }
+
+    /**
+     * @throws ApiException 413 if the body is larger than MAX_BODY_BYTES
+     */
+    protected static byte[] readBody(HttpExchange exchange) throws IOException, ApiException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                throw new ApiException(413, "Request body exceeds " + MAX_BODY_BYTES + " bytes");
+            }
+            return body;
+        }
+    }
+
+    /**
+     * @throws ApiException 404 if the segment is not a positive number
+     */
+    protected static int parseId(String segment) throws ApiException {
+        try {
+            int id = Integer.parseInt(segment);
+            if (id > 0) {
+                return id;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new ApiException(404, "Not found");
+    }
+
+    private static List<String> pathSegments(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        String context = exchange.getHttpContext().getPath();
+        List<String> segments = new ArrayList<>(2);
+        if (path.length() <= context.length()) {
+            return segments;
+        }
+        for (String segment : path.substring(context.length()).split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+}
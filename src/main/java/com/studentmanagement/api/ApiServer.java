@@ -0,0 +1,91 @@
+package com.studentmanagement.api;
+
+import com.studentmanagement.dao.DAOFactory;
+import com.studentmanagement.service.CourseService;
+import com.studentmanagement.service.ReportService;
+import com.studentmanagement.service.StudentService;
+import com.studentmanagement.util.ConcurrencyLimiter;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Embedded HTTP server exposing the services as a JSON API under /api,
+ * and the admin frontend from a directory under /.
+ *
+ * Requests run on the executor given, a fixed platform pool or one virtual
+ * thread each (see RequestExecutors). API requests pass a ConcurrencyLimiter
+ * first, so however many are in flight only a bounded number compete for
+ * database connections; static files, the Prometheus /metrics endpoint
+ * and the OTLP JSON /traces endpoint are not limited.
+ */
+public class ApiServer implements AutoCloseable {
+    public static final int DEFAULT_PORT = 8080;
+
+    private static final int ACCEPT_BACKLOG = 1024;
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * @param port port to listen on, or 0 for any free port
+     * @param frontendDir directory with admin.html, or null to serve the API only
+     * @param executor runs the requests; shut down by close()
+     * @param limiter admission control for API requests, or null for none
+     */
+    public ApiServer(int port, Path frontendDir, ExecutorService executor, ConcurrencyLimiter limiter,
+                     StudentService studentService, CourseService courseService,
+                     ReportService reportService) throws IOException {
+        // Responses are written in one piece; don't let Nagle hold back the last segment
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        this.server = HttpServer.create(new InetSocketAddress(port), ACCEPT_BACKLOG);
+        this.executor = executor;
+        server.setExecutor(executor);
+
+        server.createContext("/api/students", limit(new StudentHandler(studentService), limiter));
+        server.createContext("/api/courses", limit(new CourseHandler(courseService), limiter));
+        server.createContext("/api/reports", limit(new ReportHandler(reportService), limiter));
+        server.createContext("/metrics", new MetricsHandler(DAOFactory.getMetricsRegistry()));
+        server.createContext("/traces", new TracesHandler());
+        if (frontendDir != null) {
+            server.createContext("/", new StaticFileHandler(frontendDir));
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * @return the port actually listened on
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stop accepting requests, give in-flight ones a moment to finish, then stop the workers
+     */
+    @Override
+    public void close() {
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(STOP_DELAY_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static HttpHandler limit(HttpHandler handler, ConcurrencyLimiter limiter) {
+        return limiter == null ? handler : new LimitingHandler(handler, limiter);
+    }
+}
@@ -0,0 +1,86 @@
+package com.studentmanagement.api;
+
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.export.JsonRecords;
+import com.studentmanagement.model.Course;
+import com.studentmanagement.service.CourseService;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * /api/courses and /api/courses/{id}.
+ * GET on the collection returns every course, or the matches for q.
+ */
+class CourseHandler extends ApiHandler {
+    private final CourseService courseService;
+
+    CourseHandler(CourseService courseService) {
+        this.courseService = courseService;
+    }
+
+    @Override
+    protected void handle(HttpExchange exchange, List<String> path, QueryParams params)
+            throws IOException, ApiException, StudentManagementException {
+        String method = exchange.getRequestMethod();
+        if (path.isEmpty()) {
+            if ("GET".equals(method)) {
+                List<Course> courses = courseService.searchCourses(params.get("q"));
+                sendJson(exchange, json -> JsonCodec.writeCourses(json, courses));
+            } else if ("POST".equals(method)) {
+                create(exchange);
+            } else {
+                throw methodNotAllowed(exchange, "GET, POST");
+            }
+            return;
+        }
+        if (path.size() > 1) {
+            throw new ApiException(404, "Not found");
+        }
+
+        int courseId = parseId(path.get(0));
+        if ("GET".equals(method)) {
+            Course course = courseService.getCourseById(courseId);
+            if (course == null) {
+                throw new ApiException(404, "Course with ID " + courseId + " does not exist");
+            }
+            sendJson(exchange, json -> JsonRecords.writeCourse(json, course));
+        } else if ("PUT".equals(method)) {
+            update(exchange, courseId);
+        } else if ("DELETE".equals(method)) {
+            if (!courseService.deleteCourse(courseId)) {
+                throw new ApiException(404, "Course with ID " + courseId + " does not exist");
+            }
+            sendNoContent(exchange);
+        } else {
+            throw methodNotAllowed(exchange, "GET, PUT, DELETE");
+        }
+    }
+
+    private void create(HttpExchange exchange) throws IOException, ApiException, StudentManagementException {
+        Course course = JsonCodec.readCourse(readBody(exchange));
+        validate(course);
+        int courseId = courseService.addCourse(course);
+        Course created = courseService.getCourseById(courseId);
+        exchange.getResponseHeaders().set("Location", exchange.getHttpContext().getPath() + "/" + courseId);
+        sendJson(exchange, 201, json -> JsonRecords.writeCourse(json, created != null ? created : course));
+    }
+
+    private void update(HttpExchange exchange, int courseId)
+            throws IOException, ApiException, StudentManagementException {
+        Course course = JsonCodec.readCourse(readBody(exchange));
+        course.setCourseId(courseId);
+        validate(course);
+        if (!courseService.updateCourse(course)) {
+            throw new ApiException(404, "Course with ID " + courseId + " does not exist");
+        }
+        Course updated = courseService.getCourseById(courseId);
+        sendJson(exchange, json -> JsonRecords.writeCourse(json, updated != null ? updated : course));
+    }
+
+    private void validate(Course course) throws StudentManagementException {
+        courseService.validateCourseData(course.getCourseName(), course.getDescription());
+        course.setCourseName(course.getCourseName().trim());
+    }
+}
@@ -0,0 +1,128 @@
+package com.studentmanagement.api;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32C;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Sends response bodies with ETag revalidation and gzip.
+ *
+ * Bodies are complete byte arrays, so every response carries a
+ * Content-Length and the connection can be kept alive. A request whose
+ * If-None-Match names the current ETag gets 304 and no body. Bodies of at
+ * least GZIP_MIN_BYTES are gzipped at the fastest level when the client
+ * accepts it; JSON compresses well even then.
+ */
+final class HttpResponses {
+    static final int GZIP_MIN_BYTES = 1024;
+
+    private HttpResponses() {
+    }
+
+    /**
+     * Output buffer whose array can be sent without copying
+     */
+    static final class Buffer extends ByteArrayOutputStream {
+        Buffer(int size) {
+            super(size);
+        }
+
+        byte[] array() {
+            return buf;
+        }
+    }
+
+    /**
+     * Weak ETag from a checksum of the body; weak because the gzipped and plain
+     * representations share it
+     */
+    static String etag(byte[] body, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(body, 0, length);
+        return "W/\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(length) + "\"";
+    }
+
+    /**
+     * @param etag entity tag, or null for responses that must not be cached
+     * @param gzipped the body already compressed, or null to compress here if worthwhile
+     */
+    static void send(HttpExchange exchange, int status, String contentType, byte[] body, int length,
+                     String etag, byte[] gzipped) throws IOException {
+        Headers headers = exchange.getResponseHeaders();
+        headers.set("Content-Type", contentType);
+        if (etag != null) {
+            headers.set("ETag", etag);
+            headers.set("Cache-Control", "no-cache");
+            if (status == 200 && matches(exchange.getRequestHeaders().getFirst("If-None-Match"), etag)) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+        }
+
+        if (length >= GZIP_MIN_BYTES) {
+            headers.set("Vary", "Accept-Encoding");
+            if (acceptsGzip(exchange)) {
+                byte[] compressed = gzipped != null ? gzipped : gzip(body, length);
+                headers.set("Content-Encoding", "gzip");
+                write(exchange, status, compressed, compressed.length);
+                return;
+            }
+        }
+        write(exchange, status, body, length);
+    }
+
+    static byte[] gzip(byte[] body, int length) throws IOException {
+        Buffer buffer = new Buffer(Math.max(64, length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer, 8192) {
+            {
+                def.setLevel(Deflater.BEST_SPEED);
+            }
+        }) {
+            out.write(body, 0, length);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static void write(HttpExchange exchange, int status, byte[] body, int length) throws IOException {
+        if (length == 0) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body, 0, length);
+        }
+    }
+
+    private static boolean acceptsGzip(HttpExchange exchange) {
+        String accept = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        return accept != null && accept.contains("gzip");
+    }
+
+    /**
+     * Weak comparison, as If-None-Match requires
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeak(tag).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
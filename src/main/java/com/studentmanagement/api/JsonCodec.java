@@ -0,0 +1,273 @@
+package com.studentmanagement.api;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.studentmanagement.export.JsonRecords;
+import com.studentmanagement.model.AgeBucket;
+import com.studentmanagement.model.Course;
+import com.studentmanagement.model.CourseEnrollment;
+import com.studentmanagement.model.EnrollmentReport;
+import com.studentmanagement.model.FuzzyMatch;
+import com.studentmanagement.model.Page;
+import com.studentmanagement.model.Student;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Streams API responses to a JsonGenerator and reads request bodies with a
+ * JsonParser, one token at a time, without building an object tree.
+ */
+final class JsonCodec {
+    static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private JsonCodec() {
+    }
+
+    static void writeStudentPage(JsonGenerator json, Page<Student> page) throws IOException {
+        json.writeStartObject();
+        json.writeArrayFieldStart("items");
+        for (Student student : page.getItems()) {
+            JsonRecords.writeStudent(json, student);
+        }
+        json.writeEndArray();
+        json.writeStringField("nextCursor", page.getNextCursor());
+        if (page.getEstimatedTotal() != Page.TOTAL_UNKNOWN) {
+            json.writeNumberField("estimatedTotal", page.getEstimatedTotal());
+        }
+        json.writeEndObject();
+    }
+
+    static void writeStudents(JsonGenerator json, List<Student> students) throws IOException {
+        json.writeStartObject();
+        json.writeArrayFieldStart("items");
+        for (Student student : students) {
+            JsonRecords.writeStudent(json, student);
+        }
+        json.writeEndArray();
+        json.writeNullField("nextCursor");
+        json.writeEndObject();
+    }
+
+    static void writeFuzzyMatches(JsonGenerator json, List<FuzzyMatch> matches) throws IOException {
+        json.writeStartObject();
+        json.writeArrayFieldStart("items");
+        for (FuzzyMatch match : matches) {
+            json.writeStartObject();
+            JsonRecords.writeStudentFields(json, match.getStudent());
+            json.writeNumberField("distance", match.getDistance());
+            json.writeNumberField("score", match.getScore());
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+        json.writeNullField("nextCursor");
+        json.writeEndObject();
+    }
+
+    static void writeCourses(JsonGenerator json, List<Course> courses) throws IOException {
+        json.writeStartObject();
+        json.writeArrayFieldStart("items");
+        for (Course course : courses) {
+            JsonRecords.writeCourse(json, course);
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    /**
+     * The generation time is left out so that unchanged figures keep the same ETag
+     */
+    static void writeReport(JsonGenerator json, EnrollmentReport report) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("totalStudents", report.getTotalStudents());
+        json.writeNumberField("totalCourses", report.getTotalCourses());
+        json.writeNumberField("averageAge", report.getAverageAge());
+        json.writeNumberField("minAge", report.getMinAge());
+        json.writeNumberField("maxAge", report.getMaxAge());
+        json.writeNumberField("unassignedStudents", report.getUnassignedStudents());
+        json.writeStringField("source", report.getSource().name());
+        json.writeArrayFieldStart("courses");
+        for (CourseEnrollment course : report.getCourses()) {
+            json.writeStartObject();
+            json.writeNumberField("courseId", course.getCourseId());
+            json.writeStringField("courseName", course.getCourseName());
+            json.writeNumberField("studentCount", course.getStudentCount());
+            json.writeNumberField("averageAge", course.getAverageAge());
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+        json.writeArrayFieldStart("ageHistogram");
+        for (AgeBucket bucket : report.getAgeHistogram()) {
+            json.writeStartObject();
+            json.writeNumberField("minAge", bucket.getMinAge());
+            json.writeNumberField("maxAge", bucket.getMaxAge());
+            json.writeNumberField("studentCount", bucket.getStudentCount());
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    static void writeError(JsonGenerator json, int status, String message) throws IOException {
+        writeError(json, status, null, message);
+    }
+
+    /**
+     * @param code ErrorCode name, or null to leave the field out
+     */
+    static void writeError(JsonGenerator json, int status, String code, String message) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("status", status);
+        if (code != null) {
+            json.writeStringField("code", code);
+        }
+        json.writeStringField("error", message);
+        json.writeEndObject();
+    }
+
+    /**
+     * Read a student from {"name", "age", "email", "courseId"}; other fields are ignored
+     * @throws ApiException if the body is not a JSON object of that shape
+     */
+    static StudentBody readStudent(byte[] body) throws ApiException {
+        StudentBody student = new StudentBody();
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            expectObject(parser);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                switch (field) {
+                    case "name":
+                        student.name = readString(parser, field);
+                        break;
+                    case "age":
+                        student.age = readInt(parser, field);
+                        break;
+                    case "email":
+                        student.email = readString(parser, field);
+                        break;
+                    case "courseId":
+                        student.courseId = readInt(parser, field);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        } catch (JsonParseException e) {
+            throw new ApiException(400, "Malformed JSON: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new ApiException(400, "Could not read request body");
+        }
+        return student;
+    }
+
+    /**
+     * Read a course from {"courseName", "description"}; other fields are ignored
+     * @throws ApiException if the body is not a JSON object of that shape
+     */
+    static Course readCourse(byte[] body) throws ApiException {
+        Course course = new Course();
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            expectObject(parser);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                switch (field) {
+                    case "courseName":
+                        course.setCourseName(readString(parser, field));
+                        break;
+                    case "description":
+                        course.setDescription(readString(parser, field));
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        } catch (JsonParseException e) {
+            throw new ApiException(400, "Malformed JSON: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new ApiException(400, "Could not read request body");
+        }
+        return course;
+    }
+
+    private static void expectObject(JsonParser parser) throws IOException, ApiException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new ApiException(400, "Request body must be a JSON object");
+        }
+    }
+
+    private static String readString(JsonParser parser, String field) throws IOException, ApiException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            throw new ApiException(400, "Field '" + field + "' must be a string");
+        }
+        return parser.getText();
+    }
+
+    /**
+     * Accept numbers and numeric strings, since HTML forms produce the latter
+     */
+    private static Integer readInt(JsonParser parser, String field) throws IOException, ApiException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return Integer.parseInt(parser.getText().trim());
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+        }
+        throw new ApiException(400, "Field '" + field + "' must be a whole number");
+    }
+
+    /**
+     * Student fields as sent by the client; a field that was missing or null
+     * stays null so validation can tell it apart from 0
+     */
+    static final class StudentBody {
+        private String name;
+        private Integer age;
+        private String email;
+        private Integer courseId;
+
+        String getName() {
+            return name;
+        }
+
+        Integer getAge() {
+            return age;
+        }
+
+        String getEmail() {
+            return email;
+        }
+
+        Integer getCourseId() {
+            return courseId;
+        }
+
+        /**
+         * Only call once the fields have been validated
+         */
+        Student toStudent() {
+            Student student = new Student();
+            student.setName(name);
+            student.setAge(age);
+            student.setEmail(email);
+            student.setCourseId(courseId);
+            return student;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.studentmanagement.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.studentmanagement.util.ConcurrencyLimiter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+
+/**
+ * Runs a handler only while holding a ConcurrencyLimiter permit, and answers
+ * 503 with Retry-After when none frees up in time.
+ */
+class LimitingHandler implements HttpHandler {
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final HttpHandler delegate;
+    private final ConcurrencyLimiter limiter;
+
+    LimitingHandler(HttpHandler delegate, ConcurrencyLimiter limiter) {
+        this.delegate = delegate;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        boolean admitted;
+        try {
+            admitted = limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            reject(exchange);
+            return;
+        }
+        try {
+            delegate.handle(exchange);
+        } finally {
+            limiter.release();
+        }
+    }
+
+    private static void reject(HttpExchange exchange) throws IOException {
+        try {
+            HttpResponses.Buffer buffer = new HttpResponses.Buffer(64);
+            try (JsonGenerator json = JsonCodec.JSON_FACTORY.createGenerator(buffer)) {
+                JsonCodec.writeError(json, 503, "Server busy, try again shortly");
+            }
+            exchange.getResponseHeaders().set("Retry-After", RETRY_AFTER_SECONDS);
+            HttpResponses.send(exchange, 503, ApiHandler.JSON_TYPE, buffer.array(), buffer.size(), null, null);
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.studentmanagement.api;
+
+import com.studentmanagement.util.MetricsRegistry;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * GET /metrics: the DAO metrics in the Prometheus text format, for scraping.
+ * Not behind the concurrency limiter, so scrapes still work under load.
+ */
+class MetricsHandler implements HttpHandler {
+    static final String PROMETHEUS_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final MetricsRegistry registry;
+
+    MetricsHandler(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            StringBuilder text = new StringBuilder(4096);
+            registry.writePrometheus(text);
+            byte[] body = text.toString().getBytes(StandardCharsets.UTF_8);
+            HttpResponses.send(exchange, 200, PROMETHEUS_TYPE, body, body.length, null, null);
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.studentmanagement.api;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decoded query string parameters; the first value wins when a name repeats
+ */
+final class QueryParams {
+    private final Map<String, String> values = new HashMap<>();
+
+    private QueryParams() {
+    }
+
+    /**
+     * @throws ApiException if the query string is not properly percent-encoded
+     */
+    static QueryParams parse(URI uri) throws ApiException {
+        QueryParams params = new QueryParams();
+        String query = uri.getRawQuery();
+        if (query == null || query.isEmpty()) {
+            return params;
+        }
+        try {
+            for (String pair : query.split("&")) {
+                if (pair.isEmpty()) {
+                    continue;
+                }
+                int equals = pair.indexOf('=');
+                String name = decode(equals < 0 ? pair : pair.substring(0, equals));
+                String value = equals < 0 ? "" : decode(pair.substring(equals + 1));
+                params.values.putIfAbsent(name, value);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(400, "Malformed query string");
+        }
+        return params;
+    }
+
+    /**
+     * @return the trimmed value, or null if the parameter is absent or blank
+     */
+    String get(String name) {
+        String value = values.get(name);
+        if (value == null) {
+            return null;
+        }
+        value = value.trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * @return the value as an int, or null if absent
+     * @throws ApiException if the value is not a number
+     */
+    Integer getInt(String name) throws ApiException {
+        String value = get(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ApiException(400, "Query parameter '" + name + "' must be a number");
+        }
+    }
+
+    int getInt(String name, int defaultValue) throws ApiException {
+        Integer value = getInt(name);
+        return value == null ? defaultValue : value;
+    }
+
+    boolean getBoolean(String name) {
+        String value = get(name);
+        return "true".equalsIgnoreCase(value) || "1".equals(value);
+    }
+
+    private static String decode(String text) {
+        return URLDecoder.decode(text, StandardCharsets.UTF_8);
+    }
+}
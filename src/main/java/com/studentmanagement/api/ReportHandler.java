@@ -0,0 +1,47 @@
+package com.studentmanagement.api;
+
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.model.EnrollmentReport;
+import com.studentmanagement.service.ReportService;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * /api/reports/enrollment, optionally with ageBucketWidth and source
+ * (DATABASE, SUMMARY_TABLES or COUNTERS; the cheapest available by default).
+ */
+class ReportHandler extends ApiHandler {
+    private final ReportService reportService;
+
+    ReportHandler(ReportService reportService) {
+        this.reportService = reportService;
+    }
+
+    @Override
+    protected void handle(HttpExchange exchange, List<String> path, QueryParams params)
+            throws IOException, ApiException, StudentManagementException {
+        if (path.size() != 1 || !"enrollment".equals(path.get(0))) {
+            throw new ApiException(404, "Not found");
+        }
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            throw methodNotAllowed(exchange, "GET");
+        }
+
+        int width = params.getInt("ageBucketWidth", ReportService.DEFAULT_AGE_BUCKET_WIDTH);
+        String source = params.get("source");
+        EnrollmentReport report;
+        if (source == null) {
+            report = reportService.getEnrollmentReport(width);
+        } else {
+            try {
+                report = reportService.getEnrollmentReport(
+                        EnrollmentReport.Source.valueOf(source.toUpperCase()), width);
+            } catch (IllegalArgumentException e) {
+                throw new ApiException(400, "Unknown report source: " + source);
+            }
+        }
+        sendJson(exchange, json -> JsonCodec.writeReport(json, report));
+    }
+}
@@ -0,0 +1,85 @@
+package com.studentmanagement.api;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors the API server can run requests on.
+ *
+ * The code is compiled for Java 11, so the virtual-thread executor is looked
+ * up reflectively; on an older JVM the platform pool is used instead.
+ */
+public final class RequestExecutors {
+    private static final Logger LOG = LoggerFactory.getLogger(RequestExecutors.class);
+
+    /**
+     * How requests are scheduled
+     */
+    public enum Mode {
+        /** fixed pool of platform threads */
+        PLATFORM,
+        /** one virtual thread per request (Java 21 and later) */
+        VIRTUAL;
+
+        /**
+         * @throws IllegalArgumentException for unknown names
+         */
+        public static Mode fromString(String value) {
+            return valueOf(value.trim().toUpperCase());
+        }
+    }
+
+    private RequestExecutors() {
+    }
+
+    /**
+     * @param threads size of the platform pool; ignored for virtual threads
+     */
+    public static ExecutorService create(Mode mode, int threads) {
+        if (mode == Mode.VIRTUAL) {
+            ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+            if (virtual != null) {
+                return virtual;
+            }
+            LOG.warn("Virtual threads need Java 21 (running {}), using {} platform threads",
+                    System.getProperty("java.version"), threads);
+        }
+        return Executors.newFixedThreadPool(threads, new WorkerThreadFactory());
+    }
+
+    /**
+     * @return true if this JVM can run requests on virtual threads
+     */
+    public static boolean virtualThreadsAvailable() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "api-worker-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.studentmanagement.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves the files under one directory, with "/" mapped to admin.html.
+ *
+ * File contents, their gzipped form and ETag are kept in memory and reloaded
+ * when the file's modification time or size changes, so repeated requests
+ * cost one stat call. Paths that resolve outside the directory are refused.
+ */
+class StaticFileHandler implements HttpHandler {
+    static final String INDEX_FILE = "admin.html";
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "js", "application/javascript; charset=utf-8",
+            "css", "text/css; charset=utf-8",
+            "json", "application/json; charset=utf-8",
+            "svg", "image/svg+xml",
+            "png", "image/png",
+            "ico", "image/x-icon");
+
+    private final Path root;
+    private final Map<Path, CachedFile> cache = new ConcurrentHashMap<>();
+
+    private static final class CachedFile {
+        final long modified;
+        final long size;
+        final byte[] bytes;
+        final byte[] gzipped;
+        final String etag;
+
+        CachedFile(long modified, long size, byte[] bytes) throws IOException {
+            this.modified = modified;
+            this.size = size;
+            this.bytes = bytes;
+            this.gzipped = bytes.length >= HttpResponses.GZIP_MIN_BYTES
+                    ? HttpResponses.gzip(bytes, bytes.length) : null;
+            this.etag = HttpResponses.etag(bytes, bytes.length);
+        }
+    }
+
+    StaticFileHandler(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                sendText(exchange, 405, "Method not allowed");
+                return;
+            }
+
+            String requested = exchange.getRequestURI().getPath();
+            if (requested.isEmpty() || requested.endsWith("/")) {
+                requested += INDEX_FILE;
+            }
+            Path file;
+            try {
+                file = root.resolve(requested.substring(1)).normalize();
+            } catch (InvalidPathException e) {
+                file = null;
+            }
+            if (file == null || !file.startsWith(root)) {
+                sendText(exchange, 404, "Not found");
+                return;
+            }
+
+            CachedFile cached = load(file);
+            if (cached == null) {
+                sendText(exchange, 404, "Not found");
+                return;
+            }
+            HttpResponses.send(exchange, 200, contentType(file), cached.bytes, cached.bytes.length,
+                    cached.etag, cached.gzipped);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * @return the file's cached contents, or null if it is not a readable regular file
+     */
+    private CachedFile load(Path file) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            cache.remove(file);
+            return null;
+        }
+        if (!attributes.isRegularFile()) {
+            return null;
+        }
+        long modified = attributes.lastModifiedTime().toMillis();
+        CachedFile cached = cache.get(file);
+        if (cached == null || cached.modified != modified || cached.size != attributes.size()) {
+            cached = new CachedFile(modified, attributes.size(), Files.readAllBytes(file));
+            cache.put(file, cached);
+        }
+        return cached;
+    }
+
+    private static String contentType(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String type = dot < 0 ? null : CONTENT_TYPES.get(name.substring(dot + 1).toLowerCase());
+        return type != null ? type : "application/octet-stream";
+    }
+
+    private static void sendText(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = message.getBytes(StandardCharsets.UTF_8);
+        HttpResponses.send(exchange, status, "text/plain; charset=utf-8", body, body.length, null, null);
+    }
+}
@@ -0,0 +1,142 @@
+package com.studentmanagement.api;
+
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.export.JsonRecords;
+import com.studentmanagement.model.FuzzyMatch;
+import com.studentmanagement.model.Page;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.service.StudentService;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * /api/students and /api/students/{id}.
+ *
+ * GET on the collection takes limit, and then either cursor and includeTotal
+ * for keyset pages ordered by name, or any of the filters q (typo-tolerant,
+ * with maxDistance, and not combinable with the others), name, courseId,
+ * minAge and maxAge. A name on its own is a ranked search; otherwise all of
+ * the filters go to the database together and the result is paged with
+ * cursor, like the unfiltered list.
+ */
+class StudentHandler extends ApiHandler {
+    static final int DEFAULT_LIMIT = 50;
+
+    private final StudentService studentService;
+
+    StudentHandler(StudentService studentService) {
+        this.studentService = studentService;
+    }
+
+    @Override
+    protected void handle(HttpExchange exchange, List<String> path, QueryParams params)
+            throws IOException, ApiException, StudentManagementException {
+        String method = exchange.getRequestMethod();
+        if (path.isEmpty()) {
+            if ("GET".equals(method)) {
+                list(exchange, params);
+            } else if ("POST".equals(method)) {
+                create(exchange);
+            } else {
+                throw methodNotAllowed(exchange, "GET, POST");
+            }
+            return;
+        }
+        if (path.size() > 1) {
+            throw new ApiException(404, "Not found");
+        }
+
+        int studentId = parseId(path.get(0));
+        if ("GET".equals(method)) {
+            Student student = studentService.getStudentById(studentId);
+            if (student == null) {
+                throw new ApiException(404, "Student with ID " + studentId + " does not exist");
+            }
+            sendJson(exchange, json -> JsonRecords.writeStudent(json, student));
+        } else if ("PUT".equals(method)) {
+            update(exchange, studentId);
+        } else if ("DELETE".equals(method)) {
+            studentService.deleteStudent(studentId);
+            sendNoContent(exchange);
+        } else {
+            throw methodNotAllowed(exchange, "GET, PUT, DELETE");
+        }
+    }
+
+    private void list(HttpExchange exchange, QueryParams params)
+            throws IOException, ApiException, StudentManagementException {
+        int limit = params.getInt("limit", DEFAULT_LIMIT);
+        if (limit <= 0 || limit > StudentService.MAX_SEARCH_LIMIT) {
+            throw new ApiException(400, "limit must be between 1 and " + StudentService.MAX_SEARCH_LIMIT);
+        }
+        String query = params.get("q");
+        String name = params.get("name");
+        Integer courseId = params.getInt("courseId");
+        Integer minAge = params.getInt("minAge");
+        Integer maxAge = params.getInt("maxAge");
+        boolean filtered = name != null || courseId != null || minAge != null || maxAge != null;
+
+        if (query != null) {
+            if (filtered) {
+                throw new ApiException(400, "q cannot be combined with name, courseId, minAge or maxAge");
+            }
+            int maxDistance = params.getInt("maxDistance", StudentService.DEFAULT_MAX_EDIT_DISTANCE);
+            List<FuzzyMatch> matches = studentService.fuzzySearchStudents(query, maxDistance, limit);
+            sendJson(exchange, json -> JsonCodec.writeFuzzyMatches(json, matches));
+            return;
+        }
+
+        if (!filtered) {
+            Page<Student> page = studentService.getStudentsPage(params.get("cursor"), limit,
+                    params.getBoolean("includeTotal"));
+            sendJson(exchange, json -> JsonCodec.writeStudentPage(json, page));
+            return;
+        }
+
+        if (courseId == null && minAge == null && maxAge == null) {
+            List<Student> students = studentService.searchStudentsByName(name, limit);
+            sendJson(exchange, json -> JsonCodec.writeStudents(json, students));
+            return;
+        }
+
+        int min = minAge == null ? 0 : minAge;
+        int max = maxAge == null ? Integer.MAX_VALUE : maxAge;
+        String cursor = params.get("cursor");
+        Page<Student> page = courseId != null
+                ? studentService.getStudentsByCourse(courseId, min, max, name, cursor, limit)
+                : studentService.getStudentsByAgeRange(min, max, name, cursor, limit);
+        sendJson(exchange, json -> JsonCodec.writeStudentPage(json, page));
+    }
+
+    private void create(HttpExchange exchange) throws IOException, ApiException, StudentManagementException {
+        Student student = validate(JsonCodec.readStudent(readBody(exchange)));
+        int studentId = studentService.addStudent(student);
+        Student created = studentService.getStudentById(studentId);
+        exchange.getResponseHeaders().set("Location", exchange.getHttpContext().getPath() + "/" + studentId);
+        sendJson(exchange, 201, json -> JsonRecords.writeStudent(json, created != null ? created : student));
+    }
+
+    private void update(HttpExchange exchange, int studentId)
+            throws IOException, ApiException, StudentManagementException {
+        Student student = validate(JsonCodec.readStudent(readBody(exchange)));
+        student.setStudentId(studentId);
+        studentService.updateStudent(student);
+        Student updated = studentService.getStudentById(studentId);
+        sendJson(exchange, json -> JsonRecords.writeStudent(json, updated != null ? updated : student));
+    }
+
+    private Student validate(JsonCodec.StudentBody body) throws StudentManagementException {
+        studentService.validateStudentData(body.getName(), toText(body.getAge()),
+                body.getEmail(), toText(body.getCourseId()));
+        Student student = body.toStudent();
+        student.setName(student.getName().trim());
+        student.setEmail(student.getEmail().trim());
+        return student;
+    }
+
+    private static String toText(Integer value) {
+        return value == null ? null : value.toString();
+    }
+}
@@ -0,0 +1,32 @@
+package com.studentmanagement.api;
+
+import com.studentmanagement.tracing.OtlpJsonExporter;
+import com.studentmanagement.tracing.Tracer;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+
+/**
+ * GET /traces: the buffered traces as OTLP JSON. Like /metrics it is not
+ * behind the concurrency limiter and is not itself traced.
+ */
+class TracesHandler implements HttpHandler {
+    private static final int INITIAL_BUFFER_BYTES = 16 * 1024;
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            HttpResponses.Buffer buffer = new HttpResponses.Buffer(INITIAL_BUFFER_BYTES);
+            OtlpJsonExporter.write(Tracer.getBuffer().snapshot(), buffer);
+            HttpResponses.send(exchange, 200, ApiHandler.JSON_TYPE, buffer.array(), buffer.size(), null, null);
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.studentmanagement.dao;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variants of the CourseDAO checks; see AsyncStudentDAO
+ */
+public interface AsyncCourseDAO {
+    
+    /**
+     * Check if a course exists
+     * @param courseId course ID
+     * @return future of true if the course exists
+     */
+    CompletableFuture<Boolean> courseExists(int courseId);
+    
+    /**
+     * Find which of the given course IDs exist
+     * @param courseIds course IDs to check
+     * @return future of the IDs that exist
+     */
+    CompletableFuture<Set<Integer>> findExistingCourseIds(Collection<Integer> courseIds);
+}
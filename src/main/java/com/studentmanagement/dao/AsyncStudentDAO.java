@@ -0,0 +1,37 @@
+package com.studentmanagement.dao;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variants of the StudentDAO checks, so independent queries
+ * can run at the same time.
+ *
+ * Futures fail with a StudentManagementException when the query fails.
+ * Cancelling a future, or letting orTimeout expire, cancels its query.
+ */
+public interface AsyncStudentDAO {
+    
+    /**
+     * Check if a student exists
+     * @param studentId student ID
+     * @return future of true if the student exists
+     */
+    CompletableFuture<Boolean> studentExists(int studentId);
+    
+    /**
+     * Check if an email is used by a student other than the one given
+     * @param email email address
+     * @param excludeStudentId student to ignore, or 0 for none
+     * @return future of true if the email is taken
+     */
+    CompletableFuture<Boolean> isEmailTaken(String email, int excludeStudentId);
+    
+    /**
+     * Find which of the given emails are already used by students
+     * @param emails email addresses, compared case-insensitively
+     * @return future of the taken emails, lower-cased
+     */
+    CompletableFuture<Set<String>> findTakenEmails(Collection<String> emails);
+}
@@ -2,7 +2,9 @@ package com.studentmanagement.dao;
 
 import com.studentmanagement.model.Course;
 import com.studentmanagement.exception.StudentManagementException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Data Access Object interface for Course entity
@@ -40,6 +42,22 @@ public interface CourseDAO {
      */
     List<Course> getAllCourses() throws StudentManagementException;
     
+    /**
+     * Get all courses from the primary, never a replica, e.g. to reload a
+     * cache right after a write without picking up replication lag
+     * @return List of all courses
+     * @throws StudentManagementException if operation fails
+     */
+    List<Course> getAllCoursesFromPrimary() throws StudentManagementException;
+    
+    /**
+     * Visit every course in course_id order without building a list
+     * @param handler callback invoked for each course
+     * @return number of courses visited
+     * @throws StudentManagementException if operation fails or the handler aborts
+     */
+    long forEachCourse(RowHandler<Course> handler) throws StudentManagementException;
+    
     /**
      * Update an existing course
      * @param course Course object with updated information
@@ -64,6 +82,14 @@ public interface CourseDAO {
      */
     boolean courseExists(int courseId) throws StudentManagementException;
     
+    /**
+     * Find which of the given course IDs exist, in as few queries as possible
+     * @param courseIds course IDs to check
+     * @return the subset of IDs that exist
+     * @throws StudentManagementException if operation fails
+     */
+    Set<Integer> findExistingCourseIds(Collection<Integer> courseIds) throws StudentManagementException;
+    
     /**
      * Search courses by name pattern
      * @param namePattern pattern to search for
@@ -71,4 +97,12 @@ public interface CourseDAO {
      * @throws StudentManagementException if operation fails
      */
     List<Course> searchCoursesByName(String namePattern) throws StudentManagementException;
+    
+    /**
+     * Search course names and descriptions, best match first when full-text search is enabled
+     * @param text words to search for
+     * @return List of matching courses
+     * @throws StudentManagementException if operation fails
+     */
+    List<Course> searchCourses(String text) throws StudentManagementException;
 }
\ No newline at end of file
@@ -0,0 +1,155 @@
+package com.studentmanagement.dao;
+
+import com.studentmanagement.dao.impl.AsyncCourseDAOImpl;
+import com.studentmanagement.dao.impl.AsyncStudentDAOImpl;
+import com.studentmanagement.dao.impl.CachingCourseDAO;
+import com.studentmanagement.dao.impl.CachingStudentDAO;
+import com.studentmanagement.dao.impl.CountingStudentDAO;
+import com.studentmanagement.dao.impl.CourseDAOImpl;
+import com.studentmanagement.dao.impl.IndexedStudentDAO;
+import com.studentmanagement.dao.impl.InstrumentedCourseDAO;
+import com.studentmanagement.dao.impl.InstrumentedStudentDAO;
+import com.studentmanagement.dao.impl.JdbcExecutor;
+import com.studentmanagement.dao.impl.ReportDAOImpl;
+import com.studentmanagement.dao.impl.RetryExecutor;
+import com.studentmanagement.dao.impl.RetryingCourseDAO;
+import com.studentmanagement.dao.impl.RetryingStudentDAO;
+import com.studentmanagement.dao.impl.StudentDAOImpl;
+import com.studentmanagement.util.CircuitBreaker;
+import com.studentmanagement.util.DatabaseConfig;
+import com.studentmanagement.util.DatabaseConnection;
+import com.studentmanagement.util.MetricsRegistry;
+import com.studentmanagement.util.RetryBudget;
+import com.studentmanagement.util.RetryPolicy;
+
+/**
+ * Shared DAO instances used by the services' default constructors.
+ * Sharing matters for the decorated DAOs: a course written through one
+ * service must invalidate the cache that the other service reads from.
+ */
+public final class DAOFactory {
+
+    private DAOFactory() {
+    }
+
+    private static final class Holder {
+        static final MetricsRegistry METRICS = new MetricsRegistry();
+        static final RetryExecutor RETRY_EXECUTOR = createRetryExecutor();
+        static final IndexedStudentDAO INDEXED_STUDENT_DAO =
+                new IndexedStudentDAO(new RetryingStudentDAO(instrument(new StudentDAOImpl()), RETRY_EXECUTOR));
+        static final CountingStudentDAO COUNTING_STUDENT_DAO = new CountingStudentDAO(INDEXED_STUDENT_DAO);
+        static final CachingStudentDAO STUDENT_DAO = createStudentDAO();
+        static final CachingCourseDAO COURSE_DAO = createCourseDAO();
+        static final ReportDAO REPORT_DAO = new ReportDAOImpl();
+        static final JdbcExecutor JDBC_EXECUTOR = createJdbcExecutor();
+        static final AsyncStudentDAO ASYNC_STUDENT_DAO = new AsyncStudentDAOImpl(JDBC_EXECUTOR);
+        static final AsyncCourseDAO ASYNC_COURSE_DAO = new AsyncCourseDAOImpl(JDBC_EXECUTOR, COURSE_DAO);
+
+        private static CachingStudentDAO createStudentDAO() {
+            DatabaseConfig config = DatabaseConnection.getConfig();
+            return new CachingStudentDAO(COUNTING_STUDENT_DAO, config.getStudentCacheMaxSize(),
+                    config.getStudentCacheTtlMs(), config.getStudentCacheNegativeTtlMs());
+        }
+
+        private static RetryExecutor createRetryExecutor() {
+            DatabaseConfig config = DatabaseConnection.getConfig();
+            return new RetryExecutor(
+                    new RetryPolicy(config.getRetryMaxAttempts(), config.getRetryBaseDelayMs(),
+                            config.getRetryMaxDelayMs()),
+                    new RetryBudget(config.getRetryBudgetRatio(), config.getRetryBudgetMinPerSecond()),
+                    new CircuitBreaker(config.getBreakerFailureThreshold(), config.getBreakerOpenMs()));
+        }
+
+        private static StudentDAO instrument(StudentDAO dao) {
+            DatabaseConfig config = DatabaseConnection.getConfig();
+            return config.isDaoMetricsEnabled()
+                    ? new InstrumentedStudentDAO(dao, METRICS, config.getSlowQueryThresholdMs()) : dao;
+        }
+
+        private static CourseDAO instrument(CourseDAO dao) {
+            DatabaseConfig config = DatabaseConnection.getConfig();
+            return config.isDaoMetricsEnabled()
+                    ? new InstrumentedCourseDAO(dao, METRICS, config.getSlowQueryThresholdMs()) : dao;
+        }
+
+        private static JdbcExecutor createJdbcExecutor() {
+            DatabaseConfig config = DatabaseConnection.getConfig();
+            return new JdbcExecutor(config.getAsyncThreads(), config.getAsyncQueueSize());
+        }
+
+        private static CachingCourseDAO createCourseDAO() {
+            DatabaseConfig config = DatabaseConnection.getConfig();
+            return new CachingCourseDAO(new RetryingCourseDAO(instrument(new CourseDAOImpl()), RETRY_EXECUTOR),
+                    config.getCourseCacheTtlMs(), config.getCourseCacheRefreshIntervalMs());
+        }
+    }
+
+    public static StudentDAO getStudentDAO() {
+        return Holder.STUDENT_DAO;
+    }
+
+    /**
+     * Get the shared student cache, e.g. to report its hit ratio
+     */
+    public static CachingStudentDAO getStudentCache() {
+        return Holder.STUDENT_DAO;
+    }
+
+    /**
+     * Get the DAO that owns the in-memory student name index
+     */
+    public static IndexedStudentDAO getStudentSearchDAO() {
+        return Holder.INDEXED_STUDENT_DAO;
+    }
+
+    /**
+     * Get the DAO that owns the in-memory enrollment counters
+     */
+    public static CountingStudentDAO getEnrollmentCountingDAO() {
+        return Holder.COUNTING_STUDENT_DAO;
+    }
+
+    public static CourseDAO getCourseDAO() {
+        return Holder.COURSE_DAO;
+    }
+
+    /**
+     * Get the shared course cache, e.g. to report its hit ratio
+     */
+    public static CachingCourseDAO getCourseCache() {
+        return Holder.COURSE_DAO;
+    }
+
+    public static ReportDAO getReportDAO() {
+        return Holder.REPORT_DAO;
+    }
+
+    public static AsyncStudentDAO getAsyncStudentDAO() {
+        return Holder.ASYNC_STUDENT_DAO;
+    }
+
+    public static AsyncCourseDAO getAsyncCourseDAO() {
+        return Holder.ASYNC_COURSE_DAO;
+    }
+
+    /**
+     * Get the retry and circuit breaker layer shared by the student and course DAOs, e.g. to report its metrics
+     */
+    public static RetryExecutor getRetryExecutor() {
+        return Holder.RETRY_EXECUTOR;
+    }
+
+    /**
+     * Get the per-method metrics of the student and course DAOs
+     */
+    public static MetricsRegistry getMetricsRegistry() {
+        return Holder.METRICS;
+    }
+
+    /**
+     * Get the pool the asynchronous DAOs run their queries on
+     */
+    public static JdbcExecutor getJdbcExecutor() {
+        return Holder.JDBC_EXECUTOR;
+    }
+}
@@ -0,0 +1,83 @@
+package com.studentmanagement.dao;
+
+import com.studentmanagement.model.Course;
+import com.studentmanagement.exception.StudentManagementException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * CourseDAO that passes every call to another CourseDAO.
+ * Decorators extend it and override only the methods they change.
+ */
+public abstract class ForwardingCourseDAO implements CourseDAO {
+
+    protected final CourseDAO delegate;
+
+    protected ForwardingCourseDAO(CourseDAO delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate cannot be null");
+        }
+        this.delegate = delegate;
+    }
+
+    @Override
+    public int addCourse(Course course) throws StudentManagementException {
+        return delegate.addCourse(course);
+    }
+
+    @Override
+    public Course getCourseById(int courseId) throws StudentManagementException {
+        return delegate.getCourseById(courseId);
+    }
+
+    @Override
+    public Course getCourseByName(String courseName) throws StudentManagementException {
+        return delegate.getCourseByName(courseName);
+    }
+
+    @Override
+    public List<Course> getAllCourses() throws StudentManagementException {
+        return delegate.getAllCourses();
+    }
+
+    @Override
+    public List<Course> getAllCoursesFromPrimary() throws StudentManagementException {
+        return delegate.getAllCoursesFromPrimary();
+    }
+
+    @Override
+    public long forEachCourse(RowHandler<Course> handler) throws StudentManagementException {
+        return delegate.forEachCourse(handler);
+    }
+
+    @Override
+    public boolean updateCourse(Course course) throws StudentManagementException {
+        return delegate.updateCourse(course);
+    }
+
+    @Override
+    public boolean deleteCourse(int courseId) throws StudentManagementException {
+        return delegate.deleteCourse(courseId);
+    }
+
+    @Override
+    public boolean courseExists(int courseId) throws StudentManagementException {
+        return delegate.courseExists(courseId);
+    }
+
+    @Override
+    public Set<Integer> findExistingCourseIds(Collection<Integer> courseIds) throws StudentManagementException {
+        return delegate.findExistingCourseIds(courseIds);
+    }
+
+    @Override
+    public List<Course> searchCoursesByName(String namePattern) throws StudentManagementException {
+        return delegate.searchCoursesByName(namePattern);
+    }
+
+    @Override
+    public List<Course> searchCourses(String text) throws StudentManagementException {
+        return delegate.searchCourses(text);
+    }
+}
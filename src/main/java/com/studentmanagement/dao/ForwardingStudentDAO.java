@@ -0,0 +1,159 @@
+package com.studentmanagement.dao;
+
+import com.studentmanagement.model.BatchInsertResult;
+import com.studentmanagement.model.FuzzyMatch;
+import com.studentmanagement.model.Page;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.model.StudentRecord;
+import com.studentmanagement.exception.StudentManagementException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * StudentDAO that passes every call to another StudentDAO.
+ * Decorators extend it and override only the methods they change.
+ */
+public abstract class ForwardingStudentDAO implements StudentDAO {
+
+    protected final StudentDAO delegate;
+
+    protected ForwardingStudentDAO(StudentDAO delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate cannot be null");
+        }
+        this.delegate = delegate;
+    }
+
+    @Override
+    public int addStudent(Student student) throws StudentManagementException {
+        return delegate.addStudent(student);
+    }
+
+    @Override
+    public BatchInsertResult addStudents(List<Student> students) throws StudentManagementException {
+        return delegate.addStudents(students);
+    }
+
+    @Override
+    public Student getStudentById(int studentId) throws StudentManagementException {
+        return delegate.getStudentById(studentId);
+    }
+
+    @Override
+    public Student getStudentByEmail(String email) throws StudentManagementException {
+        return delegate.getStudentByEmail(email);
+    }
+
+    @Override
+    public List<Student> getAllStudents() throws StudentManagementException {
+        return delegate.getAllStudents();
+    }
+
+    @Override
+    public Page<Student> getStudentsPage(String cursor, int pageSize, boolean includeTotalEstimate)
+            throws StudentManagementException {
+        return delegate.getStudentsPage(cursor, pageSize, includeTotalEstimate);
+    }
+
+    @Override
+    public long forEachStudent(RowHandler<Student> handler, boolean reuseInstance) throws StudentManagementException {
+        return delegate.forEachStudent(handler, reuseInstance);
+    }
+
+    @Override
+    public Stream<Student> streamAllStudents() throws StudentManagementException {
+        return delegate.streamAllStudents();
+    }
+
+    @Override
+    public List<StudentRecord> getAllStudentRecords(boolean emailAsUtf8) throws StudentManagementException {
+        return delegate.getAllStudentRecords(emailAsUtf8);
+    }
+
+    @Override
+    public long forEachStudentRecord(RowHandler<StudentRecord> handler, boolean emailAsUtf8)
+            throws StudentManagementException {
+        return delegate.forEachStudentRecord(handler, emailAsUtf8);
+    }
+
+    @Override
+    public boolean updateStudent(Student student) throws StudentManagementException {
+        return delegate.updateStudent(student);
+    }
+
+    @Override
+    public boolean deleteStudent(int studentId) throws StudentManagementException {
+        return delegate.deleteStudent(studentId);
+    }
+
+    @Override
+    public List<Student> searchStudentsByName(String namePattern) throws StudentManagementException {
+        return delegate.searchStudentsByName(namePattern);
+    }
+
+    @Override
+    public List<Student> searchStudentsByName(String namePattern, int limit) throws StudentManagementException {
+        return delegate.searchStudentsByName(namePattern, limit);
+    }
+
+    @Override
+    public List<Student> searchStudentsByNamePrefix(String prefix, int limit) throws StudentManagementException {
+        return delegate.searchStudentsByNamePrefix(prefix, limit);
+    }
+
+    @Override
+    public List<FuzzyMatch> fuzzySearchStudents(String query, int maxEditDistance, int limit)
+            throws StudentManagementException {
+        return delegate.fuzzySearchStudents(query, maxEditDistance, limit);
+    }
+
+    @Override
+    public List<Student> getStudentsByIds(Collection<Integer> studentIds) throws StudentManagementException {
+        return delegate.getStudentsByIds(studentIds);
+    }
+
+    @Override
+    public List<Student> getStudentsByCourse(int courseId) throws StudentManagementException {
+        return delegate.getStudentsByCourse(courseId);
+    }
+
+    @Override
+    public List<Student> getStudentsByCourseName(String courseName) throws StudentManagementException {
+        return delegate.getStudentsByCourseName(courseName);
+    }
+
+    @Override
+    public List<Student> getStudentsByAgeRange(int minAge, int maxAge) throws StudentManagementException {
+        return delegate.getStudentsByAgeRange(minAge, maxAge);
+    }
+
+    @Override
+    public Page<Student> getStudentsByCourse(int courseId, int minAge, int maxAge, String namePattern,
+            String cursor, int pageSize)
+            throws StudentManagementException {
+        return delegate.getStudentsByCourse(courseId, minAge, maxAge, namePattern, cursor, pageSize);
+    }
+
+    @Override
+    public Page<Student> getStudentsByAgeRange(int minAge, int maxAge, String namePattern, String cursor, int pageSize)
+            throws StudentManagementException {
+        return delegate.getStudentsByAgeRange(minAge, maxAge, namePattern, cursor, pageSize);
+    }
+
+    @Override
+    public boolean studentExists(int studentId) throws StudentManagementException {
+        return delegate.studentExists(studentId);
+    }
+
+    @Override
+    public boolean isEmailTaken(String email, int excludeStudentId) throws StudentManagementException {
+        return delegate.isEmailTaken(email, excludeStudentId);
+    }
+
+    @Override
+    public Set<String> findTakenEmails(Collection<String> emails) throws StudentManagementException {
+        return delegate.findTakenEmails(emails);
+    }
+}
@@ -0,0 +1,30 @@
+package com.studentmanagement.dao;
+
+import java.util.Locale;
+
+/**
+ * How text searches are run against MySQL
+ */
+public enum FullTextMode {
+    /** LIKE '%text%' substring matching; cannot use an index */
+    OFF,
+    /** MATCH ... AGAINST in natural language mode: whole words, ranked by relevance */
+    NATURAL_LANGUAGE,
+    /** MATCH ... AGAINST in boolean mode: every word required, matched as a word prefix */
+    BOOLEAN;
+
+    /**
+     * Parse a configuration value such as "boolean" or "natural_language"
+     * @throws IllegalArgumentException if the value is not a mode name
+     */
+    public static FullTextMode fromString(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+
+    /**
+     * @return the modifier to put inside AGAINST (...)
+     */
+    public String againstModifier() {
+        return this == BOOLEAN ? "IN BOOLEAN MODE" : "IN NATURAL LANGUAGE MODE";
+    }
+}
@@ -0,0 +1,37 @@
+package com.studentmanagement.dao;
+
+import com.studentmanagement.model.EnrollmentReport;
+import com.studentmanagement.model.StatsDrift;
+import com.studentmanagement.exception.StudentManagementException;
+import java.util.List;
+
+/**
+ * Data Access Object interface for aggregate reports
+ */
+public interface ReportDAO {
+    
+    /**
+     * Compute totals, per-course enrollment and the age histogram in the database
+     * @param ageBucketWidth years covered by each histogram bucket
+     * @return report with source DATABASE
+     * @throws StudentManagementException if operation fails
+     */
+    EnrollmentReport getEnrollmentReport(int ageBucketWidth) throws StudentManagementException;
+    
+    /**
+     * Read the report from the course_stats and age_stats summary tables:
+     * one primary-key lookup per course instead of a scan of students
+     * @param ageBucketWidth years covered by each histogram bucket
+     * @return report with source SUMMARY_TABLES, or DATABASE if the tables do not exist
+     * @throws StudentManagementException if operation fails
+     */
+    EnrollmentReport getSummaryEnrollmentReport(int ageBucketWidth) throws StudentManagementException;
+    
+    /**
+     * Recompute the summary tables from the students table and compare
+     * @param repair whether to overwrite drifted rows with the recomputed values
+     * @return rows that disagreed, empty if the tables are accurate
+     * @throws StudentManagementException if operation fails
+     */
+    List<StatsDrift> reconcileStats(boolean repair) throws StudentManagementException;
+}
@@ -0,0 +1,18 @@
+package com.studentmanagement.dao;
+
+import com.studentmanagement.exception.StudentManagementException;
+
+/**
+ * Callback invoked once per row by streaming DAO methods
+ * @param <T> row type
+ */
+@FunctionalInterface
+public interface RowHandler<T> {
+    
+    /**
+     * Handle one row
+     * @param row mapped row; may be a reused instance that is only valid until this method returns
+     * @throws StudentManagementException to abort the scan
+     */
+    void handle(T row) throws StudentManagementException;
+}
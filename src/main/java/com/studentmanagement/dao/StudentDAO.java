@@ -1,8 +1,15 @@
 package com.studentmanagement.dao;
 
+import com.studentmanagement.model.BatchInsertResult;
+import com.studentmanagement.model.FuzzyMatch;
+import com.studentmanagement.model.Page;
 import com.studentmanagement.model.Student;
+import com.studentmanagement.model.StudentRecord;
 import com.studentmanagement.exception.StudentManagementException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Data Access Object interface for Student entity
@@ -13,10 +20,21 @@ public interface StudentDAO {
      * Add a new student
      * @param student Student object to add
      * @return generated student ID
+     * @throws com.studentmanagement.exception.ConstraintViolationException if the email is taken,
+     *         the course does not exist or the age is out of range
      * @throws StudentManagementException if operation fails
      */
     int addStudent(Student student) throws StudentManagementException;
     
+    /**
+     * Add many students using JDBC batching, committing in chunks.
+     * A row that fails does not prevent the others from being inserted.
+     * @param students students to add
+     * @return generated ID or error message for each row, indexed like the input list
+     * @throws StudentManagementException if the database is unavailable
+     */
+    BatchInsertResult addStudents(List<Student> students) throws StudentManagementException;
+    
     /**
      * Get student by ID with course information
      * @param studentId student ID
@@ -40,10 +58,62 @@ public interface StudentDAO {
      */
     List<Student> getAllStudents() throws StudentManagementException;
     
+    /**
+     * Get one page of students ordered by name, using keyset pagination on (name, student_id)
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param pageSize maximum number of students to return
+     * @param includeTotalEstimate whether to include an approximate total row count
+     * @return Page of students with course names
+     * @throws StudentManagementException if the cursor is invalid or the operation fails
+     */
+    Page<Student> getStudentsPage(String cursor, int pageSize, boolean includeTotalEstimate) throws StudentManagementException;
+    
+    /**
+     * Scan every student in student_id order without buffering the result set.
+     * The scan holds one database connection until it completes.
+     * @param handler callback invoked for each student
+     * @param reuseInstance if true, the same Student instance is refilled for every row,
+     *                      so the handler must copy anything it wants to keep
+     * @return number of students scanned
+     * @throws StudentManagementException if the operation fails or the handler aborts the scan
+     */
+    long forEachStudent(RowHandler<Student> handler, boolean reuseInstance) throws StudentManagementException;
+    
+    /**
+     * Stream every student in student_id order without buffering the result set.
+     * The stream holds a database connection and must be closed, e.g. with try-with-resources.
+     * Database errors while iterating are thrown as UncheckedStudentManagementException.
+     * @return lazily populated Stream of students
+     * @throws StudentManagementException if the query cannot be started
+     */
+    Stream<Student> streamAllStudents() throws StudentManagementException;
+    
+    /**
+     * Get all students as compact records, ordered by name like getAllStudents.
+     * Records of the same course share one course name String.
+     * @param emailAsUtf8 whether to keep emails as UTF-8 bytes, decoded on each getEmail() call
+     * @return List of all students
+     * @throws StudentManagementException if operation fails
+     */
+    List<StudentRecord> getAllStudentRecords(boolean emailAsUtf8) throws StudentManagementException;
+    
+    /**
+     * Scan every student as a compact record in student_id order without buffering the result set.
+     * The scan holds one database connection until it completes.
+     * @param handler callback invoked for each student; records are immutable and may be kept
+     * @param emailAsUtf8 whether to keep emails as UTF-8 bytes, decoded on each getEmail() call
+     * @return number of students scanned
+     * @throws StudentManagementException if the operation fails or the handler aborts the scan
+     */
+    long forEachStudentRecord(RowHandler<StudentRecord> handler, boolean emailAsUtf8)
+            throws StudentManagementException;
+    
     /**
      * Update an existing student
      * @param student Student object with updated information
-     * @return true if update successful
+     * @return true if update successful, false if the student does not exist
+     * @throws com.studentmanagement.exception.ConstraintViolationException if the email is taken,
+     *         the course does not exist or the age is out of range
      * @throws StudentManagementException if operation fails
      */
     boolean updateStudent(Student student) throws StudentManagementException;
@@ -51,7 +121,7 @@ public interface StudentDAO {
     /**
      * Delete a student by ID
      * @param studentId student ID to delete
-     * @return true if deletion successful
+     * @return true if deletion successful, false if the student does not exist
      * @throws StudentManagementException if operation fails
      */
     boolean deleteStudent(int studentId) throws StudentManagementException;
@@ -64,6 +134,44 @@ public interface StudentDAO {
      */
     List<Student> searchStudentsByName(String namePattern) throws StudentManagementException;
     
+    /**
+     * Search students by name, best matches first: exact name, then names
+     * starting with the pattern, then names containing it; with full-text
+     * search enabled, by FULLTEXT relevance instead
+     * @param namePattern pattern to search for
+     * @param limit maximum number of students to return
+     * @return List of matching students with course information
+     * @throws StudentManagementException if operation fails
+     */
+    List<Student> searchStudentsByName(String namePattern, int limit) throws StudentManagementException;
+    
+    /**
+     * Search students with a first, middle or last name starting with a prefix
+     * @param prefix start of a name
+     * @param limit maximum number of students to return
+     * @return List of matching students with course information
+     * @throws StudentManagementException if operation fails
+     */
+    List<Student> searchStudentsByNamePrefix(String prefix, int limit) throws StudentManagementException;
+    
+    /**
+     * Typo-tolerant search over names, or over emails when the query contains '@'
+     * @param query name words or an email
+     * @param maxEditDistance maximum number of edits allowed per word
+     * @param limit maximum number of matches to return
+     * @return matches, best first
+     * @throws StudentManagementException if operation fails
+     */
+    List<FuzzyMatch> fuzzySearchStudents(String query, int maxEditDistance, int limit) throws StudentManagementException;
+    
+    /**
+     * Get several students by ID in as few queries as possible
+     * @param studentIds student IDs to fetch
+     * @return the students that exist, in no particular order
+     * @throws StudentManagementException if operation fails
+     */
+    List<Student> getStudentsByIds(Collection<Integer> studentIds) throws StudentManagementException;
+    
     /**
      * Get students by course ID
      * @param courseId course ID
@@ -89,6 +197,34 @@ public interface StudentDAO {
      */
     List<Student> getStudentsByAgeRange(int minAge, int maxAge) throws StudentManagementException;
     
+    /**
+     * Get one page of a course's students within an age range, using keyset pagination on student_id
+     * @param courseId course ID
+     * @param minAge minimum age (inclusive)
+     * @param maxAge maximum age (inclusive)
+     * @param namePattern substring the name must contain, or null for any name
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param pageSize maximum number of students to return
+     * @return Page of students ordered by student ID
+     * @throws StudentManagementException if the cursor is invalid or the operation fails
+     */
+    Page<Student> getStudentsByCourse(int courseId, int minAge, int maxAge, String namePattern,
+            String cursor, int pageSize)
+            throws StudentManagementException;
+    
+    /**
+     * Get one page of students within an age range, using keyset pagination on (age, student_id)
+     * @param minAge minimum age (inclusive)
+     * @param maxAge maximum age (inclusive)
+     * @param namePattern substring the name must contain, or null for any name
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param pageSize maximum number of students to return
+     * @return Page of students ordered by age
+     * @throws StudentManagementException if the cursor is invalid or the operation fails
+     */
+    Page<Student> getStudentsByAgeRange(int minAge, int maxAge, String namePattern, String cursor, int pageSize)
+            throws StudentManagementException;
+    
     /**
      * Check if student exists by ID
      * @param studentId student ID
@@ -105,4 +241,12 @@ public interface StudentDAO {
      * @throws StudentManagementException if operation fails
      */
     boolean isEmailTaken(String email, int excludeStudentId) throws StudentManagementException;
+    
+    /**
+     * Find which of the given emails are already in use, in as few queries as possible
+     * @param emails emails to check
+     * @return the subset of emails (trimmed, lower-cased) that are taken
+     * @throws StudentManagementException if operation fails
+     */
+    Set<String> findTakenEmails(Collection<String> emails) throws StudentManagementException;
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.studentmanagement.dao.impl;
+
+import com.studentmanagement.dao.AsyncCourseDAO;
+import com.studentmanagement.util.DatabaseConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * JDBC implementation of AsyncCourseDAO, running on a JdbcExecutor.
+ *
+ * Courses change rarely and are usually in the course cache, so a course the
+ * cache already knows is answered without a query; only misses go to the database.
+ */
+public class AsyncCourseDAOImpl implements AsyncCourseDAO {
+    
+    private static final String CHECK_COURSE_EXISTS = 
+        "SELECT 1 FROM courses WHERE course_id = ? LIMIT 1";
+    
+    private static final String SELECT_EXISTING_COURSE_IDS_PREFIX = 
+        "SELECT course_id FROM courses WHERE course_id IN (";
+    
+    private static final int MAX_IN_LIST_SIZE = 1000;
+    
+    private final JdbcExecutor executor;
+    private final CachingCourseDAO cache;
+    
+    /**
+     * @param cache course cache to consult first, or null to always query
+     */
+    public AsyncCourseDAOImpl(JdbcExecutor executor, CachingCourseDAO cache) {
+        this.executor = executor;
+        this.cache = cache;
+    }
+    
+    @Override
+    public CompletableFuture<Boolean> courseExists(int courseId) {
+        if (cache != null && cache.isCached(courseId)) {
+            return CompletableFuture.completedFuture(true);
+        }
+        return executor.submit("checking course existence", cancellation -> {
+            try (Connection connection = DatabaseConnection.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(CHECK_COURSE_EXISTS)) {
+                
+                statement.setInt(1, courseId);
+                cancellation.register(statement);
+                
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next();
+                }
+            }
+        });
+    }
+    
+    @Override
+    public CompletableFuture<Set<Integer>> findExistingCourseIds(Collection<Integer> courseIds) {
+        Set<Integer> existing = new HashSet<>();
+        List<Integer> misses = new ArrayList<>();
+        for (Integer courseId : new HashSet<>(courseIds)) {
+            if (cache != null && cache.isCached(courseId)) {
+                existing.add(courseId);
+            } else {
+                misses.add(courseId);
+            }
+        }
+        if (misses.isEmpty()) {
+            return CompletableFuture.completedFuture(existing);
+        }
+        
+        return executor.submit("checking course existence", cancellation -> {
+            try (Connection connection = DatabaseConnection.getConnection()) {
+                for (int from = 0; from < misses.size(); from += MAX_IN_LIST_SIZE) {
+                    List<Integer> chunk = misses.subList(from, Math.min(from + MAX_IN_LIST_SIZE, misses.size()));
+                    String sql = SELECT_EXISTING_COURSE_IDS_PREFIX + placeholders(chunk.size()) + ")";
+                    
+                    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                        for (int i = 0; i < chunk.size(); i++) {
+                            statement.setInt(i + 1, chunk.get(i));
+                        }
+                        cancellation.register(statement);
+                        try (ResultSet resultSet = statement.executeQuery()) {
+                            while (resultSet.next()) {
+                                existing.add(resultSet.getInt(1));
+                            }
+                        }
+                    }
+                }
+            }
+            return existing;
+        });
+    }
+    
+    /**
+     * Build a comma-separated list of bind markers
+     */
+    private static String placeholders(int count) {
+        StringBuilder builder = new StringBuilder(count * 2);
+        for (int i = 0; i < count; i++) {
+            builder.append(i == 0 ? "?" : ",?");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,121 @@
+package com.studentmanagement.dao.impl;
+
+import com.studentmanagement.dao.AsyncStudentDAO;
+import com.studentmanagement.util.DatabaseConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * JDBC implementation of AsyncStudentDAO, running on a JdbcExecutor.
+ * Queries go to the primary, like the synchronous checks they replace.
+ */
+public class AsyncStudentDAOImpl implements AsyncStudentDAO {
+    
+    private static final String CHECK_STUDENT_EXISTS = 
+        "SELECT 1 FROM students WHERE student_id = ? LIMIT 1";
+    
+    private static final String CHECK_EMAIL_TAKEN = 
+        "SELECT 1 FROM students WHERE email = ? AND student_id != ? LIMIT 1";
+    
+    private static final String SELECT_TAKEN_EMAILS_PREFIX = 
+        "SELECT email FROM students WHERE email IN (";
+    
+    private static final int MAX_IN_LIST_SIZE = 1000;
+    
+    private final JdbcExecutor executor;
+    
+    public AsyncStudentDAOImpl(JdbcExecutor executor) {
+        this.executor = executor;
+    }
+    
+    @Override
+    public CompletableFuture<Boolean> studentExists(int studentId) {
+        return executor.submit("checking student existence", cancellation -> {
+            try (Connection connection = DatabaseConnection.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(CHECK_STUDENT_EXISTS)) {
+                
+                statement.setInt(1, studentId);
+                cancellation.register(statement);
+                
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next();
+                }
+            }
+        });
+    }
+    
+    @Override
+    public CompletableFuture<Boolean> isEmailTaken(String email, int excludeStudentId) {
+        return executor.submit("checking email availability", cancellation -> {
+            try (Connection connection = DatabaseConnection.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(CHECK_EMAIL_TAKEN)) {
+                
+                statement.setString(1, email.trim().toLowerCase(Locale.ROOT));
+                statement.setInt(2, excludeStudentId);
+                cancellation.register(statement);
+                
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next();
+                }
+            }
+        });
+    }
+    
+    @Override
+    public CompletableFuture<Set<String>> findTakenEmails(Collection<String> emails) {
+        Set<String> normalized = new HashSet<>();
+        for (String email : emails) {
+            if (email != null) {
+                normalized.add(email.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        if (normalized.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptySet());
+        }
+        
+        List<String> values = new ArrayList<>(normalized);
+        return executor.submit("checking email availability", cancellation -> {
+            Set<String> taken = new HashSet<>();
+            try (Connection connection = DatabaseConnection.getConnection()) {
+                for (int from = 0; from < values.size(); from += MAX_IN_LIST_SIZE) {
+                    List<String> chunk = values.subList(from, Math.min(from + MAX_IN_LIST_SIZE, values.size()));
+                    String sql = SELECT_TAKEN_EMAILS_PREFIX + placeholders(chunk.size()) + ")";
+                    
+                    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                        for (int i = 0; i < chunk.size(); i++) {
+                            statement.setString(i + 1, chunk.get(i));
+                        }
+                        cancellation.register(statement);
+                        try (ResultSet resultSet = statement.executeQuery()) {
+                            while (resultSet.next()) {
+                                taken.add(resultSet.getString(1).toLowerCase(Locale.ROOT));
+                            }
+                        }
+                    }
+                }
+            }
+            return taken;
+        });
+    }
+    
+    /**
+     * Build a comma-separated list of bind markers
+     */
+    private static String placeholders(int count) {
+        StringBuilder builder = new StringBuilder(count * 2);
+        for (int i = 0; i < count; i++) {
+            builder.append(i == 0 ? "?" : ",?");
+        }
+        return builder.toString();
+    }
+}
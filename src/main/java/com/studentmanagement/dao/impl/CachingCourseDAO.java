@@ -0,0 +1,334 @@
+package com.studentmanagement.dao.impl;
+
+import com.studentmanagement.dao.CourseDAO;
+import com.studentmanagement.dao.ForwardingCourseDAO;
+import com.studentmanagement.model.Course;
+import com.studentmanagement.exception.StudentManagementException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Read-through cache in front of another CourseDAO.
+ *
+ * The course table is small, so the whole table is loaded at once into maps
+ * keyed by ID and by lower-cased name. Lookups that miss the snapshot still
+ * go to the database, so courses added by another process are found before
+ * the TTL runs out. Every write through this DAO drops the snapshot.
+ *
+ * Cached courses are copied on the way out, so callers may modify them.
+ */
+public class CachingCourseDAO extends ForwardingCourseDAO implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(CachingCourseDAO.class);
+
+    private final long ttlNanos;
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+    private final ScheduledExecutorService refresher;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * @param delegate DAO that reads and writes the database
+     * @param ttlMs how long a loaded snapshot is used, or 0 to keep it until a write
+     * @param refreshIntervalMs reload the snapshot in the background at this interval, or 0 to disable
+     */
+    public CachingCourseDAO(CourseDAO delegate, long ttlMs, long refreshIntervalMs) {
+        super(delegate);
+        if (ttlMs < 0 || refreshIntervalMs < 0) {
+            throw new IllegalArgumentException("ttlMs and refreshIntervalMs must not be negative");
+        }
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        if (refreshIntervalMs > 0) {
+            refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "course-cache-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            refresher.scheduleWithFixedDelay(this::refreshQuietly, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            refresher = null;
+        }
+    }
+
+    @Override
+    public Course getCourseById(int courseId) throws StudentManagementException {
+        Course cached = snapshot().byId.get(courseId);
+        if (cached != null) {
+            hits.increment();
+            return new Course(cached);
+        }
+        misses.increment();
+        Course course = delegate.getCourseById(courseId);
+        if (course != null) {
+            invalidate();
+        }
+        return course;
+    }
+
+    @Override
+    public Course getCourseByName(String courseName) throws StudentManagementException {
+        if (courseName == null) {
+            return delegate.getCourseByName(null);
+        }
+        Course cached = snapshot().byName.get(nameKey(courseName));
+        if (cached != null) {
+            hits.increment();
+            return new Course(cached);
+        }
+        misses.increment();
+        Course course = delegate.getCourseByName(courseName);
+        if (course != null) {
+            invalidate();
+        }
+        return course;
+    }
+
+    @Override
+    public List<Course> getAllCourses() throws StudentManagementException {
+        Snapshot current = snapshot();
+        hits.increment();
+        List<Course> courses = new ArrayList<>(current.courses.size());
+        for (Course course : current.courses) {
+            courses.add(new Course(course));
+        }
+        return courses;
+    }
+
+    @Override
+    public boolean courseExists(int courseId) throws StudentManagementException {
+        if (snapshot().byId.containsKey(courseId)) {
+            hits.increment();
+            return true;
+        }
+        misses.increment();
+        boolean exists = delegate.courseExists(courseId);
+        if (exists) {
+            invalidate();
+        }
+        return exists;
+    }
+
+    @Override
+    public Set<Integer> findExistingCourseIds(Collection<Integer> courseIds) throws StudentManagementException {
+        Map<Integer, Course> byId = snapshot().byId;
+        Set<Integer> existing = new HashSet<>();
+        Set<Integer> unknown = new HashSet<>();
+        for (Integer courseId : courseIds) {
+            if (byId.containsKey(courseId)) {
+                existing.add(courseId);
+            } else {
+                unknown.add(courseId);
+            }
+        }
+        if (unknown.isEmpty()) {
+            hits.increment();
+            return existing;
+        }
+        misses.increment();
+        Set<Integer> found = delegate.findExistingCourseIds(unknown);
+        if (!found.isEmpty()) {
+            existing.addAll(found);
+            invalidate();
+        }
+        return existing;
+    }
+
+    @Override
+    public int addCourse(Course course) throws StudentManagementException {
+        try {
+            return delegate.addCourse(course);
+        } finally {
+            invalidate();
+        }
+    }
+
+    @Override
+    public boolean updateCourse(Course course) throws StudentManagementException {
+        try {
+            return delegate.updateCourse(course);
+        } finally {
+            invalidate();
+        }
+    }
+
+    @Override
+    public boolean deleteCourse(int courseId) throws StudentManagementException {
+        try {
+            return delegate.deleteCourse(courseId);
+        } finally {
+            invalidate();
+        }
+    }
+
+    /**
+     * Drop the cached snapshot; the next lookup reloads it
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    /**
+     * Reload the snapshot now, regardless of its age
+     * @throws StudentManagementException if the courses cannot be read
+     */
+    public void refresh() throws StudentManagementException {
+        load(true);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * Fraction of lookups answered without a database query
+     * @return hit ratio between 0 and 1, or 0 if nothing was looked up yet
+     */
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * @return number of cached courses, or 0 if no snapshot is loaded
+     */
+    public int getSize() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.courses.size();
+    }
+
+    /**
+     * Check the current snapshot without loading one, for callers that must not block
+     * @return true if a fresh snapshot holds the course; false means unknown, not absent
+     */
+    public boolean isCached(int courseId) {
+        Snapshot current = snapshot;
+        if (current == null || isExpired(current) || !current.byId.containsKey(courseId)) {
+            return false;
+        }
+        hits.increment();
+        return true;
+    }
+
+    /**
+     * Stop the background refresh, if any
+     */
+    @Override
+    public void close() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    private Snapshot snapshot() throws StudentManagementException {
+        Snapshot current = snapshot;
+        if (current != null && !isExpired(current)) {
+            return current;
+        }
+        return load(false);
+    }
+
+    /**
+     * Load all courses. Only one thread loads at a time; the others wait and
+     * reuse its result. A snapshot remembers the generation from before its
+     * query, so one that raced with a write is never served afterwards, and
+     * it is read from the primary so a write just made is not missed on a
+     * lagging replica.
+     */
+    private Snapshot load(boolean force) throws StudentManagementException {
+        loadLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (!force && current != null && !isExpired(current)) {
+                return current;
+            }
+            long loadGeneration = generation.get();
+            Snapshot loaded = new Snapshot(delegate.getAllCoursesFromPrimary(), loadGeneration);
+            loads.increment();
+            snapshot = loaded;
+            return loaded;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private boolean isExpired(Snapshot current) {
+        return current.generation != generation.get()
+                || (ttlNanos > 0 && System.nanoTime() - current.loadedAtNanos > ttlNanos);
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (StudentManagementException | RuntimeException e) {
+            LOG.warn("Course cache refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private static String nameKey(String courseName) {
+        return courseName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CachingCourseDAO{size=%d, hits=%d, misses=%d, loads=%d, hitRatio=%.2f}",
+                getSize(), getHitCount(), getMissCount(), getLoadCount(), getHitRatio());
+    }
+
+    /**
+     * Immutable view of the course table at one point in time
+     */
+    private static final class Snapshot {
+        final List<Course> courses;
+        final Map<Integer, Course> byId;
+        final Map<String, Course> byName;
+        final long generation;
+        final long loadedAtNanos;
+
+        Snapshot(List<Course> courses, long generation) {
+            Map<Integer, Course> ids = new HashMap<>();
+            Map<String, Course> names = new HashMap<>();
+            for (Course course : courses) {
+                ids.put(course.getCourseId(), course);
+                if (course.getCourseName() != null) {
+                    names.put(nameKey(course.getCourseName()), course);
+                }
+            }
+            this.courses = Collections.unmodifiableList(new ArrayList<>(courses));
+            this.byId = ids;
+            this.byName = names;
+            this.generation = generation;
+            this.loadedAtNanos = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.studentmanagement.dao.impl;
+
+import com.studentmanagement.dao.ForwardingStudentDAO;
+import com.studentmanagement.dao.StudentDAO;
+import com.studentmanagement.model.BatchInsertResult;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.util.CacheStatistics;
+import com.studentmanagement.util.LatencyHistogram;
+import com.studentmanagement.util.TinyLfuCache;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded cache for student lookups by ID and by email.
+ *
+ * Students are cached by ID in a W-TinyLFU cache; a secondary map from
+ * lower-cased email to ID lets email lookups share the same entries.
+ * Lookups that find nothing are remembered for a short time in a separate
+ * negative cache. Entries expire after a TTL, which also bounds how long a
+ * renamed course or a change made by another process can go unnoticed.
+ *
+ * Writes through this DAO invalidate the student, the old email and any
+ * negative entry the write makes wrong. A load that started before a write
+ * finished is returned to its caller but not cached.
+ */
+public class CachingStudentDAO extends ForwardingStudentDAO {
+
+    private final TinyLfuCache<Integer, Entry> entries;
+    private final TinyLfuCache<Object, Long> negativeEntries;
+    private final ConcurrentHashMap<String, Integer> idsByEmail = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final AtomicLong writeGeneration = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LatencyHistogram loadLatency = new LatencyHistogram();
+
+    /**
+     * @param delegate DAO that reads and writes the database
+     * @param maximumSize maximum number of cached students
+     * @param ttlMs how long a cached student is used
+     * @param negativeTtlMs how long a "not found" result is remembered, or 0 to disable
+     */
+    public CachingStudentDAO(StudentDAO delegate, int maximumSize, long ttlMs, long negativeTtlMs) {
+        super(delegate);
+        if (ttlMs <= 0 || negativeTtlMs < 0) {
+            throw new IllegalArgumentException("ttlMs must be positive and negativeTtlMs must not be negative");
+        }
+        this.entries = new TinyLfuCache<>(maximumSize,
+                (studentId, entry) -> idsByEmail.remove(emailKey(entry.student.getEmail()), studentId));
+        this.negativeEntries = new TinyLfuCache<>(Math.max(16, maximumSize / 10));
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(negativeTtlMs);
+    }
+
+    @Override
+    public Student getStudentById(int studentId) throws StudentManagementException {
+        Student cached = cachedById(studentId);
+        if (cached != null) {
+            hits.increment();
+            return new Student(cached);
+        }
+        if (isKnownMissing(studentId)) {
+            return null;
+        }
+        misses.increment();
+        long generation = writeGeneration.get();
+        long start = System.nanoTime();
+        Student student = delegate.getStudentById(studentId);
+        loadLatency.recordNanos(System.nanoTime() - start);
+        remember(studentId, student, generation);
+        return student;
+    }
+
+    @Override
+    public Student getStudentByEmail(String email) throws StudentManagementException {
+        if (email == null) {
+            return delegate.getStudentByEmail(null);
+        }
+        String key = emailKey(email);
+        Integer studentId = idsByEmail.get(key);
+        if (studentId != null) {
+            Student cached = cachedById(studentId);
+            if (cached != null && key.equals(emailKey(cached.getEmail()))) {
+                hits.increment();
+                return new Student(cached);
+            }
+            idsByEmail.remove(key, studentId);
+        }
+        if (isKnownMissing(key)) {
+            return null;
+        }
+        misses.increment();
+        long generation = writeGeneration.get();
+        long start = System.nanoTime();
+        Student student = delegate.getStudentByEmail(email);
+        loadLatency.recordNanos(System.nanoTime() - start);
+        remember(key, student, generation);
+        return student;
+    }
+
+    @Override
+    public boolean studentExists(int studentId) throws StudentManagementException {
+        if (cachedById(studentId) != null) {
+            hits.increment();
+            return true;
+        }
+        if (isKnownMissing(studentId)) {
+            return false;
+        }
+        misses.increment();
+        return delegate.studentExists(studentId);
+    }
+
+    @Override
+    public int addStudent(Student student) throws StudentManagementException {
+        try {
+            int studentId = delegate.addStudent(student);
+            negativeEntries.invalidate(studentId);
+            return studentId;
+        } finally {
+            writeGeneration.incrementAndGet();
+            if (student != null && student.getEmail() != null) {
+                negativeEntries.invalidate(emailKey(student.getEmail()));
+            }
+        }
+    }
+
+    @Override
+    public BatchInsertResult addStudents(List<Student> students) throws StudentManagementException {
+        try {
+            return delegate.addStudents(students);
+        } finally {
+            writeGeneration.incrementAndGet();
+            negativeEntries.clear();
+        }
+    }
+
+    @Override
+    public boolean updateStudent(Student student) throws StudentManagementException {
+        try {
+            return delegate.updateStudent(student);
+        } finally {
+            writeGeneration.incrementAndGet();
+            if (student != null) {
+                invalidate(student.getStudentId());
+                if (student.getEmail() != null) {
+                    negativeEntries.invalidate(emailKey(student.getEmail()));
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean deleteStudent(int studentId) throws StudentManagementException {
+        try {
+            return delegate.deleteStudent(studentId);
+        } finally {
+            writeGeneration.incrementAndGet();
+            invalidate(studentId);
+        }
+    }
+
+    /**
+     * Drop one student and its email mapping
+     */
+    public void invalidate(int studentId) {
+        Entry removed = entries.invalidate(studentId);
+        if (removed != null) {
+            idsByEmail.remove(emailKey(removed.student.getEmail()), studentId);
+        }
+    }
+
+    /**
+     * Drop every cached student and "not found" result
+     */
+    public void invalidateAll() {
+        writeGeneration.incrementAndGet();
+        entries.clear();
+        negativeEntries.clear();
+        idsByEmail.clear();
+    }
+
+    /**
+     * Get a snapshot of hit ratio, evictions and load latency
+     */
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics("students", entries.size(), entries.getMaximumSize(), hits.sum(), misses.sum(),
+                negativeHits.sum(), entries.getEvictionCount(), loadLatency);
+    }
+
+    private Student cachedById(int studentId) {
+        Entry entry = entries.get(studentId);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAtNanos > 0) {
+            invalidate(studentId);
+            return null;
+        }
+        return entry.student;
+    }
+
+    private boolean isKnownMissing(Object key) {
+        Long expiresAtNanos = negativeEntries.get(key);
+        if (expiresAtNanos == null) {
+            return false;
+        }
+        if (System.nanoTime() - expiresAtNanos > 0) {
+            negativeEntries.invalidate(key);
+            return false;
+        }
+        hits.increment();
+        negativeHits.increment();
+        return true;
+    }
+
+    /**
+     * Cache a loaded student, or the key that found nothing, unless a write
+     * happened since the load started. Writers bump the generation before
+     * they invalidate, so a write that lands between the first check and the
+     * put is caught by the second check and the entry is dropped again.
+     */
+    private void remember(Object key, Student student, long generation) {
+        if (writeGeneration.get() != generation) {
+            return;
+        }
+        if (student == null) {
+            if (negativeTtlNanos > 0) {
+                negativeEntries.put(key, System.nanoTime() + negativeTtlNanos);
+                if (writeGeneration.get() != generation) {
+                    negativeEntries.invalidate(key);
+                }
+            }
+            return;
+        }
+        int studentId = student.getStudentId();
+        entries.put(studentId, new Entry(new Student(student), System.nanoTime() + ttlNanos));
+        if (student.getEmail() != null) {
+            idsByEmail.put(emailKey(student.getEmail()), studentId);
+        }
+        if (writeGeneration.get() != generation) {
+            invalidate(studentId);
+            if (student.getEmail() != null) {
+                idsByEmail.remove(emailKey(student.getEmail()), studentId);
+            }
+        }
+    }
+
+    private static String emailKey(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public String toString() {
+        return "CachingStudentDAO" + getStatistics();
+    }
+
+    private static final class Entry {
+        final Student student;
+        final long expiresAtNanos;
+
+        Entry(Student student, long expiresAtNanos) {
+            this.student = student;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
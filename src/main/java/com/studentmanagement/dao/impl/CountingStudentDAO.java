@@ -0,0 +1,111 @@
+package com.studentmanagement.dao.impl;
+
+import com.studentmanagement.dao.ForwardingStudentDAO;
+import com.studentmanagement.dao.StudentDAO;
+import com.studentmanagement.model.BatchInsertResult;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.report.EnrollmentCounters;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps EnrollmentCounters in step with every student written through it.
+ * The counters start from a background scan; writes made during the scan
+ * are applied on top of it. The scan is repeated periodically to pick up
+ * writes that did not go through this DAO.
+ */
+public class CountingStudentDAO extends ForwardingStudentDAO {
+    private static final Logger LOG = LoggerFactory.getLogger(CountingStudentDAO.class);
+
+    private final EnrollmentCounters counters = new EnrollmentCounters();
+    private final AtomicBoolean buildStarted = new AtomicBoolean();
+
+    public CountingStudentDAO(StudentDAO delegate) {
+        super(delegate);
+    }
+
+    /**
+     * Start counting in the background, unless a build already ran or is running
+     * @param rebuildIntervalMs how often to rescan afterwards, or 0 for never
+     */
+    public void startBuild(long rebuildIntervalMs) {
+        if (!buildStarted.compareAndSet(false, true)) {
+            return;
+        }
+        ScheduledExecutorService builder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "enrollment-counters");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (rebuildIntervalMs > 0) {
+            builder.scheduleWithFixedDelay(this::build, 0, rebuildIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            builder.execute(() -> {
+                if (!build()) {
+                    buildStarted.set(false);
+                }
+            });
+            builder.shutdown();
+        }
+    }
+
+    private boolean build() {
+        try {
+            counters.build(delegate);
+            return true;
+        } catch (StudentManagementException | RuntimeException e) {
+            LOG.error("Failed to build enrollment counters: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public EnrollmentCounters getCounters() {
+        return counters;
+    }
+
+    @Override
+    public int addStudent(Student student) throws StudentManagementException {
+        int studentId = delegate.addStudent(student);
+        counters.put(studentId, student.getCourseId(), student.getAge());
+        return studentId;
+    }
+
+    @Override
+    public BatchInsertResult addStudents(List<Student> students) throws StudentManagementException {
+        BatchInsertResult result = delegate.addStudents(students);
+        for (int i = 0; i < result.getRowCount(); i++) {
+            int studentId = result.getGeneratedId(i);
+            if (studentId > 0) {
+                Student student = students.get(i);
+                counters.put(studentId, student.getCourseId(), student.getAge());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean updateStudent(Student student) throws StudentManagementException {
+        boolean updated = delegate.updateStudent(student);
+        if (updated) {
+            counters.put(student.getStudentId(), student.getCourseId(), student.getAge());
+        }
+        return updated;
+    }
+
+    @Override
+    public boolean deleteStudent(int studentId) throws StudentManagementException {
+        boolean deleted = delegate.deleteStudent(studentId);
+        if (deleted) {
+            counters.remove(studentId);
+        }
+        return deleted;
+    }
+}
@@ -1,16 +1,26 @@
 package com.studentmanagement.dao.impl;
 
 import com.studentmanagement.dao.CourseDAO;
+import com.studentmanagement.dao.FullTextMode;
+import com.studentmanagement.dao.RowHandler;
 import com.studentmanagement.model.Course;
 import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.exception.ValidationException;
 import com.studentmanagement.util.DatabaseConnection;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
- * Implementation of CourseDAO interface using JDBC
+ * Implementation of CourseDAO interface using JDBC.
+ * List and search queries read from a replica when one is available; everything else uses the primary.
+ * Text searches use the FULLTEXT indexes from init_db.sql unless the mode is OFF,
+ * and fall back to LIKE when the indexes are missing.
  */
 public class CourseDAOImpl implements CourseDAO {
 
@@ -26,6 +36,9 @@ public class CourseDAOImpl implements CourseDAO {
     private static final String SELECT_ALL_COURSES = 
         "SELECT course_id, course_name, description, created_at, updated_at FROM courses ORDER BY course_name";
     
+    private static final String SCAN_ALL_COURSES = 
+        "SELECT course_id, course_name, description, created_at, updated_at FROM courses ORDER BY course_id";
+    
     private static final String UPDATE_COURSE = 
         "UPDATE courses SET course_name = ?, description = ? WHERE course_id = ?";
     
@@ -35,13 +48,47 @@ public class CourseDAOImpl implements CourseDAO {
     private static final String CHECK_COURSE_EXISTS = 
         "SELECT COUNT(*) FROM courses WHERE course_id = ?";
     
+    private static final String SELECT_EXISTING_COURSE_IDS_PREFIX = 
+        "SELECT course_id FROM courses WHERE course_id IN (";
+    
+    private static final int MAX_IN_LIST_SIZE = 1000;
+    
     private static final String SEARCH_COURSES_BY_NAME = 
         "SELECT course_id, course_name, description, created_at, updated_at FROM courses WHERE course_name LIKE ? ORDER BY course_name";
+    
+    private static final String SEARCH_COURSES_BY_NAME_FULLTEXT = 
+        "SELECT course_id, course_name, description, created_at, updated_at FROM courses " +
+        "WHERE MATCH(course_name) AGAINST (? %1$s) " +
+        "ORDER BY MATCH(course_name) AGAINST (? %1$s) DESC, course_name";
+    
+    private static final String SEARCH_COURSES = 
+        "SELECT course_id, course_name, description, created_at, updated_at FROM courses " +
+        "WHERE course_name LIKE ? OR description LIKE ? ORDER BY course_name";
+    
+    private static final String SEARCH_COURSES_FULLTEXT = 
+        "SELECT course_id, course_name, description, created_at, updated_at FROM courses " +
+        "WHERE MATCH(course_name, description) AGAINST (? %1$s) " +
+        "ORDER BY MATCH(course_name, description) AGAINST (? %1$s) DESC, course_name";
+
+    private final FullTextSearch nameSearch;
+    private final FullTextSearch textSearch;
+
+    /**
+     * Create a DAO using the full-text mode from the database configuration
+     */
+    public CourseDAOImpl() {
+        this(FullTextMode.fromString(DatabaseConnection.getConfig().getFullTextMode()));
+    }
+
+    public CourseDAOImpl(FullTextMode fullTextMode) {
+        this.nameSearch = new FullTextSearch(fullTextMode, "courses(course_name)");
+        this.textSearch = new FullTextSearch(fullTextMode, "courses(course_name, description)");
+    }
 
     @Override
     public int addCourse(Course course) throws StudentManagementException {
         if (course == null || course.getCourseName() == null || course.getCourseName().trim().isEmpty()) {
-            throw new StudentManagementException("Course name cannot be null or empty");
+            throw new ValidationException("Course name cannot be null or empty");
         }
 
         try (Connection connection = DatabaseConnection.getConnection();
@@ -63,7 +110,7 @@ public class CourseDAOImpl implements CourseDAO {
                 }
             }
         } catch (SQLException e) {
-            throw new StudentManagementException("Database error while adding course", e);
+            throw SqlErrors.translate("Database error while adding course", e);
         }
     }
 
@@ -81,7 +128,7 @@ public class CourseDAOImpl implements CourseDAO {
                 return null;
             }
         } catch (SQLException e) {
-            throw new StudentManagementException("Database error while fetching course by ID", e);
+            throw SqlErrors.translate("Database error while fetching course by ID", e);
         }
     }
 
@@ -99,32 +146,63 @@ public class CourseDAOImpl implements CourseDAO {
                 return null;
             }
         } catch (SQLException e) {
-            throw new StudentManagementException("Database error while fetching course by name", e);
+            throw SqlErrors.translate("Database error while fetching course by name", e);
         }
     }
 
     @Override
     public List<Course> getAllCourses() throws StudentManagementException {
+        try (Connection connection = DatabaseConnection.getReadConnection()) {
+            return selectAllCourses(connection);
+        } catch (SQLException e) {
+            throw SqlErrors.translate("Database error while fetching all courses", e);
+        }
+    }
+
+    @Override
+    public List<Course> getAllCoursesFromPrimary() throws StudentManagementException {
+        try (Connection connection = DatabaseConnection.getConnection()) {
+            return selectAllCourses(connection);
+        } catch (SQLException e) {
+            throw SqlErrors.translate("Database error while fetching all courses", e);
+        }
+    }
+
+    private List<Course> selectAllCourses(Connection connection) throws SQLException {
         List<Course> courses = new ArrayList<>();
         
-        try (Connection connection = DatabaseConnection.getConnection();
-             PreparedStatement statement = connection.prepareStatement(SELECT_ALL_COURSES);
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_ALL_COURSES);
              ResultSet resultSet = statement.executeQuery()) {
             
             while (resultSet.next()) {
                 courses.add(mapResultSetToCourse(resultSet));
             }
-        } catch (SQLException e) {
-            throw new StudentManagementException("Database error while fetching all courses", e);
         }
         
         return courses;
     }
 
+    @Override
+    public long forEachCourse(RowHandler<Course> handler) throws StudentManagementException {
+        try (Connection connection = DatabaseConnection.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement(SCAN_ALL_COURSES);
+             ResultSet resultSet = statement.executeQuery()) {
+            
+            long count = 0;
+            while (resultSet.next()) {
+                handler.handle(mapResultSetToCourse(resultSet));
+                count++;
+            }
+            return count;
+        } catch (SQLException e) {
+            throw SqlErrors.translate("Database error while scanning courses", e);
+        }
+    }
+
     @Override
     public boolean updateCourse(Course course) throws StudentManagementException {
         if (course == null || course.getCourseName() == null || course.getCourseName().trim().isEmpty()) {
-            throw new StudentManagementException("Course name cannot be null or empty");
+            throw new ValidationException("Course name cannot be null or empty");
         }
 
         try (Connection connection = DatabaseConnection.getConnection();
@@ -137,7 +215,7 @@ public class CourseDAOImpl implements CourseDAO {
             int rowsAffected = statement.executeUpdate();
             return rowsAffected > 0;
         } catch (SQLException e) {
-            throw new StudentManagementException("Database error while updating course", e);
+            throw SqlErrors.translate("Database error while updating course", e);
         }
     }
 
@@ -151,7 +229,7 @@ public class CourseDAOImpl implements CourseDAO {
             int rowsAffected = statement.executeUpdate();
             return rowsAffected > 0;
         } catch (SQLException e) {
-            throw new StudentManagementException("Database error while deleting course", e);
+            throw SqlErrors.translate("Database error while deleting course", e);
         }
     }
 
@@ -169,31 +247,109 @@ public class CourseDAOImpl implements CourseDAO {
                 return false;
             }
         } catch (SQLException e) {
-            throw new StudentManagementException("Database error while checking course existence", e);
+            throw SqlErrors.translate("Database error while checking course existence", e);
         }
     }
 
+    @Override
+    public Set<Integer> findExistingCourseIds(Collection<Integer> courseIds) throws StudentManagementException {
+        if (courseIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        
+        List<Integer> ids = new ArrayList<>(new HashSet<>(courseIds));
+        Set<Integer> existing = new HashSet<>();
+        
+        try (Connection connection = DatabaseConnection.getConnection()) {
+            for (int from = 0; from < ids.size(); from += MAX_IN_LIST_SIZE) {
+                List<Integer> chunk = ids.subList(from, Math.min(from + MAX_IN_LIST_SIZE, ids.size()));
+                String sql = SELECT_EXISTING_COURSE_IDS_PREFIX + placeholders(chunk.size()) + ")";
+                
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        statement.setInt(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            existing.add(resultSet.getInt(1));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw SqlErrors.translate("Database error while checking course existence", e);
+        }
+        
+        return existing;
+    }
+
     @Override
     public List<Course> searchCoursesByName(String namePattern) throws StudentManagementException {
+        return search(nameSearch, SEARCH_COURSES_BY_NAME_FULLTEXT, SEARCH_COURSES_BY_NAME, 1, namePattern);
+    }
+
+    @Override
+    public List<Course> searchCourses(String text) throws StudentManagementException {
+        return search(textSearch, SEARCH_COURSES_FULLTEXT, SEARCH_COURSES, 2, text);
+    }
+
+    /**
+     * Run a MATCH query ordered by relevance, or the LIKE query if full-text search
+     * is off, cannot handle the text, or has no index to use
+     * @param likeParameters number of LIKE markers in likeSql, all bound to %text%
+     */
+    private List<Course> search(FullTextSearch fullText, String fullTextSql, String likeSql,
+                                int likeParameters, String text) throws StudentManagementException {
         List<Course> courses = new ArrayList<>();
         
-        try (Connection connection = DatabaseConnection.getConnection();
-             PreparedStatement statement = connection.prepareStatement(SEARCH_COURSES_BY_NAME)) {
-            
-            statement.setString(1, "%" + namePattern + "%");
+        try (Connection connection = DatabaseConnection.getReadConnection()) {
+            String query = fullText.toQuery(text);
+            if (query != null) {
+                String sql = String.format(fullTextSql, fullText.againstModifier());
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    statement.setString(1, query);
+                    statement.setString(2, query);
+                    readCourses(statement, courses);
+                    return courses;
+                } catch (SQLException e) {
+                    if (!fullText.disableIfUnsupported(e)) {
+                        throw e;
+                    }
+                }
+            }
             
-            try (ResultSet resultSet = statement.executeQuery()) {
-                while (resultSet.next()) {
-                    courses.add(mapResultSetToCourse(resultSet));
+            try (PreparedStatement statement = connection.prepareStatement(likeSql)) {
+                for (int i = 1; i <= likeParameters; i++) {
+                    statement.setString(i, "%" + text + "%");
                 }
+                readCourses(statement, courses);
             }
         } catch (SQLException e) {
-            throw new StudentManagementException("Database error while searching courses", e);
+            throw SqlErrors.translate("Database error while searching courses", e);
         }
         
         return courses;
     }
 
+    private void readCourses(PreparedStatement statement, List<Course> courses) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                courses.add(mapResultSetToCourse(resultSet));
+            }
+        }
+    }
+
+    /**
+     * Build a comma-separated list of bind markers
+     */
+    private static String placeholders(int count) {
+        StringBuilder builder = new StringBuilder(count * 2);
+        for (int i = 0; i < count; i++) {
+            builder.append(i == 0 ? "?" : ",?");
+        }
+        return builder.toString();
+    }
+
     /**
      * Map ResultSet to Course object
      */
@@ -0,0 +1,145 @@
+package com.studentmanagement.dao.impl;
+
+import com.studentmanagement.dao.impl.RetryExecutor.DaoCall;
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.model.BatchInsertResult;
+import com.studentmanagement.model.Page;
+import com.studentmanagement.tracing.Span;
+import com.studentmanagement.tracing.Tracer;
+import com.studentmanagement.util.MetricsRegistry;
+import com.studentmanagement.util.OperationMetrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times DAO calls into a MetricsRegistry and logs the slow ones. Inside a
+ * sampled trace each call is also a span, e.g. "StudentDAO.getStudentById".
+ *
+ * Slow calls go to the "com.studentmanagement.slowquery" logger with their
+ * arguments reduced to type and size, so no names or emails reach the log.
+ */
+public class DaoInstrumentation {
+    private static final Logger SLOW_QUERY_LOG = LoggerFactory.getLogger("com.studentmanagement.slowquery");
+
+    private final String dao;
+    private final MetricsRegistry registry;
+    private final long slowThresholdNanos;
+    private final Map<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+
+    /**
+     * @param dao name the calls are reported under, e.g. "StudentDAO"
+     * @param slowQueryThresholdMs calls taking longer are logged; 0 logs none
+     */
+    public DaoInstrumentation(String dao, MetricsRegistry registry, long slowQueryThresholdMs) {
+        this.dao = dao;
+        this.registry = registry;
+        this.slowThresholdNanos = slowQueryThresholdMs > 0
+                ? TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMs) : Long.MAX_VALUE;
+    }
+
+    /**
+     * Run a call and record its latency, rows and outcome
+     * @param method DAO method name
+     * @param params the call's arguments, only used to describe a slow call
+     */
+    public <T> T call(String method, DaoCall<T> call, Object... params) throws StudentManagementException {
+        OperationMetrics metrics = operations.computeIfAbsent(method, name -> registry.operation(dao, name));
+        try (Span span = Tracer.startChildSpan(dao, method)) {
+            long start = System.nanoTime();
+            T result;
+            try {
+                result = call.call();
+            } catch (StudentManagementException | RuntimeException e) {
+                long elapsed = System.nanoTime() - start;
+                metrics.recordError(elapsed);
+                span.recordError(e);
+                if (elapsed > slowThresholdNanos) {
+                    logSlowCall(metrics, method, elapsed, -1, params, e);
+                }
+                throw e;
+            }
+            long elapsed = System.nanoTime() - start;
+            long rows = rowCount(result);
+            metrics.recordSuccess(elapsed, rows);
+            span.setAttribute("db.rows", rows);
+            if (elapsed > slowThresholdNanos) {
+                logSlowCall(metrics, method, elapsed, rows, params, null);
+            }
+            return result;
+        }
+    }
+
+    private void logSlowCall(OperationMetrics metrics, String method, long elapsedNanos, long rows,
+                             Object[] params, Exception error) {
+        metrics.recordSlowCall();
+        if (!SLOW_QUERY_LOG.isWarnEnabled()) {
+            return;
+        }
+        String call = dao + "." + method + redact(params);
+        long millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (error != null) {
+            SLOW_QUERY_LOG.warn("{} took {} ms and failed: {}", call, millis, error.getMessage());
+        } else {
+            SLOW_QUERY_LOG.warn("{} took {} ms, {} rows", call, millis, rows);
+        }
+    }
+
+    /**
+     * Describe arguments by type and size only, e.g. (String[12], int, 3 items)
+     */
+    static String redact(Object[] params) {
+        StringBuilder text = new StringBuilder("(");
+        for (int i = 0; i < params.length; i++) {
+            if (i > 0) {
+                text.append(", ");
+            }
+            Object param = params[i];
+            if (param == null) {
+                text.append("null");
+            } else if (param instanceof CharSequence) {
+                text.append("String[").append(((CharSequence) param).length()).append(']');
+            } else if (param instanceof Collection) {
+                text.append(((Collection<?>) param).size()).append(" items");
+            } else if (param instanceof Integer) {
+                text.append("int");
+            } else if (param instanceof Boolean) {
+                text.append("boolean");
+            } else {
+                text.append(param.getClass().getSimpleName());
+            }
+        }
+        return text.append(')').toString();
+    }
+
+    /**
+     * Rows a DAO result represents: list and page sizes, inserted rows,
+     * 1 or 0 for single rows and write results, scanned rows for handlers
+     */
+    static long rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Page) {
+            return ((Page<?>) result).getItems().size();
+        }
+        if (result instanceof BatchInsertResult) {
+            return ((BatchInsertResult) result).getInsertedCount();
+        }
+        if (result instanceof Boolean) {
+            return (Boolean) result ? 1 : 0;
+        }
+        if (result instanceof Long) {
+            return (Long) result;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,91 @@
+package com.studentmanagement.dao.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Changes to course_stats and age_stats made by one transaction's student writes.
+ *
+ * Rows are written course_stats first, then age_stats, each in ascending key
+ * order, so concurrent transactions lock the shared counter rows in the same
+ * order and cannot deadlock on them.
+ */
+final class EnrollmentStatsDelta {
+    private static final int NO_COURSE = 0;
+
+    private static final String UPSERT_COURSE_STATS =
+        "INSERT INTO course_stats (course_id, student_count, age_sum) VALUES (?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE student_count = student_count + VALUES(student_count), " +
+        "age_sum = age_sum + VALUES(age_sum)";
+
+    private static final String UPSERT_AGE_STATS =
+        "INSERT INTO age_stats (age, student_count) VALUES (?, ?) " +
+        "ON DUPLICATE KEY UPDATE student_count = student_count + VALUES(student_count)";
+
+    // course ID -> {student count change, age sum change}
+    private final Map<Integer, long[]> courses = new TreeMap<>();
+    private final Map<Integer, Long> ages = new TreeMap<>();
+
+    /**
+     * @param courseId course ID, or 0 for none
+     */
+    void add(int courseId, int age) {
+        change(courseId, age, 1);
+    }
+
+    /**
+     * @param courseId course ID, or 0 for none
+     */
+    void remove(int courseId, int age) {
+        change(courseId, age, -1);
+    }
+
+    private void change(int courseId, int age, int sign) {
+        if (courseId != NO_COURSE) {
+            long[] delta = courses.computeIfAbsent(courseId, id -> new long[2]);
+            delta[0] += sign;
+            delta[1] += (long) sign * age;
+        }
+        ages.merge(age, (long) sign, Long::sum);
+    }
+
+    /**
+     * Write the changes on the caller's connection, inside its transaction
+     */
+    void apply(Connection connection) throws SQLException {
+        boolean pending = false;
+        try (PreparedStatement statement = connection.prepareStatement(UPSERT_COURSE_STATS)) {
+            for (Map.Entry<Integer, long[]> entry : courses.entrySet()) {
+                long[] delta = entry.getValue();
+                if (delta[0] != 0 || delta[1] != 0) {
+                    statement.setInt(1, entry.getKey());
+                    statement.setLong(2, delta[0]);
+                    statement.setLong(3, delta[1]);
+                    statement.addBatch();
+                    pending = true;
+                }
+            }
+            if (pending) {
+                statement.executeBatch();
+            }
+        }
+
+        pending = false;
+        try (PreparedStatement statement = connection.prepareStatement(UPSERT_AGE_STATS)) {
+            for (Map.Entry<Integer, Long> entry : ages.entrySet()) {
+                if (entry.getValue() != 0) {
+                    statement.setInt(1, entry.getKey());
+                    statement.setLong(2, entry.getValue());
+                    statement.addBatch();
+                    pending = true;
+                }
+            }
+            if (pending) {
+                statement.executeBatch();
+            }
+        }
+    }
+}
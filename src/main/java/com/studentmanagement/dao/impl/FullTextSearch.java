@@ -0,0 +1,94 @@
+package com.studentmanagement.dao.impl;
+
+import com.studentmanagement.dao.FullTextMode;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Turns user text into a MATCH ... AGAINST argument for one FULLTEXT index,
+ * and remembers when that index turns out to be missing so later searches
+ * go straight to LIKE.
+ *
+ * Boolean mode requires every word and matches it as a word prefix
+ * ("+ali* +smi*"), which is closest to what the LIKE searches did.
+ * Operator characters in the input are dropped rather than passed through.
+ */
+final class FullTextSearch {
+    private static final Logger LOG = LoggerFactory.getLogger(FullTextSearch.class);
+
+    // MATCH columns have no FULLTEXT index, or the table cannot hold one
+    private static final int ER_FT_MATCHING_KEY_NOT_FOUND = 1191;
+    private static final int ER_TABLE_CANT_HANDLE_FT = 1214;
+
+    // innodb_ft_min_token_size default; shorter words are never in the index
+    private static final int MIN_TOKEN_LENGTH = 3;
+
+    private final FullTextMode mode;
+    private final String indexDescription;
+    private final AtomicBoolean available = new AtomicBoolean(true);
+
+    FullTextSearch(FullTextMode mode, String indexDescription) {
+        this.mode = mode;
+        this.indexDescription = indexDescription;
+    }
+
+    String againstModifier() {
+        return mode.againstModifier();
+    }
+
+    /**
+     * @return the AGAINST argument, or null if the search has to use LIKE
+     */
+    String toQuery(String text) {
+        if (mode == FullTextMode.OFF || !available.get() || text == null) {
+            return null;
+        }
+        List<String> words = new ArrayList<>();
+        for (String word : text.trim().split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        if (words.isEmpty()) {
+            return null;
+        }
+        StringBuilder query = new StringBuilder();
+        for (String word : words) {
+            if (mode == FullTextMode.NATURAL_LANGUAGE && word.length() < MIN_TOKEN_LENGTH) {
+                // The index cannot see this word; only LIKE can find it
+                return null;
+            }
+            if (query.length() > 0) {
+                query.append(' ');
+            }
+            if (mode == FullTextMode.BOOLEAN) {
+                query.append('+').append(word).append('*');
+            } else {
+                query.append(word);
+            }
+        }
+        return query.toString();
+    }
+
+    /**
+     * Check whether a failed MATCH query failed because FULLTEXT is not available.
+     * If so, the index is not tried again.
+     * @return true if the caller should retry with LIKE
+     */
+    boolean disableIfUnsupported(SQLException e) {
+        if (e.getErrorCode() != ER_FT_MATCHING_KEY_NOT_FOUND && e.getErrorCode() != ER_TABLE_CANT_HANDLE_FT) {
+            return false;
+        }
+        if (available.compareAndSet(true, false)) {
+            LOG.warn("FULLTEXT index on {} is not available, falling back to LIKE: {}", indexDescription,
+                    e.getMessage());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,182 @@
+package com.studentmanagement.dao.impl;
+
+import com.studentmanagement.dao.ForwardingStudentDAO;
+import com.studentmanagement.dao.StudentDAO;
+import com.studentmanagement.model.BatchInsertResult;
+import com.studentmanagement.model.FuzzyMatch;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.search.FuzzyStudentIndex;
+import com.studentmanagement.search.StudentNameIndex;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Answers name searches from an in-memory StudentNameIndex instead of
+ * a LIKE '%x%' table scan, and typo-tolerant searches from a
+ * FuzzyStudentIndex.
+ *
+ * The indexes are built by a background scan; until they are ready,
+ * searches fall back to the database. Writes through this DAO keep them up
+ * to date. Matching IDs are turned into students with one primary-key query.
+ */
+public class IndexedStudentDAO extends ForwardingStudentDAO {
+    private static final Logger LOG = LoggerFactory.getLogger(IndexedStudentDAO.class);
+
+    private final StudentNameIndex index = new StudentNameIndex();
+    private final FuzzyStudentIndex fuzzyIndex = new FuzzyStudentIndex();
+    private final AtomicBoolean buildStarted = new AtomicBoolean();
+
+    public IndexedStudentDAO(StudentDAO delegate) {
+        super(delegate);
+    }
+
+    /**
+     * Start building the indexes in the background, unless a build already ran or is running
+     */
+    public void startBuild() {
+        if (!buildStarted.compareAndSet(false, true)) {
+            return;
+        }
+        Thread builder = new Thread(() -> {
+            try {
+                index.build(delegate);
+                fuzzyIndex.build(delegate);
+            } catch (StudentManagementException | RuntimeException e) {
+                LOG.error("Failed to build student search indexes: {}", e.getMessage());
+                buildStarted.set(false);
+            }
+        }, "student-name-index");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    public StudentNameIndex getIndex() {
+        return index;
+    }
+
+    public FuzzyStudentIndex getFuzzyIndex() {
+        return fuzzyIndex;
+    }
+
+    @Override
+    public List<Student> searchStudentsByName(String namePattern) throws StudentManagementException {
+        return searchStudentsByName(namePattern, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Student> searchStudentsByName(String namePattern, int limit) throws StudentManagementException {
+        if (!index.isReady()) {
+            startBuild();
+            return limit == Integer.MAX_VALUE
+                    ? delegate.searchStudentsByName(namePattern)
+                    : delegate.searchStudentsByName(namePattern, limit);
+        }
+        return loadInOrder(index.search(namePattern, limit));
+    }
+
+    @Override
+    public List<Student> searchStudentsByNamePrefix(String prefix, int limit) throws StudentManagementException {
+        if (!index.isReady()) {
+            startBuild();
+            return delegate.searchStudentsByNamePrefix(prefix, limit);
+        }
+        return loadInOrder(index.searchPrefix(prefix, limit));
+    }
+
+    @Override
+    public List<FuzzyMatch> fuzzySearchStudents(String query, int maxEditDistance, int limit)
+            throws StudentManagementException {
+        if (!fuzzyIndex.isReady()) {
+            startBuild();
+            return delegate.fuzzySearchStudents(query, maxEditDistance, limit);
+        }
+        List<FuzzyStudentIndex.Hit> hits = fuzzyIndex.search(query, maxEditDistance, limit);
+        List<Integer> studentIds = new ArrayList<>(hits.size());
+        for (FuzzyStudentIndex.Hit hit : hits) {
+            studentIds.add(hit.getStudentId());
+        }
+        Map<Integer, Student> byId = loadById(studentIds);
+        List<FuzzyMatch> matches = new ArrayList<>(hits.size());
+        for (FuzzyStudentIndex.Hit hit : hits) {
+            Student student = byId.get(hit.getStudentId());
+            if (student != null) {
+                matches.add(new FuzzyMatch(student, hit.getDistance(), hit.getScore()));
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public int addStudent(Student student) throws StudentManagementException {
+        int studentId = delegate.addStudent(student);
+        index.put(studentId, student.getName());
+        fuzzyIndex.put(studentId, student.getName(), student.getEmail());
+        return studentId;
+    }
+
+    @Override
+    public BatchInsertResult addStudents(List<Student> students) throws StudentManagementException {
+        BatchInsertResult result = delegate.addStudents(students);
+        for (int i = 0; i < result.getRowCount(); i++) {
+            int studentId = result.getGeneratedId(i);
+            if (studentId > 0) {
+                Student student = students.get(i);
+                index.put(studentId, student.getName());
+                fuzzyIndex.put(studentId, student.getName(), student.getEmail());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean updateStudent(Student student) throws StudentManagementException {
+        boolean updated = delegate.updateStudent(student);
+        if (updated) {
+            index.put(student.getStudentId(), student.getName());
+            fuzzyIndex.put(student.getStudentId(), student.getName(), student.getEmail());
+        }
+        return updated;
+    }
+
+    @Override
+    public boolean deleteStudent(int studentId) throws StudentManagementException {
+        boolean deleted = delegate.deleteStudent(studentId);
+        if (deleted) {
+            index.remove(studentId);
+            fuzzyIndex.remove(studentId);
+        }
+        return deleted;
+    }
+
+    /**
+     * Fetch students by ID and return them in the given order.
+     * IDs deleted by another process since they were indexed are skipped.
+     */
+    private List<Student> loadInOrder(List<Integer> studentIds) throws StudentManagementException {
+        Map<Integer, Student> byId = loadById(studentIds);
+        List<Student> students = new ArrayList<>(studentIds.size());
+        for (Integer studentId : studentIds) {
+            Student student = byId.get(studentId);
+            if (student != null) {
+                students.add(student);
+            }
+        }
+        return students;
+    }
+
+    private Map<Integer, Student> loadById(List<Integer> studentIds) throws StudentManagementException {
+        Map<Integer, Student> byId = new HashMap<>();
+        for (Student student : delegate.getStudentsByIds(studentIds)) {
+            byId.put(student.getStudentId(), student);
+        }
+        return byId;
+    }
+}
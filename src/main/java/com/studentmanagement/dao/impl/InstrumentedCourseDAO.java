@@ -0,0 +1,91 @@
+package com.studentmanagement.dao.impl;
+
+import com.studentmanagement.dao.CourseDAO;
+import com.studentmanagement.dao.ForwardingCourseDAO;
+import com.studentmanagement.dao.RowHandler;
+import com.studentmanagement.model.Course;
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.util.MetricsRegistry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Records latency, rows and errors of every course query in a
+ * MetricsRegistry and logs slow ones; see DaoInstrumentation.
+ */
+public class InstrumentedCourseDAO extends ForwardingCourseDAO {
+
+    private final DaoInstrumentation instrumentation;
+
+    /**
+     * @param slowQueryThresholdMs calls taking longer are logged; 0 logs none
+     */
+    public InstrumentedCourseDAO(CourseDAO delegate, MetricsRegistry registry, long slowQueryThresholdMs) {
+        super(delegate);
+        this.instrumentation = new DaoInstrumentation("CourseDAO", registry, slowQueryThresholdMs);
+    }
+
+    @Override
+    public int addCourse(Course course) throws StudentManagementException {
+        return instrumentation.call("addCourse", () -> delegate.addCourse(course), course);
+    }
+
+    @Override
+    public Course getCourseById(int courseId) throws StudentManagementException {
+        return instrumentation.call("getCourseById", () -> delegate.getCourseById(courseId), courseId);
+    }
+
+    @Override
+    public Course getCourseByName(String courseName) throws StudentManagementException {
+        return instrumentation.call("getCourseByName", () -> delegate.getCourseByName(courseName), courseName);
+    }
+
+    @Override
+    public List<Course> getAllCourses() throws StudentManagementException {
+        return instrumentation.call("getAllCourses", () -> delegate.getAllCourses());
+    }
+
+    @Override
+    public List<Course> getAllCoursesFromPrimary() throws StudentManagementException {
+        return instrumentation.call("getAllCoursesFromPrimary", () -> delegate.getAllCoursesFromPrimary());
+    }
+
+    @Override
+    public long forEachCourse(RowHandler<Course> handler) throws StudentManagementException {
+        return instrumentation.call("forEachCourse", () -> delegate.forEachCourse(handler));
+    }
+
+    @Override
+    public boolean updateCourse(Course course) throws StudentManagementException {
+        return instrumentation.call("updateCourse", () -> delegate.updateCourse(course), course);
+    }
+
+    @Override
+    public boolean deleteCourse(int courseId) throws StudentManagementException {
+        return instrumentation.call("deleteCourse", () -> delegate.deleteCourse(courseId), courseId);
+    }
+
+    @Override
+    public boolean courseExists(int courseId) throws StudentManagementException {
+        return instrumentation.call("courseExists", () -> delegate.courseExists(courseId), courseId);
+    }
+
+    @Override
+    public Set<Integer> findExistingCourseIds(Collection<Integer> courseIds) throws StudentManagementException {
+        return instrumentation.call("findExistingCourseIds",
+                () -> delegate.findExistingCourseIds(courseIds), courseIds);
+    }
+
+    @Override
+    public List<Course> searchCoursesByName(String namePattern) throws StudentManagementException {
+        return instrumentation.call("searchCoursesByName",
+                () -> delegate.searchCoursesByName(namePattern), namePattern);
+    }
+
+    @Override
+    public List<Course> searchCourses(String text) throws StudentManagementException {
+        return instrumentation.call("searchCourses", () -> delegate.searchCourses(text), text);
+    }
+}
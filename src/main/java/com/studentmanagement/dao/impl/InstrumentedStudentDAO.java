@@ -0,0 +1,177 @@
+package com.studentmanagement.dao.impl;
+
+import com.studentmanagement.dao.ForwardingStudentDAO;
+import com.studentmanagement.dao.RowHandler;
+import com.studentmanagement.dao.StudentDAO;
+import com.studentmanagement.model.BatchInsertResult;
+import com.studentmanagement.model.FuzzyMatch;
+import com.studentmanagement.model.Page;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.model.StudentRecord;
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.util.MetricsRegistry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Records latency, rows and errors of every student query in a
+ * MetricsRegistry and logs slow ones; see DaoInstrumentation.
+ * Sits directly on StudentDAOImpl, below the retries, so each attempt is
+ * measured. Streams are passed through untimed because their query runs lazily.
+ */
+public class InstrumentedStudentDAO extends ForwardingStudentDAO {
+
+    private final DaoInstrumentation instrumentation;
+
+    /**
+     * @param slowQueryThresholdMs calls taking longer are logged; 0 logs none
+     */
+    public InstrumentedStudentDAO(StudentDAO delegate, MetricsRegistry registry, long slowQueryThresholdMs) {
+        super(delegate);
+        this.instrumentation = new DaoInstrumentation("StudentDAO", registry, slowQueryThresholdMs);
+    }
+
+    @Override
+    public int addStudent(Student student) throws StudentManagementException {
+        return instrumentation.call("addStudent", () -> delegate.addStudent(student), student);
+    }
+
+    @Override
+    public BatchInsertResult addStudents(List<Student> students) throws StudentManagementException {
+        return instrumentation.call("addStudents", () -> delegate.addStudents(students), students);
+    }
+
+    @Override
+    public Student getStudentById(int studentId) throws StudentManagementException {
+        return instrumentation.call("getStudentById", () -> delegate.getStudentById(studentId), studentId);
+    }
+
+    @Override
+    public Student getStudentByEmail(String email) throws StudentManagementException {
+        return instrumentation.call("getStudentByEmail", () -> delegate.getStudentByEmail(email), email);
+    }
+
+    @Override
+    public List<Student> getAllStudents() throws StudentManagementException {
+        return instrumentation.call("getAllStudents", () -> delegate.getAllStudents());
+    }
+
+    @Override
+    public Page<Student> getStudentsPage(String cursor, int pageSize, boolean includeTotalEstimate)
+            throws StudentManagementException {
+        return instrumentation.call("getStudentsPage",
+                () -> delegate.getStudentsPage(cursor, pageSize, includeTotalEstimate),
+                cursor, pageSize, includeTotalEstimate);
+    }
+
+    @Override
+    public long forEachStudent(RowHandler<Student> handler, boolean reuseInstance) throws StudentManagementException {
+        return instrumentation.call("forEachStudent", () -> delegate.forEachStudent(handler, reuseInstance),
+                reuseInstance);
+    }
+
+    @Override
+    public List<StudentRecord> getAllStudentRecords(boolean emailAsUtf8) throws StudentManagementException {
+        return instrumentation.call("getAllStudentRecords", () -> delegate.getAllStudentRecords(emailAsUtf8),
+                emailAsUtf8);
+    }
+
+    @Override
+    public long forEachStudentRecord(RowHandler<StudentRecord> handler, boolean emailAsUtf8)
+            throws StudentManagementException {
+        return instrumentation.call("forEachStudentRecord",
+                () -> delegate.forEachStudentRecord(handler, emailAsUtf8), emailAsUtf8);
+    }
+
+    @Override
+    public boolean updateStudent(Student student) throws StudentManagementException {
+        return instrumentation.call("updateStudent", () -> delegate.updateStudent(student), student);
+    }
+
+    @Override
+    public boolean deleteStudent(int studentId) throws StudentManagementException {
+        return instrumentation.call("deleteStudent", () -> delegate.deleteStudent(studentId), studentId);
+    }
+
+    @Override
+    public List<Student> searchStudentsByName(String namePattern) throws StudentManagementException {
+        return instrumentation.call("searchStudentsByName",
+                () -> delegate.searchStudentsByName(namePattern), namePattern);
+    }
+
+    @Override
+    public List<Student> searchStudentsByName(String namePattern, int limit) throws StudentManagementException {
+        return instrumentation.call("searchStudentsByName",
+                () -> delegate.searchStudentsByName(namePattern, limit), namePattern, limit);
+    }
+
+    @Override
+    public List<Student> searchStudentsByNamePrefix(String prefix, int limit) throws StudentManagementException {
+        return instrumentation.call("searchStudentsByNamePrefix",
+                () -> delegate.searchStudentsByNamePrefix(prefix, limit), prefix, limit);
+    }
+
+    @Override
+    public List<FuzzyMatch> fuzzySearchStudents(String query, int maxEditDistance, int limit)
+            throws StudentManagementException {
+        return instrumentation.call("fuzzySearchStudents",
+                () -> delegate.fuzzySearchStudents(query, maxEditDistance, limit), query, maxEditDistance, limit);
+    }
+
+    @Override
+    public List<Student> getStudentsByIds(Collection<Integer> studentIds) throws StudentManagementException {
+        return instrumentation.call("getStudentsByIds", () -> delegate.getStudentsByIds(studentIds), studentIds);
+    }
+
+    @Override
+    public List<Student> getStudentsByCourse(int courseId) throws StudentManagementException {
+        return instrumentation.call("getStudentsByCourse", () -> delegate.getStudentsByCourse(courseId), courseId);
+    }
+
+    @Override
+    public List<Student> getStudentsByCourseName(String courseName) throws StudentManagementException {
+        return instrumentation.call("getStudentsByCourseName",
+                () -> delegate.getStudentsByCourseName(courseName), courseName);
+    }
+
+    @Override
+    public List<Student> getStudentsByAgeRange(int minAge, int maxAge) throws StudentManagementException {
+        return instrumentation.call("getStudentsByAgeRange",
+                () -> delegate.getStudentsByAgeRange(minAge, maxAge), minAge, maxAge);
+    }
+
+    @Override
+    public Page<Student> getStudentsByCourse(int courseId, int minAge, int maxAge, String namePattern,
+            String cursor, int pageSize)
+            throws StudentManagementException {
+        return instrumentation.call("getStudentsByCoursePage",
+                () -> delegate.getStudentsByCourse(courseId, minAge, maxAge, namePattern, cursor, pageSize),
+                courseId, minAge, maxAge, namePattern, cursor, pageSize);
+    }
+
+    @Override
+    public Page<Student> getStudentsByAgeRange(int minAge, int maxAge, String namePattern, String cursor, int pageSize)
+            throws StudentManagementException {
+        return instrumentation.call("getStudentsByAgeRangePage",
+                () -> delegate.getStudentsByAgeRange(minAge, maxAge, namePattern, cursor, pageSize),
+                minAge, maxAge, namePattern, cursor, pageSize);
+    }
+
+    @Override
+    public boolean studentExists(int studentId) throws StudentManagementException {
+        return instrumentation.call("studentExists", () -> delegate.studentExists(studentId), studentId);
+    }
+
+    @Override
+    public boolean isEmailTaken(String email, int excludeStudentId) throws StudentManagementException {
+        return instrumentation.call("isEmailTaken",
+                () -> delegate.isEmailTaken(email, excludeStudentId), email, excludeStudentId);
+    }
+
+    @Override
+    public Set<String> findTakenEmails(Collection<String> emails) throws StudentManagementException {
+        return instrumentation.call("findTakenEmails", () -> delegate.findTakenEmails(emails), emails);
+    }
+}
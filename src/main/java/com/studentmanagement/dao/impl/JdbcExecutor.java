@@ -0,0 +1,193 @@
+package com.studentmanagement.dao.impl;
+
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.exception.TransientDatabaseException;
+import com.studentmanagement.tracing.Tracer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded thread pool for JDBC calls made on behalf of the asynchronous DAOs.
+ *
+ * Calls get a Cancellation handle to register the Statement they are running.
+ * If the returned future is cancelled or times out (orTimeout), a call that
+ * has not started is dropped and a running one has its statement cancelled,
+ * which makes the server abort the query and frees the connection. When the
+ * queue is full, the future fails at once rather than blocking the caller.
+ * A call submitted inside a trace runs as part of it on the pool thread.
+ * awaitAll waits for calls started together and fails fast: the first
+ * failure cancels the others instead of waiting for the slowest one.
+ */
+public class JdbcExecutor implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcExecutor.class);
+
+    /**
+     * A JDBC call that registers its statement so it can be cancelled
+     */
+    @FunctionalInterface
+    public interface JdbcCall<T> {
+        T call(Cancellation cancellation) throws SQLException, StudentManagementException;
+    }
+
+    /**
+     * Links a running call to its statement
+     */
+    public static final class Cancellation {
+        private volatile Statement statement;
+        private volatile boolean cancelled;
+
+        /**
+         * Register the statement about to be executed
+         * @throws SQLException if the call has already been cancelled
+         */
+        public void register(Statement statement) throws SQLException {
+            this.statement = statement;
+            if (cancelled) {
+                statement.cancel();
+                throw new SQLException("Query cancelled before it started");
+            }
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        void cancel() {
+            cancelled = true;
+            Statement running = statement;
+            if (running != null) {
+                try {
+                    running.cancel();
+                } catch (SQLException e) {
+                    LOG.warn("Could not cancel query: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * @param threads maximum JDBC calls running at once
+     * @param queueSize calls that may wait for a thread before new ones are refused
+     */
+    public JdbcExecutor(int threads, int queueSize) {
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "jdbc-async-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Run a call on the pool
+     * @return future completed with the result, or exceptionally with the
+     *         StudentManagementException the call failed with
+     */
+    public <T> CompletableFuture<T> submit(String description, JdbcCall<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Cancellation cancellation = new Cancellation();
+        Future<?> task;
+        try {
+            task = executor.submit(Tracer.wrap(() -> {
+                if (result.isDone()) {
+                    return;
+                }
+                try {
+                    result.complete(call.call(cancellation));
+                } catch (SQLException e) {
+                    result.completeExceptionally(cancellation.isCancelled()
+                            ? new CancellationException(description + " was cancelled")
+                            : SqlErrors.translate("Database error while " + description, e));
+                } catch (StudentManagementException | RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(new TransientDatabaseException(
+                    "Too many queued database calls, rejected " + description, e, true));
+            return result;
+        }
+
+        result.whenComplete((value, error) -> {
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (cause instanceof CancellationException || cause instanceof TimeoutException) {
+                task.cancel(false);
+                cancellation.cancel();
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Wait for calls that were started together. As soon as one fails, the
+     * others are cancelled and its failure is thrown; if they have not all
+     * finished within timeoutMs, all are cancelled.
+     * @throws TransientDatabaseException on timeout or interrupt
+     */
+    public static void awaitAll(long timeoutMs, CompletableFuture<?>... calls) throws StudentManagementException {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        for (CompletableFuture<?> call : calls) {
+            call.whenComplete((value, error) -> {
+                if (error != null && done.completeExceptionally(error)) {
+                    cancelAll(calls);
+                }
+            });
+        }
+        CompletableFuture.allOf(calls).thenRun(() -> done.complete(null));
+        
+        try {
+            done.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            cancelAll(calls);
+            throw new TransientDatabaseException("Database checks timed out after " + timeoutMs + "ms", e, true);
+        } catch (InterruptedException e) {
+            cancelAll(calls);
+            Thread.currentThread().interrupt();
+            throw new TransientDatabaseException("Interrupted while waiting for database checks", e, false);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof StudentManagementException) {
+                throw (StudentManagementException) cause;
+            }
+            throw new StudentManagementException("Database check failed", cause);
+        }
+    }
+
+    private static void cancelAll(CompletableFuture<?>[] calls) {
+        for (CompletableFuture<?> call : calls) {
+            call.cancel(false);
+        }
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,303 @@
+package com.studentmanagement.dao.impl;
+
+import com.studentmanagement.dao.ReportDAO;
+import com.studentmanagement.model.AgeBucket;
+import com.studentmanagement.model.CourseEnrollment;
+import com.studentmanagement.model.EnrollmentReport;
+import com.studentmanagement.model.StatsDrift;
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.exception.ValidationException;
+import com.studentmanagement.util.DatabaseConnection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Implementation of ReportDAO using GROUP BY queries, so only one row per
+ * course or age bucket leaves the database. The queries run in one read-only
+ * transaction on a replica when available, so their figures agree with each other.
+ * The summary-table report reads course_stats and age_stats, which StudentDAOImpl
+ * maintains, instead of touching students at all.
+ */
+public class ReportDAOImpl implements ReportDAO {
+    private static final Logger LOG = LoggerFactory.getLogger(ReportDAOImpl.class);
+
+    private static final String STUDENT_TOTALS = 
+        "SELECT COUNT(*), AVG(age), MIN(age), MAX(age), COUNT(*) - COUNT(course_id) FROM students";
+    
+    private static final String COURSE_ENROLLMENT = 
+        "SELECT c.course_id, c.course_name, COUNT(s.student_id), AVG(s.age) FROM courses c " +
+        "LEFT JOIN students s ON s.course_id = c.course_id " +
+        "GROUP BY c.course_id, c.course_name ORDER BY c.course_name";
+    
+    private static final String AGE_HISTOGRAM = 
+        "SELECT FLOOR(age / ?) AS bucket, COUNT(*) FROM students GROUP BY bucket ORDER BY bucket";
+    
+    // One primary-key lookup into course_stats per course
+    private static final String COURSE_STATS_REPORT = 
+        "SELECT c.course_id, c.course_name, COALESCE(cs.student_count, 0), COALESCE(cs.age_sum, 0) " +
+        "FROM courses c LEFT JOIN course_stats cs ON cs.course_id = c.course_id ORDER BY c.course_name";
+    
+    private static final String AGE_STATS_REPORT = 
+        "SELECT age, student_count FROM age_stats WHERE student_count <> 0 ORDER BY age";
+    
+    // Locking reads hold off student writes, whose stats updates need these rows, until the check commits
+    private static final String LOCK_COURSE_STATS = 
+        "SELECT course_id, student_count, age_sum FROM course_stats FOR UPDATE";
+    
+    private static final String LOCK_AGE_STATS = 
+        "SELECT age, student_count FROM age_stats FOR UPDATE";
+    
+    private static final String COUNT_STUDENTS_BY_COURSE = 
+        "SELECT course_id, COUNT(*), SUM(age) FROM students WHERE course_id IS NOT NULL GROUP BY course_id";
+    
+    private static final String COUNT_STUDENTS_BY_AGE = 
+        "SELECT age, COUNT(*) FROM students GROUP BY age";
+    
+    private static final String SET_COURSE_STATS = 
+        "INSERT INTO course_stats (course_id, student_count, age_sum) VALUES (?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE student_count = VALUES(student_count), age_sum = VALUES(age_sum)";
+    
+    private static final String SET_AGE_STATS = 
+        "INSERT INTO age_stats (age, student_count) VALUES (?, ?) " +
+        "ON DUPLICATE KEY UPDATE student_count = VALUES(student_count)";
+    
+    private static final int ER_NO_SUCH_TABLE = 1146;
+    
+    private final AtomicBoolean summaryTablesMissing = new AtomicBoolean();
+
+    @Override
+    public EnrollmentReport getEnrollmentReport(int ageBucketWidth) throws StudentManagementException {
+        if (ageBucketWidth <= 0) {
+            throw new ValidationException("Age bucket width must be positive");
+        }
+        
+        try (Connection connection = DatabaseConnection.getReadConnection()) {
+            connection.setReadOnly(true);
+            connection.setAutoCommit(false);
+            try {
+                EnrollmentReport report = queryReport(connection, ageBucketWidth);
+                connection.commit();
+                return report;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw SqlErrors.translate("Database error while computing enrollment report", e);
+        }
+    }
+
+    private EnrollmentReport queryReport(Connection connection, int ageBucketWidth) throws SQLException {
+        long totalStudents;
+        double averageAge;
+        int minAge;
+        int maxAge;
+        long unassigned;
+        try (PreparedStatement statement = connection.prepareStatement(STUDENT_TOTALS);
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            totalStudents = resultSet.getLong(1);
+            averageAge = resultSet.getDouble(2);
+            minAge = resultSet.getInt(3);
+            maxAge = resultSet.getInt(4);
+            unassigned = resultSet.getLong(5);
+        }
+        
+        List<CourseEnrollment> courses = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(COURSE_ENROLLMENT);
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                courses.add(new CourseEnrollment(resultSet.getInt(1), resultSet.getString(2),
+                        resultSet.getLong(3), resultSet.getDouble(4)));
+            }
+        }
+        
+        List<AgeBucket> histogram = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(AGE_HISTOGRAM)) {
+            statement.setInt(1, ageBucketWidth);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    int low = resultSet.getInt(1) * ageBucketWidth;
+                    histogram.add(new AgeBucket(low, low + ageBucketWidth - 1, resultSet.getLong(2)));
+                }
+            }
+        }
+        
+        return new EnrollmentReport(totalStudents, averageAge, minAge, maxAge, unassigned,
+                courses, histogram, EnrollmentReport.Source.DATABASE);
+    }
+
+    @Override
+    public EnrollmentReport getSummaryEnrollmentReport(int ageBucketWidth) throws StudentManagementException {
+        if (ageBucketWidth <= 0) {
+            throw new ValidationException("Age bucket width must be positive");
+        }
+        if (summaryTablesMissing.get()) {
+            return getEnrollmentReport(ageBucketWidth);
+        }
+        
+        try (Connection connection = DatabaseConnection.getReadConnection()) {
+            connection.setReadOnly(true);
+            connection.setAutoCommit(false);
+            try {
+                EnrollmentReport report = querySummaryReport(connection, ageBucketWidth);
+                connection.commit();
+                return report;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            if (e.getErrorCode() == ER_NO_SUCH_TABLE) {
+                if (summaryTablesMissing.compareAndSet(false, true)) {
+                    LOG.warn("Enrollment summary tables are missing, run database/add_course_stats.sql: {}",
+                            e.getMessage());
+                }
+                return getEnrollmentReport(ageBucketWidth);
+            }
+            throw SqlErrors.translate("Database error while reading enrollment statistics", e);
+        }
+    }
+
+    private EnrollmentReport querySummaryReport(Connection connection, int ageBucketWidth) throws SQLException {
+        List<CourseEnrollment> courses = new ArrayList<>();
+        long assigned = 0;
+        try (PreparedStatement statement = connection.prepareStatement(COURSE_STATS_REPORT);
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                long count = resultSet.getLong(3);
+                long courseAgeSum = resultSet.getLong(4);
+                courses.add(new CourseEnrollment(resultSet.getInt(1), resultSet.getString(2),
+                        count, count == 0 ? 0 : (double) courseAgeSum / count));
+                assigned += count;
+            }
+        }
+        
+        TreeMap<Integer, Long> countsByAge = new TreeMap<>();
+        long total = 0;
+        long ageSum = 0;
+        try (PreparedStatement statement = connection.prepareStatement(AGE_STATS_REPORT);
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                int age = resultSet.getInt(1);
+                long count = resultSet.getLong(2);
+                countsByAge.put(age, count);
+                total += count;
+                ageSum += age * count;
+            }
+        }
+        
+        return new EnrollmentReport(total,
+                total == 0 ? 0 : (double) ageSum / total,
+                countsByAge.isEmpty() ? 0 : countsByAge.firstKey(),
+                countsByAge.isEmpty() ? 0 : countsByAge.lastKey(),
+                total - assigned, courses, AgeBucket.histogram(countsByAge, ageBucketWidth),
+                EnrollmentReport.Source.SUMMARY_TABLES);
+    }
+
+    @Override
+    public List<StatsDrift> reconcileStats(boolean repair) throws StudentManagementException {
+        try (Connection connection = DatabaseConnection.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                List<StatsDrift> drift = findDrift(connection);
+                if (repair && !drift.isEmpty()) {
+                    repairDrift(connection, drift);
+                }
+                connection.commit();
+                return drift;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw SqlErrors.translate("Database error while reconciling enrollment statistics", e);
+        }
+    }
+
+    /**
+     * Lock both stats tables, then count students. The aggregate reads see
+     * every write that committed before the locks were granted, and none
+     * after, so recorded and actual values describe the same moment.
+     */
+    private List<StatsDrift> findDrift(Connection connection) throws SQLException {
+        Map<Integer, long[]> recordedCourses = readCounts(connection, LOCK_COURSE_STATS, 2);
+        Map<Integer, long[]> recordedAges = readCounts(connection, LOCK_AGE_STATS, 1);
+        Map<Integer, long[]> actualCourses = readCounts(connection, COUNT_STUDENTS_BY_COURSE, 2);
+        Map<Integer, long[]> actualAges = readCounts(connection, COUNT_STUDENTS_BY_AGE, 1);
+        
+        List<StatsDrift> drift = new ArrayList<>();
+        compare(StatsDrift.Scope.COURSE, recordedCourses, actualCourses, drift);
+        compare(StatsDrift.Scope.AGE, recordedAges, actualAges, drift);
+        return drift;
+    }
+
+    /**
+     * Read rows of (key, count[, age sum]) into a map
+     */
+    private static Map<Integer, long[]> readCounts(Connection connection, String sql, int valueColumns)
+            throws SQLException {
+        Map<Integer, long[]> counts = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                long[] values = new long[2];
+                for (int i = 0; i < valueColumns; i++) {
+                    values[i] = resultSet.getLong(i + 2);
+                }
+                counts.put(resultSet.getInt(1), values);
+            }
+        }
+        return counts;
+    }
+
+    private static void compare(StatsDrift.Scope scope, Map<Integer, long[]> recorded, Map<Integer, long[]> actual,
+                                List<StatsDrift> drift) {
+        long[] none = new long[2];
+        TreeSet<Integer> keys = new TreeSet<>(recorded.keySet());
+        keys.addAll(actual.keySet());
+        for (int key : keys) {
+            long[] stored = recorded.getOrDefault(key, none);
+            long[] counted = actual.getOrDefault(key, none);
+            if (stored[0] != counted[0] || stored[1] != counted[1]) {
+                drift.add(new StatsDrift(scope, key, stored[0], counted[0], stored[1], counted[1]));
+            }
+        }
+    }
+
+    private static void repairDrift(Connection connection, List<StatsDrift> drift) throws SQLException {
+        try (PreparedStatement courseStatement = connection.prepareStatement(SET_COURSE_STATS);
+             PreparedStatement ageStatement = connection.prepareStatement(SET_AGE_STATS)) {
+            for (StatsDrift row : drift) {
+                if (row.getScope() == StatsDrift.Scope.COURSE) {
+                    courseStatement.setInt(1, row.getKey());
+                    courseStatement.setLong(2, row.getActualCount());
+                    courseStatement.setLong(3, row.getActualAgeSum());
+                    courseStatement.addBatch();
+                } else {
+                    ageStatement.setInt(1, row.getKey());
+                    ageStatement.setLong(2, row.getActualCount());
+                    ageStatement.addBatch();
+                }
+            }
+            courseStatement.executeBatch();
+            ageStatement.executeBatch();
+        }
+    }
+}
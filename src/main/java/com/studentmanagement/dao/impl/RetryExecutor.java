@@ -0,0 +1,179 @@
+package com.studentmanagement.dao.impl;
+
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.exception.TransientDatabaseException;
+import com.studentmanagement.util.CircuitBreaker;
+import com.studentmanagement.util.RetryBudget;
+import com.studentmanagement.util.RetryPolicy;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs DAO calls behind a circuit breaker and retries the ones that failed
+ * with a retryable TransientDatabaseException.
+ *
+ * Whether a failure may be retried depends on the call: reads and
+ * idempotent writes are retried after any retryable failure, other writes
+ * only when the failure guarantees nothing was written (deadlock, lock wait
+ * timeout, no connection). Retries wait out a jittered backoff from the
+ * RetryPolicy and are paid for from a RetryBudget shared by all calls. Only
+ * driver-level connection failures count against the circuit breaker; a
+ * deadlock means the server is up, and a timeout waiting for a pooled
+ * connection counts as neither success nor failure.
+ */
+public class RetryExecutor {
+
+    /**
+     * When a call may be repeated
+     */
+    public enum Retry {
+        /** reads and writes that can be applied twice with the same result */
+        ALWAYS,
+        /** writes that must not be applied twice */
+        IF_NOT_APPLIED,
+        /** calls with side effects outside the database, e.g. row handlers */
+        NEVER
+    }
+
+    /**
+     * One DAO call
+     */
+    @FunctionalInterface
+    public interface DaoCall<T> {
+        T call() throws StudentManagementException;
+    }
+
+    private final RetryPolicy policy;
+    private final RetryBudget budget;
+    private final CircuitBreaker circuitBreaker;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private final LongAdder unsafeToRetry = new LongAdder();
+
+    public RetryExecutor(RetryPolicy policy, RetryBudget budget, CircuitBreaker circuitBreaker) {
+        this.policy = policy;
+        this.budget = budget;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * @param operation name used in the exception when the breaker refuses the call
+     * @throws TransientDatabaseException if the breaker is open, or the last attempt's failure
+     */
+    public <T> T call(String operation, Retry retry, DaoCall<T> call) throws StudentManagementException {
+        calls.increment();
+        budget.recordCall();
+        for (int attempt = 1; ; attempt++) {
+            if (!circuitBreaker.tryAcquire()) {
+                throw new TransientDatabaseException("Database unavailable, " + operation + " was not attempted",
+                        null, true);
+            }
+            try {
+                T result = call.call();
+                circuitBreaker.onSuccess();
+                if (attempt > 1) {
+                    recovered.increment();
+                }
+                return result;
+            } catch (TransientDatabaseException e) {
+                SQLException cause = e.getCause() instanceof SQLException ? (SQLException) e.getCause() : null;
+                if (cause != null && SqlErrors.isConnectionFailure(cause)) {
+                    circuitBreaker.onFailure();
+                } else if (cause != null && SqlErrors.isPoolAcquireFailure(cause)) {
+                    // A busy pool is not a database outage
+                    circuitBreaker.onNotAttempted();
+                } else {
+                    circuitBreaker.onSuccess();
+                }
+                if (!e.isRetryable() || retry == Retry.NEVER) {
+                    throw e;
+                }
+                if (retry == Retry.IF_NOT_APPLIED && (cause == null || !SqlErrors.wasNotApplied(cause))) {
+                    unsafeToRetry.increment();
+                    throw e;
+                }
+                if (attempt >= policy.getMaxAttempts()) {
+                    exhausted.increment();
+                    throw e;
+                }
+                if (!budget.tryAcquire()) {
+                    throw e;
+                }
+                retries.increment();
+                if (!sleep(policy.delayMillis(attempt))) {
+                    throw e;
+                }
+            } catch (StudentManagementException | RuntimeException e) {
+                circuitBreaker.onSuccess();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * @return false if interrupted, leaving the interrupt flag set
+     */
+    private static boolean sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public RetryPolicy getPolicy() {
+        return policy;
+    }
+
+    public RetryBudget getBudget() {
+        return budget;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    /**
+     * @return attempts made after the first
+     */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * @return calls that failed at first and succeeded on a retry
+     */
+    public long getRecovered() {
+        return recovered.sum();
+    }
+
+    /**
+     * @return calls that still failed after the policy's last attempt
+     */
+    public long getExhausted() {
+        return exhausted.sum();
+    }
+
+    /**
+     * @return non-idempotent writes not retried because they may have been applied
+     */
+    public long getUnsafeToRetry() {
+        return unsafeToRetry.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RetryExecutor[calls=%d, retries=%d, recovered=%d, exhausted=%d, unsafe=%d]",
+                calls.sum(), retries.sum(), recovered.sum(), exhausted.sum(), unsafeToRetry.sum());
+    }
+}
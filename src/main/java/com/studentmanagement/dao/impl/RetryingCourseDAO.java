@@ -0,0 +1,87 @@
+package com.studentmanagement.dao.impl;
+
+import com.studentmanagement.dao.CourseDAO;
+import com.studentmanagement.dao.ForwardingCourseDAO;
+import com.studentmanagement.dao.RowHandler;
+import com.studentmanagement.dao.impl.RetryExecutor.Retry;
+import com.studentmanagement.model.Course;
+import com.studentmanagement.exception.StudentManagementException;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Retries course queries that failed with a transient database error and
+ * fails fast while the circuit breaker is open; see RetryExecutor.
+ * Inserts and deletes are retried only if they certainly did not happen.
+ */
+public class RetryingCourseDAO extends ForwardingCourseDAO {
+
+    private final RetryExecutor retry;
+
+    public RetryingCourseDAO(CourseDAO delegate, RetryExecutor retry) {
+        super(delegate);
+        this.retry = retry;
+    }
+
+    @Override
+    public int addCourse(Course course) throws StudentManagementException {
+        return retry.call("addCourse", Retry.IF_NOT_APPLIED, () -> delegate.addCourse(course));
+    }
+
+    @Override
+    public Course getCourseById(int courseId) throws StudentManagementException {
+        return retry.call("getCourseById", Retry.ALWAYS, () -> delegate.getCourseById(courseId));
+    }
+
+    @Override
+    public Course getCourseByName(String courseName) throws StudentManagementException {
+        return retry.call("getCourseByName", Retry.ALWAYS, () -> delegate.getCourseByName(courseName));
+    }
+
+    @Override
+    public List<Course> getAllCourses() throws StudentManagementException {
+        return retry.call("getAllCourses", Retry.ALWAYS, () -> delegate.getAllCourses());
+    }
+
+    @Override
+    public List<Course> getAllCoursesFromPrimary() throws StudentManagementException {
+        return retry.call("getAllCoursesFromPrimary", Retry.ALWAYS, () -> delegate.getAllCoursesFromPrimary());
+    }
+
+    @Override
+    public long forEachCourse(RowHandler<Course> handler) throws StudentManagementException {
+        return retry.call("forEachCourse", Retry.NEVER, () -> delegate.forEachCourse(handler));
+    }
+
+    @Override
+    public boolean updateCourse(Course course) throws StudentManagementException {
+        return retry.call("updateCourse", Retry.ALWAYS, () -> delegate.updateCourse(course));
+    }
+
+    @Override
+    public boolean deleteCourse(int courseId) throws StudentManagementException {
+        return retry.call("deleteCourse", Retry.IF_NOT_APPLIED, () -> delegate.deleteCourse(courseId));
+    }
+
+    @Override
+    public boolean courseExists(int courseId) throws StudentManagementException {
+        return retry.call("courseExists", Retry.ALWAYS, () -> delegate.courseExists(courseId));
+    }
+
+    @Override
+    public Set<Integer> findExistingCourseIds(Collection<Integer> courseIds) throws StudentManagementException {
+        return retry.call("findExistingCourseIds", Retry.ALWAYS, () -> delegate.findExistingCourseIds(courseIds));
+    }
+
+    @Override
+    public List<Course> searchCoursesByName(String namePattern) throws StudentManagementException {
+        return retry.call("searchCoursesByName", Retry.ALWAYS, () -> delegate.searchCoursesByName(namePattern));
+    }
+
+    @Override
+    public List<Course> searchCourses(String text) throws StudentManagementException {
+        return retry.call("searchCourses", Retry.ALWAYS, () -> delegate.searchCourses(text));
+    }
+}
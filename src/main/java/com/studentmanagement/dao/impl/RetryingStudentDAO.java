@@ -0,0 +1,167 @@
+package com.studentmanagement.dao.impl;
+
+import com.studentmanagement.dao.ForwardingStudentDAO;
+import com.studentmanagement.dao.RowHandler;
+import com.studentmanagement.dao.StudentDAO;
+import com.studentmanagement.dao.impl.RetryExecutor.Retry;
+import com.studentmanagement.model.BatchInsertResult;
+import com.studentmanagement.model.FuzzyMatch;
+import com.studentmanagement.model.Page;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.model.StudentRecord;
+import com.studentmanagement.exception.StudentManagementException;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Retries student queries that failed with a transient database error and
+ * fails fast while the circuit breaker is open; see RetryExecutor.
+ * Inserts and deletes are retried only if they certainly did not happen.
+ * Batch inserts and row handlers are not retried, since part of the work
+ * may already be done, and streams are passed through unguarded because
+ * their query runs lazily.
+ */
+public class RetryingStudentDAO extends ForwardingStudentDAO {
+
+    private final RetryExecutor retry;
+
+    public RetryingStudentDAO(StudentDAO delegate, RetryExecutor retry) {
+        super(delegate);
+        this.retry = retry;
+    }
+
+    @Override
+    public int addStudent(Student student) throws StudentManagementException {
+        return retry.call("addStudent", Retry.IF_NOT_APPLIED, () -> delegate.addStudent(student));
+    }
+
+    @Override
+    public BatchInsertResult addStudents(List<Student> students) throws StudentManagementException {
+        return retry.call("addStudents", Retry.NEVER, () -> delegate.addStudents(students));
+    }
+
+    @Override
+    public Student getStudentById(int studentId) throws StudentManagementException {
+        return retry.call("getStudentById", Retry.ALWAYS, () -> delegate.getStudentById(studentId));
+    }
+
+    @Override
+    public Student getStudentByEmail(String email) throws StudentManagementException {
+        return retry.call("getStudentByEmail", Retry.ALWAYS, () -> delegate.getStudentByEmail(email));
+    }
+
+    @Override
+    public List<Student> getAllStudents() throws StudentManagementException {
+        return retry.call("getAllStudents", Retry.ALWAYS, () -> delegate.getAllStudents());
+    }
+
+    @Override
+    public Page<Student> getStudentsPage(String cursor, int pageSize, boolean includeTotalEstimate)
+            throws StudentManagementException {
+        return retry.call("getStudentsPage", Retry.ALWAYS,
+                () -> delegate.getStudentsPage(cursor, pageSize, includeTotalEstimate));
+    }
+
+    @Override
+    public long forEachStudent(RowHandler<Student> handler, boolean reuseInstance) throws StudentManagementException {
+        return retry.call("forEachStudent", Retry.NEVER, () -> delegate.forEachStudent(handler, reuseInstance));
+    }
+
+    @Override
+    public List<StudentRecord> getAllStudentRecords(boolean emailAsUtf8) throws StudentManagementException {
+        return retry.call("getAllStudentRecords", Retry.ALWAYS, () -> delegate.getAllStudentRecords(emailAsUtf8));
+    }
+
+    @Override
+    public long forEachStudentRecord(RowHandler<StudentRecord> handler, boolean emailAsUtf8)
+            throws StudentManagementException {
+        return retry.call("forEachStudentRecord", Retry.NEVER,
+                () -> delegate.forEachStudentRecord(handler, emailAsUtf8));
+    }
+
+    @Override
+    public boolean updateStudent(Student student) throws StudentManagementException {
+        return retry.call("updateStudent", Retry.ALWAYS, () -> delegate.updateStudent(student));
+    }
+
+    @Override
+    public boolean deleteStudent(int studentId) throws StudentManagementException {
+        return retry.call("deleteStudent", Retry.IF_NOT_APPLIED, () -> delegate.deleteStudent(studentId));
+    }
+
+    @Override
+    public List<Student> searchStudentsByName(String namePattern) throws StudentManagementException {
+        return retry.call("searchStudentsByName", Retry.ALWAYS, () -> delegate.searchStudentsByName(namePattern));
+    }
+
+    @Override
+    public List<Student> searchStudentsByName(String namePattern, int limit) throws StudentManagementException {
+        return retry.call("searchStudentsByName", Retry.ALWAYS,
+                () -> delegate.searchStudentsByName(namePattern, limit));
+    }
+
+    @Override
+    public List<Student> searchStudentsByNamePrefix(String prefix, int limit) throws StudentManagementException {
+        return retry.call("searchStudentsByNamePrefix", Retry.ALWAYS,
+                () -> delegate.searchStudentsByNamePrefix(prefix, limit));
+    }
+
+    @Override
+    public List<FuzzyMatch> fuzzySearchStudents(String query, int maxEditDistance, int limit)
+            throws StudentManagementException {
+        return retry.call("fuzzySearchStudents", Retry.ALWAYS,
+                () -> delegate.fuzzySearchStudents(query, maxEditDistance, limit));
+    }
+
+    @Override
+    public List<Student> getStudentsByIds(Collection<Integer> studentIds) throws StudentManagementException {
+        return retry.call("getStudentsByIds", Retry.ALWAYS, () -> delegate.getStudentsByIds(studentIds));
+    }
+
+    @Override
+    public List<Student> getStudentsByCourse(int courseId) throws StudentManagementException {
+        return retry.call("getStudentsByCourse", Retry.ALWAYS, () -> delegate.getStudentsByCourse(courseId));
+    }
+
+    @Override
+    public List<Student> getStudentsByCourseName(String courseName) throws StudentManagementException {
+        return retry.call("getStudentsByCourseName", Retry.ALWAYS, () -> delegate.getStudentsByCourseName(courseName));
+    }
+
+    @Override
+    public List<Student> getStudentsByAgeRange(int minAge, int maxAge) throws StudentManagementException {
+        return retry.call("getStudentsByAgeRange", Retry.ALWAYS, () -> delegate.getStudentsByAgeRange(minAge, maxAge));
+    }
+
+    @Override
+    public Page<Student> getStudentsByCourse(int courseId, int minAge, int maxAge, String namePattern,
+            String cursor, int pageSize)
+            throws StudentManagementException {
+        return retry.call("getStudentsByCoursePage", Retry.ALWAYS,
+                () -> delegate.getStudentsByCourse(courseId, minAge, maxAge, namePattern, cursor, pageSize));
+    }
+
+    @Override
+    public Page<Student> getStudentsByAgeRange(int minAge, int maxAge, String namePattern, String cursor, int pageSize)
+            throws StudentManagementException {
+        return retry.call("getStudentsByAgeRangePage", Retry.ALWAYS,
+                () -> delegate.getStudentsByAgeRange(minAge, maxAge, namePattern, cursor, pageSize));
+    }
+
+    @Override
+    public boolean studentExists(int studentId) throws StudentManagementException {
+        return retry.call("studentExists", Retry.ALWAYS, () -> delegate.studentExists(studentId));
+    }
+
+    @Override
+    public boolean isEmailTaken(String email, int excludeStudentId) throws StudentManagementException {
+        return retry.call("isEmailTaken", Retry.ALWAYS, () -> delegate.isEmailTaken(email, excludeStudentId));
+    }
+
+    @Override
+    public Set<String> findTakenEmails(Collection<String> emails) throws StudentManagementException {
+        return retry.call("findTakenEmails", Retry.ALWAYS, () -> delegate.findTakenEmails(emails));
+    }
+}
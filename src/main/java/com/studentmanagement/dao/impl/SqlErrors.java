@@ -0,0 +1,133 @@
+package com.studentmanagement.dao.impl;
+
+import com.studentmanagement.exception.DatabaseException;
+import com.studentmanagement.exception.TransientDatabaseException;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.SQLTransientException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Classifies SQLExceptions: transient failures the caller may retry, and
+ * constraint details read out of MySQL error messages.
+ */
+final class SqlErrors {
+    static final int ER_DUP_ENTRY = 1062;
+    static final int ER_NO_REFERENCED_ROW = 1452;
+    static final int ER_CHECK_CONSTRAINT_VIOLATED = 3819;
+
+    // The transaction was rolled back (deadlock) or the statement was (lock wait timeout)
+    static final int ER_LOCK_DEADLOCK = 1213;
+    static final int ER_LOCK_WAIT_TIMEOUT = 1205;
+
+    // SQLState class for connection exceptions, e.g. 08S01 communications link failure
+    private static final String CONNECTION_STATE_CLASS = "08";
+    // The connection was never established or was refused, so nothing was sent
+    private static final String UNABLE_TO_CONNECT = "08001";
+    private static final String CONNECTION_REJECTED = "08004";
+
+    // Duplicate entry 'a@b.com' for key 'students.email'
+    private static final Pattern DUPLICATE_KEY = Pattern.compile("for key '([^']+)'");
+    // ... a foreign key constraint fails (`db`.`students`, CONSTRAINT `students_ibfk_1` FOREIGN KEY ...
+    private static final Pattern FOREIGN_KEY = Pattern.compile("CONSTRAINT `([^`]+)`");
+    // Check constraint 'students_chk_1' is violated.
+    private static final Pattern CHECK = Pattern.compile("Check constraint '([^']+)'");
+
+    private SqlErrors() {
+    }
+
+    /**
+     * Wrap a failure in TransientDatabaseException if it may succeed when
+     * repeated, otherwise in DatabaseException
+     */
+    static DatabaseException translate(String message, SQLException e) {
+        if (isTransient(e)) {
+            return new TransientDatabaseException(message, e, true);
+        }
+        return new DatabaseException(message, e);
+    }
+
+    /**
+     * @return true for deadlocks, lock wait timeouts, lost connections and pool timeouts
+     */
+    static boolean isTransient(SQLException e) {
+        if (e instanceof SQLNonTransientConnectionException) {
+            // e.g. the pool has been shut down; retrying cannot help
+            return false;
+        }
+        if (e instanceof SQLTransientException || e instanceof SQLRecoverableException) {
+            return true;
+        }
+        int code = e.getErrorCode();
+        if (code == ER_LOCK_DEADLOCK || code == ER_LOCK_WAIT_TIMEOUT) {
+            return true;
+        }
+        String state = e.getSQLState();
+        return state != null && state.startsWith(CONNECTION_STATE_CLASS);
+    }
+
+    /**
+     * @return true if the driver could not reach the database or lost the
+     *         connection, as opposed to the server answering with an error.
+     *         Timing out while waiting for a pooled connection is not one.
+     */
+    static boolean isConnectionFailure(SQLException e) {
+        if (e instanceof SQLRecoverableException) {
+            return true;
+        }
+        String state = e.getSQLState();
+        return state != null && state.startsWith(CONNECTION_STATE_CLASS);
+    }
+
+    /**
+     * @return true if the call never got a connection from the pool (timeout or
+     *         interrupt while waiting), so it says nothing about the database
+     */
+    static boolean isPoolAcquireFailure(SQLException e) {
+        return e instanceof SQLTransientConnectionException && !isConnectionFailure(e);
+    }
+
+    /**
+     * @return true if the failed operation is known to have left no trace:
+     *         its transaction was rolled back (deadlock, lock wait timeout) or
+     *         it never got a connection. A connection lost mid-statement is not
+     *         included, because the server may have committed before it went.
+     */
+    static boolean wasNotApplied(SQLException e) {
+        int code = e.getErrorCode();
+        if (code == ER_LOCK_DEADLOCK || code == ER_LOCK_WAIT_TIMEOUT) {
+            return true;
+        }
+        if (e instanceof SQLTransientConnectionException) {
+            return true;
+        }
+        String state = e.getSQLState();
+        return UNABLE_TO_CONNECT.equals(state) || CONNECTION_REJECTED.equals(state);
+    }
+
+    /**
+     * @return name of the violated index or constraint, or null if the message does not say
+     */
+    static String constraintName(SQLException e) {
+        Pattern pattern;
+        switch (e.getErrorCode()) {
+            case ER_DUP_ENTRY:
+                pattern = DUPLICATE_KEY;
+                break;
+            case ER_NO_REFERENCED_ROW:
+                pattern = FOREIGN_KEY;
+                break;
+            case ER_CHECK_CONSTRAINT_VIOLATED:
+                pattern = CHECK;
+                break;
+            default:
+                return null;
+        }
+        Matcher matcher = pattern.matcher(String.valueOf(e.getMessage()));
+        return matcher.find() ? matcher.group(1) : null;
+    }
+}
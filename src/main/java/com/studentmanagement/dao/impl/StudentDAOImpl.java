@@ -1,22 +1,67 @@
 package com.studentmanagement.dao.impl;
 
+import com.studentmanagement.dao.FullTextMode;
+import com.studentmanagement.dao.RowHandler;
 import com.studentmanagement.dao.StudentDAO;
+import com.studentmanagement.model.BatchInsertResult;
+import com.studentmanagement.model.CourseDictionary;
+import com.studentmanagement.model.FuzzyMatch;
+import com.studentmanagement.model.Page;
 import com.studentmanagement.model.Student;
+import com.studentmanagement.model.StudentRecord;
+import com.studentmanagement.exception.CheckConstraintViolationException;
+import com.studentmanagement.exception.DuplicateEntryException;
+import com.studentmanagement.exception.ForeignKeyViolationException;
 import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.exception.UncheckedStudentManagementException;
+import com.studentmanagement.exception.ValidationException;
+import com.studentmanagement.util.ConnectionPool;
 import com.studentmanagement.util.DatabaseConnection;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * Implementation of StudentDAO interface using JDBC with JOIN operations
+ * Implementation of StudentDAO interface using JDBC with JOIN operations.
+ * List and search queries read from a replica when one is available; writes,
+ * single-row lookups and the existence/uniqueness checks that guard writes use the primary.
+ * Name searches use the FULLTEXT indexes from init_db.sql unless the mode is OFF,
+ * and fall back to LIKE when the indexes are missing.
+ * Every insert, update and delete adjusts course_stats and age_stats in the same transaction.
+ * Single inserts and updates call the procedures from student_procedures.sql,
+ * one round trip each, and use a JDBC transaction when they are not installed.
+ * Course, email and age are not checked beforehand: the foreign key, unique
+ * index and CHECK constraint reject bad rows and the errors are mapped to
+ * ConstraintViolationException subtypes.
+ * Compact StudentRecords share course names through one CourseDictionary per DAO.
  */
 public class StudentDAOImpl implements StudentDAO {
+    private static final Logger LOG = LoggerFactory.getLogger(StudentDAOImpl.class);
 
     private static final String INSERT_STUDENT = 
         "INSERT INTO students (name, age, email, course_id) VALUES (?, ?, ?, ?)";
     
+    // Insert or update plus the stats changes in one server-side transaction
+    private static final String CALL_ADD_STUDENT = "CALL add_student(?, ?, ?, ?)";
+    private static final String CALL_UPDATE_STUDENT = "CALL update_student(?, ?, ?, ?, ?)";
+    
     private static final String SELECT_STUDENT_BY_ID = 
         "SELECT s.student_id, s.name, s.age, s.email, s.course_id, c.course_name, " +
         "s.created_at, s.updated_at FROM students s " +
@@ -32,18 +77,78 @@ public class StudentDAOImpl implements StudentDAO {
         "s.created_at, s.updated_at FROM students s " +
         "LEFT JOIN courses c ON s.course_id = c.course_id ORDER BY s.name";
     
+    // Primary key order needs no filesort, so rows start flowing immediately
+    private static final String SCAN_ALL_STUDENTS = 
+        "SELECT s.student_id, s.name, s.age, s.email, s.course_id, c.course_name, " +
+        "s.created_at, s.updated_at FROM students s " +
+        "LEFT JOIN courses c ON s.course_id = c.course_id ORDER BY s.student_id";
+    
+    private static final int NON_MYSQL_FETCH_SIZE = 1000;
+    
+    private static final String SELECT_STUDENTS_FIRST_PAGE = 
+        "SELECT s.student_id, s.name, s.age, s.email, s.course_id, c.course_name, " +
+        "s.created_at, s.updated_at FROM students s " +
+        "LEFT JOIN courses c ON s.course_id = c.course_id " +
+        "ORDER BY s.name, s.student_id LIMIT ?";
+    
+    // idx_student_name also holds the primary key, so this is a range scan that starts at the cursor
+    private static final String SELECT_STUDENTS_PAGE_AFTER = 
+        "SELECT s.student_id, s.name, s.age, s.email, s.course_id, c.course_name, " +
+        "s.created_at, s.updated_at FROM students s " +
+        "LEFT JOIN courses c ON s.course_id = c.course_id " +
+        "WHERE s.name >= ? AND (s.name > ? OR s.student_id > ?) " +
+        "ORDER BY s.name, s.student_id LIMIT ?";
+    
+    private static final String ESTIMATE_STUDENT_COUNT = 
+        "SELECT TABLE_ROWS FROM information_schema.TABLES " +
+        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'students'";
+    
+    private static final int MAX_PAGE_SIZE = 1000;
+    
     private static final String UPDATE_STUDENT = 
         "UPDATE students SET name = ?, age = ?, email = ?, course_id = ? WHERE student_id = ?";
     
     private static final String DELETE_STUDENT = 
         "DELETE FROM students WHERE student_id = ?";
     
+    // Locks the row so its old course and age stay valid until the stats are adjusted
+    private static final String SELECT_STUDENT_STATS_FOR_UPDATE = 
+        "SELECT course_id, age FROM students WHERE student_id = ? FOR UPDATE";
+    
     private static final String SEARCH_STUDENTS_BY_NAME = 
         "SELECT s.student_id, s.name, s.age, s.email, s.course_id, c.course_name, " +
         "s.created_at, s.updated_at FROM students s " +
         "LEFT JOIN courses c ON s.course_id = c.course_id " +
         "WHERE s.name LIKE ? ORDER BY s.name";
     
+    private static final String SEARCH_STUDENTS_BY_NAME_RANKED = 
+        "SELECT s.student_id, s.name, s.age, s.email, s.course_id, c.course_name, " +
+        "s.created_at, s.updated_at FROM students s " +
+        "LEFT JOIN courses c ON s.course_id = c.course_id " +
+        "WHERE s.name LIKE ? " +
+        "ORDER BY CASE WHEN s.name = ? THEN 0 WHEN s.name LIKE ? THEN 1 ELSE 2 END, CHAR_LENGTH(s.name), s.name " +
+        "LIMIT ?";
+    
+    private static final String SEARCH_STUDENTS_BY_NAME_FULLTEXT = 
+        "SELECT s.student_id, s.name, s.age, s.email, s.course_id, c.course_name, " +
+        "s.created_at, s.updated_at FROM students s " +
+        "LEFT JOIN courses c ON s.course_id = c.course_id " +
+        "WHERE MATCH(s.name) AGAINST (? %1$s) " +
+        "ORDER BY MATCH(s.name) AGAINST (? %1$s) DESC, CHAR_LENGTH(s.name), s.name " +
+        "LIMIT ?";
+    
+    private static final String SEARCH_STUDENTS_BY_NAME_PREFIX = 
+        "SELECT s.student_id, s.name, s.age, s.email, s.course_id, c.course_name, " +
+        "s.created_at, s.updated_at FROM students s " +
+        "LEFT JOIN courses c ON s.course_id = c.course_id " +
+        "WHERE s.name LIKE ? OR s.name LIKE ? ORDER BY s.name LIMIT ?";
+    
+    private static final String SELECT_STUDENTS_BY_IDS_PREFIX = 
+        "SELECT s.student_id, s.name, s.age, s.email, s.course_id, c.course_name, " +
+        "s.created_at, s.updated_at FROM students s " +
+        "LEFT JOIN courses c ON s.course_id = c.course_id " +
+        "WHERE s.student_id IN (";
+    
     private static final String SELECT_STUDENTS_BY_COURSE_ID = 
         "SELECT s.student_id, s.name, s.age, s.email, s.course_id, c.course_name, " +
         "s.created_at, s.updated_at FROM students s " +
@@ -56,48 +161,334 @@ public class StudentDAOImpl implements StudentDAO {
         "LEFT JOIN courses c ON s.course_id = c.course_id " +
         "WHERE c.course_name LIKE ? ORDER BY s.name";
     
+    // Relevance only picks the courses; students of all matching courses are listed by name
+    private static final String SELECT_STUDENTS_BY_COURSE_NAME_FULLTEXT = 
+        "SELECT s.student_id, s.name, s.age, s.email, s.course_id, c.course_name, " +
+        "s.created_at, s.updated_at FROM students s " +
+        "JOIN courses c ON s.course_id = c.course_id " +
+        "WHERE MATCH(c.course_name) AGAINST (? %1$s) ORDER BY s.name";
+    
     private static final String SELECT_STUDENTS_BY_AGE_RANGE = 
         "SELECT s.student_id, s.name, s.age, s.email, s.course_id, c.course_name, " +
         "s.created_at, s.updated_at FROM students s " +
         "LEFT JOIN courses c ON s.course_id = c.course_id " +
         "WHERE s.age BETWEEN ? AND ? ORDER BY s.age, s.name";
     
+    // The course_id index also holds the primary key, so this is a range scan that starts at the cursor
+    private static final String SELECT_STUDENTS_BY_COURSE_PAGE = 
+        "SELECT s.student_id, s.name, s.age, s.email, s.course_id, c.course_name, " +
+        "s.created_at, s.updated_at FROM students s " +
+        "LEFT JOIN courses c ON s.course_id = c.course_id " +
+        "WHERE s.course_id = ? AND s.student_id > ? AND s.age BETWEEN ? AND ? " +
+        "AND (? IS NULL OR s.name LIKE ?) " +
+        "ORDER BY s.student_id LIMIT ?";
+    
+    // Range scan on idx_student_age (age, student_id) from the cursor; the first page starts at (minAge, 0)
+    private static final String SELECT_STUDENTS_BY_AGE_RANGE_PAGE = 
+        "SELECT s.student_id, s.name, s.age, s.email, s.course_id, c.course_name, " +
+        "s.created_at, s.updated_at FROM students s " +
+        "LEFT JOIN courses c ON s.course_id = c.course_id " +
+        "WHERE s.age >= ? AND s.age <= ? AND (s.age > ? OR s.student_id > ?) " +
+        "AND (? IS NULL OR s.name LIKE ?) " +
+        "ORDER BY s.age, s.student_id LIMIT ?";
+    
     private static final String CHECK_STUDENT_EXISTS = 
         "SELECT COUNT(*) FROM students WHERE student_id = ?";
     
     private static final String CHECK_EMAIL_TAKEN = 
         "SELECT COUNT(*) FROM students WHERE email = ? AND student_id != ?";
+    
+    private static final String SELECT_TAKEN_EMAILS_PREFIX = 
+        "SELECT email FROM students WHERE email IN (";
+    
+    // Rows per executeBatch/commit; with rewriteBatchedStatements=true each chunk is one multi-row INSERT
+    private static final int BATCH_CHUNK_SIZE = 1000;
+    
+    private static final int MAX_IN_LIST_SIZE = 1000;
+    
+    private static final int ER_SP_DOES_NOT_EXIST = 1305;
+    
+    // Shared, stackless instances: validateStudent runs for every row of a batch insert
+    private static final ValidationException NULL_STUDENT = new ValidationException("Student cannot be null");
+    private static final ValidationException NAME_REQUIRED =
+            new ValidationException("Student name cannot be null or empty");
+    private static final ValidationException AGE_OUT_OF_RANGE =
+            new ValidationException("Student age must be between 16 and 100");
+    private static final ValidationException EMAIL_REQUIRED =
+            new ValidationException("Student email cannot be null or empty");
+    private static final ValidationException INVALID_EMAIL = new ValidationException("Invalid email format");
+    private static final ValidationException INVALID_COURSE_ID = new ValidationException("Invalid course ID");
+    private static final ValidationException INVALID_CURSOR = new ValidationException("Invalid page cursor");
+    private static final ValidationException INVALID_AGE_RANGE = new ValidationException("Invalid age range");
+
+    private final FullTextSearch nameSearch;
+    private final FullTextSearch courseNameSearch;
+    private final AtomicBoolean writeProcedures = new AtomicBoolean(true);
+    private final CourseDictionary courseNames = new CourseDictionary();
+
+    /**
+     * Create a DAO using the full-text mode from the database configuration
+     */
+    public StudentDAOImpl() {
+        this(FullTextMode.fromString(DatabaseConnection.getConfig().getFullTextMode()),
+                DatabaseConnection.getConfig().isStudentWriteProceduresEnabled());
+    }
+
+    public StudentDAOImpl(FullTextMode fullTextMode) {
+        this(fullTextMode, true);
+    }
+
+    /**
+     * @param writeProcedures false to write through JDBC transactions without trying the stored procedures
+     */
+    public StudentDAOImpl(FullTextMode fullTextMode, boolean writeProcedures) {
+        this.nameSearch = new FullTextSearch(fullTextMode, "students(name)");
+        this.courseNameSearch = new FullTextSearch(fullTextMode, "courses(course_name)");
+        this.writeProcedures.set(writeProcedures);
+    }
 
     @Override
     public int addStudent(Student student) throws StudentManagementException {
         validateStudent(student);
 
+        try (Connection connection = DatabaseConnection.getConnection()) {
+            if (writeProcedures.get()) {
+                try (PreparedStatement statement = connection.prepareStatement(CALL_ADD_STUDENT)) {
+                    bindStudent(statement, student);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        if (!resultSet.next()) {
+                            throw new StudentManagementException("Failed to get generated student ID");
+                        }
+                        return resultSet.getInt(1);
+                    }
+                } catch (SQLException e) {
+                    if (!procedureMissing(e)) {
+                        throw e;
+                    }
+                }
+            }
+            return insertStudent(connection, student);
+        } catch (SQLException e) {
+            throw translateWriteFailure(e, student, "Email address is already in use", "adding student");
+        }
+    }
+
+    private static int insertStudent(Connection connection, Student student)
+            throws SQLException, StudentManagementException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_STUDENT, Statement.RETURN_GENERATED_KEYS)) {
+            connection.setAutoCommit(false);
+            try {
+                bindStudent(statement, student);
+                
+                int rowsAffected = statement.executeUpdate();
+                if (rowsAffected == 0) {
+                    throw new StudentManagementException("Failed to add student");
+                }
+                
+                int studentId;
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    if (!generatedKeys.next()) {
+                        throw new StudentManagementException("Failed to get generated student ID");
+                    }
+                    studentId = generatedKeys.getInt(1);
+                }
+                
+                EnrollmentStatsDelta stats = new EnrollmentStatsDelta();
+                stats.add(student.getCourseId(), student.getAge());
+                stats.apply(connection);
+                connection.commit();
+                return studentId;
+            } catch (SQLException | StudentManagementException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * @return true if the write procedures are not installed; warns once and stops calling them
+     */
+    boolean procedureMissing(SQLException e) {
+        if (e.getErrorCode() != ER_SP_DOES_NOT_EXIST) {
+            return false;
+        }
+        if (writeProcedures.compareAndSet(true, false)) {
+            LOG.warn("Student write procedures are missing, run database/student_procedures.sql: {}",
+                    e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * Map a constraint the write broke to the matching exception
+     * @param duplicateMessage message for a clash on the unique email index
+     */
+    static StudentManagementException translateWriteFailure(SQLException e, Student student,
+                                                             String duplicateMessage, String action) {
+        String constraint = SqlErrors.constraintName(e);
+        switch (e.getErrorCode()) {
+            case SqlErrors.ER_DUP_ENTRY:
+                return new DuplicateEntryException(duplicateMessage, constraint, e);
+            case SqlErrors.ER_NO_REFERENCED_ROW:
+                return new ForeignKeyViolationException(
+                        "Course with ID " + student.getCourseId() + " does not exist", constraint, e);
+            case SqlErrors.ER_CHECK_CONSTRAINT_VIOLATED:
+                return new CheckConstraintViolationException(
+                        "Student age must be between 16 and 100", constraint, e);
+            default:
+                return SqlErrors.translate("Database error while " + action, e);
+        }
+    }
+
+    @Override
+    public BatchInsertResult addStudents(List<Student> students) throws StudentManagementException {
+        BatchInsertResult result = new BatchInsertResult(students.size());
+        
+        List<Integer> validRows = new ArrayList<>(students.size());
+        for (int i = 0; i < students.size(); i++) {
+            try {
+                validateStudent(students.get(i));
+                validRows.add(i);
+            } catch (StudentManagementException e) {
+                result.addError(i, e.getMessage());
+            }
+        }
+        
+        if (validRows.isEmpty()) {
+            return result;
+        }
+        
         try (Connection connection = DatabaseConnection.getConnection();
              PreparedStatement statement = connection.prepareStatement(INSERT_STUDENT, Statement.RETURN_GENERATED_KEYS)) {
             
-            statement.setString(1, student.getName().trim());
-            statement.setInt(2, student.getAge());
-            statement.setString(3, student.getEmail().trim().toLowerCase());
-            statement.setInt(4, student.getCourseId());
-            
-            int rowsAffected = statement.executeUpdate();
-            if (rowsAffected == 0) {
-                throw new StudentManagementException("Failed to add student");
+            connection.setAutoCommit(false);
+            try {
+                for (int from = 0; from < validRows.size(); from += BATCH_CHUNK_SIZE) {
+                    List<Integer> chunk = validRows.subList(from, Math.min(from + BATCH_CHUNK_SIZE, validRows.size()));
+                    insertChunk(connection, statement, students, chunk, result);
+                }
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw SqlErrors.translate("Database error while adding students", e);
+        }
+        
+        return result;
+    }
+
+    /**
+     * Insert one chunk as a single batch in its own transaction. If the batch
+     * fails, it is rolled back and retried row by row so that only the
+     * offending rows are rejected.
+     */
+    private void insertChunk(Connection connection, PreparedStatement statement, List<Student> students,
+                             List<Integer> chunk, BatchInsertResult result) throws SQLException {
+        int[] generatedIds = new int[chunk.size()];
+        try {
+            for (int index : chunk) {
+                bindStudent(statement, students.get(index));
+                statement.addBatch();
             }
+            statement.executeBatch();
             
             try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    return generatedKeys.getInt(1);
-                } else {
-                    throw new StudentManagementException("Failed to get generated student ID");
+                for (int i = 0; i < chunk.size(); i++) {
+                    if (!generatedKeys.next()) {
+                        throw new SQLException("Driver returned fewer generated keys than inserted rows");
+                    }
+                    generatedIds[i] = generatedKeys.getInt(1);
                 }
             }
+        } catch (BatchUpdateException e) {
+            connection.rollback();
+            statement.clearBatch();
+            insertRowByRow(connection, statement, students, chunk, result);
+            return;
         } catch (SQLException e) {
-            if (e.getMessage().contains("email")) {
-                throw new StudentManagementException("Email already exists");
+            connection.rollback();
+            throw e;
+        }
+        
+        // Outside the try above: a failed stats batch must not trigger the row-by-row retry
+        EnrollmentStatsDelta stats = new EnrollmentStatsDelta();
+        for (int index : chunk) {
+            stats.add(students.get(index).getCourseId(), students.get(index).getAge());
+        }
+        commitWithStats(connection, stats);
+        
+        for (int i = 0; i < chunk.size(); i++) {
+            result.setGeneratedId(chunk.get(i), generatedIds[i]);
+        }
+    }
+
+    private void insertRowByRow(Connection connection, PreparedStatement statement, List<Student> students,
+                                List<Integer> chunk, BatchInsertResult result) throws SQLException {
+        int[] generatedIds = new int[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            int index = chunk.get(i);
+            try {
+                bindStudent(statement, students.get(index));
+                statement.executeUpdate();
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        generatedIds[i] = generatedKeys.getInt(1);
+                    }
+                }
+            } catch (SQLException e) {
+                result.addError(index, describeInsertFailure(e));
+            }
+        }
+        
+        EnrollmentStatsDelta stats = new EnrollmentStatsDelta();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (generatedIds[i] > 0) {
+                Student student = students.get(chunk.get(i));
+                stats.add(student.getCourseId(), student.getAge());
             }
-            throw new StudentManagementException("Database error while adding student", e);
         }
+        commitWithStats(connection, stats);
+        
+        for (int i = 0; i < chunk.size(); i++) {
+            if (generatedIds[i] > 0) {
+                result.setGeneratedId(chunk.get(i), generatedIds[i]);
+            }
+        }
+    }
+
+    /**
+     * Apply the stats changes and commit, or roll everything back
+     */
+    private static void commitWithStats(Connection connection, EnrollmentStatsDelta stats) throws SQLException {
+        try {
+            stats.apply(connection);
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        }
+    }
+
+    private static String describeInsertFailure(SQLException e) {
+        switch (e.getErrorCode()) {
+            case SqlErrors.ER_DUP_ENTRY:
+                return "Email already exists";
+            case SqlErrors.ER_NO_REFERENCED_ROW:
+                return "Course does not exist";
+            case SqlErrors.ER_CHECK_CONSTRAINT_VIOLATED:
+                return "Student age must be between 16 and 100";
+            default:
+                return "Database error: " + e.getMessage();
+        }
+    }
+
+    private static void bindStudent(PreparedStatement statement, Student student) throws SQLException {
+        statement.setString(1, student.getName().trim());
+        statement.setInt(2, student.getAge());
+        statement.setString(3, student.getEmail().trim().toLowerCase(Locale.ROOT));
+        statement.setInt(4, student.getCourseId());
     }
 
     @Override
@@ -114,7 +505,7 @@ public class StudentDAOImpl implements StudentDAO {
                 return null;
             }
         } catch (SQLException e) {
-            throw new StudentManagementException("Database error while fetching student by ID", e);
+            throw SqlErrors.translate("Database error while fetching student by ID", e);
         }
     }
 
@@ -123,7 +514,7 @@ public class StudentDAOImpl implements StudentDAO {
         try (Connection connection = DatabaseConnection.getConnection();
              PreparedStatement statement = connection.prepareStatement(SELECT_STUDENT_BY_EMAIL)) {
             
-            statement.setString(1, email.trim().toLowerCase());
+            statement.setString(1, email.trim().toLowerCase(Locale.ROOT));
             
             try (ResultSet resultSet = statement.executeQuery()) {
                 if (resultSet.next()) {
@@ -132,7 +523,7 @@ public class StudentDAOImpl implements StudentDAO {
                 return null;
             }
         } catch (SQLException e) {
-            throw new StudentManagementException("Database error while fetching student by email", e);
+            throw SqlErrors.translate("Database error while fetching student by email", e);
         }
     }
 
@@ -140,7 +531,7 @@ public class StudentDAOImpl implements StudentDAO {
     public List<Student> getAllStudents() throws StudentManagementException {
         List<Student> students = new ArrayList<>();
         
-        try (Connection connection = DatabaseConnection.getConnection();
+        try (Connection connection = DatabaseConnection.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(SELECT_ALL_STUDENTS);
              ResultSet resultSet = statement.executeQuery()) {
             
@@ -148,32 +539,186 @@ public class StudentDAOImpl implements StudentDAO {
                 students.add(mapResultSetToStudent(resultSet));
             }
         } catch (SQLException e) {
-            throw new StudentManagementException("Database error while fetching all students", e);
+            throw SqlErrors.translate("Database error while fetching all students", e);
         }
         
         return students;
     }
 
     @Override
-    public boolean updateStudent(Student student) throws StudentManagementException {
-        validateStudent(student);
+    public long forEachStudent(RowHandler<Student> handler, boolean reuseInstance) throws StudentManagementException {
+        try (Connection connection = DatabaseConnection.getReadConnection();
+             PreparedStatement statement = prepareStreamingStatement(connection, SCAN_ALL_STUDENTS);
+             ResultSet resultSet = statement.executeQuery()) {
+            
+            StudentRowMapper mapper = new StudentRowMapper(resultSet);
+            Student reusable = reuseInstance ? new Student() : null;
+            long count = 0;
+            while (resultSet.next()) {
+                handler.handle(reuseInstance ? mapper.mapInto(resultSet, reusable) : mapper.map(resultSet));
+                count++;
+            }
+            return count;
+        } catch (SQLException e) {
+            throw SqlErrors.translate("Database error while scanning students", e);
+        }
+    }
 
-        try (Connection connection = DatabaseConnection.getConnection();
-             PreparedStatement statement = connection.prepareStatement(UPDATE_STUDENT)) {
+    @Override
+    public List<StudentRecord> getAllStudentRecords(boolean emailAsUtf8) throws StudentManagementException {
+        List<StudentRecord> records = new ArrayList<>();
+        
+        try (Connection connection = DatabaseConnection.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_ALL_STUDENTS);
+             ResultSet resultSet = statement.executeQuery()) {
+            
+            StudentRowMapper mapper = new StudentRowMapper(resultSet);
+            while (resultSet.next()) {
+                records.add(mapper.mapRecord(resultSet, courseNames, emailAsUtf8));
+            }
+        } catch (SQLException e) {
+            throw SqlErrors.translate("Database error while fetching all students", e);
+        }
+        
+        return records;
+    }
+
+    @Override
+    public long forEachStudentRecord(RowHandler<StudentRecord> handler, boolean emailAsUtf8)
+            throws StudentManagementException {
+        try (Connection connection = DatabaseConnection.getReadConnection();
+             PreparedStatement statement = prepareStreamingStatement(connection, SCAN_ALL_STUDENTS);
+             ResultSet resultSet = statement.executeQuery()) {
             
-            statement.setString(1, student.getName().trim());
-            statement.setInt(2, student.getAge());
-            statement.setString(3, student.getEmail().trim().toLowerCase());
-            statement.setInt(4, student.getCourseId());
-            statement.setInt(5, student.getStudentId());
+            StudentRowMapper mapper = new StudentRowMapper(resultSet);
+            long count = 0;
+            while (resultSet.next()) {
+                handler.handle(mapper.mapRecord(resultSet, courseNames, emailAsUtf8));
+                count++;
+            }
+            return count;
+        } catch (SQLException e) {
+            throw SqlErrors.translate("Database error while scanning students", e);
+        }
+    }
+
+    @Override
+    public Stream<Student> streamAllStudents() throws StudentManagementException {
+        Connection connection = null;
+        PreparedStatement statement = null;
+        try {
+            connection = DatabaseConnection.getReadConnection();
+            statement = prepareStreamingStatement(connection, SCAN_ALL_STUDENTS);
+            ResultSet resultSet = statement.executeQuery();
+            return StreamSupport.stream(new StudentSpliterator(resultSet), false)
+                    .onClose(closeAll(resultSet, statement, connection));
+        } catch (SQLException e) {
+            closeAll(null, statement, connection).run();
+            throw SqlErrors.translate("Database error while streaming students", e);
+        }
+    }
+
+    @Override
+    public Page<Student> getStudentsPage(String cursor, int pageSize, boolean includeTotalEstimate) 
+            throws StudentManagementException {
+        if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+            throw new ValidationException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        
+        String[] position = cursor == null ? null : decodeCursor(cursor);
+        List<Student> students = new ArrayList<>(pageSize + 1);
+        long estimatedTotal = Page.TOTAL_UNKNOWN;
+        
+        try (Connection connection = DatabaseConnection.getReadConnection()) {
+            String sql = position == null ? SELECT_STUDENTS_FIRST_PAGE : SELECT_STUDENTS_PAGE_AFTER;
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int index = 1;
+                if (position != null) {
+                    statement.setString(index++, position[1]);
+                    statement.setString(index++, position[1]);
+                    statement.setInt(index++, Integer.parseInt(position[0]));
+                }
+                // One extra row tells us whether another page follows
+                statement.setInt(index, pageSize + 1);
+                
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        students.add(mapResultSetToStudent(resultSet));
+                    }
+                }
+            }
             
-            int rowsAffected = statement.executeUpdate();
-            return rowsAffected > 0;
+            if (includeTotalEstimate) {
+                try (PreparedStatement statement = connection.prepareStatement(ESTIMATE_STUDENT_COUNT);
+                     ResultSet resultSet = statement.executeQuery()) {
+                    if (resultSet.next()) {
+                        estimatedTotal = resultSet.getLong(1);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw SqlErrors.translate("Database error while fetching students page", e);
+        }
+        
+        String nextCursor = null;
+        if (students.size() > pageSize) {
+            students.remove(pageSize);
+            Student last = students.get(pageSize - 1);
+            nextCursor = encodeCursor(last.getStudentId(), last.getName());
+        }
+        
+        return new Page<>(students, nextCursor, estimatedTotal);
+    }
+
+    @Override
+    public boolean updateStudent(Student student) throws StudentManagementException {
+        validateStudent(student);
+
+        try (Connection connection = DatabaseConnection.getConnection()) {
+            if (writeProcedures.get()) {
+                try (PreparedStatement statement = connection.prepareStatement(CALL_UPDATE_STUDENT)) {
+                    bindStudent(statement, student);
+                    statement.setInt(5, student.getStudentId());
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        return resultSet.next() && resultSet.getInt(1) > 0;
+                    }
+                } catch (SQLException e) {
+                    if (!procedureMissing(e)) {
+                        throw e;
+                    }
+                }
+            }
+            return updateStudent(connection, student);
         } catch (SQLException e) {
-            if (e.getMessage().contains("email")) {
-                throw new StudentManagementException("Email already exists");
+            throw translateWriteFailure(e, student, "Email address is already in use by another student",
+                    "updating student");
+        }
+    }
+
+    private static boolean updateStudent(Connection connection, Student student) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(UPDATE_STUDENT)) {
+            connection.setAutoCommit(false);
+            try {
+                EnrollmentStatsDelta stats = new EnrollmentStatsDelta();
+                if (!lockStudentStats(connection, student.getStudentId(), stats)) {
+                    connection.rollback();
+                    return false;
+                }
+                
+                bindStudent(statement, student);
+                statement.setInt(5, student.getStudentId());
+                
+                int rowsAffected = statement.executeUpdate();
+                stats.add(student.getCourseId(), student.getAge());
+                stats.apply(connection);
+                connection.commit();
+                return rowsAffected > 0;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
             }
-            throw new StudentManagementException("Database error while updating student", e);
         }
     }
 
@@ -182,23 +727,108 @@ public class StudentDAOImpl implements StudentDAO {
         try (Connection connection = DatabaseConnection.getConnection();
              PreparedStatement statement = connection.prepareStatement(DELETE_STUDENT)) {
             
+            connection.setAutoCommit(false);
+            try {
+                EnrollmentStatsDelta stats = new EnrollmentStatsDelta();
+                if (!lockStudentStats(connection, studentId, stats)) {
+                    connection.rollback();
+                    return false;
+                }
+                
+                statement.setInt(1, studentId);
+                
+                int rowsAffected = statement.executeUpdate();
+                stats.apply(connection);
+                connection.commit();
+                return rowsAffected > 0;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw SqlErrors.translate("Database error while deleting student", e);
+        }
+    }
+
+    /**
+     * Lock a student row and record the removal of its current course and age from the stats
+     * @return false if the student does not exist
+     */
+    private static boolean lockStudentStats(Connection connection, int studentId, EnrollmentStatsDelta stats)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_STUDENT_STATS_FOR_UPDATE)) {
             statement.setInt(1, studentId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return false;
+                }
+                stats.remove(resultSet.getInt(1), resultSet.getInt(2));
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public List<Student> searchStudentsByName(String namePattern) throws StudentManagementException {
+        List<Student> students = new ArrayList<>();
+        
+        try (Connection connection = DatabaseConnection.getReadConnection()) {
+            if (searchNamesFullText(connection, namePattern, Integer.MAX_VALUE, students)) {
+                return students;
+            }
             
-            int rowsAffected = statement.executeUpdate();
-            return rowsAffected > 0;
+            try (PreparedStatement statement = connection.prepareStatement(SEARCH_STUDENTS_BY_NAME)) {
+                statement.setString(1, "%" + namePattern + "%");
+                readStudents(statement, students);
+            }
         } catch (SQLException e) {
-            throw new StudentManagementException("Database error while deleting student", e);
+            throw SqlErrors.translate("Database error while searching students by name", e);
         }
+        
+        return students;
     }
 
     @Override
-    public List<Student> searchStudentsByName(String namePattern) throws StudentManagementException {
+    public List<Student> searchStudentsByName(String namePattern, int limit) throws StudentManagementException {
         List<Student> students = new ArrayList<>();
+        if (limit <= 0) {
+            return students;
+        }
         
-        try (Connection connection = DatabaseConnection.getConnection();
-             PreparedStatement statement = connection.prepareStatement(SEARCH_STUDENTS_BY_NAME)) {
+        try (Connection connection = DatabaseConnection.getReadConnection()) {
+            if (searchNamesFullText(connection, namePattern, limit, students)) {
+                return students;
+            }
             
-            statement.setString(1, "%" + namePattern + "%");
+            try (PreparedStatement statement = connection.prepareStatement(SEARCH_STUDENTS_BY_NAME_RANKED)) {
+                statement.setString(1, "%" + namePattern + "%");
+                statement.setString(2, namePattern);
+                statement.setString(3, namePattern + "%");
+                statement.setInt(4, limit);
+                readStudents(statement, students);
+            }
+        } catch (SQLException e) {
+            throw SqlErrors.translate("Database error while searching students by name", e);
+        }
+        
+        return students;
+    }
+
+    @Override
+    public List<Student> searchStudentsByNamePrefix(String prefix, int limit) throws StudentManagementException {
+        List<Student> students = new ArrayList<>();
+        if (limit <= 0) {
+            return students;
+        }
+        
+        try (Connection connection = DatabaseConnection.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement(SEARCH_STUDENTS_BY_NAME_PREFIX)) {
+            
+            statement.setString(1, prefix + "%");
+            statement.setString(2, "% " + prefix + "%");
+            statement.setInt(3, limit);
             
             try (ResultSet resultSet = statement.executeQuery()) {
                 while (resultSet.next()) {
@@ -206,7 +836,65 @@ public class StudentDAOImpl implements StudentDAO {
                 }
             }
         } catch (SQLException e) {
-            throw new StudentManagementException("Database error while searching students by name", e);
+            throw SqlErrors.translate("Database error while searching students by name prefix", e);
+        }
+        
+        return students;
+    }
+
+    /**
+     * Without an in-memory index only exact substring matches can be found
+     * cheaply, so every match is reported with distance 0. Email queries
+     * look up the exact address.
+     */
+    @Override
+    public List<FuzzyMatch> fuzzySearchStudents(String query, int maxEditDistance, int limit)
+            throws StudentManagementException {
+        List<FuzzyMatch> matches = new ArrayList<>();
+        if (query.indexOf('@') >= 0) {
+            Student student = getStudentByEmail(query);
+            if (student != null && limit > 0) {
+                matches.add(new FuzzyMatch(student, 0, 1.0));
+            }
+            return matches;
+        }
+        for (Student student : searchStudentsByName(query, limit)) {
+            matches.add(new FuzzyMatch(student, 0, 1.0));
+        }
+        return matches;
+    }
+
+    @Override
+    public List<Student> getStudentsByIds(Collection<Integer> studentIds) throws StudentManagementException {
+        if (studentIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        List<Integer> ids = new ArrayList<>(new HashSet<>(studentIds));
+        List<Student> students = new ArrayList<>(ids.size());
+        
+        try (Connection connection = DatabaseConnection.getReadConnection()) {
+            StudentRowMapper mapper = null;
+            for (int from = 0; from < ids.size(); from += MAX_IN_LIST_SIZE) {
+                List<Integer> chunk = ids.subList(from, Math.min(from + MAX_IN_LIST_SIZE, ids.size()));
+                String sql = SELECT_STUDENTS_BY_IDS_PREFIX + placeholders(chunk.size()) + ")";
+                
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        statement.setInt(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        if (mapper == null) {
+                            mapper = new StudentRowMapper(resultSet);
+                        }
+                        while (resultSet.next()) {
+                            students.add(mapper.map(resultSet));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw SqlErrors.translate("Database error while fetching students by ID", e);
         }
         
         return students;
@@ -216,7 +904,7 @@ public class StudentDAOImpl implements StudentDAO {
     public List<Student> getStudentsByCourse(int courseId) throws StudentManagementException {
         List<Student> students = new ArrayList<>();
         
-        try (Connection connection = DatabaseConnection.getConnection();
+        try (Connection connection = DatabaseConnection.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(SELECT_STUDENTS_BY_COURSE_ID)) {
             
             statement.setInt(1, courseId);
@@ -227,7 +915,7 @@ public class StudentDAOImpl implements StudentDAO {
                 }
             }
         } catch (SQLException e) {
-            throw new StudentManagementException("Database error while fetching students by course", e);
+            throw SqlErrors.translate("Database error while fetching students by course", e);
         }
         
         return students;
@@ -237,32 +925,74 @@ public class StudentDAOImpl implements StudentDAO {
     public List<Student> getStudentsByCourseName(String courseName) throws StudentManagementException {
         List<Student> students = new ArrayList<>();
         
-        try (Connection connection = DatabaseConnection.getConnection();
-             PreparedStatement statement = connection.prepareStatement(SELECT_STUDENTS_BY_COURSE_NAME)) {
-            
-            statement.setString(1, "%" + courseName + "%");
-            
-            try (ResultSet resultSet = statement.executeQuery()) {
-                while (resultSet.next()) {
-                    students.add(mapResultSetToStudent(resultSet));
+        try (Connection connection = DatabaseConnection.getReadConnection()) {
+            String query = courseNameSearch.toQuery(courseName);
+            if (query != null) {
+                String sql = String.format(SELECT_STUDENTS_BY_COURSE_NAME_FULLTEXT, courseNameSearch.againstModifier());
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    statement.setString(1, query);
+                    readStudents(statement, students);
+                    return students;
+                } catch (SQLException e) {
+                    if (!courseNameSearch.disableIfUnsupported(e)) {
+                        throw e;
+                    }
                 }
             }
+            
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_STUDENTS_BY_COURSE_NAME)) {
+                statement.setString(1, "%" + courseName + "%");
+                readStudents(statement, students);
+            }
         } catch (SQLException e) {
-            throw new StudentManagementException("Database error while fetching students by course name", e);
+            throw SqlErrors.translate("Database error while fetching students by course name", e);
         }
         
         return students;
     }
 
+    /**
+     * Search names with MATCH ... AGAINST, most relevant first
+     * @return false if the caller has to run the LIKE query instead
+     */
+    private boolean searchNamesFullText(Connection connection, String namePattern, int limit,
+                                        List<Student> students) throws SQLException {
+        String query = nameSearch.toQuery(namePattern);
+        if (query == null) {
+            return false;
+        }
+        String sql = String.format(SEARCH_STUDENTS_BY_NAME_FULLTEXT, nameSearch.againstModifier());
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, query);
+            statement.setString(2, query);
+            statement.setInt(3, limit);
+            readStudents(statement, students);
+            return true;
+        } catch (SQLException e) {
+            if (!nameSearch.disableIfUnsupported(e)) {
+                throw e;
+            }
+            return false;
+        }
+    }
+
+    private void readStudents(PreparedStatement statement, List<Student> students) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                students.add(mapResultSetToStudent(resultSet));
+            }
+        }
+    }
+
     @Override
     public List<Student> getStudentsByAgeRange(int minAge, int maxAge) throws StudentManagementException {
         if (minAge < 0 || maxAge < 0 || minAge > maxAge) {
-            throw new StudentManagementException("Invalid age range");
+            throw INVALID_AGE_RANGE;
         }
 
         List<Student> students = new ArrayList<>();
         
-        try (Connection connection = DatabaseConnection.getConnection();
+        try (Connection connection = DatabaseConnection.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(SELECT_STUDENTS_BY_AGE_RANGE)) {
             
             statement.setInt(1, minAge);
@@ -274,12 +1004,104 @@ public class StudentDAOImpl implements StudentDAO {
                 }
             }
         } catch (SQLException e) {
-            throw new StudentManagementException("Database error while fetching students by age range", e);
+            throw SqlErrors.translate("Database error while fetching students by age range", e);
         }
         
         return students;
     }
 
+    @Override
+    public Page<Student> getStudentsByCourse(int courseId, int minAge, int maxAge, String namePattern,
+            String cursor, int pageSize)
+            throws StudentManagementException {
+        if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+            throw new ValidationException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (minAge < 0 || maxAge < 0 || minAge > maxAge) {
+            throw INVALID_AGE_RANGE;
+        }
+        
+        int afterId = cursor == null ? 0 : Integer.parseInt(decodeCursor(cursor)[0]);
+        List<Student> students = new ArrayList<>(pageSize + 1);
+        
+        try (Connection connection = DatabaseConnection.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_STUDENTS_BY_COURSE_PAGE)) {
+            
+            statement.setInt(1, courseId);
+            statement.setInt(2, afterId);
+            statement.setInt(3, minAge);
+            statement.setInt(4, maxAge);
+            setNamePattern(statement, 5, namePattern);
+            statement.setInt(7, pageSize + 1);
+            readStudents(statement, students);
+        } catch (SQLException e) {
+            throw SqlErrors.translate("Database error while fetching students by course", e);
+        }
+        
+        String nextCursor = null;
+        if (students.size() > pageSize) {
+            students.remove(pageSize);
+            nextCursor = encodeCursor(students.get(pageSize - 1).getStudentId(), "");
+        }
+        return new Page<>(students, nextCursor, Page.TOTAL_UNKNOWN);
+    }
+
+    @Override
+    public Page<Student> getStudentsByAgeRange(int minAge, int maxAge, String namePattern, String cursor, int pageSize)
+            throws StudentManagementException {
+        if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+            throw new ValidationException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (minAge < 0 || maxAge < 0 || minAge > maxAge) {
+            throw INVALID_AGE_RANGE;
+        }
+        
+        int afterAge = minAge;
+        int afterId = 0;
+        if (cursor != null) {
+            String[] position = decodeCursor(cursor);
+            afterId = Integer.parseInt(position[0]);
+            try {
+                afterAge = Integer.parseInt(position[1]);
+            } catch (NumberFormatException e) {
+                throw INVALID_CURSOR;
+            }
+        }
+        List<Student> students = new ArrayList<>(pageSize + 1);
+        
+        try (Connection connection = DatabaseConnection.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_STUDENTS_BY_AGE_RANGE_PAGE)) {
+            
+            statement.setInt(1, Math.max(minAge, afterAge));
+            statement.setInt(2, maxAge);
+            statement.setInt(3, afterAge);
+            statement.setInt(4, afterId);
+            setNamePattern(statement, 5, namePattern);
+            statement.setInt(7, pageSize + 1);
+            readStudents(statement, students);
+        } catch (SQLException e) {
+            throw SqlErrors.translate("Database error while fetching students by age range", e);
+        }
+        
+        String nextCursor = null;
+        if (students.size() > pageSize) {
+            students.remove(pageSize);
+            Student last = students.get(pageSize - 1);
+            nextCursor = encodeCursor(last.getStudentId(), String.valueOf(last.getAge()));
+        }
+        return new Page<>(students, nextCursor, Page.TOTAL_UNKNOWN);
+    }
+
+    /**
+     * Bind the optional "(? IS NULL OR s.name LIKE ?)" filter of the page queries
+     */
+    private static void setNamePattern(PreparedStatement statement, int index, String namePattern)
+            throws SQLException {
+        String like = namePattern == null ? null : "%" + namePattern + "%";
+        statement.setString(index, like);
+        statement.setString(index + 1, like);
+    }
+    
     @Override
     public boolean studentExists(int studentId) throws StudentManagementException {
         try (Connection connection = DatabaseConnection.getConnection();
@@ -294,7 +1116,7 @@ public class StudentDAOImpl implements StudentDAO {
                 return false;
             }
         } catch (SQLException e) {
-            throw new StudentManagementException("Database error while checking student existence", e);
+            throw SqlErrors.translate("Database error while checking student existence", e);
         }
     }
 
@@ -303,7 +1125,7 @@ public class StudentDAOImpl implements StudentDAO {
         try (Connection connection = DatabaseConnection.getConnection();
              PreparedStatement statement = connection.prepareStatement(CHECK_EMAIL_TAKEN)) {
             
-            statement.setString(1, email.trim().toLowerCase());
+            statement.setString(1, email.trim().toLowerCase(Locale.ROOT));
             statement.setInt(2, excludeStudentId);
             
             try (ResultSet resultSet = statement.executeQuery()) {
@@ -313,8 +1135,57 @@ public class StudentDAOImpl implements StudentDAO {
                 return false;
             }
         } catch (SQLException e) {
-            throw new StudentManagementException("Database error while checking email availability", e);
+            throw SqlErrors.translate("Database error while checking email availability", e);
+        }
+    }
+
+    @Override
+    public Set<String> findTakenEmails(Collection<String> emails) throws StudentManagementException {
+        Set<String> normalized = new HashSet<>();
+        for (String email : emails) {
+            if (email != null) {
+                normalized.add(email.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        if (normalized.isEmpty()) {
+            return Collections.emptySet();
+        }
+        
+        List<String> values = new ArrayList<>(normalized);
+        Set<String> taken = new HashSet<>();
+        
+        try (Connection connection = DatabaseConnection.getConnection()) {
+            for (int from = 0; from < values.size(); from += MAX_IN_LIST_SIZE) {
+                List<String> chunk = values.subList(from, Math.min(from + MAX_IN_LIST_SIZE, values.size()));
+                String sql = SELECT_TAKEN_EMAILS_PREFIX + placeholders(chunk.size()) + ")";
+                
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        statement.setString(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            taken.add(resultSet.getString(1).toLowerCase(Locale.ROOT));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw SqlErrors.translate("Database error while checking email availability", e);
+        }
+        
+        return taken;
+    }
+
+    /**
+     * Build a comma-separated list of bind markers
+     */
+    private static String placeholders(int count) {
+        StringBuilder builder = new StringBuilder(count * 2);
+        for (int i = 0; i < count; i++) {
+            builder.append(i == 0 ? "?" : ",?");
         }
+        return builder.toString();
     }
 
     /**
@@ -333,32 +1204,124 @@ public class StudentDAOImpl implements StudentDAO {
         return student;
     }
 
+    /**
+     * Prepare a forward-only statement that streams rows instead of buffering them.
+     * MySQL Connector/J only streams with a fetch size of Integer.MIN_VALUE;
+     * other drivers reject negative fetch sizes and get a bounded one instead.
+     */
+    private PreparedStatement prepareStreamingStatement(Connection connection, String sql) throws SQLException {
+        ConnectionPool.disableLeakDetection(connection);
+        PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        boolean mysql = connection.getMetaData().getURL().startsWith("jdbc:mysql:");
+        statement.setFetchSize(mysql ? Integer.MIN_VALUE : NON_MYSQL_FETCH_SIZE);
+        return statement;
+    }
+
+    /**
+     * Close resources in reverse order of acquisition, ignoring nulls
+     */
+    private static Runnable closeAll(ResultSet resultSet, Statement statement, Connection connection) {
+        return () -> {
+            try {
+                if (resultSet != null) {
+                    resultSet.close();
+                }
+            } catch (SQLException e) {
+                LOG.warn("Error closing result set: {}", e.getMessage());
+            }
+            try {
+                if (statement != null) {
+                    statement.close();
+                }
+            } catch (SQLException e) {
+                LOG.warn("Error closing statement: {}", e.getMessage());
+            }
+            DatabaseConnection.closeConnection(connection);
+        };
+    }
+
+    /**
+     * Spliterator that maps one row per advance from a streaming ResultSet
+     */
+    private static final class StudentSpliterator extends Spliterators.AbstractSpliterator<Student> {
+        private final ResultSet resultSet;
+        private StudentRowMapper mapper;
+
+        StudentSpliterator(ResultSet resultSet) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT);
+            this.resultSet = resultSet;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Student> action) {
+            try {
+                if (!resultSet.next()) {
+                    return false;
+                }
+                if (mapper == null) {
+                    mapper = new StudentRowMapper(resultSet);
+                }
+                action.accept(mapper.map(resultSet));
+                return true;
+            } catch (SQLException e) {
+                throw new UncheckedStudentManagementException(
+                        SqlErrors.translate("Database error while streaming students", e));
+            }
+        }
+    }
+
+    /**
+     * Encode a keyset position as an opaque, URL-safe cursor token
+     */
+    static String encodeCursor(int studentId, String name) {
+        String position = studentId + ":" + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor token into {studentId, name}
+     */
+    static String[] decodeCursor(String cursor) throws StudentManagementException {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.indexOf(':');
+            if (separator <= 0) {
+                throw INVALID_CURSOR;
+            }
+            String studentId = position.substring(0, separator);
+            Integer.parseInt(studentId);
+            return new String[] {studentId, position.substring(separator + 1)};
+        } catch (IllegalArgumentException e) {
+            throw INVALID_CURSOR;
+        }
+    }
+
     /**
      * Validate student data
      */
     private void validateStudent(Student student) throws StudentManagementException {
         if (student == null) {
-            throw new StudentManagementException("Student cannot be null");
+            throw NULL_STUDENT;
         }
         
         if (student.getName() == null || student.getName().trim().isEmpty()) {
-            throw new StudentManagementException("Student name cannot be null or empty");
+            throw NAME_REQUIRED;
         }
         
         if (student.getAge() < 16 || student.getAge() > 100) {
-            throw new StudentManagementException("Student age must be between 16 and 100");
+            throw AGE_OUT_OF_RANGE;
         }
         
         if (student.getEmail() == null || student.getEmail().trim().isEmpty()) {
-            throw new StudentManagementException("Student email cannot be null or empty");
+            throw EMAIL_REQUIRED;
         }
         
         if (!isValidEmail(student.getEmail())) {
-            throw new StudentManagementException("Invalid email format");
+            throw INVALID_EMAIL;
         }
         
         if (student.getCourseId() <= 0) {
-            throw new StudentManagementException("Invalid course ID");
+            throw INVALID_COURSE_ID;
         }
     }
 
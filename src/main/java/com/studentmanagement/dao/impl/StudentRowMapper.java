@@ -0,0 +1,78 @@
+package com.studentmanagement.dao.impl;
+
+import com.studentmanagement.model.CourseDictionary;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.model.StudentRecord;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps rows of the standard student/course JOIN projection to Student objects.
+ * Column positions are resolved once per ResultSet instead of by name on every
+ * row, and mapInto() lets a scan reuse a single Student instance. mapRecord()
+ * maps to the compact StudentRecord instead.
+ */
+public class StudentRowMapper {
+    private final int studentIdColumn;
+    private final int nameColumn;
+    private final int ageColumn;
+    private final int emailColumn;
+    private final int courseIdColumn;
+    private final int courseNameColumn;
+    private final int createdAtColumn;
+    private final int updatedAtColumn;
+
+    public StudentRowMapper(ResultSet resultSet) throws SQLException {
+        this.studentIdColumn = resultSet.findColumn("student_id");
+        this.nameColumn = resultSet.findColumn("name");
+        this.ageColumn = resultSet.findColumn("age");
+        this.emailColumn = resultSet.findColumn("email");
+        this.courseIdColumn = resultSet.findColumn("course_id");
+        this.courseNameColumn = resultSet.findColumn("course_name");
+        this.createdAtColumn = resultSet.findColumn("created_at");
+        this.updatedAtColumn = resultSet.findColumn("updated_at");
+    }
+
+    /**
+     * Map the current row to a new Student
+     */
+    public Student map(ResultSet resultSet) throws SQLException {
+        return mapInto(resultSet, new Student());
+    }
+
+    /**
+     * Overwrite every field of target with the current row
+     * @return target
+     */
+    public Student mapInto(ResultSet resultSet, Student target) throws SQLException {
+        target.setStudentId(resultSet.getInt(studentIdColumn));
+        target.setName(resultSet.getString(nameColumn));
+        target.setAge(resultSet.getInt(ageColumn));
+        target.setEmail(resultSet.getString(emailColumn));
+        target.setCourseId(resultSet.getInt(courseIdColumn));
+        target.setCourseName(resultSet.getString(courseNameColumn));
+        target.setCreatedAt(resultSet.getTimestamp(createdAtColumn));
+        target.setUpdatedAt(resultSet.getTimestamp(updatedAtColumn));
+        return target;
+    }
+
+    /**
+     * Map the current row to a compact record
+     * @param courses dictionary the course name is interned in
+     */
+    public StudentRecord mapRecord(ResultSet resultSet, CourseDictionary courses, boolean emailAsUtf8)
+            throws SQLException {
+        int courseId = resultSet.getInt(courseIdColumn);
+        return new StudentRecord(
+                resultSet.getInt(studentIdColumn),
+                resultSet.getString(nameColumn),
+                resultSet.getInt(ageColumn),
+                resultSet.getString(emailColumn),
+                emailAsUtf8,
+                courseId,
+                courses.intern(courseId, resultSet.getString(courseNameColumn)),
+                StudentRecord.toMillis(resultSet.getTimestamp(createdAtColumn)),
+                StudentRecord.toMillis(resultSet.getTimestamp(updatedAtColumn)));
+    }
+}
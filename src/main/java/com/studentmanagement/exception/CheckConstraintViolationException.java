@@ -0,0 +1,11 @@
+package com.studentmanagement.exception;
+
+/**
+ * A CHECK constraint rejected the row (MySQL error 3819)
+ */
+public class CheckConstraintViolationException extends ConstraintViolationException {
+
+    public CheckConstraintViolationException(String message, String constraintName, Throwable cause) {
+        super(ErrorCode.VALIDATION, message, 3819, constraintName, cause);
+    }
+}
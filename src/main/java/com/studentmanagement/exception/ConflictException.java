@@ -0,0 +1,11 @@
+package com.studentmanagement.exception;
+
+/**
+ * The operation clashes with existing data, e.g. a course name that is already taken
+ */
+public class ConflictException extends StudentManagementException {
+
+    public ConflictException(String message) {
+        super(ErrorCode.CONFLICT, message, null, true);
+    }
+}
@@ -0,0 +1,33 @@
+package com.studentmanagement.exception;
+
+/**
+ * A write the database refused because it would break a table constraint.
+ *
+ * Raised instead of checking the constraint with a query beforehand, so the
+ * check and the write cannot be raced by another connection.
+ */
+public class ConstraintViolationException extends StudentManagementException {
+    private final int sqlErrorCode;
+    private final String constraintName;
+
+    /**
+     * @param constraintName index or constraint name reported by the server, or null if unknown
+     */
+    public ConstraintViolationException(ErrorCode errorCode, String message, int sqlErrorCode, String constraintName,
+                                        Throwable cause) {
+        super(errorCode, message, cause, true);
+        this.sqlErrorCode = sqlErrorCode;
+        this.constraintName = constraintName;
+    }
+
+    /**
+     * @return vendor error code of the failed statement, e.g. 1062
+     */
+    public int getSqlErrorCode() {
+        return sqlErrorCode;
+    }
+
+    public String getConstraintName() {
+        return constraintName;
+    }
+}
@@ -0,0 +1,15 @@
+package com.studentmanagement.exception;
+
+/**
+ * A database operation failed
+ */
+public class DatabaseException extends StudentManagementException {
+
+    public DatabaseException(String message, Throwable cause) {
+        super(ErrorCode.DATABASE, message, cause, true);
+    }
+
+    protected DatabaseException(ErrorCode errorCode, String message, Throwable cause) {
+        super(errorCode, message, cause, true);
+    }
+}
@@ -0,0 +1,11 @@
+package com.studentmanagement.exception;
+
+/**
+ * A unique index already holds the value being written (MySQL error 1062)
+ */
+public class DuplicateEntryException extends ConstraintViolationException {
+
+    public DuplicateEntryException(String message, String keyName, Throwable cause) {
+        super(ErrorCode.CONFLICT, message, 1062, keyName, cause);
+    }
+}
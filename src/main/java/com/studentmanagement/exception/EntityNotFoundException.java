@@ -0,0 +1,11 @@
+package com.studentmanagement.exception;
+
+/**
+ * The student or course an operation refers to does not exist
+ */
+public class EntityNotFoundException extends StudentManagementException {
+
+    public EntityNotFoundException(String message) {
+        super(ErrorCode.NOT_FOUND, message, null, true);
+    }
+}
@@ -0,0 +1,20 @@
+package com.studentmanagement.exception;
+
+/**
+ * Stable category of a StudentManagementException, for callers that need to
+ * react to the kind of failure rather than its message.
+ */
+public enum ErrorCode {
+    /** input was rejected before or by the database; retrying the same input fails again */
+    VALIDATION,
+    /** the entity the operation refers to does not exist */
+    NOT_FOUND,
+    /** the operation clashes with existing data, such as a duplicate email */
+    CONFLICT,
+    /** the database failed in a way that may go away: deadlock, lock wait timeout, lost connection */
+    TRANSIENT_DATABASE,
+    /** any other database failure */
+    DATABASE,
+    /** not classified; thrown through the plain StudentManagementException constructors */
+    GENERAL
+}
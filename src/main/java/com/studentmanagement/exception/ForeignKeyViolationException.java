@@ -0,0 +1,11 @@
+package com.studentmanagement.exception;
+
+/**
+ * A referenced row does not exist (MySQL error 1452)
+ */
+public class ForeignKeyViolationException extends ConstraintViolationException {
+
+    public ForeignKeyViolationException(String message, String constraintName, Throwable cause) {
+        super(ErrorCode.VALIDATION, message, 1452, constraintName, cause);
+    }
+}
@@ -1,46 +1,39 @@
 package com.studentmanagement.exception;
 
 /**
- * Custom exception class for Student Management System
+ * Custom exception class for Student Management System.
+ *
+ * Subclasses report an ErrorCode; exceptions created with the public
+ * constructors here are GENERAL.
  */
 public class StudentManagementException extends Exception {
+    private final ErrorCode errorCode;
     
     public StudentManagementException(String message) {
         super(message);
+        this.errorCode = ErrorCode.GENERAL;
     }
     
     public StudentManagementException(String message, Throwable cause) {
         super(message, cause);
+        this.errorCode = ErrorCode.GENERAL;
     }
     
     public StudentManagementException(Throwable cause) {
         super(cause);
+        this.errorCode = ErrorCode.GENERAL;
     }
-}
-
-/**
- * Exception for validation errors
- */
-class ValidationException extends StudentManagementException {
-    public ValidationException(String message) {
-        super(message);
+    
+    /**
+     * @param writableStackTrace false to skip stack capture and suppression for expected, frequent failures
+     */
+    protected StudentManagementException(ErrorCode errorCode, String message, Throwable cause,
+                                         boolean writableStackTrace) {
+        super(message, cause, writableStackTrace, writableStackTrace);
+        this.errorCode = errorCode;
     }
-}
-
-/**
- * Exception for database operation errors
- */
-class DatabaseException extends StudentManagementException {
-    public DatabaseException(String message, Throwable cause) {
-        super(message, cause);
+    
+    public ErrorCode getErrorCode() {
+        return errorCode;
     }
 }
-
-/**
- * Exception for entity not found errors
- */
-class EntityNotFoundException extends StudentManagementException {
-    public EntityNotFoundException(String message) {
-        super(message);
-    }
-}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.studentmanagement.exception;
+
+/**
+ * A database failure that may not happen again: deadlock, lock wait timeout,
+ * lost connection or no free connection.
+ *
+ * isRetryable() is true when running the whole operation again is expected to
+ * work. For writes that are not idempotent the caller still has to decide
+ * whether a failure after the statement was sent may have been applied.
+ */
+public class TransientDatabaseException extends DatabaseException {
+    private final boolean retryable;
+
+    public TransientDatabaseException(String message, Throwable cause, boolean retryable) {
+        super(ErrorCode.TRANSIENT_DATABASE, message, cause);
+        this.retryable = retryable;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
@@ -0,0 +1,17 @@
+package com.studentmanagement.exception;
+
+/**
+ * Unchecked wrapper for StudentManagementException, used where checked
+ * exceptions cannot be thrown such as inside java.util.stream pipelines
+ */
+public class UncheckedStudentManagementException extends RuntimeException {
+    
+    public UncheckedStudentManagementException(StudentManagementException cause) {
+        super(cause.getMessage(), cause);
+    }
+    
+    @Override
+    public synchronized StudentManagementException getCause() {
+        return (StudentManagementException) super.getCause();
+    }
+}
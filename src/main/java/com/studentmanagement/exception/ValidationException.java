@@ -0,0 +1,16 @@
+package com.studentmanagement.exception;
+
+/**
+ * Rejected input.
+ *
+ * These are thrown for every bad row of an import, so no stack trace is
+ * captured. With no stack, cause or suppressed exceptions an instance holds
+ * only its message, and one with a fixed message can be created once and
+ * thrown repeatedly.
+ */
+public class ValidationException extends StudentManagementException {
+
+    public ValidationException(String message) {
+        super(ErrorCode.VALIDATION, message, null, false);
+    }
+}
@@ -0,0 +1,237 @@
+package com.studentmanagement.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.model.Course;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.service.CourseService;
+import com.studentmanagement.service.StudentService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes students and courses to CSV or JSON files straight from a database
+ * cursor. Each row is written as soon as it is read, so memory use does not
+ * depend on the table size. Output goes to a ".part" file that is renamed
+ * into place only when the export completes.
+ */
+public class DataExporter {
+    private static final Logger LOG = LoggerFactory.getLogger(DataExporter.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String[] STUDENT_COLUMNS =
+        {"student_id", "name", "age", "email", "course_id", "course_name", "created_at", "updated_at"};
+    private static final String[] COURSE_COLUMNS =
+        {"course_id", "course_name", "description", "created_at", "updated_at"};
+
+    private final StudentService studentService;
+    private final CourseService courseService;
+
+    public DataExporter(StudentService studentService, CourseService courseService) {
+        this.studentService = studentService;
+        this.courseService = courseService;
+    }
+
+    /**
+     * Export every student with its course name
+     * @param target output file
+     * @param format CSV or JSON
+     * @param gzip whether to gzip the output
+     * @return number of students written
+     * @throws StudentManagementException if the export fails; the target is left untouched
+     */
+    public long exportStudents(Path target, ExportFormat format, boolean gzip) throws StudentManagementException {
+        return export(target, gzip, out -> {
+            if (format == ExportFormat.JSON) {
+                try (JsonGenerator json = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+                    json.writeStartArray();
+                    long count = studentService.forEachStudent(student -> writeJson(json, student));
+                    json.writeEndArray();
+                    return count;
+                }
+            }
+            try (Writer csv = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+                writeCsvRow(csv, STUDENT_COLUMNS);
+                return studentService.forEachStudent(student -> writeCsv(csv, student));
+            }
+        });
+    }
+
+    /**
+     * Export every course
+     * @param target output file
+     * @param format CSV or JSON
+     * @param gzip whether to gzip the output
+     * @return number of courses written
+     * @throws StudentManagementException if the export fails; the target is left untouched
+     */
+    public long exportCourses(Path target, ExportFormat format, boolean gzip) throws StudentManagementException {
+        return export(target, gzip, out -> {
+            if (format == ExportFormat.JSON) {
+                try (JsonGenerator json = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+                    json.writeStartArray();
+                    long count = courseService.forEachCourse(course -> writeJson(json, course));
+                    json.writeEndArray();
+                    return count;
+                }
+            }
+            try (Writer csv = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+                writeCsvRow(csv, COURSE_COLUMNS);
+                return courseService.forEachCourse(course -> writeCsv(csv, course));
+            }
+        });
+    }
+
+    /**
+     * Body of an export, writing to an already buffered (and possibly gzipped) stream
+     */
+    private interface ExportBody {
+        long write(OutputStream out) throws IOException, StudentManagementException;
+    }
+
+    private long export(Path target, boolean gzip, ExportBody body) throws StudentManagementException {
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+        try {
+            long count;
+            try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+                if (gzip) {
+                    out = new GZIPOutputStream(out, BUFFER_SIZE);
+                }
+                try (OutputStream stream = out) {
+                    count = body.write(stream);
+                }
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return count;
+        } catch (IOException | UncheckedIOException e) {
+            deleteQuietly(partial);
+            throw new StudentManagementException("Failed to write export file " + target, e);
+        } catch (StudentManagementException e) {
+            deleteQuietly(partial);
+            throw e;
+        }
+    }
+
+    private static void writeJson(JsonGenerator json, Student student) {
+        try {
+            JsonRecords.writeStudent(json, student);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeJson(JsonGenerator json, Course course) {
+        try {
+            JsonRecords.writeCourse(json, course);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeCsv(Writer csv, Student student) {
+        try {
+            csv.write(Integer.toString(student.getStudentId()));
+            csv.write(',');
+            writeCsvField(csv, student.getName());
+            csv.write(',');
+            csv.write(Integer.toString(student.getAge()));
+            csv.write(',');
+            writeCsvField(csv, student.getEmail());
+            csv.write(',');
+            csv.write(Integer.toString(student.getCourseId()));
+            csv.write(',');
+            writeCsvField(csv, student.getCourseName());
+            csv.write(',');
+            writeCsvField(csv, JsonRecords.format(student.getCreatedAt()));
+            csv.write(',');
+            writeCsvField(csv, JsonRecords.format(student.getUpdatedAt()));
+            csv.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeCsv(Writer csv, Course course) {
+        try {
+            csv.write(Integer.toString(course.getCourseId()));
+            csv.write(',');
+            writeCsvField(csv, course.getCourseName());
+            csv.write(',');
+            writeCsvField(csv, course.getDescription());
+            csv.write(',');
+            writeCsvField(csv, JsonRecords.format(course.getCreatedAt()));
+            csv.write(',');
+            writeCsvField(csv, JsonRecords.format(course.getUpdatedAt()));
+            csv.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeCsvRow(Writer csv, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                csv.write(',');
+            }
+            writeCsvField(csv, values[i]);
+        }
+        csv.write('\n');
+    }
+
+    /**
+     * Write a field, quoting it only when it contains a separator, quote or line break
+     */
+    private static void writeCsvField(Writer csv, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            csv.write(value);
+            return;
+        }
+        csv.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                csv.write('"');
+            }
+            csv.write(c);
+        }
+        csv.write('"');
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warn("Could not delete partial export {}: {}", file, e.getMessage());
+        }
+    }
+}
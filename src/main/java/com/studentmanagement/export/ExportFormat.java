@@ -0,0 +1,33 @@
+package com.studentmanagement.export;
+
+import java.nio.file.Path;
+
+/**
+ * Supported export file formats
+ */
+public enum ExportFormat {
+    /** Comma-separated values with a header row */
+    CSV,
+    /** A single JSON array of objects */
+    JSON;
+
+    /**
+     * Guess the format from a file name, ignoring a trailing .gz
+     * @param file target file
+     * @return JSON for .json files, CSV otherwise
+     */
+    public static ExportFormat fromFileName(Path file) {
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".gz")) {
+            name = name.substring(0, name.length() - 3);
+        }
+        return name.endsWith(".json") ? JSON : CSV;
+    }
+
+    /**
+     * Check whether a file name asks for gzip compression
+     */
+    public static boolean isGzipFileName(Path file) {
+        return file.getFileName().toString().toLowerCase().endsWith(".gz");
+    }
+}
@@ -0,0 +1,61 @@
+package com.studentmanagement.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.studentmanagement.model.Course;
+import com.studentmanagement.model.Student;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+
+/**
+ * The JSON shape of students and courses, shared by file exports and the REST API.
+ * Fields are written straight to a streaming generator; no object tree is built.
+ */
+public final class JsonRecords {
+
+    private JsonRecords() {
+    }
+
+    /**
+     * Write a student as a JSON object
+     */
+    public static void writeStudent(JsonGenerator json, Student student) throws IOException {
+        json.writeStartObject();
+        writeStudentFields(json, student);
+        json.writeEndObject();
+    }
+
+    /**
+     * Write a student's fields into an object the caller has started, so it can add its own
+     */
+    public static void writeStudentFields(JsonGenerator json, Student student) throws IOException {
+        json.writeNumberField("studentId", student.getStudentId());
+        json.writeStringField("name", student.getName());
+        json.writeNumberField("age", student.getAge());
+        json.writeStringField("email", student.getEmail());
+        json.writeNumberField("courseId", student.getCourseId());
+        json.writeStringField("courseName", student.getCourseName());
+        json.writeStringField("createdAt", format(student.getCreatedAt()));
+        json.writeStringField("updatedAt", format(student.getUpdatedAt()));
+    }
+
+    /**
+     * Write a course as a JSON object
+     */
+    public static void writeCourse(JsonGenerator json, Course course) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("courseId", course.getCourseId());
+        json.writeStringField("courseName", course.getCourseName());
+        json.writeStringField("description", course.getDescription());
+        json.writeStringField("createdAt", format(course.getCreatedAt()));
+        json.writeStringField("updatedAt", format(course.getUpdatedAt()));
+        json.writeEndObject();
+    }
+
+    /**
+     * @return ISO-8601 instant, or null
+     */
+    public static String format(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant().toString();
+    }
+}
@@ -0,0 +1,85 @@
+package com.studentmanagement.importer;
+
+import com.studentmanagement.exception.StudentManagementException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Records the last input line whose rows have been committed, so an
+ * interrupted import can resume after it. The file size and modification
+ * time are stored too, so a checkpoint is never applied to a different file.
+ */
+public class ImportCheckpoint {
+    private final Path checkpointFile;
+    private final Path inputFile;
+
+    public ImportCheckpoint(Path inputFile) {
+        this.inputFile = inputFile;
+        this.checkpointFile = inputFile.resolveSibling(inputFile.getFileName() + ".checkpoint");
+    }
+
+    public Path getPath() {
+        return checkpointFile;
+    }
+
+    /**
+     * Load the last committed line
+     * @return line number, or 0 if there is no checkpoint
+     * @throws StudentManagementException if the checkpoint belongs to a different version of the input
+     */
+    public long load() throws StudentManagementException {
+        if (!Files.exists(checkpointFile)) {
+            return 0;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(checkpointFile)) {
+            properties.load(in);
+            if (!fingerprint().equals(properties.getProperty("input"))) {
+                throw new StudentManagementException("Input file has changed since checkpoint " + checkpointFile +
+                        " was written; delete it to start over");
+            }
+            return Long.parseLong(properties.getProperty("line", "0"));
+        } catch (IOException | NumberFormatException e) {
+            throw new StudentManagementException("Cannot read import checkpoint " + checkpointFile, e);
+        }
+    }
+
+    /**
+     * Atomically record the last committed line
+     */
+    public void save(long line) throws StudentManagementException {
+        Properties properties = new Properties();
+        properties.setProperty("line", Long.toString(line));
+        Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        try {
+            properties.setProperty("input", fingerprint());
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, "Student import checkpoint");
+            }
+            Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new StudentManagementException("Cannot write import checkpoint " + checkpointFile, e);
+        }
+    }
+
+    /**
+     * Remove the checkpoint after a complete import
+     */
+    public void delete() throws StudentManagementException {
+        try {
+            Files.deleteIfExists(checkpointFile);
+        } catch (IOException e) {
+            throw new StudentManagementException("Cannot delete import checkpoint " + checkpointFile, e);
+        }
+    }
+
+    private String fingerprint() throws IOException {
+        return Files.size(inputFile) + ":" + Files.getLastModifiedTime(inputFile).toMillis();
+    }
+}
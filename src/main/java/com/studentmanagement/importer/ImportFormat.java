@@ -0,0 +1,26 @@
+package com.studentmanagement.importer;
+
+import java.nio.file.Path;
+
+/**
+ * Supported bulk import file formats
+ */
+public enum ImportFormat {
+    /** Comma-separated values with a header row naming the columns */
+    CSV,
+    /** One JSON object per line */
+    NDJSON;
+
+    /**
+     * Guess the format from a file extension
+     * @param file input file
+     * @return NDJSON for .ndjson/.jsonl/.json files, CSV otherwise
+     */
+    public static ImportFormat fromFileName(Path file) {
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl") || name.endsWith(".json")) {
+            return NDJSON;
+        }
+        return CSV;
+    }
+}
@@ -0,0 +1,86 @@
+package com.studentmanagement.importer;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live counters for a running import; safe to read from any thread
+ */
+public class ImportProgress {
+    private final long startNanos = System.nanoTime();
+    private final AtomicLong linesRead = new AtomicLong();
+    private final AtomicLong linesSkipped = new AtomicLong();
+    private final AtomicLong rowsParsed = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final AtomicLong rowsInserted = new AtomicLong();
+    private final AtomicLong chunksCommitted = new AtomicLong();
+    private volatile long lastCommittedLine;
+
+    public long getLinesRead() {
+        return linesRead.get();
+    }
+
+    /**
+     * Lines skipped because a previous run already committed them
+     */
+    public long getLinesSkipped() {
+        return linesSkipped.get();
+    }
+
+    public long getRowsParsed() {
+        return rowsParsed.get();
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected.get();
+    }
+
+    public long getRowsInserted() {
+        return rowsInserted.get();
+    }
+
+    public long getChunksCommitted() {
+        return chunksCommitted.get();
+    }
+
+    public long getLastCommittedLine() {
+        return lastCommittedLine;
+    }
+
+    public double getElapsedSeconds() {
+        return (System.nanoTime() - startNanos) / 1_000_000_000.0;
+    }
+
+    public double getRowsPerSecond() {
+        double elapsed = getElapsedSeconds();
+        return elapsed > 0 ? rowsInserted.get() / elapsed : 0.0;
+    }
+
+    void lineRead() {
+        linesRead.incrementAndGet();
+    }
+
+    void lineSkipped() {
+        linesSkipped.incrementAndGet();
+    }
+
+    void rowsParsed(long count) {
+        rowsParsed.addAndGet(count);
+    }
+
+    void rowsRejected(long count) {
+        rowsRejected.addAndGet(count);
+    }
+
+    void chunkCommitted(long inserted, long lastLine) {
+        rowsInserted.addAndGet(inserted);
+        chunksCommitted.incrementAndGet();
+        lastCommittedLine = lastLine;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("read=%d, skipped=%d, parsed=%d, inserted=%d, rejected=%d, line=%d, %.0f rows/s",
+                getLinesRead(), getLinesSkipped(), getRowsParsed(), getRowsInserted(), getRowsRejected(),
+                getLastCommittedLine(), getRowsPerSecond());
+    }
+}
@@ -0,0 +1,156 @@
+package com.studentmanagement.importer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.exception.ValidationException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits one input line into the raw name, age, email and course ID fields.
+ * Instances are immutable and shared between parser threads.
+ */
+public class ImportRowParser {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    // Shared and stackless, like the row checks in StudentService.validateStudentData
+    private static final ValidationException UNTERMINATED_QUOTE = new ValidationException("Unterminated quoted field");
+
+    private final ImportFormat format;
+    private final int nameColumn;
+    private final int ageColumn;
+    private final int emailColumn;
+    private final int courseIdColumn;
+
+    private ImportRowParser(ImportFormat format, int nameColumn, int ageColumn, int emailColumn, int courseIdColumn) {
+        this.format = format;
+        this.nameColumn = nameColumn;
+        this.ageColumn = ageColumn;
+        this.emailColumn = emailColumn;
+        this.courseIdColumn = courseIdColumn;
+    }
+
+    /**
+     * Create a CSV parser from the header row
+     * @param header first line of the file, e.g. "name,age,email,course_id"
+     * @throws StudentManagementException if a required column is missing
+     */
+    public static ImportRowParser forCsvHeader(String header) throws StudentManagementException {
+        List<String> columns = splitCsv(header);
+        int name = -1;
+        int age = -1;
+        int email = -1;
+        int courseId = -1;
+        for (int i = 0; i < columns.size(); i++) {
+            switch (normalizeColumn(columns.get(i))) {
+                case "name":
+                    name = i;
+                    break;
+                case "age":
+                    age = i;
+                    break;
+                case "email":
+                    email = i;
+                    break;
+                case "courseid":
+                    courseId = i;
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (name < 0 || age < 0 || email < 0 || courseId < 0) {
+            throw new ValidationException("CSV header must contain name, age, email and course_id columns");
+        }
+        return new ImportRowParser(ImportFormat.CSV, name, age, email, courseId);
+    }
+
+    /**
+     * Create an NDJSON parser; objects use the keys name, age, email and course_id (or courseId)
+     */
+    public static ImportRowParser forNdjson() {
+        return new ImportRowParser(ImportFormat.NDJSON, -1, -1, -1, -1);
+    }
+
+    /**
+     * Parse one line
+     * @return {name, age, email, courseId} as raw strings, any of which may be null
+     * @throws StudentManagementException if the line is malformed
+     */
+    public String[] parse(String line) throws StudentManagementException {
+        if (format == ImportFormat.NDJSON) {
+            return parseJson(line);
+        }
+        List<String> fields = splitCsv(line);
+        return new String[] {
+            field(fields, nameColumn), field(fields, ageColumn), field(fields, emailColumn), field(fields, courseIdColumn)
+        };
+    }
+
+    private static String[] parseJson(String line) throws StudentManagementException {
+        JsonNode node;
+        try {
+            node = OBJECT_MAPPER.readTree(line);
+        } catch (IOException e) {
+            throw new ValidationException("Malformed JSON: " + e.getMessage());
+        }
+        if (node == null || !node.isObject()) {
+            throw new ValidationException("Expected a JSON object");
+        }
+        JsonNode courseId = node.has("course_id") ? node.get("course_id") : node.get("courseId");
+        return new String[] {text(node.get("name")), text(node.get("age")), text(node.get("email")), text(courseId)};
+    }
+
+    private static String text(JsonNode node) {
+        return node == null || node.isNull() ? null : node.asText();
+    }
+
+    private static String field(List<String> fields, int column) {
+        return column < fields.size() ? fields.get(column) : null;
+    }
+
+    private static String normalizeColumn(String column) {
+        return column.trim().toLowerCase(Locale.ROOT).replace("_", "").replace(" ", "");
+    }
+
+    /**
+     * Split a CSV line, honouring double-quoted fields with "" escapes.
+     * Quoted fields spanning several lines are not supported.
+     */
+    static List<String> splitCsv(String line) throws StudentManagementException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw UNTERMINATED_QUOTE;
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,350 @@
+package com.studentmanagement.importer;
+
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.model.BatchInsertResult;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.service.StudentService;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bulk loader for large CSV and NDJSON student files.
+ *
+ * A reader thread cuts the file into fixed-size chunks of lines, a pool of
+ * parser threads validates them with StudentService.validateStudentData, and
+ * the calling thread writes the chunks in file order through
+ * StudentService.addStudents. At most maxChunksInFlight chunks exist at once,
+ * so a slow database throttles the reader instead of filling the heap.
+ *
+ * After each chunk commits, its last line number is saved to
+ * {@code <input>.checkpoint}, so an interrupted import can resume where it
+ * stopped. Rejected rows go to {@code <input>.rejects} with their line number
+ * and reason.
+ */
+public class StudentImporter {
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final StudentService studentService;
+    private final int parserThreads;
+    private final int chunkSize;
+    private final int maxChunksInFlight;
+
+    public StudentImporter(StudentService studentService) {
+        this(studentService, Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE,
+                2 * Runtime.getRuntime().availableProcessors() + 2);
+    }
+
+    public StudentImporter(StudentService studentService, int parserThreads, int chunkSize, int maxChunksInFlight) {
+        if (parserThreads <= 0 || chunkSize <= 0 || maxChunksInFlight <= 0) {
+            throw new IllegalArgumentException("Parser threads, chunk size and chunks in flight must be positive");
+        }
+        this.studentService = studentService;
+        this.parserThreads = parserThreads;
+        this.chunkSize = chunkSize;
+        this.maxChunksInFlight = maxChunksInFlight;
+    }
+
+    /**
+     * Import a file, guessing its format from the extension
+     * @param input CSV or NDJSON file
+     * @param resume continue after the last checkpoint instead of starting over
+     * @return final progress counters
+     * @throws StudentManagementException if the file cannot be read or the database fails
+     */
+    public ImportProgress importFile(Path input, boolean resume) throws StudentManagementException {
+        ImportProgress progress = new ImportProgress();
+        importFile(input, ImportFormat.fromFileName(input), resume, progress);
+        return progress;
+    }
+
+    /**
+     * Import a file, updating the given progress object as chunks commit
+     * so that another thread can report on it
+     */
+    public void importFile(Path input, ImportFormat format, boolean resume, ImportProgress progress)
+            throws StudentManagementException {
+        if (!Files.isReadable(input)) {
+            throw new StudentManagementException("Cannot read import file " + input);
+        }
+
+        ImportCheckpoint checkpoint = new ImportCheckpoint(input);
+        long resumeAfterLine = resume ? checkpoint.load() : 0;
+        if (!resume) {
+            checkpoint.delete();
+        }
+
+        Path rejectFile = input.resolveSibling(input.getFileName() + ".rejects");
+        Semaphore chunksInFlight = new Semaphore(maxChunksInFlight);
+        BlockingQueue<ParsedChunk> parsedChunks = new LinkedBlockingQueue<>();
+        AtomicLong totalChunks = new AtomicLong(-1);
+        AtomicReference<Throwable> pipelineFailure = new AtomicReference<>();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService parsers = Executors.newFixedThreadPool(parserThreads, runnable -> {
+            Thread thread = new Thread(runnable, "import-parser-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Thread reader = new Thread(() -> {
+            try {
+                readChunks(input, format, resumeAfterLine, progress, chunksInFlight, parsers, parsedChunks,
+                        totalChunks, pipelineFailure);
+            } catch (Throwable e) {
+                pipelineFailure.compareAndSet(null, e);
+            }
+        }, "import-reader");
+        reader.setDaemon(true);
+
+        try (BufferedWriter rejects = openRejectFile(rejectFile, resume)) {
+            reader.start();
+            writeChunks(parsedChunks, totalChunks, pipelineFailure, chunksInFlight, rejects, checkpoint, progress);
+        } catch (IOException e) {
+            throw new StudentManagementException("Cannot write reject file " + rejectFile, e);
+        } finally {
+            reader.interrupt();
+            parsers.shutdownNow();
+        }
+
+        checkpoint.delete();
+    }
+
+    private void readChunks(Path input, ImportFormat format, long resumeAfterLine, ImportProgress progress,
+                            Semaphore chunksInFlight, ExecutorService parsers, BlockingQueue<ParsedChunk> parsedChunks,
+                            AtomicLong totalChunks, AtomicReference<Throwable> pipelineFailure)
+            throws IOException, StudentManagementException, InterruptedException {
+        try (BufferedReader in = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            long lineNumber = 0;
+            ImportRowParser parser;
+            if (format == ImportFormat.CSV) {
+                String header = in.readLine();
+                if (header == null) {
+                    totalChunks.set(0);
+                    return;
+                }
+                lineNumber++;
+                parser = ImportRowParser.forCsvHeader(stripByteOrderMark(header));
+            } else {
+                parser = ImportRowParser.forNdjson();
+            }
+
+            long sequence = 0;
+            long firstLine = 0;
+            List<String> lines = new ArrayList<>(chunkSize);
+            String line;
+            while ((line = in.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber <= resumeAfterLine) {
+                    progress.lineSkipped();
+                    continue;
+                }
+                progress.lineRead();
+                if (lines.isEmpty()) {
+                    firstLine = lineNumber;
+                }
+                lines.add(line);
+                if (lines.size() == chunkSize) {
+                    submit(sequence++, firstLine, lines, parser, chunksInFlight, parsers, parsedChunks, progress, pipelineFailure);
+                    lines = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!lines.isEmpty()) {
+                submit(sequence++, firstLine, lines, parser, chunksInFlight, parsers, parsedChunks, progress, pipelineFailure);
+            }
+            totalChunks.set(sequence);
+        }
+    }
+
+    private void submit(long sequence, long firstLine, List<String> lines, ImportRowParser parser,
+                        Semaphore chunksInFlight, ExecutorService parsers, BlockingQueue<ParsedChunk> parsedChunks,
+                        ImportProgress progress, AtomicReference<Throwable> pipelineFailure) throws InterruptedException {
+        // Blocks the reader while the writer is behind
+        chunksInFlight.acquire();
+        parsers.execute(() -> {
+            try {
+                parsedChunks.add(parseChunk(sequence, firstLine, lines, parser, progress));
+            } catch (Throwable e) {
+                pipelineFailure.compareAndSet(null, e);
+            }
+        });
+    }
+
+    private ParsedChunk parseChunk(long sequence, long firstLine, List<String> lines, ImportRowParser parser,
+                                   ImportProgress progress) {
+        ParsedChunk chunk = new ParsedChunk(sequence, firstLine + lines.size() - 1);
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            long lineNumber = firstLine + i;
+            try {
+                String[] fields = parser.parse(line);
+                studentService.validateStudentData(fields[0], fields[1], fields[2], fields[3]);
+                Student student = new Student(fields[0].trim(), Integer.parseInt(fields[1].trim()),
+                        fields[2].trim(), Integer.parseInt(fields[3].trim()));
+                chunk.students.add(student);
+                chunk.studentLineNumbers.add(lineNumber);
+                chunk.studentLines.add(line);
+            } catch (StudentManagementException e) {
+                chunk.rejects.add(new Reject(lineNumber, e.getMessage(), line));
+            } catch (RuntimeException e) {
+                chunk.rejects.add(new Reject(lineNumber, "Unparseable row: " + e, line));
+            }
+        }
+        progress.rowsParsed(chunk.students.size());
+        return chunk;
+    }
+
+    private void writeChunks(BlockingQueue<ParsedChunk> parsedChunks, AtomicLong totalChunks,
+                             AtomicReference<Throwable> pipelineFailure, Semaphore chunksInFlight,
+                             BufferedWriter rejects, ImportCheckpoint checkpoint, ImportProgress progress)
+            throws StudentManagementException, IOException {
+        // Parsers finish out of order; chunks are committed strictly in file order
+        // so that the checkpoint always marks a fully committed prefix of the file
+        Map<Long, ParsedChunk> pending = new HashMap<>();
+        long nextSequence = 0;
+
+        while (true) {
+            long total = totalChunks.get();
+            if (total >= 0 && nextSequence >= total) {
+                return;
+            }
+            Throwable failure = pipelineFailure.get();
+            if (failure != null) {
+                if (failure instanceof StudentManagementException) {
+                    throw (StudentManagementException) failure;
+                }
+                throw new StudentManagementException("Failed to read or parse import file", failure);
+            }
+
+            ParsedChunk chunk;
+            try {
+                chunk = parsedChunks.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new StudentManagementException("Import interrupted", e);
+            }
+            if (chunk == null) {
+                continue;
+            }
+
+            pending.put(chunk.sequence, chunk);
+            while ((chunk = pending.remove(nextSequence)) != null) {
+                commitChunk(chunk, rejects, checkpoint, progress);
+                chunksInFlight.release();
+                nextSequence++;
+            }
+        }
+    }
+
+    private void commitChunk(ParsedChunk chunk, BufferedWriter rejects, ImportCheckpoint checkpoint,
+                             ImportProgress progress) throws StudentManagementException, IOException {
+        int inserted = 0;
+        int rejected = chunk.rejects.size();
+        BatchInsertResult result = null;
+        if (!chunk.students.isEmpty()) {
+            result = studentService.addStudents(chunk.students);
+            inserted = result.getInsertedCount();
+        }
+
+        // Rejects are written only once the chunk is committed, so a resumed run never repeats them
+        for (Reject reject : chunk.rejects) {
+            writeReject(rejects, reject.lineNumber, reject.reason, reject.line);
+        }
+        if (result != null) {
+            for (BatchInsertResult.RowError error : result.getErrors()) {
+                writeReject(rejects, chunk.studentLineNumbers.get(error.getIndex()), error.getMessage(),
+                        chunk.studentLines.get(error.getIndex()));
+                rejected++;
+            }
+        }
+
+        rejects.flush();
+        checkpoint.save(chunk.lastLine);
+        progress.rowsRejected(rejected);
+        progress.chunkCommitted(inserted, chunk.lastLine);
+    }
+
+    private static BufferedWriter openRejectFile(Path rejectFile, boolean append) throws IOException {
+        boolean writeHeader = !append || !Files.exists(rejectFile) || Files.size(rejectFile) == 0;
+        BufferedWriter writer = Files.newBufferedWriter(rejectFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+        if (writeHeader) {
+            writer.write("line,reason,input");
+            writer.newLine();
+        }
+        return writer;
+    }
+
+    private static void writeReject(BufferedWriter rejects, long lineNumber, String reason, String line) throws IOException {
+        rejects.write(Long.toString(lineNumber));
+        rejects.write(',');
+        rejects.write(quote(reason));
+        rejects.write(',');
+        rejects.write(quote(line));
+        rejects.newLine();
+    }
+
+    private static String quote(String value) {
+        return "\"" + (value == null ? "" : value.replace("\"", "\"\"")) + "\"";
+    }
+
+    private static String stripByteOrderMark(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    /**
+     * Parser output for one chunk of input lines
+     */
+    private static final class ParsedChunk {
+        private final long sequence;
+        private final long lastLine;
+        private final List<Student> students = new ArrayList<>();
+        private final List<Long> studentLineNumbers = new ArrayList<>();
+        private final List<String> studentLines = new ArrayList<>();
+        private final List<Reject> rejects = new ArrayList<>();
+
+        ParsedChunk(long sequence, long lastLine) {
+            this.sequence = sequence;
+            this.lastLine = lastLine;
+        }
+    }
+
+    /**
+     * A line that failed parsing or validation
+     */
+    private static final class Reject {
+        private final long lineNumber;
+        private final String reason;
+        private final String line;
+
+        Reject(long lineNumber, String reason, String line) {
+            this.lineNumber = lineNumber;
+            this.reason = reason;
+            this.line = line;
+        }
+    }
+}
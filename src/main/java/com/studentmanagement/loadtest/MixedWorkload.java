@@ -0,0 +1,357 @@
+package com.studentmanagement.loadtest;
+
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.model.Course;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.service.CourseService;
+import com.studentmanagement.service.StudentService;
+import com.studentmanagement.util.LatencyHistogram;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop mixed workload through StudentService and CourseService: each
+ * client thread runs one operation, waits for it and starts the next, so
+ * throughput is what the system sustains at that concurrency.
+ *
+ * Reads favour a hot fifth of the students the way real traffic does, and
+ * writes add, edit and remove students; clients only delete students they
+ * added themselves, so the seeded data stays in place.
+ */
+public class MixedWorkload {
+    private static final Logger LOG = LoggerFactory.getLogger(MixedWorkload.class);
+
+    private static final int HOT_PERCENT = 80;
+    private static final int SEARCH_LIMIT = 20;
+    private static final int PAGE_SIZE = 20;
+
+    /**
+     * Operations and their weight within reads or writes
+     */
+    public enum Operation {
+        GET_STUDENT(true, 50),
+        SEARCH_STUDENTS(true, 20),
+        PAGE_STUDENTS(true, 15),
+        GET_COURSE(true, 10),
+        LIST_COURSES(true, 5),
+        ADD_STUDENT(false, 40),
+        UPDATE_STUDENT(false, 50),
+        DELETE_STUDENT(false, 10);
+
+        private final boolean read;
+        private final int weight;
+
+        Operation(boolean read, int weight) {
+            this.read = read;
+            this.weight = weight;
+        }
+
+        public boolean isRead() {
+            return read;
+        }
+    }
+
+    /**
+     * Counts and latencies of one operation
+     */
+    public static final class OperationStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+    }
+
+    /**
+     * Outcome of one run
+     */
+    public static final class Result {
+        private final int clients;
+        private final int readPercent;
+        private final Map<Operation, OperationStats> operations = new EnumMap<>(Operation.class);
+        private final LatencyHistogram overall = new LatencyHistogram();
+        private long elapsedNanos;
+
+        Result(int clients, int readPercent) {
+            this.clients = clients;
+            this.readPercent = readPercent;
+            for (Operation operation : Operation.values()) {
+                operations.put(operation, new OperationStats());
+            }
+        }
+
+        public OperationStats get(Operation operation) {
+            return operations.get(operation);
+        }
+
+        public long getOperations() {
+            return overall.getCount();
+        }
+
+        public long getErrors() {
+            long errors = 0;
+            for (OperationStats stats : operations.values()) {
+                errors += stats.getErrors();
+            }
+            return errors;
+        }
+
+        public double getOperationsPerSecond() {
+            return elapsedNanos == 0 ? 0 : getOperations() * 1e9 / elapsedNanos;
+        }
+
+        public LatencyHistogram getLatency() {
+            return overall;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder(String.format(
+                    "clients=%d reads=%d%% ops=%d errors=%d %.0f ops/s%n", clients, readPercent,
+                    getOperations(), getErrors(), getOperationsPerSecond()));
+            text.append(String.format("%-16s %10s %8s %9s %9s %9s %9s%n",
+                    "operation", "ops", "errors", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+            for (Map.Entry<Operation, OperationStats> entry : operations.entrySet()) {
+                LatencyHistogram latency = entry.getValue().getLatency();
+                if (latency.getCount() > 0 || entry.getValue().getErrors() > 0) {
+                    appendRow(text, entry.getKey().name(), latency, entry.getValue().getErrors());
+                }
+            }
+            appendRow(text, "ALL", overall, getErrors());
+            return text.toString();
+        }
+
+        private static void appendRow(StringBuilder text, String name, LatencyHistogram latency, long errors) {
+            text.append(String.format("%-16s %10d %8d %9.2f %9.2f %9.2f %9.2f%n", name, latency.getCount(), errors,
+                    latency.getPercentileMicros(50) / 1000.0, latency.getPercentileMicros(95) / 1000.0,
+                    latency.getPercentileMicros(99) / 1000.0, latency.getMaxMicros() / 1000.0));
+        }
+    }
+
+    private final StudentService studentService;
+    private final CourseService courseService;
+    private final long seed;
+    private int[] studentIds;
+    private int[] courseIds;
+
+    public MixedWorkload(StudentService studentService, CourseService courseService, long seed) {
+        this.studentService = studentService;
+        this.courseService = courseService;
+        this.seed = seed;
+    }
+
+    /**
+     * Collect the existing student and course IDs the clients pick from
+     * @return number of students found
+     */
+    public int prepare() throws StudentManagementException {
+        List<Course> courses = courseService.getAllCourses();
+        if (courses.isEmpty()) {
+            throw new IllegalStateException("No courses found; generate data first");
+        }
+        courseIds = courses.stream().mapToInt(Course::getCourseId).toArray();
+
+        int[][] ids = {new int[1024]};
+        int[] size = {0};
+        studentService.forEachStudent(student -> {
+            if (size[0] == ids[0].length) {
+                ids[0] = Arrays.copyOf(ids[0], size[0] * 2);
+            }
+            ids[0][size[0]++] = student.getStudentId();
+        });
+        studentIds = Arrays.copyOf(ids[0], size[0]);
+        if (studentIds.length == 0) {
+            throw new IllegalStateException("No students found; generate data first");
+        }
+        // Shuffle so the hot set is spread over the table rather than the oldest rows
+        Random random = new Random(seed);
+        for (int i = studentIds.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = studentIds[i];
+            studentIds[i] = studentIds[j];
+            studentIds[j] = swap;
+        }
+        return studentIds.length;
+    }
+
+    /**
+     * Warm up, then measure
+     * @param readPercent share of operations that are reads, 0-100
+     */
+    public Result run(int clients, int readPercent, Duration warmup, Duration duration)
+            throws StudentManagementException, InterruptedException {
+        if (clients <= 0) {
+            throw new IllegalArgumentException("clients must be positive");
+        }
+        if (readPercent < 0 || readPercent > 100) {
+            throw new IllegalArgumentException("readPercent must be between 0 and 100");
+        }
+        if (studentIds == null) {
+            prepare();
+        }
+        drive(clients, readPercent, warmup, new Result(clients, readPercent));
+        Result result = new Result(clients, readPercent);
+        result.elapsedNanos = drive(clients, readPercent, duration, result);
+        return result;
+    }
+
+    private long drive(int clients, int readPercent, Duration duration, Result result) throws InterruptedException {
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(clients, runnable -> {
+            Thread thread = new Thread(runnable, "workload-client-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        List<Client> started = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            Client client = new Client(seed + 31L * (i + 1), readPercent, result);
+            started.add(client);
+            executor.execute(() -> client.runUntil(deadline));
+        }
+        executor.shutdown();
+        executor.awaitTermination(duration.toMillis() + TimeUnit.MINUTES.toMillis(1), TimeUnit.MILLISECONDS);
+        long elapsed = System.nanoTime() - start;
+        for (Client client : started) {
+            client.removeAdded();
+        }
+        return elapsed;
+    }
+
+    /**
+     * One simulated user with its own random source and the students it added
+     */
+    private final class Client {
+        private final Random random;
+        private final SyntheticDataGenerator generator;
+        private final int readPercent;
+        private final Result result;
+        private final Deque<Integer> added = new ArrayDeque<>();
+        private final String emailTag;
+        private long addedCount;
+
+        Client(long clientSeed, int readPercent, Result result) {
+            this.random = new Random(clientSeed);
+            this.generator = new SyntheticDataGenerator(clientSeed);
+            this.generator.setCourseIds(courseIds);
+            this.readPercent = readPercent;
+            this.result = result;
+            this.emailTag = "lt" + Long.toString(System.nanoTime(), 36) + Long.toString(clientSeed, 36) + "-";
+        }
+
+        void runUntil(long deadline) {
+            while (System.nanoTime() < deadline) {
+                Operation operation = pick(random.nextInt(100) < readPercent);
+                long start = System.nanoTime();
+                try {
+                    execute(operation);
+                } catch (StudentManagementException | RuntimeException e) {
+                    result.get(operation).errors.increment();
+                    continue;
+                }
+                long elapsed = System.nanoTime() - start;
+                result.get(operation).latency.recordNanos(elapsed);
+                result.overall.recordNanos(elapsed);
+            }
+        }
+
+        private Operation pick(boolean read) {
+            int total = 0;
+            for (Operation operation : Operation.values()) {
+                total += operation.read == read ? operation.weight : 0;
+            }
+            int choice = random.nextInt(total);
+            for (Operation operation : Operation.values()) {
+                if (operation.read == read) {
+                    choice -= operation.weight;
+                    if (choice < 0) {
+                        return operation;
+                    }
+                }
+            }
+            throw new IllegalStateException();
+        }
+
+        private void execute(Operation operation) throws StudentManagementException {
+            switch (operation) {
+                case GET_STUDENT:
+                    studentService.getStudentById(pickStudentId());
+                    break;
+                case SEARCH_STUDENTS:
+                    String name = generator.nextStudent("search").getName();
+                    studentService.searchStudentsByNamePrefix(name.substring(0, 3), SEARCH_LIMIT);
+                    break;
+                case PAGE_STUDENTS:
+                    studentService.getStudentsPage(null, PAGE_SIZE, false);
+                    break;
+                case GET_COURSE:
+                    courseService.getCourseById(courseIds[random.nextInt(courseIds.length)]);
+                    break;
+                case LIST_COURSES:
+                    courseService.getAllCourses();
+                    break;
+                case ADD_STUDENT:
+                    added.push(studentService.addStudent(generator.nextStudent(emailTag + addedCount++)));
+                    break;
+                case UPDATE_STUDENT:
+                    Student student = studentService.getStudentById(pickStudentId());
+                    if (student != null) {
+                        Student changes = generator.nextStudent("update");
+                        student.setAge(changes.getAge());
+                        student.setCourseId(changes.getCourseId());
+                        studentService.updateStudent(student);
+                    }
+                    break;
+                case DELETE_STUDENT:
+                    if (!added.isEmpty()) {
+                        studentService.deleteStudent(added.pop());
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown operation " + operation);
+            }
+        }
+
+        private int pickStudentId() {
+            int hot = Math.max(1, studentIds.length / 5);
+            return random.nextInt(100) < HOT_PERCENT
+                    ? studentIds[random.nextInt(hot)]
+                    : studentIds[random.nextInt(studentIds.length)];
+        }
+
+        /**
+         * Delete the students this client added and did not delete during the run
+         */
+        void removeAdded() {
+            while (!added.isEmpty()) {
+                try {
+                    studentService.deleteStudent(added.pop());
+                } catch (StudentManagementException e) {
+                    LOG.warn("Could not remove load test student: {}", e.getMessage());
+                }
+            }
+        }
+    }
+}
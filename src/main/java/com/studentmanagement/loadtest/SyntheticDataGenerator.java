@@ -0,0 +1,145 @@
+package com.studentmanagement.loadtest;
+
+import com.studentmanagement.model.Course;
+import com.studentmanagement.model.Student;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Generates students with the skew real enrollment data has: a few common
+ * first and last names account for most rows, ages cluster around 18-23
+ * with a long tail of mature students, and a handful of popular courses take
+ * most of the enrollments. The same seed gives the same data.
+ *
+ * Not thread-safe; give each thread its own generator.
+ */
+public class SyntheticDataGenerator {
+
+    private static final String[] FIRST_NAMES = {
+        "James", "Mary", "John", "Emma", "Michael", "Olivia", "David", "Sophia", "Daniel", "Ava",
+        "Robert", "Isabella", "William", "Mia", "Joseph", "Emily", "Thomas", "Charlotte", "Christopher", "Amelia",
+        "Matthew", "Harper", "Anthony", "Evelyn", "Mark", "Abigail", "Andrew", "Ella", "Joshua", "Grace",
+        "Wei", "Priya", "Mohammed", "Fatima", "Hiroshi", "Yuki", "Carlos", "Lucia", "Ahmed", "Aisha",
+        "Ivan", "Olga", "Pierre", "Chloe", "Luca", "Giulia", "Sven", "Ingrid", "Kwame", "Amara",
+        "Arjun", "Ananya", "Mateo", "Valentina", "Noah", "Zara", "Omar", "Leila", "Tomasz", "Katarzyna"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+        "Hernandez", "Lopez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin", "Lee",
+        "Thompson", "White", "Harris", "Clark", "Lewis", "Robinson", "Walker", "Young", "Allen", "King",
+        "Wang", "Li", "Zhang", "Chen", "Liu", "Patel", "Singh", "Kumar", "Khan", "Ali",
+        "Nguyen", "Kim", "Park", "Tanaka", "Suzuki", "Sato", "Muller", "Schmidt", "Schneider", "Fischer",
+        "Rossi", "Russo", "Ferrari", "Dubois", "Bernard", "Ivanov", "Petrov", "Kowalski", "Nowak", "Okafor",
+        "Mensah", "Haddad", "Cohen", "Silva", "Santos", "Oliveira", "Pereira", "Andersson", "Johansson", "Hansen"
+    };
+
+    private static final String[] COURSE_NAMES = {
+        "Computer Science", "Business Administration", "Psychology", "Nursing", "Mechanical Engineering",
+        "Data Science", "Electrical Engineering", "Marketing", "Biology", "Economics",
+        "Accounting", "Law", "Medicine", "Civil Engineering", "Architecture",
+        "English Literature", "History", "Mathematics", "Physics", "Chemistry",
+        "Graphic Design", "Political Science", "Sociology", "Education", "Journalism",
+        "Environmental Science", "Finance", "Music", "Philosophy", "Statistics"
+    };
+
+    private static final String[] EMAIL_DOMAINS = {"example.edu", "example.com", "mail.example.org"};
+
+    private final Random random;
+    private final ZipfSampler firstNames;
+    private final ZipfSampler lastNames;
+    private ZipfSampler courses;
+    private int[] courseIds = new int[0];
+
+    public SyntheticDataGenerator(long seed) {
+        this.random = new Random(seed);
+        this.firstNames = new ZipfSampler(FIRST_NAMES.length, 0.9);
+        this.lastNames = new ZipfSampler(LAST_NAMES.length, 1.0);
+    }
+
+    /**
+     * Courses to create before generating students, named after real
+     * programmes; beyond the built-in names, numbered variants are added
+     */
+    public static List<Course> courses(int count) {
+        List<Course> courses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = COURSE_NAMES[i % COURSE_NAMES.length];
+            int round = i / COURSE_NAMES.length;
+            if (round > 0) {
+                name += " " + (round + 1);
+            }
+            courses.add(new Course(name, "Generated course: " + name));
+        }
+        return courses;
+    }
+
+    /**
+     * Set the course IDs students are enrolled in. The first ID is the most
+     * popular, so pass them in the order of courses(int).
+     */
+    public void setCourseIds(int[] courseIds) {
+        if (courseIds.length == 0) {
+            throw new IllegalArgumentException("At least one course is required");
+        }
+        this.courseIds = Arrays.copyOf(courseIds, courseIds.length);
+        this.courses = new ZipfSampler(courseIds.length, 1.1);
+    }
+
+    /**
+     * @param emailTag makes the email unique, e.g. the row number
+     */
+    public Student nextStudent(String emailTag) {
+        if (courses == null) {
+            throw new IllegalStateException("setCourseIds must be called first");
+        }
+        String first = FIRST_NAMES[firstNames.next(random)];
+        String last = LAST_NAMES[lastNames.next(random)];
+        String email = first.toLowerCase(Locale.ROOT) + "." + last.toLowerCase(Locale.ROOT)
+                + "." + emailTag + "@" + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)];
+        return new Student(first + " " + last, nextAge(), email, courseIds[courses.next(random)]);
+    }
+
+    /**
+     * 70% 18-23, 25% 24-35, 5% mature students up to 65, a few 16 and 17 year olds
+     */
+    private int nextAge() {
+        int bucket = random.nextInt(100);
+        if (bucket < 2) {
+            return 16 + random.nextInt(2);
+        }
+        if (bucket < 72) {
+            return 18 + random.nextInt(6);
+        }
+        if (bucket < 95) {
+            return 24 + random.nextInt(12);
+        }
+        return 36 + random.nextInt(30);
+    }
+
+    /**
+     * Draws 0..n-1 with probability proportional to 1 / (rank + 1)^exponent
+     */
+    static final class ZipfSampler {
+        private final double[] cumulative;
+
+        ZipfSampler(int n, double exponent) {
+            cumulative = new double[n];
+            double total = 0;
+            for (int i = 0; i < n; i++) {
+                total += 1 / Math.pow(i + 1, exponent);
+                cumulative[i] = total;
+            }
+        }
+
+        int next(Random random) {
+            double target = random.nextDouble() * cumulative[cumulative.length - 1];
+            int index = Arrays.binarySearch(cumulative, target);
+            return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+        }
+    }
+}
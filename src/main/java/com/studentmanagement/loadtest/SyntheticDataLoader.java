@@ -0,0 +1,135 @@
+package com.studentmanagement.loadtest;
+
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.model.BatchInsertResult;
+import com.studentmanagement.model.Course;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.service.CourseService;
+import com.studentmanagement.service.StudentService;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes SyntheticDataGenerator output either through StudentService, in
+ * batches that take the same path as an import, or as a bulk SQL script for
+ * the mysql client.
+ */
+public class SyntheticDataLoader {
+    private static final int SQL_ROWS_PER_INSERT = 1000;
+
+    private final long seed;
+    private final AtomicLong studentsWritten = new AtomicLong();
+    private final AtomicLong studentsRejected = new AtomicLong();
+
+    public SyntheticDataLoader(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Create the generated courses, reusing any that already exist by name
+     * @return course IDs, most popular first
+     */
+    public int[] createCourses(CourseService courseService, int count) throws StudentManagementException {
+        List<Course> courses = SyntheticDataGenerator.courses(count);
+        int[] courseIds = new int[courses.size()];
+        for (int i = 0; i < courses.size(); i++) {
+            Course existing = courseService.getCourseByName(courses.get(i).getCourseName());
+            courseIds[i] = existing != null ? existing.getCourseId() : courseService.addCourse(courses.get(i));
+        }
+        return courseIds;
+    }
+
+    /**
+     * Insert students through StudentService.addStudents
+     * @param courseIds from createCourses
+     * @return students inserted
+     */
+    public long loadStudents(StudentService studentService, int[] courseIds, long count, int batchSize)
+            throws StudentManagementException {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(seed);
+        generator.setCourseIds(courseIds);
+        String runTag = Long.toString(System.currentTimeMillis(), 36);
+        List<Student> batch = new ArrayList<>(batchSize);
+        long inserted = 0;
+        for (long i = 0; i < count; i++) {
+            batch.add(generator.nextStudent(runTag + i));
+            if (batch.size() == batchSize || i == count - 1) {
+                BatchInsertResult result = studentService.addStudents(batch);
+                inserted += result.getInsertedCount();
+                studentsWritten.addAndGet(result.getInsertedCount());
+                studentsRejected.addAndGet(result.getFailedCount());
+                batch.clear();
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * Write courses and students as multi-row INSERT statements, followed by
+     * the enrollment statistics rebuild. Course IDs are explicit (1..courses),
+     * so load the script into an empty database created by init_db.sql.
+     * @return students written
+     */
+    public long writeSql(Path file, int courses, long count) throws IOException {
+        List<Course> generatedCourses = SyntheticDataGenerator.courses(courses);
+        int[] courseIds = new int[generatedCourses.size()];
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(seed);
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("-- Generated by SyntheticDataLoader: " + courses + " courses, " + count
+                    + " students, seed " + seed + "\n");
+            writer.write("USE student_management_system;\n\n");
+            writer.write("INSERT INTO courses (course_id, course_name, description) VALUES\n");
+            for (int i = 0; i < generatedCourses.size(); i++) {
+                Course course = generatedCourses.get(i);
+                courseIds[i] = i + 1;
+                writer.write(String.format("(%d, %s, %s)%s%n", courseIds[i], quote(course.getCourseName()),
+                        quote(course.getDescription()), i == generatedCourses.size() - 1 ? ";" : ","));
+            }
+            generator.setCourseIds(courseIds);
+
+            for (long i = 0; i < count; i++) {
+                if (i % SQL_ROWS_PER_INSERT == 0) {
+                    writer.write("\nINSERT INTO students (name, age, email, course_id) VALUES\n");
+                }
+                Student student = generator.nextStudent(Long.toString(i));
+                boolean last = i == count - 1 || (i + 1) % SQL_ROWS_PER_INSERT == 0;
+                writer.write("(" + quote(student.getName()) + ", " + student.getAge() + ", "
+                        + quote(student.getEmail()) + ", " + student.getCourseId() + ")" + (last ? ";\n" : ",\n"));
+                studentsWritten.incrementAndGet();
+            }
+
+            writer.write("\n-- Rebuild enrollment statistics from the students table\n");
+            writer.write("DELETE FROM course_stats;\n");
+            writer.write("INSERT INTO course_stats (course_id, student_count, age_sum)\n");
+            writer.write("SELECT course_id, COUNT(*), SUM(age) FROM students WHERE course_id IS NOT NULL "
+                    + "GROUP BY course_id;\n");
+            writer.write("DELETE FROM age_stats;\n");
+            writer.write("INSERT INTO age_stats (age, student_count)\n");
+            writer.write("SELECT age, COUNT(*) FROM students GROUP BY age;\n");
+        }
+        return count;
+    }
+
+    private static String quote(String value) {
+        return "'" + value.replace("\\", "\\\\").replace("'", "''") + "'";
+    }
+
+    public long getStudentsWritten() {
+        return studentsWritten.get();
+    }
+
+    /**
+     * @return students StudentService refused, e.g. because the email was taken
+     */
+    public long getStudentsRejected() {
+        return studentsRejected.get();
+    }
+}
@@ -0,0 +1,63 @@
+package com.studentmanagement.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * One bar of an age histogram: students aged minAge to maxAge inclusive
+ */
+public class AgeBucket {
+    private final int minAge;
+    private final int maxAge;
+    private final long studentCount;
+
+    public AgeBucket(int minAge, int maxAge, long studentCount) {
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+        this.studentCount = studentCount;
+    }
+
+    /**
+     * Group per-age counts into buckets of a fixed width
+     * @param countsByAge student count for each age, ages ascending
+     * @param width years per bucket; buckets start at multiples of it
+     * @return non-empty buckets, youngest first
+     */
+    public static List<AgeBucket> histogram(SortedMap<Integer, Long> countsByAge, int width) {
+        List<AgeBucket> buckets = new ArrayList<>();
+        int bucketLow = 0;
+        long bucketCount = 0;
+        for (Map.Entry<Integer, Long> entry : countsByAge.entrySet()) {
+            int low = Math.floorDiv(entry.getKey(), width) * width;
+            if (bucketCount > 0 && low != bucketLow) {
+                buckets.add(new AgeBucket(bucketLow, bucketLow + width - 1, bucketCount));
+                bucketCount = 0;
+            }
+            bucketLow = low;
+            bucketCount += entry.getValue();
+        }
+        if (bucketCount > 0) {
+            buckets.add(new AgeBucket(bucketLow, bucketLow + width - 1, bucketCount));
+        }
+        return buckets;
+    }
+
+    public int getMinAge() {
+        return minAge;
+    }
+
+    public int getMaxAge() {
+        return maxAge;
+    }
+
+    public long getStudentCount() {
+        return studentCount;
+    }
+
+    @Override
+    public String toString() {
+        return "AgeBucket{" + minAge + "-" + maxAge + ": " + studentCount + '}';
+    }
+}
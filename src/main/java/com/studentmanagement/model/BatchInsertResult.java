@@ -0,0 +1,95 @@
+package com.studentmanagement.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a bulk insert: the generated ID or the error for every input row
+ */
+public class BatchInsertResult {
+    private final int[] generatedIds;
+    private final List<RowError> errors = new ArrayList<>();
+
+    public BatchInsertResult(int rowCount) {
+        this.generatedIds = new int[rowCount];
+    }
+
+    public int getRowCount() {
+        return generatedIds.length;
+    }
+
+    /**
+     * Get the generated ID of an input row
+     * @param index position of the row in the input
+     * @return generated student ID, or 0 if the row was rejected
+     */
+    public int getGeneratedId(int index) {
+        return generatedIds[index];
+    }
+
+    public void setGeneratedId(int index, int generatedId) {
+        generatedIds[index] = generatedId;
+    }
+
+    public List<RowError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public void addError(int index, String message) {
+        errors.add(new RowError(index, message));
+    }
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    public int getInsertedCount() {
+        int inserted = 0;
+        for (int id : generatedIds) {
+            if (id > 0) {
+                inserted++;
+            }
+        }
+        return inserted;
+    }
+
+    public int getFailedCount() {
+        return errors.size();
+    }
+
+    @Override
+    public String toString() {
+        return "BatchInsertResult{" +
+                "rows=" + generatedIds.length +
+                ", inserted=" + getInsertedCount() +
+                ", failed=" + errors.size() +
+                '}';
+    }
+
+    /**
+     * Why a single input row was rejected
+     */
+    public static class RowError {
+        private final int index;
+        private final String message;
+
+        public RowError(int index, String message) {
+            this.index = index;
+            this.message = message;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "row " + index + ": " + message;
+        }
+    }
+}
@@ -28,6 +28,15 @@ public class Course {
         this.description = description;
     }
 
+    // Copy constructor
+    public Course(Course other) {
+        this.courseId = other.courseId;
+        this.courseName = other.courseName;
+        this.description = other.description;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+    }
+
     // Getters and Setters
     public int getCourseId() {
         return courseId;
@@ -0,0 +1,39 @@
+package com.studentmanagement.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical course name per course ID, so compact student records of the
+ * same course share one String instead of each holding a copy.
+ */
+public class CourseDictionary {
+    private final ConcurrentHashMap<Integer, String> names = new ConcurrentHashMap<>();
+
+    /**
+     * @return the stored name for the course if it equals courseName,
+     *         otherwise courseName, which becomes the stored name
+     */
+    public String intern(int courseId, String courseName) {
+        if (courseName == null) {
+            return null;
+        }
+        String known = names.get(courseId);
+        if (courseName.equals(known)) {
+            return known;
+        }
+        // A renamed course replaces its old name
+        names.put(courseId, courseName);
+        return courseName;
+    }
+
+    /**
+     * @return the stored name, or null if the course has not been seen
+     */
+    public String getCourseName(int courseId) {
+        return names.get(courseId);
+    }
+
+    public int size() {
+        return names.size();
+    }
+}
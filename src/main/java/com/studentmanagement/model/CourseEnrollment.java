@@ -0,0 +1,46 @@
+package com.studentmanagement.model;
+
+/**
+ * Number of students enrolled in one course
+ */
+public class CourseEnrollment {
+    private final int courseId;
+    private final String courseName;
+    private final long studentCount;
+    private final double averageAge;
+
+    public CourseEnrollment(int courseId, String courseName, long studentCount, double averageAge) {
+        this.courseId = courseId;
+        this.courseName = courseName;
+        this.studentCount = studentCount;
+        this.averageAge = averageAge;
+    }
+
+    public int getCourseId() {
+        return courseId;
+    }
+
+    public String getCourseName() {
+        return courseName;
+    }
+
+    public long getStudentCount() {
+        return studentCount;
+    }
+
+    /**
+     * @return average age of the enrolled students, or 0 if there are none
+     */
+    public double getAverageAge() {
+        return averageAge;
+    }
+
+    @Override
+    public String toString() {
+        return "CourseEnrollment{" +
+                "courseId=" + courseId +
+                ", courseName='" + courseName + '\'' +
+                ", studentCount=" + studentCount +
+                '}';
+    }
+}
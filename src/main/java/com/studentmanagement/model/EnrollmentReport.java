@@ -0,0 +1,107 @@
+package com.studentmanagement.model;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Student totals, per-course enrollment and age distribution at one point in time
+ */
+public class EnrollmentReport {
+
+    /**
+     * Where the figures came from
+     */
+    public enum Source {
+        /** Aggregate queries against the database */
+        DATABASE,
+        /** The course_stats and age_stats summary tables */
+        SUMMARY_TABLES,
+        /** In-memory counters kept up to date by the student write paths */
+        COUNTERS
+    }
+
+    private final long totalStudents;
+    private final double averageAge;
+    private final int minAge;
+    private final int maxAge;
+    private final long unassignedStudents;
+    private final List<CourseEnrollment> courses;
+    private final List<AgeBucket> ageHistogram;
+    private final Source source;
+    private final Date generatedAt;
+
+    public EnrollmentReport(long totalStudents, double averageAge, int minAge, int maxAge, long unassignedStudents,
+                            List<CourseEnrollment> courses, List<AgeBucket> ageHistogram, Source source) {
+        this.totalStudents = totalStudents;
+        this.averageAge = averageAge;
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+        this.unassignedStudents = unassignedStudents;
+        this.courses = Collections.unmodifiableList(courses);
+        this.ageHistogram = Collections.unmodifiableList(ageHistogram);
+        this.source = source;
+        this.generatedAt = new Date();
+    }
+
+    public long getTotalStudents() {
+        return totalStudents;
+    }
+
+    public int getTotalCourses() {
+        return courses.size();
+    }
+
+    /**
+     * @return average student age, or 0 if there are no students
+     */
+    public double getAverageAge() {
+        return averageAge;
+    }
+
+    public int getMinAge() {
+        return minAge;
+    }
+
+    public int getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * @return students without a course
+     */
+    public long getUnassignedStudents() {
+        return unassignedStudents;
+    }
+
+    /**
+     * @return every course, including empty ones, ordered by name
+     */
+    public List<CourseEnrollment> getCourses() {
+        return courses;
+    }
+
+    /**
+     * @return non-empty age buckets, youngest first
+     */
+    public List<AgeBucket> getAgeHistogram() {
+        return ageHistogram;
+    }
+
+    public Source getSource() {
+        return source;
+    }
+
+    public Date getGeneratedAt() {
+        return new Date(generatedAt.getTime());
+    }
+
+    @Override
+    public String toString() {
+        return "EnrollmentReport{" +
+                "totalStudents=" + totalStudents +
+                ", totalCourses=" + courses.size() +
+                ", source=" + source +
+                '}';
+    }
+}
@@ -0,0 +1,40 @@
+package com.studentmanagement.model;
+
+/**
+ * A student found by a typo-tolerant search, with how closely it matched
+ */
+public class FuzzyMatch {
+    private final Student student;
+    private final int distance;
+    private final double score;
+
+    public FuzzyMatch(Student student, int distance, double score) {
+        this.student = student;
+        this.distance = distance;
+        this.score = score;
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    /**
+     * @return number of edits between the query and the matched name or email
+     */
+    public int getDistance() {
+        return distance;
+    }
+
+    /**
+     * @return similarity between 0 and 1, 1 being an exact match
+     */
+    public double getScore() {
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FuzzyMatch{studentId=%d, distance=%d, score=%.2f}",
+                student.getStudentId(), distance, score);
+    }
+}
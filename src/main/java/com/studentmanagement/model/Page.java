@@ -0,0 +1,55 @@
+package com.studentmanagement.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing
+ * @param <T> item type
+ */
+public class Page<T> {
+    public static final long TOTAL_UNKNOWN = -1;
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final long estimatedTotal;
+
+    public Page(List<T> items, String nextCursor, long estimatedTotal) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+        this.estimatedTotal = estimatedTotal;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Get the opaque cursor for the following page
+     * @return cursor token, or null if this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Get the approximate total number of rows
+     * @return estimated total, or TOTAL_UNKNOWN if it was not requested
+     */
+    public long getEstimatedTotal() {
+        return estimatedTotal;
+    }
+
+    @Override
+    public String toString() {
+        return "Page{" +
+                "items=" + items.size() +
+                ", nextCursor='" + nextCursor + '\'' +
+                ", estimatedTotal=" + estimatedTotal +
+                '}';
+    }
+}
@@ -0,0 +1,72 @@
+package com.studentmanagement.model;
+
+/**
+ * A course_stats or age_stats row that disagrees with the students table
+ */
+public class StatsDrift {
+
+    public enum Scope {
+        /** course_stats row; key is the course ID */
+        COURSE,
+        /** age_stats row; key is the age */
+        AGE
+    }
+
+    private final Scope scope;
+    private final int key;
+    private final long recordedCount;
+    private final long actualCount;
+    private final long recordedAgeSum;
+    private final long actualAgeSum;
+
+    public StatsDrift(Scope scope, int key, long recordedCount, long actualCount,
+                      long recordedAgeSum, long actualAgeSum) {
+        this.scope = scope;
+        this.key = key;
+        this.recordedCount = recordedCount;
+        this.actualCount = actualCount;
+        this.recordedAgeSum = recordedAgeSum;
+        this.actualAgeSum = actualAgeSum;
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public int getKey() {
+        return key;
+    }
+
+    /**
+     * @return student count stored in the stats table
+     */
+    public long getRecordedCount() {
+        return recordedCount;
+    }
+
+    /**
+     * @return student count recomputed from the students table
+     */
+    public long getActualCount() {
+        return actualCount;
+    }
+
+    /**
+     * @return age sum stored in course_stats; 0 for AGE rows
+     */
+    public long getRecordedAgeSum() {
+        return recordedAgeSum;
+    }
+
+    public long getActualAgeSum() {
+        return actualAgeSum;
+    }
+
+    @Override
+    public String toString() {
+        return "StatsDrift{" + scope + " " + key +
+                ": count " + recordedCount + " -> " + actualCount +
+                (scope == Scope.COURSE ? ", ageSum " + recordedAgeSum + " -> " + actualAgeSum : "") +
+                '}';
+    }
+}
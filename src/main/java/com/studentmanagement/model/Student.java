@@ -45,6 +45,18 @@ public class Student {
         this.courseName = courseName;
     }
 
+    // Copy constructor
+    public Student(Student other) {
+        this.studentId = other.studentId;
+        this.name = other.name;
+        this.age = other.age;
+        this.email = other.email;
+        this.courseId = other.courseId;
+        this.courseName = other.courseName;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+    }
+
     // Getters and Setters
     public int getStudentId() {
         return studentId;
@@ -0,0 +1,146 @@
+package com.studentmanagement.model;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+
+/**
+ * Immutable, compact student for bulk reads, alongside the mutable Student bean.
+ *
+ * Timestamps are epoch milliseconds instead of Timestamp objects, the course
+ * name is shared through a CourseDictionary, and the email can be kept as
+ * UTF-8 bytes, decoded on each getEmail() call. Equality is by student ID, as
+ * for Student.
+ */
+public final class StudentRecord {
+    /** Timestamp value of a NULL column */
+    public static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private final int studentId;
+    private final int age;
+    private final int courseId;
+    private final String name;
+    private final String courseName;
+    private final String email;
+    private final byte[] emailUtf8;
+    private final long createdAtMillis;
+    private final long updatedAtMillis;
+
+    /**
+     * @param courseName the name as interned by a CourseDictionary
+     * @param emailAsUtf8 whether to keep the email as UTF-8 bytes instead of a String
+     * @param createdAtMillis epoch milliseconds, or NO_TIMESTAMP
+     */
+    public StudentRecord(int studentId, String name, int age, String email, boolean emailAsUtf8,
+                         int courseId, String courseName, long createdAtMillis, long updatedAtMillis) {
+        this.studentId = studentId;
+        this.name = name;
+        this.age = age;
+        this.email = emailAsUtf8 ? null : email;
+        this.emailUtf8 = emailAsUtf8 && email != null ? email.getBytes(StandardCharsets.UTF_8) : null;
+        this.courseId = courseId;
+        this.courseName = courseName;
+        this.createdAtMillis = createdAtMillis;
+        this.updatedAtMillis = updatedAtMillis;
+    }
+
+    /**
+     * Compact copy of a Student
+     */
+    public static StudentRecord from(Student student, CourseDictionary courses, boolean emailAsUtf8) {
+        return new StudentRecord(student.getStudentId(), student.getName(), student.getAge(), student.getEmail(),
+                emailAsUtf8, student.getCourseId(), courses.intern(student.getCourseId(), student.getCourseName()),
+                toMillis(student.getCreatedAt()), toMillis(student.getUpdatedAt()));
+    }
+
+    public static long toMillis(Timestamp timestamp) {
+        return timestamp != null ? timestamp.getTime() : NO_TIMESTAMP;
+    }
+
+    /**
+     * @return a mutable Student with the same values, e.g. to edit it
+     */
+    public Student toStudent() {
+        Student student = new Student(studentId, name, age, getEmail(), courseId, courseName);
+        student.setCreatedAt(getCreatedAt());
+        student.setUpdatedAt(getUpdatedAt());
+        return student;
+    }
+
+    public int getStudentId() {
+        return studentId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public String getEmail() {
+        return emailUtf8 != null ? new String(emailUtf8, StandardCharsets.UTF_8) : email;
+    }
+
+    public int getCourseId() {
+        return courseId;
+    }
+
+    public String getCourseName() {
+        return courseName;
+    }
+
+    /**
+     * @return epoch milliseconds, or NO_TIMESTAMP
+     */
+    public long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+
+    /**
+     * @return epoch milliseconds, or NO_TIMESTAMP
+     */
+    public long getUpdatedAtMillis() {
+        return updatedAtMillis;
+    }
+
+    /**
+     * @return a new Timestamp, or null
+     */
+    public Timestamp getCreatedAt() {
+        return createdAtMillis != NO_TIMESTAMP ? new Timestamp(createdAtMillis) : null;
+    }
+
+    /**
+     * @return a new Timestamp, or null
+     */
+    public Timestamp getUpdatedAt() {
+        return updatedAtMillis != NO_TIMESTAMP ? new Timestamp(updatedAtMillis) : null;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentRecord{" +
+                "studentId=" + studentId +
+                ", name='" + name + '\'' +
+                ", age=" + age +
+                ", email='" + getEmail() + '\'' +
+                ", courseId=" + courseId +
+                ", courseName='" + courseName + '\'' +
+                ", createdAt=" + getCreatedAt() +
+                ", updatedAt=" + getUpdatedAt() +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        return studentId == ((StudentRecord) obj).studentId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(studentId);
+    }
+}
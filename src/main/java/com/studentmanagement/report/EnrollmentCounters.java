@@ -0,0 +1,251 @@
+package com.studentmanagement.report;
+
+import com.studentmanagement.dao.StudentDAO;
+import com.studentmanagement.model.AgeBucket;
+import com.studentmanagement.model.Course;
+import com.studentmanagement.model.CourseEnrollment;
+import com.studentmanagement.model.EnrollmentReport;
+import com.studentmanagement.exception.StudentManagementException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory enrollment counters, kept up to date by the student write paths
+ * so a report costs O(courses + ages) instead of a scan of every student.
+ *
+ * Each student's current course and age are remembered so that an update
+ * or delete can take the student out of the right counters. Deleting a
+ * course moves its students to unassigned, mirroring ON DELETE SET NULL.
+ * Writes that bypass the DAOs are only picked up by the next build, so
+ * callers rebuild periodically.
+ */
+public class EnrollmentCounters {
+    private static final int NO_COURSE = 0;
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    // course ID in the high 32 bits, age in the low 32 bits
+    private final Map<Integer, Long> stateByStudent = new HashMap<>();
+    private final Map<Integer, Totals> byCourse = new HashMap<>();
+    private final TreeMap<Integer, Long> studentsByAge = new TreeMap<>();
+    private long ageSum;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Object buildLock = new Object();
+    private volatile boolean ready;
+    // IDs written while a build scan is running; the scan must not overwrite them
+    private Set<Integer> writtenDuringBuild;
+
+    /**
+     * Students and summed age for one course
+     */
+    private static final class Totals {
+        long students;
+        long ageSum;
+    }
+
+    /**
+     * @return true once a build has completed
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Recount from a streaming scan of all students.
+     * Writes made through put/remove while the scan runs win over the scanned rows.
+     * Concurrent builds run one after the other.
+     * @return number of students counted
+     * @throws StudentManagementException if the scan fails
+     */
+    public long build(StudentDAO source) throws StudentManagementException {
+        synchronized (buildLock) {
+            return rebuild(source);
+        }
+    }
+
+    private long rebuild(StudentDAO source) throws StudentManagementException {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            stateByStudent.clear();
+            byCourse.clear();
+            studentsByAge.clear();
+            ageSum = 0;
+            writtenDuringBuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        int[] batchIds = new int[BUILD_BATCH_SIZE];
+        int[] batchCourses = new int[BUILD_BATCH_SIZE];
+        int[] batchAges = new int[BUILD_BATCH_SIZE];
+        int[] batchSize = {0};
+        try {
+            source.forEachStudent(student -> {
+                int i = batchSize[0];
+                batchIds[i] = student.getStudentId();
+                batchCourses[i] = student.getCourseId();
+                batchAges[i] = student.getAge();
+                if (++batchSize[0] == BUILD_BATCH_SIZE) {
+                    addScanned(batchIds, batchCourses, batchAges, batchSize[0]);
+                    batchSize[0] = 0;
+                }
+            }, true);
+            addScanned(batchIds, batchCourses, batchAges, batchSize[0]);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                writtenDuringBuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            ready = true;
+            return stateByStudent.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Count a student, replacing any previous course and age
+     * @param courseId course ID, or 0 for none
+     */
+    public void put(int studentId, int courseId, int age) {
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringBuild != null) {
+                writtenDuringBuild.add(studentId);
+            }
+            uncount(studentId);
+            count(studentId, courseId, age);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int studentId) {
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringBuild != null) {
+                writtenDuringBuild.add(studentId);
+            }
+            uncount(studentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Move every student of a deleted course to unassigned
+     */
+    public void removeCourse(int courseId) {
+        if (courseId == NO_COURSE) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (byCourse.remove(courseId) == null) {
+                return;
+            }
+            long unassigned = (long) NO_COURSE << 32;
+            for (Map.Entry<Integer, Long> entry : stateByStudent.entrySet()) {
+                long state = entry.getValue();
+                if ((int) (state >>> 32) == courseId) {
+                    entry.setValue(unassigned | (state & 0xFFFFFFFFL));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Build a report from the counters
+     * @param courses current courses, in the order to report them
+     * @param ageBucketWidth years covered by each histogram bucket
+     * @return report with source COUNTERS
+     */
+    public EnrollmentReport getReport(List<Course> courses, int ageBucketWidth) {
+        lock.readLock().lock();
+        try {
+            long total = stateByStudent.size();
+            long assigned = 0;
+            List<CourseEnrollment> enrollments = new ArrayList<>(courses.size());
+            for (Course course : courses) {
+                Totals totals = byCourse.get(course.getCourseId());
+                long students = totals == null ? 0 : totals.students;
+                double averageAge = students == 0 ? 0 : (double) totals.ageSum / students;
+                enrollments.add(new CourseEnrollment(course.getCourseId(), course.getCourseName(),
+                        students, averageAge));
+                assigned += students;
+            }
+
+            List<AgeBucket> histogram = AgeBucket.histogram(studentsByAge, ageBucketWidth);
+
+            return new EnrollmentReport(total,
+                    total == 0 ? 0 : (double) ageSum / total,
+                    studentsByAge.isEmpty() ? 0 : studentsByAge.firstKey(),
+                    studentsByAge.isEmpty() ? 0 : studentsByAge.lastKey(),
+                    total - assigned, enrollments, histogram, EnrollmentReport.Source.COUNTERS);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addScanned(int[] ids, int[] courseIds, int[] ages, int count) {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < count; i++) {
+                if (!writtenDuringBuild.contains(ids[i])) {
+                    uncount(ids[i]);
+                    count(ids[i], courseIds[i], ages[i]);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void count(int studentId, int courseId, int age) {
+        stateByStudent.put(studentId, ((long) courseId << 32) | (age & 0xFFFFFFFFL));
+        if (courseId != NO_COURSE) {
+            Totals totals = byCourse.computeIfAbsent(courseId, id -> new Totals());
+            totals.students++;
+            totals.ageSum += age;
+        }
+        studentsByAge.merge(age, 1L, Long::sum);
+        ageSum += age;
+    }
+
+    private void uncount(int studentId) {
+        Long state = stateByStudent.remove(studentId);
+        if (state == null) {
+            return;
+        }
+        int courseId = (int) (state >>> 32);
+        int age = (int) (long) state;
+        if (courseId != NO_COURSE) {
+            Totals totals = byCourse.get(courseId);
+            if (--totals.students == 0) {
+                byCourse.remove(courseId);
+            } else {
+                totals.ageSum -= age;
+            }
+        }
+        if (studentsByAge.merge(age, -1L, Long::sum) == 0) {
+            studentsByAge.remove(age);
+        }
+        ageSum -= age;
+    }
+}
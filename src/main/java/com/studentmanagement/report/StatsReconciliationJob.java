@@ -0,0 +1,84 @@
+package com.studentmanagement.report;
+
+import com.studentmanagement.dao.ReportDAO;
+import com.studentmanagement.model.StatsDrift;
+import com.studentmanagement.exception.StudentManagementException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically recomputes course_stats and age_stats from the students
+ * table, repairs any rows that drifted and logs them as warnings.
+ * Drift means something wrote students without going through StudentDAOImpl,
+ * such as a manual SQL fix or a bulk load script.
+ */
+public class StatsReconciliationJob implements Runnable, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(StatsReconciliationJob.class);
+
+    private final ReportDAO reportDAO;
+    private final boolean repair;
+    private ScheduledExecutorService scheduler;
+    private volatile List<StatsDrift> lastDrift = Collections.emptyList();
+    private volatile long runCount;
+
+    public StatsReconciliationJob(ReportDAO reportDAO, boolean repair) {
+        this.reportDAO = reportDAO;
+        this.repair = repair;
+    }
+
+    /**
+     * Run every intervalMs on a daemon thread, starting after one interval
+     */
+    public synchronized void start(long intervalMs) {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stats-reconciliation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void run() {
+        try {
+            List<StatsDrift> drift = reportDAO.reconcileStats(repair);
+            lastDrift = drift;
+            runCount++;
+            if (!drift.isEmpty()) {
+                LOG.warn("Enrollment statistics drifted in {} rows{}: {}", drift.size(), repair ? " (repaired)" : "",
+                        drift);
+            }
+        } catch (StudentManagementException | RuntimeException e) {
+            LOG.error("Enrollment statistics reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return rows that drifted in the last completed run
+     */
+    public List<StatsDrift> getLastDrift() {
+        return lastDrift;
+    }
+
+    public long getRunCount() {
+        return runCount;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+}
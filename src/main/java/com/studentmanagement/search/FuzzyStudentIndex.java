@@ -0,0 +1,400 @@
+package com.studentmanagement.search;
+
+import com.studentmanagement.dao.StudentDAO;
+import com.studentmanagement.exception.StudentManagementException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typo-tolerant lookup of students by name or email.
+ *
+ * Distinct name words live in one FuzzyTermDictionary and full emails in
+ * another, each term carrying the IDs of its students. A query containing '@' is matched
+ * against emails; anything else is split into words and each word is
+ * matched against name words. A student's score is the average, over the
+ * query words, of 1 - distance / length for the closest word in their
+ * name, so students matching more of the query rank first.
+ *
+ * Words of four letters or fewer allow at most one edit, since two edits
+ * would match almost any short name.
+ */
+public class FuzzyStudentIndex {
+    private static final int SHORT_WORD_LENGTH = 4;
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private FuzzyTermDictionary nameWords = new FuzzyTermDictionary();
+    private FuzzyTermDictionary emails = new FuzzyTermDictionary();
+    private final Map<Integer, String[]> wordsByStudent = new HashMap<>();
+    private final Map<Integer, String> emailByStudent = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+    // IDs written while a build scan is running; the scan must not overwrite them
+    private Set<Integer> writtenDuringBuild;
+
+    /**
+     * One student found by a fuzzy search
+     */
+    public static final class Hit {
+        private final int studentId;
+        private final int distance;
+        private final double score;
+
+        Hit(int studentId, int distance, double score) {
+            this.studentId = studentId;
+            this.distance = distance;
+            this.score = score;
+        }
+
+        public int getStudentId() {
+            return studentId;
+        }
+
+        /**
+         * @return total edits between the query words and the matched words
+         */
+        public int getDistance() {
+            return distance;
+        }
+
+        /**
+         * @return similarity between 0 and 1, 1 being an exact match
+         */
+        public double getScore() {
+            return score;
+        }
+    }
+
+    /**
+     * A dictionary term matched by one query word
+     */
+    private static final class TermMatch {
+        final int distance;
+        final double similarity;
+        final IntPostingList postings;
+
+        TermMatch(int distance, double similarity, IntPostingList postings) {
+            this.distance = distance;
+            this.similarity = similarity;
+            this.postings = postings;
+        }
+    }
+
+    private static final Comparator<Hit> BEST_FIRST = Comparator
+            .comparingDouble((Hit h) -> -h.score)
+            .thenComparingInt(h -> h.distance)
+            .thenComparingInt(h -> h.studentId);
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @return number of distinct name words and emails indexed
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return nameWords.termCount() + emails.termCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuild the index from a streaming scan of all students.
+     * Writes made through put/remove while the scan runs win over the scanned rows.
+     * @return number of students indexed
+     * @throws StudentManagementException if the scan fails
+     */
+    public long build(StudentDAO source) throws StudentManagementException {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            nameWords = new FuzzyTermDictionary();
+            emails = new FuzzyTermDictionary();
+            wordsByStudent.clear();
+            emailByStudent.clear();
+            writtenDuringBuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        int[] batchIds = new int[BUILD_BATCH_SIZE];
+        String[] batchNames = new String[BUILD_BATCH_SIZE];
+        String[] batchEmails = new String[BUILD_BATCH_SIZE];
+        int[] batchSize = {0};
+        try {
+            source.forEachStudent(student -> {
+                int i = batchSize[0];
+                batchIds[i] = student.getStudentId();
+                batchNames[i] = student.getName();
+                batchEmails[i] = student.getEmail();
+                if (++batchSize[0] == BUILD_BATCH_SIZE) {
+                    addScanned(batchIds, batchNames, batchEmails, batchSize[0]);
+                    batchSize[0] = 0;
+                }
+            }, true);
+            addScanned(batchIds, batchNames, batchEmails, batchSize[0]);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                writtenDuringBuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            ready = true;
+            return wordsByStudent.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Index a student, replacing any previous name and email
+     */
+    public void put(int studentId, String name, String email) {
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringBuild != null) {
+                writtenDuringBuild.add(studentId);
+            }
+            unindex(studentId);
+            index(studentId, name, email);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int studentId) {
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringBuild != null) {
+                writtenDuringBuild.add(studentId);
+            }
+            unindex(studentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find the students closest to a query
+     * @param query name words, or an email
+     * @param maxDistance maximum edits allowed per query word
+     * @param limit maximum number of hits to return
+     * @return hits, best first
+     */
+    public List<Hit> search(String query, int maxDistance, int limit) {
+        String normalized = StudentNameIndex.normalize(query);
+        if (normalized.isEmpty() || limit <= 0 || maxDistance < 0) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            if (normalized.indexOf('@') >= 0) {
+                return searchEmails(normalized, maxDistance, limit);
+            }
+            return searchNames(splitWords(normalized), maxDistance, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Hit> searchEmails(String email, int maxDistance, int limit) {
+        TopHits top = new TopHits(limit);
+        emails.search(email, maxDistance, (term, distance, postings) -> {
+            double score = similarity(email, term, distance);
+            for (int i = 0; i < postings.size(); i++) {
+                top.offer(new Hit(postings.get(i), distance, score));
+            }
+        });
+        return top.sorted();
+    }
+
+    /**
+     * Score students against several query words. Candidates come from the
+     * most selective query word (fewest matching students); each candidate's
+     * own name words are then compared with the other query words. Driver
+     * terms are visited best first, so the search stops once no remaining
+     * candidate can beat the current top hits.
+     */
+    private List<Hit> searchNames(List<String> queryWords, int maxDistance, int limit) {
+        int wordCount = queryWords.size();
+        if (wordCount == 0) {
+            return Collections.emptyList();
+        }
+        int driver = -1;
+        long driverPostings = Long.MAX_VALUE;
+        List<TermMatch> driverMatches = null;
+        for (int w = 0; w < wordCount; w++) {
+            String word = queryWords.get(w);
+            List<TermMatch> matches = new ArrayList<>();
+            nameWords.search(word, allowedDistance(word, maxDistance), (term, distance, postings) ->
+                    matches.add(new TermMatch(distance, similarity(word, term, distance), postings)));
+            long postingCount = 0;
+            for (TermMatch match : matches) {
+                postingCount += match.postings.size();
+            }
+            if (!matches.isEmpty() && postingCount < driverPostings) {
+                driver = w;
+                driverPostings = postingCount;
+                driverMatches = matches;
+            }
+        }
+        if (driverMatches == null) {
+            return Collections.emptyList();
+        }
+        driverMatches.sort(Comparator.comparingDouble((TermMatch m) -> -m.similarity));
+
+        TopHits top = new TopHits(limit);
+        Set<Integer> seen = new HashSet<>();
+        for (TermMatch match : driverMatches) {
+            // Best score any student of this term can reach: perfect matches on the other words
+            double bound = (match.similarity + (wordCount - 1)) / wordCount;
+            if (top.isFull() && top.worstScore() >= bound) {
+                break;
+            }
+            for (int i = 0; i < match.postings.size(); i++) {
+                int studentId = match.postings.get(i);
+                if (!seen.add(studentId)) {
+                    continue;
+                }
+                double total = match.similarity;
+                int distance = match.distance;
+                String[] studentWords = wordsByStudent.get(studentId);
+                for (int w = 0; w < wordCount; w++) {
+                    if (w == driver || studentWords == null) {
+                        continue;
+                    }
+                    String word = queryWords.get(w);
+                    int allowed = allowedDistance(word, maxDistance);
+                    double bestSimilarity = 0;
+                    int bestDistance = 0;
+                    for (String studentWord : studentWords) {
+                        int d = FuzzyTermDictionary.distance(word, studentWord, allowed);
+                        double similarity = d <= allowed ? similarity(word, studentWord, d) : 0;
+                        if (similarity > bestSimilarity) {
+                            bestSimilarity = similarity;
+                            bestDistance = d;
+                        }
+                    }
+                    total += bestSimilarity;
+                    distance += bestDistance;
+                }
+                top.offer(new Hit(studentId, distance, total / wordCount));
+                if (top.isFull() && top.worstScore() >= bound) {
+                    break;
+                }
+            }
+        }
+        return top.sorted();
+    }
+
+    private static int allowedDistance(String word, int maxDistance) {
+        return word.length() <= SHORT_WORD_LENGTH ? Math.min(1, maxDistance) : maxDistance;
+    }
+
+    private void addScanned(int[] ids, String[] names, String[] emailValues, int count) {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < count; i++) {
+                if (!writtenDuringBuild.contains(ids[i])) {
+                    unindex(ids[i]);
+                    index(ids[i], names[i], emailValues[i]);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(int studentId, String name, String email) {
+        List<String> words = splitWords(StudentNameIndex.normalize(name));
+        for (String word : words) {
+            nameWords.add(word, studentId);
+        }
+        wordsByStudent.put(studentId, words.toArray(new String[0]));
+        if (email != null) {
+            String normalizedEmail = StudentNameIndex.normalize(email);
+            emails.add(normalizedEmail, studentId);
+            emailByStudent.put(studentId, normalizedEmail);
+        }
+    }
+
+    private void unindex(int studentId) {
+        String[] words = wordsByStudent.remove(studentId);
+        if (words != null) {
+            for (String word : words) {
+                nameWords.remove(word, studentId);
+            }
+        }
+        String email = emailByStudent.remove(studentId);
+        if (email != null) {
+            emails.remove(email, studentId);
+        }
+    }
+
+    private static List<String> splitWords(String text) {
+        List<String> result = new ArrayList<>();
+        for (String word : text.split("[^\\p{L}\\p{N}']+")) {
+            if (!word.isEmpty()) {
+                result.add(word);
+            }
+        }
+        return result;
+    }
+
+    private static double similarity(String query, String term, int distance) {
+        return 1.0 - (double) distance / Math.max(query.length(), term.length());
+    }
+
+    /**
+     * Bounded heap keeping the best hits seen so far
+     */
+    private static final class TopHits {
+        private final int limit;
+        private final PriorityQueue<Hit> heap;
+
+        TopHits(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(Math.min(limit, 1024) + 1, BEST_FIRST.reversed());
+        }
+
+        boolean isFull() {
+            return heap.size() >= limit;
+        }
+
+        double worstScore() {
+            return heap.peek().score;
+        }
+
+        void offer(Hit hit) {
+            if (heap.size() < limit) {
+                heap.add(hit);
+            } else if (BEST_FIRST.compare(hit, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(hit);
+            }
+        }
+
+        List<Hit> sorted() {
+            List<Hit> hits = new ArrayList<>(heap);
+            hits.sort(BEST_FIRST);
+            return hits;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.studentmanagement.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sorted dictionary of terms that can be searched by Levenshtein distance.
+ * Each term carries the IDs of the students it belongs to.
+ *
+ * The search walks the terms in sorted order as if they formed a trie,
+ * keeping one row of the edit-distance matrix per character of the current
+ * term. Rows for the prefix shared with the previous term are reused, and
+ * as soon as every value in a row exceeds the allowed distance, all terms
+ * with that prefix are skipped. This is the usual Levenshtein automaton
+ * over a trie, with sorted arrays standing in for the trie, and only
+ * touches a small part of the dictionary for small distances. Terms are
+ * also partitioned by length, since a term more than maxDistance characters
+ * longer or shorter than the query cannot match.
+ *
+ * Not thread-safe; the owning index guards access.
+ */
+final class FuzzyTermDictionary {
+
+    /**
+     * Receives each term found within the requested distance
+     */
+    interface Visitor {
+        void visit(String term, int distance, IntPostingList postings);
+    }
+
+    private final Map<Integer, Bucket> bucketsByLength = new HashMap<>();
+    private int termCount;
+
+    int termCount() {
+        return termCount;
+    }
+
+    void add(String term, int studentId) {
+        Bucket bucket = bucketsByLength.computeIfAbsent(term.length(), length -> new Bucket());
+        int index = bucket.indexOf(term);
+        if (index < 0) {
+            index = bucket.insert(-index - 1, term);
+            termCount++;
+        }
+        bucket.postings[index].add(studentId);
+    }
+
+    void remove(String term, int studentId) {
+        Bucket bucket = bucketsByLength.get(term.length());
+        int index = bucket == null ? -1 : bucket.indexOf(term);
+        if (index >= 0 && bucket.postings[index].remove(studentId) && bucket.postings[index].isEmpty()) {
+            bucket.delete(index);
+            termCount--;
+        }
+    }
+
+    /**
+     * Visit every term within maxDistance edits of the query
+     */
+    void search(String query, int maxDistance, Visitor visitor) {
+        int minLength = Math.max(0, query.length() - maxDistance);
+        for (int length = minLength; length <= query.length() + maxDistance; length++) {
+            Bucket bucket = bucketsByLength.get(length);
+            if (bucket != null) {
+                search(bucket, query, maxDistance, visitor);
+            }
+        }
+    }
+
+    private static void search(Bucket bucket, String query, int maxDistance, Visitor visitor) {
+        int columns = query.length() + 1;
+        int[][] rows = new int[16][];
+        rows[0] = new int[columns];
+        for (int j = 0; j < columns; j++) {
+            rows[0][j] = j;
+        }
+
+        String[] terms = bucket.terms;
+        String previous = "";
+        // Number of leading characters of previous whose rows are computed
+        int previousDepth = 0;
+        int i = 0;
+        while (i < bucket.size) {
+            String term = terms[i];
+            int depth = Math.min(commonPrefixLength(previous, term), previousDepth);
+            int pruneDepth = 0;
+            while (depth < term.length()) {
+                depth++;
+                if (depth >= rows.length) {
+                    rows = Arrays.copyOf(rows, rows.length * 2);
+                }
+                if (rows[depth] == null) {
+                    rows[depth] = new int[columns];
+                }
+                if (step(rows[depth - 1], rows[depth], depth, term.charAt(depth - 1), query, maxDistance) > maxDistance) {
+                    pruneDepth = depth;
+                    break;
+                }
+            }
+            previous = term;
+            if (pruneDepth > 0) {
+                // No term starting with this prefix can match; jump past all of them
+                previousDepth = pruneDepth;
+                i = bucket.endOfPrefix(i, term, pruneDepth);
+                continue;
+            }
+            previousDepth = term.length();
+            int distance = rows[term.length()][columns - 1];
+            if (distance <= maxDistance) {
+                visitor.visit(term, distance, bucket.postings[i]);
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Compute the next edit-distance row for one more character of the term.
+     * Only the diagonal band of width 2 * maxDistance + 1 is computed; cells
+     * outside it cannot lead to a match, and the cells just outside it are
+     * set to maxDistance + 1 so the next row reads them as too far.
+     * @return the smallest value in the band
+     */
+    private static int step(int[] above, int[] row, int depth, char c, String query, int maxDistance) {
+        int tooFar = maxDistance + 1;
+        int low = Math.max(1, depth - maxDistance);
+        int high = Math.min(row.length - 1, depth + maxDistance);
+        int rowMin = tooFar;
+        if (low == 1) {
+            row[0] = depth;
+            rowMin = Math.min(rowMin, depth);
+        } else {
+            row[low - 1] = tooFar;
+        }
+        for (int j = low; j <= high; j++) {
+            int cost = query.charAt(j - 1) == c ? 0 : 1;
+            int value = Math.min(Math.min(row[j - 1] + 1, above[j] + 1), above[j - 1] + cost);
+            row[j] = value;
+            if (value < rowMin) {
+                rowMin = value;
+            }
+        }
+        if (high + 1 < row.length) {
+            row[high + 1] = tooFar;
+        }
+        return rowMin;
+    }
+
+    /**
+     * Bounded Levenshtein distance between two strings
+     * @return the distance, or limit + 1 if it is larger than limit
+     */
+    static int distance(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1;
+        }
+        int[] above = new int[b.length() + 1];
+        int[] row = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            above[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            if (step(above, row, i, a.charAt(i - 1), b, limit) > limit) {
+                return limit + 1;
+            }
+            int[] swap = above;
+            above = row;
+            row = swap;
+        }
+        return Math.min(above[b.length()], limit + 1);
+    }
+
+    /**
+     * Terms of one length in sorted order, with their postings in a parallel array
+     */
+    private static final class Bucket {
+        String[] terms = new String[8];
+        IntPostingList[] postings = new IntPostingList[8];
+        int size;
+
+        int indexOf(String term) {
+            return Arrays.binarySearch(terms, 0, size, term);
+        }
+
+        int insert(int index, String term) {
+            if (size == terms.length) {
+                terms = Arrays.copyOf(terms, size * 2);
+                postings = Arrays.copyOf(postings, size * 2);
+            }
+            System.arraycopy(terms, index, terms, index + 1, size - index);
+            System.arraycopy(postings, index, postings, index + 1, size - index);
+            terms[index] = term;
+            postings[index] = new IntPostingList();
+            size++;
+            return index;
+        }
+
+        void delete(int index) {
+            System.arraycopy(terms, index + 1, terms, index, size - index - 1);
+            System.arraycopy(postings, index + 1, postings, index, size - index - 1);
+            size--;
+            terms[size] = null;
+            postings[size] = null;
+        }
+
+        /**
+         * Find the first index after start whose term does not begin with the
+         * first prefixLength characters of prefixSource; galloping first since
+         * most skipped ranges are short
+         */
+        int endOfPrefix(int start, String prefixSource, int prefixLength) {
+            int low = start;
+            int step = 1;
+            int high = start + step;
+            while (high < size && terms[high].regionMatches(0, prefixSource, 0, prefixLength)) {
+                low = high;
+                step <<= 1;
+                high = start + step;
+            }
+            high = Math.min(high, size);
+            // terms[low] has the prefix; terms[high] (if any) does not
+            while (high - low > 1) {
+                int mid = (low + high) >>> 1;
+                if (terms[mid].regionMatches(0, prefixSource, 0, prefixLength)) {
+                    low = mid;
+                } else {
+                    high = mid;
+                }
+            }
+            return high;
+        }
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int limit = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < limit && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+}
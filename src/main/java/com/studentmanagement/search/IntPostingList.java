@@ -0,0 +1,149 @@
+package com.studentmanagement.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted set of ints backed by a primitive array.
+ * IDs usually arrive in increasing order, so adding is normally an append.
+ * Not thread-safe; the owning index guards access.
+ */
+public final class IntPostingList {
+    private static final int[] EMPTY = new int[0];
+
+    private int[] values;
+    private int size;
+
+    public IntPostingList() {
+        this.values = EMPTY;
+    }
+
+    private IntPostingList(int[] values, int size) {
+        this.values = values;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+        }
+        return values[index];
+    }
+
+    public boolean contains(int value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    /**
+     * Add a value
+     * @return false if it was already present
+     */
+    public boolean add(int value) {
+        if (size == 0 || values[size - 1] < value) {
+            ensureCapacity(size + 1);
+            values[size++] = value;
+            return true;
+        }
+        int position = Arrays.binarySearch(values, 0, size, value);
+        if (position >= 0) {
+            return false;
+        }
+        int insertAt = -position - 1;
+        ensureCapacity(size + 1);
+        System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+        values[insertAt] = value;
+        size++;
+        return true;
+    }
+
+    /**
+     * Remove a value
+     * @return false if it was not present
+     */
+    public boolean remove(int value) {
+        int position = Arrays.binarySearch(values, 0, size, value);
+        if (position < 0) {
+            return false;
+        }
+        System.arraycopy(values, position + 1, values, position, size - position - 1);
+        size--;
+        if (size < values.length / 4) {
+            values = Arrays.copyOf(values, Math.max(size * 2, 4));
+        }
+        return true;
+    }
+
+    /**
+     * Values present in both lists
+     */
+    public IntPostingList intersect(IntPostingList other) {
+        int[] result = new int[Math.min(size, other.size)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            int a = values[i];
+            int b = other.values[j];
+            if (a == b) {
+                result[count++] = a;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return new IntPostingList(result, count);
+    }
+
+    /**
+     * Values present in either list
+     */
+    public IntPostingList union(IntPostingList other) {
+        int[] result = new int[size + other.size];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            int next;
+            if (j >= other.size || (i < size && values[i] < other.values[j])) {
+                next = values[i++];
+            } else if (i >= size || other.values[j] < values[i]) {
+                next = other.values[j++];
+            } else {
+                next = values[i++];
+                j++;
+            }
+            result[count++] = next;
+        }
+        return new IntPostingList(result, count);
+    }
+
+    /**
+     * Shrink the backing array to the number of values
+     */
+    public void trimToSize() {
+        if (values.length > size) {
+            values = size == 0 ? EMPTY : Arrays.copyOf(values, size);
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > values.length) {
+            values = Arrays.copyOf(values, Math.max(required, values.length + (values.length >> 1) + 2));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.copyOf(values, size));
+    }
+}
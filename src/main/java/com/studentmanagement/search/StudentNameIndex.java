@@ -0,0 +1,379 @@
+package com.studentmanagement.search;
+
+import com.studentmanagement.dao.StudentDAO;
+import com.studentmanagement.exception.StudentManagementException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over student names.
+ *
+ * Every lower-cased name is broken into overlapping three-character
+ * trigrams, each mapped to the sorted IDs of the students whose name
+ * contains it. A substring search intersects the posting lists of the
+ * pattern's trigrams and checks the few candidates left. Patterns shorter
+ * than three characters are answered by scanning the name table, which is
+ * still far cheaper than a full table scan in MySQL. Whole words are also
+ * kept in a sorted map for prefix queries.
+ *
+ * Results are ranked: exact name, then names starting with the pattern,
+ * then names with a word starting with it, then any other match. Shorter
+ * names come first within a rank.
+ */
+public class StudentNameIndex {
+    private static final int GRAM = 3;
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private static final int RANK_EXACT = 0;
+    private static final int RANK_NAME_PREFIX = 1;
+    private static final int RANK_WORD_PREFIX = 2;
+    private static final int RANK_SUBSTRING = 3;
+
+    private final Map<Integer, String> names = new HashMap<>();
+    private final Map<Long, IntPostingList> trigrams = new HashMap<>();
+    private final TreeMap<String, IntPostingList> words = new TreeMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+    // IDs written while a build scan is running; the scan must not overwrite them
+    private Set<Integer> writtenDuringBuild;
+
+    /**
+     * @return true once a build has completed
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuild the index from a streaming scan of all students.
+     * Writes made through put/remove while the scan runs win over the scanned rows.
+     * @param source DAO to scan
+     * @return number of students indexed
+     * @throws StudentManagementException if the scan fails
+     */
+    public long build(StudentDAO source) throws StudentManagementException {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            names.clear();
+            trigrams.clear();
+            words.clear();
+            writtenDuringBuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        int[] batchIds = new int[BUILD_BATCH_SIZE];
+        String[] batchNames = new String[BUILD_BATCH_SIZE];
+        int[] batchSize = {0};
+        try {
+            source.forEachStudent(student -> {
+                batchIds[batchSize[0]] = student.getStudentId();
+                batchNames[batchSize[0]] = student.getName();
+                if (++batchSize[0] == BUILD_BATCH_SIZE) {
+                    addScanned(batchIds, batchNames, batchSize[0]);
+                    batchSize[0] = 0;
+                }
+            }, true);
+            addScanned(batchIds, batchNames, batchSize[0]);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                writtenDuringBuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (IntPostingList postings : trigrams.values()) {
+                postings.trimToSize();
+            }
+            for (IntPostingList postings : words.values()) {
+                postings.trimToSize();
+            }
+            ready = true;
+            return names.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Index a student, replacing any previous name
+     */
+    public void put(int studentId, String name) {
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringBuild != null) {
+                writtenDuringBuild.add(studentId);
+            }
+            unindex(studentId);
+            if (name != null) {
+                index(studentId, normalize(name));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a student from the index
+     */
+    public void remove(int studentId) {
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringBuild != null) {
+                writtenDuringBuild.add(studentId);
+            }
+            unindex(studentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find students whose name contains the pattern, case-insensitively
+     * @param pattern text to look for
+     * @param limit maximum number of IDs to return
+     * @return student IDs, best match first
+     */
+    public List<Integer> search(String pattern, int limit) {
+        String needle = normalize(pattern);
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            TopMatches top = new TopMatches(limit);
+            if (needle.length() < GRAM) {
+                for (Map.Entry<Integer, String> entry : names.entrySet()) {
+                    int rank = rank(entry.getValue(), needle);
+                    if (rank >= 0) {
+                        top.offer(entry.getKey(), entry.getValue(), rank);
+                    }
+                }
+                return top.ids();
+            }
+            IntPostingList candidates = candidatesFor(needle);
+            for (int i = 0; i < candidates.size(); i++) {
+                int studentId = candidates.get(i);
+                String name = names.get(studentId);
+                int rank = rank(name, needle);
+                if (rank >= 0) {
+                    top.offer(studentId, name, rank);
+                }
+            }
+            return top.ids();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find students with a word in their name starting with the prefix
+     * @param prefix start of a first, middle or last name
+     * @param limit maximum number of IDs to return
+     * @return student IDs, best match first
+     */
+    public List<Integer> searchPrefix(String prefix, int limit) {
+        String needle = normalize(prefix);
+        if (limit <= 0 || needle.isEmpty()) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            SortedMap<String, IntPostingList> matching = words.subMap(needle, needle + Character.MAX_VALUE);
+            TopMatches top = new TopMatches(limit);
+            Set<Integer> seen = new HashSet<>();
+            for (IntPostingList postings : matching.values()) {
+                for (int i = 0; i < postings.size(); i++) {
+                    int studentId = postings.get(i);
+                    if (seen.add(studentId)) {
+                        String name = names.get(studentId);
+                        top.offer(studentId, name, rank(name, needle));
+                    }
+                }
+            }
+            return top.ids();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addScanned(int[] ids, String[] scannedNames, int count) {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < count; i++) {
+                if (scannedNames[i] != null && !writtenDuringBuild.contains(ids[i])) {
+                    unindex(ids[i]);
+                    index(ids[i], normalize(scannedNames[i]));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Intersect the posting lists of the pattern's trigrams, smallest first
+     */
+    private IntPostingList candidatesFor(String needle) {
+        List<IntPostingList> lists = new ArrayList<>();
+        for (int i = 0; i + GRAM <= needle.length(); i++) {
+            IntPostingList postings = trigrams.get(trigramKey(needle, i));
+            if (postings == null) {
+                return new IntPostingList();
+            }
+            lists.add(postings);
+        }
+        lists.sort(Comparator.comparingInt(IntPostingList::size));
+        IntPostingList result = lists.get(0);
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result = result.intersect(lists.get(i));
+        }
+        return result;
+    }
+
+    private void index(int studentId, String name) {
+        names.put(studentId, name);
+        for (int i = 0; i + GRAM <= name.length(); i++) {
+            trigrams.computeIfAbsent(trigramKey(name, i), key -> new IntPostingList()).add(studentId);
+        }
+        for (String word : splitWords(name)) {
+            words.computeIfAbsent(word, key -> new IntPostingList()).add(studentId);
+        }
+    }
+
+    private void unindex(int studentId) {
+        String name = names.remove(studentId);
+        if (name == null) {
+            return;
+        }
+        for (int i = 0; i + GRAM <= name.length(); i++) {
+            Long key = trigramKey(name, i);
+            IntPostingList postings = trigrams.get(key);
+            if (postings != null && postings.remove(studentId) && postings.isEmpty()) {
+                trigrams.remove(key);
+            }
+        }
+        for (String word : splitWords(name)) {
+            IntPostingList postings = words.get(word);
+            if (postings != null && postings.remove(studentId) && postings.isEmpty()) {
+                words.remove(word);
+            }
+        }
+    }
+
+    private static long trigramKey(String text, int offset) {
+        return ((long) text.charAt(offset) << 32) | ((long) text.charAt(offset + 1) << 16) | text.charAt(offset + 2);
+    }
+
+    private static List<String> splitWords(String name) {
+        List<String> result = new ArrayList<>();
+        for (String word : name.split("[^\\p{L}\\p{N}']+")) {
+            if (!word.isEmpty()) {
+                result.add(word);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return match rank, lower is better, or -1 if the name does not contain the pattern
+     */
+    private static int rank(String name, String needle) {
+        int position = name.indexOf(needle);
+        if (position < 0) {
+            return -1;
+        }
+        if (position == 0) {
+            return name.length() == needle.length() ? RANK_EXACT : RANK_NAME_PREFIX;
+        }
+        do {
+            if (!Character.isLetterOrDigit(name.charAt(position - 1))) {
+                return RANK_WORD_PREFIX;
+            }
+            position = name.indexOf(needle, position + 1);
+        } while (position > 0);
+        return RANK_SUBSTRING;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Bounded max-heap keeping the best matches seen so far
+     */
+    private static final class TopMatches {
+        private static final Comparator<Match> BEST_FIRST = Comparator
+                .comparingInt((Match m) -> m.rank)
+                .thenComparingInt(m -> m.name.length())
+                .thenComparing(m -> m.name)
+                .thenComparingInt(m -> m.studentId);
+
+        private final int limit;
+        private final PriorityQueue<Match> heap;
+
+        TopMatches(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(Math.min(limit, 1024) + 1, BEST_FIRST.reversed());
+        }
+
+        void offer(int studentId, String name, int rank) {
+            Match match = new Match(studentId, name, rank);
+            if (heap.size() < limit) {
+                heap.add(match);
+            } else if (BEST_FIRST.compare(match, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(match);
+            }
+        }
+
+        List<Integer> ids() {
+            List<Match> matches = new ArrayList<>(heap);
+            matches.sort(BEST_FIRST);
+            List<Integer> ids = new ArrayList<>(matches.size());
+            for (Match match : matches) {
+                ids.add(match.studentId);
+            }
+            return ids;
+        }
+    }
+
+    private static final class Match {
+        final int studentId;
+        final String name;
+        final int rank;
+
+        Match(int studentId, String name, int rank) {
+            this.studentId = studentId;
+            this.name = name;
+            this.rank = rank;
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.studentmanagement.service;
 
 import com.studentmanagement.dao.CourseDAO;
-import com.studentmanagement.dao.impl.CourseDAOImpl;
+import com.studentmanagement.dao.DAOFactory;
+import com.studentmanagement.dao.RowHandler;
 import com.studentmanagement.model.Course;
+import com.studentmanagement.exception.ConflictException;
+import com.studentmanagement.exception.EntityNotFoundException;
 import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.exception.ValidationException;
+import com.studentmanagement.report.EnrollmentCounters;
+import com.studentmanagement.tracing.Tracer;
 
 import java.util.List;
 
@@ -13,93 +19,135 @@ import java.util.List;
 public class CourseService {
     
     private final CourseDAO courseDAO;
+    private final EnrollmentCounters counters;
     
     public CourseService() {
-        this.courseDAO = new CourseDAOImpl();
+        this(DAOFactory.getCourseDAO(), DAOFactory.getEnrollmentCountingDAO().getCounters());
     }
     
     public CourseService(CourseDAO courseDAO) {
+        this(courseDAO, null);
+    }
+    
+    /**
+     * @param counters enrollment counters to update when a course is deleted, or null for none
+     */
+    public CourseService(CourseDAO courseDAO, EnrollmentCounters counters) {
         this.courseDAO = courseDAO;
+        this.counters = counters;
     }
     
     /**
      * Add a new course
      */
     public int addCourse(Course course) throws StudentManagementException {
-        // Check if course name already exists
-        Course existingCourse = courseDAO.getCourseByName(course.getCourseName());
-        if (existingCourse != null) {
-            throw new StudentManagementException("Course with name '" + course.getCourseName() + "' already exists");
-        }
+        return Tracer.inSpan("CourseService.addCourse", () -> {
+            // Check if course name already exists
+            Course existingCourse = courseDAO.getCourseByName(course.getCourseName());
+            if (existingCourse != null) {
+                throw new ConflictException("Course with name '" + course.getCourseName() + "' already exists");
+            }
         
-        return courseDAO.addCourse(course);
+            return courseDAO.addCourse(course);
+        });
     }
     
     /**
      * Get course by ID
      */
     public Course getCourseById(int courseId) throws StudentManagementException {
-        return courseDAO.getCourseById(courseId);
+        return Tracer.inSpan("CourseService.getCourseById", () -> courseDAO.getCourseById(courseId));
     }
     
     /**
      * Get course by name
      */
     public Course getCourseByName(String courseName) throws StudentManagementException {
-        return courseDAO.getCourseByName(courseName);
+        return Tracer.inSpan("CourseService.getCourseByName", () -> courseDAO.getCourseByName(courseName));
     }
     
     /**
      * Get all courses
      */
     public List<Course> getAllCourses() throws StudentManagementException {
-        return courseDAO.getAllCourses();
+        return Tracer.inSpan("CourseService.getAllCourses", () -> courseDAO.getAllCourses());
+    }
+    
+    /**
+     * Visit every course without building a list
+     * @return number of courses visited
+     */
+    public long forEachCourse(RowHandler<Course> handler) throws StudentManagementException {
+        return Tracer.inSpan("CourseService.forEachCourse", () -> courseDAO.forEachCourse(handler));
     }
     
     /**
      * Update course
      */
     public boolean updateCourse(Course course) throws StudentManagementException {
-        // Check if course exists
-        if (!courseDAO.courseExists(course.getCourseId())) {
-            throw new StudentManagementException("Course with ID " + course.getCourseId() + " does not exist");
-        }
+        return Tracer.inSpan("CourseService.updateCourse", () -> {
+            // Check if course exists
+            if (!courseDAO.courseExists(course.getCourseId())) {
+                throw new EntityNotFoundException("Course with ID " + course.getCourseId() + " does not exist");
+            }
         
-        // Check if another course with the same name exists
-        Course existingCourse = courseDAO.getCourseByName(course.getCourseName());
-        if (existingCourse != null && existingCourse.getCourseId() != course.getCourseId()) {
-            throw new StudentManagementException("Another course with name '" + course.getCourseName() + "' already exists");
-        }
+            // Check if another course with the same name exists
+            Course existingCourse = courseDAO.getCourseByName(course.getCourseName());
+            if (existingCourse != null && existingCourse.getCourseId() != course.getCourseId()) {
+                throw new ConflictException("Another course with name '" + course.getCourseName() + "' already exists");
+            }
         
-        return courseDAO.updateCourse(course);
+            return courseDAO.updateCourse(course);
+        });
     }
     
     /**
      * Delete course
      */
     public boolean deleteCourse(int courseId) throws StudentManagementException {
-        if (!courseDAO.courseExists(courseId)) {
-            throw new StudentManagementException("Course with ID " + courseId + " does not exist");
-        }
+        return Tracer.inSpan("CourseService.deleteCourse", () -> {
+            if (!courseDAO.courseExists(courseId)) {
+                throw new EntityNotFoundException("Course with ID " + courseId + " does not exist");
+            }
         
-        return courseDAO.deleteCourse(courseId);
+            boolean deleted = courseDAO.deleteCourse(courseId);
+            if (deleted && counters != null) {
+                // ON DELETE SET NULL has unassigned the course's students
+                counters.removeCourse(courseId);
+            }
+            return deleted;
+        });
     }
     
     /**
      * Check if course exists
      */
     public boolean courseExists(int courseId) throws StudentManagementException {
-        return courseDAO.courseExists(courseId);
+        return Tracer.inSpan("CourseService.courseExists", () -> courseDAO.courseExists(courseId));
     }
     
     /**
      * Search courses by name
      */
     public List<Course> searchCoursesByName(String namePattern) throws StudentManagementException {
-        if (namePattern == null || namePattern.trim().isEmpty()) {
-            return getAllCourses();
-        }
-        return courseDAO.searchCoursesByName(namePattern.trim());
+        return Tracer.inSpan("CourseService.searchCoursesByName", () -> {
+            if (namePattern == null || namePattern.trim().isEmpty()) {
+                return getAllCourses();
+            }
+            return courseDAO.searchCoursesByName(namePattern.trim());
+        });
+    }
+    
+    /**
+     * Search course names and descriptions
+     */
+    public List<Course> searchCourses(String text) throws StudentManagementException {
+        return Tracer.inSpan("CourseService.searchCourses", () -> {
+            if (text == null || text.trim().isEmpty()) {
+                return getAllCourses();
+            }
+            return courseDAO.searchCourses(text.trim());
+        });
     }
     
     /**
@@ -107,19 +155,19 @@ public class CourseService {
      */
     public void validateCourseData(String courseName, String description) throws StudentManagementException {
         if (courseName == null || courseName.trim().isEmpty()) {
-            throw new StudentManagementException("Course name is required");
+            throw new ValidationException("Course name is required");
         }
         
         if (courseName.trim().length() < 3) {
-            throw new StudentManagementException("Course name must be at least 3 characters long");
+            throw new ValidationException("Course name must be at least 3 characters long");
         }
         
         if (courseName.trim().length() > 100) {
-            throw new StudentManagementException("Course name cannot exceed 100 characters");
+            throw new ValidationException("Course name cannot exceed 100 characters");
         }
         
         if (description != null && description.length() > 1000) {
-            throw new StudentManagementException("Course description cannot exceed 1000 characters");
+            throw new ValidationException("Course description cannot exceed 1000 characters");
         }
     }
 }
\ No newline at end of file
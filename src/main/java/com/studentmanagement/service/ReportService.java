@@ -0,0 +1,90 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dao.CourseDAO;
+import com.studentmanagement.dao.DAOFactory;
+import com.studentmanagement.dao.ReportDAO;
+import com.studentmanagement.model.EnrollmentReport;
+import com.studentmanagement.model.StatsDrift;
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.exception.ValidationException;
+import com.studentmanagement.report.EnrollmentCounters;
+import com.studentmanagement.tracing.Tracer;
+
+import java.util.List;
+
+/**
+ * Service class for enrollment reports.
+ * Reports come from the in-memory counters once they are built, and from
+ * the course_stats/age_stats summary tables otherwise.
+ */
+public class ReportService {
+    
+    public static final int DEFAULT_AGE_BUCKET_WIDTH = 5;
+    
+    private final ReportDAO reportDAO;
+    private final CourseDAO courseDAO;
+    private final EnrollmentCounters counters;
+    
+    public ReportService() {
+        this(DAOFactory.getReportDAO(), DAOFactory.getCourseDAO(),
+                DAOFactory.getEnrollmentCountingDAO().getCounters());
+    }
+    
+    /**
+     * @param counters in-memory counters, or null to always query the database
+     */
+    public ReportService(ReportDAO reportDAO, CourseDAO courseDAO, EnrollmentCounters counters) {
+        this.reportDAO = reportDAO;
+        this.courseDAO = courseDAO;
+        this.counters = counters;
+    }
+    
+    /**
+     * Get the enrollment report from the cheapest source available
+     */
+    public EnrollmentReport getEnrollmentReport() throws StudentManagementException {
+        return getEnrollmentReport(DEFAULT_AGE_BUCKET_WIDTH);
+    }
+    
+    /**
+     * Get the enrollment report from the cheapest source available
+     * @param ageBucketWidth years covered by each histogram bucket
+     */
+    public EnrollmentReport getEnrollmentReport(int ageBucketWidth) throws StudentManagementException {
+        if (counters != null && counters.isReady()) {
+            return getEnrollmentReport(EnrollmentReport.Source.COUNTERS, ageBucketWidth);
+        }
+        return getEnrollmentReport(EnrollmentReport.Source.SUMMARY_TABLES, ageBucketWidth);
+    }
+    
+    /**
+     * Get the enrollment report from a specific source, e.g. to check the counters against the database
+     * @throws StudentManagementException if the counters are requested but not built yet
+     */
+    public EnrollmentReport getEnrollmentReport(EnrollmentReport.Source source, int ageBucketWidth)
+            throws StudentManagementException {
+        return Tracer.inSpan("ReportService.getEnrollmentReport", () -> {
+            if (ageBucketWidth <= 0) {
+                throw new ValidationException("Age bucket width must be positive");
+            }
+            if (source == EnrollmentReport.Source.DATABASE) {
+                return reportDAO.getEnrollmentReport(ageBucketWidth);
+            }
+            if (source == EnrollmentReport.Source.SUMMARY_TABLES) {
+                return reportDAO.getSummaryEnrollmentReport(ageBucketWidth);
+            }
+            if (counters == null || !counters.isReady()) {
+                throw new StudentManagementException("Enrollment counters are not available yet");
+            }
+            return counters.getReport(courseDAO.getAllCourses(), ageBucketWidth);
+        });
+    }
+    
+    /**
+     * Recompute the summary tables from scratch and report rows that drifted
+     * @param repair whether to overwrite drifted rows
+     */
+    public List<StatsDrift> reconcileStats(boolean repair) throws StudentManagementException {
+        return Tracer.inSpan("ReportService.reconcileStats", () -> reportDAO.reconcileStats(repair));
+    }
+}
@@ -1,195 +1,457 @@
 package com.studentmanagement.service;
 
+import com.studentmanagement.dao.AsyncCourseDAO;
+import com.studentmanagement.dao.AsyncStudentDAO;
+import com.studentmanagement.dao.RowHandler;
 import com.studentmanagement.dao.StudentDAO;
 import com.studentmanagement.dao.CourseDAO;
-import com.studentmanagement.dao.impl.StudentDAOImpl;
-import com.studentmanagement.dao.impl.CourseDAOImpl;
+import com.studentmanagement.dao.DAOFactory;
+import com.studentmanagement.dao.impl.JdbcExecutor;
+import com.studentmanagement.model.BatchInsertResult;
+import com.studentmanagement.model.FuzzyMatch;
+import com.studentmanagement.model.Page;
 import com.studentmanagement.model.Student;
+import com.studentmanagement.model.StudentRecord;
 import com.studentmanagement.model.Course;
+import com.studentmanagement.exception.EntityNotFoundException;
 import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.exception.ValidationException;
+import com.studentmanagement.tracing.Tracer;
+import com.studentmanagement.util.DatabaseConnection;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service class for Student management with business logic
  */
 public class StudentService {
     
+    // An empty search pattern lists students by name, one page at most
+    public static final int MAX_SEARCH_LIMIT = 1000;
+    
+    public static final int DEFAULT_MAX_EDIT_DISTANCE = 2;
+    private static final int MAX_EDIT_DISTANCE = 3;
+    
+    private static final long NOT_A_NUMBER = Long.MIN_VALUE;
+    
+    // Shared, stackless instances thrown by validateStudentData
+    private static final ValidationException NAME_REQUIRED = new ValidationException("Name is required");
+    private static final ValidationException AGE_REQUIRED = new ValidationException("Age is required");
+    private static final ValidationException AGE_NOT_A_NUMBER = new ValidationException("Age must be a valid number");
+    private static final ValidationException AGE_OUT_OF_RANGE =
+            new ValidationException("Age must be between 16 and 100");
+    private static final ValidationException EMAIL_REQUIRED = new ValidationException("Email is required");
+    private static final ValidationException INVALID_EMAIL = new ValidationException("Invalid email format");
+    private static final ValidationException COURSE_REQUIRED = new ValidationException("Course selection is required");
+    private static final ValidationException INVALID_COURSE = new ValidationException("Invalid course selection");
+    
     private final StudentDAO studentDAO;
     private final CourseDAO courseDAO;
+    private final AsyncStudentDAO asyncStudentDAO;
+    private final AsyncCourseDAO asyncCourseDAO;
+    private final long checkTimeoutMs;
     
     public StudentService() {
-        this.studentDAO = new StudentDAOImpl();
-        this.courseDAO = new CourseDAOImpl();
+        this(DAOFactory.getStudentDAO(), DAOFactory.getCourseDAO(), DAOFactory.getAsyncStudentDAO(),
+                DAOFactory.getAsyncCourseDAO(), DatabaseConnection.getConfig().getAsyncTimeoutMs());
     }
     
+    /**
+     * Service whose checks run one after another
+     */
     public StudentService(StudentDAO studentDAO, CourseDAO courseDAO) {
+        this(studentDAO, courseDAO, null, null, 0);
+    }
+    
+    /**
+     * @param asyncStudentDAO with asyncCourseDAO, runs independent checks in parallel; null to run them in turn
+     * @param checkTimeoutMs how long parallel checks may take before they are cancelled
+     */
+    public StudentService(StudentDAO studentDAO, CourseDAO courseDAO, AsyncStudentDAO asyncStudentDAO,
+                          AsyncCourseDAO asyncCourseDAO, long checkTimeoutMs) {
         this.studentDAO = studentDAO;
         this.courseDAO = courseDAO;
+        this.asyncStudentDAO = asyncStudentDAO;
+        this.asyncCourseDAO = asyncCourseDAO;
+        this.checkTimeoutMs = checkTimeoutMs;
     }
     
     /**
-     * Add a new student with validation
+     * Add a new student.
+     * The course, email and age are checked by the database constraints as the
+     * row is inserted, in the same round trip.
+     * @throws com.studentmanagement.exception.ConstraintViolationException if one of them rejects the student
      */
     public int addStudent(Student student) throws StudentManagementException {
-        // Validate that the course exists
-        if (!courseDAO.courseExists(student.getCourseId())) {
-            throw new StudentManagementException("Course with ID " + student.getCourseId() + " does not exist");
+        return Tracer.inSpan("StudentService.addStudent", () -> studentDAO.addStudent(student));
+    }
+    
+    /**
+     * Add many students at once.
+     * Course and email checks are done for the whole collection with one query
+     * each instead of two round trips per student, and run at the same time when
+     * the async DAOs are available; rows that fail validation are reported and
+     * the rest are inserted.
+     * @return generated ID or error message per row, in iteration order of the input
+     */
+    public BatchInsertResult addStudents(Collection<Student> students) throws StudentManagementException {
+        return Tracer.inSpan("StudentService.addStudents", () -> validateAndInsert(students));
+    }
+    
+    private BatchInsertResult validateAndInsert(Collection<Student> students) throws StudentManagementException {
+        List<Student> rows = new ArrayList<>(students);
+        BatchInsertResult result = new BatchInsertResult(rows.size());
+        
+        Set<Integer> courseIds = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (Student student : rows) {
+            if (student != null) {
+                courseIds.add(student.getCourseId());
+                if (student.getEmail() != null) {
+                    emails.add(student.getEmail().trim().toLowerCase(Locale.ROOT));
+                }
+            }
         }
         
-        // Check if email is already taken
-        if (studentDAO.isEmailTaken(student.getEmail(), 0)) {
-            throw new StudentManagementException("Email address is already in use");
+        Set<Integer> existingCourseIds;
+        Set<String> takenEmails;
+        if (asyncStudentDAO != null && asyncCourseDAO != null) {
+            CompletableFuture<Set<Integer>> courseCheck = asyncCourseDAO.findExistingCourseIds(courseIds);
+            CompletableFuture<Set<String>> emailCheck = asyncStudentDAO.findTakenEmails(emails);
+            JdbcExecutor.awaitAll(checkTimeoutMs, courseCheck, emailCheck);
+            existingCourseIds = courseCheck.join();
+            takenEmails = emailCheck.join();
+        } else {
+            existingCourseIds = courseDAO.findExistingCourseIds(courseIds);
+            takenEmails = studentDAO.findTakenEmails(emails);
         }
+        Set<String> batchEmails = new HashSet<>();
+        
+        List<Student> accepted = new ArrayList<>(rows.size());
+        List<Integer> acceptedIndexes = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Student student = rows.get(i);
+            if (student == null) {
+                result.addError(i, "Student cannot be null");
+                continue;
+            }
         
-        return studentDAO.addStudent(student);
+            String email = student.getEmail() != null ? student.getEmail().trim().toLowerCase(Locale.ROOT) : null;
+            if (!existingCourseIds.contains(student.getCourseId())) {
+                result.addError(i, "Course with ID " + student.getCourseId() + " does not exist");
+            } else if (email != null && takenEmails.contains(email)) {
+                result.addError(i, "Email address is already in use");
+            } else if (email != null && !batchEmails.add(email)) {
+                result.addError(i, "Email address appears more than once in this batch");
+            } else {
+                accepted.add(student);
+                acceptedIndexes.add(i);
+            }
+        }
+        
+        if (accepted.isEmpty()) {
+            return result;
+        }
+        
+        BatchInsertResult inserted = studentDAO.addStudents(accepted);
+        for (int i = 0; i < accepted.size(); i++) {
+            int generatedId = inserted.getGeneratedId(i);
+            if (generatedId > 0) {
+                result.setGeneratedId(acceptedIndexes.get(i), generatedId);
+            }
+        }
+        for (BatchInsertResult.RowError error : inserted.getErrors()) {
+            result.addError(acceptedIndexes.get(error.getIndex()), error.getMessage());
+        }
+        
+        return result;
     }
     
     /**
      * Get student by ID
      */
     public Student getStudentById(int studentId) throws StudentManagementException {
-        return studentDAO.getStudentById(studentId);
+        return Tracer.inSpan("StudentService.getStudentById", () -> studentDAO.getStudentById(studentId));
     }
     
     /**
      * Get student by email
      */
     public Student getStudentByEmail(String email) throws StudentManagementException {
-        return studentDAO.getStudentByEmail(email);
+        return Tracer.inSpan("StudentService.getStudentByEmail", () -> studentDAO.getStudentByEmail(email));
     }
     
     /**
      * Get all students
      */
     public List<Student> getAllStudents() throws StudentManagementException {
-        return studentDAO.getAllStudents();
+        return Tracer.inSpan("StudentService.getAllStudents", () -> studentDAO.getAllStudents());
+    }
+    
+    /**
+     * Get one page of students ordered by name
+     * @param cursor cursor returned with the previous page, or null for the first page
+     */
+    public Page<Student> getStudentsPage(String cursor, int pageSize, boolean includeTotalEstimate) 
+            throws StudentManagementException {
+        return Tracer.inSpan("StudentService.getStudentsPage",
+                () -> studentDAO.getStudentsPage(cursor, pageSize, includeTotalEstimate));
+    }
+    
+    /**
+     * Get all students as compact, immutable records, for large listings held in memory
+     * @param emailAsUtf8 whether to keep emails as UTF-8 bytes, decoded on each getEmail() call
+     */
+    public List<StudentRecord> getAllStudentRecords(boolean emailAsUtf8) throws StudentManagementException {
+        return Tracer.inSpan("StudentService.getAllStudentRecords", () -> studentDAO.getAllStudentRecords(emailAsUtf8));
+    }
+    
+    /**
+     * Visit every student without loading them all into memory
+     * @param handler callback; the Student passed in is reused between rows
+     * @return number of students visited
+     */
+    public long forEachStudent(RowHandler<Student> handler) throws StudentManagementException {
+        return Tracer.inSpan("StudentService.forEachStudent", () -> studentDAO.forEachStudent(handler, true));
     }
     
     /**
-     * Update student with validation
+     * Update student; constraints are checked by the database as for addStudent
      */
     public boolean updateStudent(Student student) throws StudentManagementException {
-        // Check if student exists
-        if (!studentDAO.studentExists(student.getStudentId())) {
-            throw new StudentManagementException("Student with ID " + student.getStudentId() + " does not exist");
-        }
-        
-        // Validate that the course exists
-        if (!courseDAO.courseExists(student.getCourseId())) {
-            throw new StudentManagementException("Course with ID " + student.getCourseId() + " does not exist");
-        }
-        
-        // Check if email is already taken by another student
-        if (studentDAO.isEmailTaken(student.getEmail(), student.getStudentId())) {
-            throw new StudentManagementException("Email address is already in use by another student");
-        }
-        
-        return studentDAO.updateStudent(student);
+        return Tracer.inSpan("StudentService.updateStudent", () -> {
+            if (!studentDAO.updateStudent(student)) {
+                throw new EntityNotFoundException("Student with ID " + student.getStudentId() + " does not exist");
+            }
+            return true;
+        });
     }
     
     /**
      * Delete student
      */
     public boolean deleteStudent(int studentId) throws StudentManagementException {
-        if (!studentDAO.studentExists(studentId)) {
-            throw new StudentManagementException("Student with ID " + studentId + " does not exist");
-        }
-        
-        return studentDAO.deleteStudent(studentId);
+        return Tracer.inSpan("StudentService.deleteStudent", () -> {
+            if (!studentDAO.deleteStudent(studentId)) {
+                throw new EntityNotFoundException("Student with ID " + studentId + " does not exist");
+            }
+            return true;
+        });
     }
     
     /**
      * Search students by name
      */
     public List<Student> searchStudentsByName(String namePattern) throws StudentManagementException {
-        if (namePattern == null || namePattern.trim().isEmpty()) {
-            return getAllStudents();
-        }
-        return studentDAO.searchStudentsByName(namePattern.trim());
+        return Tracer.inSpan("StudentService.searchStudentsByName", () -> {
+            if (namePattern == null || namePattern.trim().isEmpty()) {
+                return getAllStudents();
+            }
+            return studentDAO.searchStudentsByName(namePattern.trim());
+        });
+    }
+    
+    /**
+     * Search students by name, best matches first
+     * @param limit maximum number of students to return
+     */
+    public List<Student> searchStudentsByName(String namePattern, int limit) throws StudentManagementException {
+        return Tracer.inSpan("StudentService.searchStudentsByName", () -> {
+            if (limit <= 0) {
+                throw new ValidationException("Limit must be positive");
+            }
+            if (namePattern == null || namePattern.trim().isEmpty()) {
+                return getStudentsPage(null, Math.min(limit, MAX_SEARCH_LIMIT), false).getItems();
+            }
+            return studentDAO.searchStudentsByName(namePattern.trim(), limit);
+        });
+    }
+    
+    /**
+     * Typo-tolerant search over names, or over emails when the query contains '@'
+     * @param maxEditDistance edits allowed per word, between 0 and 3
+     * @param limit maximum number of matches to return
+     * @return matches ordered by score, best first
+     */
+    public List<FuzzyMatch> fuzzySearchStudents(String query, int maxEditDistance, int limit)
+            throws StudentManagementException {
+        return Tracer.inSpan("StudentService.fuzzySearchStudents", () -> {
+            if (query == null || query.trim().isEmpty()) {
+                throw new ValidationException("Search text cannot be empty");
+            }
+            if (maxEditDistance < 0 || maxEditDistance > MAX_EDIT_DISTANCE) {
+                throw new ValidationException("Edit distance must be between 0 and " + MAX_EDIT_DISTANCE);
+            }
+            if (limit <= 0 || limit > MAX_SEARCH_LIMIT) {
+                throw new ValidationException("Limit must be between 1 and " + MAX_SEARCH_LIMIT);
+            }
+            return studentDAO.fuzzySearchStudents(query.trim(), maxEditDistance, limit);
+        });
+    }
+    
+    /**
+     * Search students with a first, middle or last name starting with a prefix
+     * @param limit maximum number of students to return
+     */
+    public List<Student> searchStudentsByNamePrefix(String prefix, int limit) throws StudentManagementException {
+        return Tracer.inSpan("StudentService.searchStudentsByNamePrefix", () -> {
+            if (prefix == null || prefix.trim().isEmpty()) {
+                throw new ValidationException("Prefix cannot be empty");
+            }
+            if (limit <= 0) {
+                throw new ValidationException("Limit must be positive");
+            }
+            return studentDAO.searchStudentsByNamePrefix(prefix.trim(), limit);
+        });
     }
     
     /**
      * Get students by course
      */
     public List<Student> getStudentsByCourse(int courseId) throws StudentManagementException {
-        if (!courseDAO.courseExists(courseId)) {
-            throw new StudentManagementException("Course with ID " + courseId + " does not exist");
-        }
-        return studentDAO.getStudentsByCourse(courseId);
+        return Tracer.inSpan("StudentService.getStudentsByCourse", () -> {
+            if (!courseDAO.courseExists(courseId)) {
+                throw new EntityNotFoundException("Course with ID " + courseId + " does not exist");
+            }
+            return studentDAO.getStudentsByCourse(courseId);
+        });
     }
     
     /**
      * Get students by course name
      */
     public List<Student> getStudentsByCourseName(String courseName) throws StudentManagementException {
-        if (courseName == null || courseName.trim().isEmpty()) {
-            return getAllStudents();
-        }
-        return studentDAO.getStudentsByCourseName(courseName.trim());
+        return Tracer.inSpan("StudentService.getStudentsByCourseName", () -> {
+            if (courseName == null || courseName.trim().isEmpty()) {
+                return getAllStudents();
+            }
+            return studentDAO.getStudentsByCourseName(courseName.trim());
+        });
     }
     
     /**
      * Get students by age range
      */
     public List<Student> getStudentsByAgeRange(int minAge, int maxAge) throws StudentManagementException {
-        return studentDAO.getStudentsByAgeRange(minAge, maxAge);
+        return Tracer.inSpan("StudentService.getStudentsByAgeRange",
+                () -> studentDAO.getStudentsByAgeRange(minAge, maxAge));
+    }
+    
+    /**
+     * Get one page of a course's students within an age range
+     * @param namePattern substring the name must contain, or null for any name
+     * @param cursor cursor returned with the previous page, or null for the first page
+     */
+    public Page<Student> getStudentsByCourse(int courseId, int minAge, int maxAge, String namePattern,
+            String cursor, int pageSize)
+            throws StudentManagementException {
+        return Tracer.inSpan("StudentService.getStudentsByCoursePage", () -> {
+            if (cursor == null && !courseDAO.courseExists(courseId)) {
+                throw new EntityNotFoundException("Course with ID " + courseId + " does not exist");
+            }
+            return studentDAO.getStudentsByCourse(courseId, minAge, maxAge, trimToNull(namePattern),
+                    cursor, pageSize);
+        });
+    }
+    
+    /**
+     * Get one page of students within an age range, youngest first
+     * @param namePattern substring the name must contain, or null for any name
+     * @param cursor cursor returned with the previous page, or null for the first page
+     */
+    public Page<Student> getStudentsByAgeRange(int minAge, int maxAge, String namePattern, String cursor, int pageSize)
+            throws StudentManagementException {
+        return Tracer.inSpan("StudentService.getStudentsByAgeRangePage",
+                () -> studentDAO.getStudentsByAgeRange(minAge, maxAge, trimToNull(namePattern), cursor, pageSize));
     }
     
     /**
      * Check if student exists
      */
     public boolean studentExists(int studentId) throws StudentManagementException {
-        return studentDAO.studentExists(studentId);
+        return Tracer.inSpan("StudentService.studentExists", () -> studentDAO.studentExists(studentId));
     }
     
     /**
-     * Validate student data for forms
+     * Validate student data for forms and import rows.
+     * Runs for every rejected import row, so it throws shared ValidationException
+     * instances and parses numbers without NumberFormatException.
      */
     public void validateStudentData(String name, String ageStr, String email, String courseIdStr) 
             throws StudentManagementException {
         
         if (name == null || name.trim().isEmpty()) {
-            throw new StudentManagementException("Name is required");
+            throw NAME_REQUIRED;
         }
         
         if (ageStr == null || ageStr.trim().isEmpty()) {
-            throw new StudentManagementException("Age is required");
+            throw AGE_REQUIRED;
         }
         
-        int age;
-        try {
-            age = Integer.parseInt(ageStr.trim());
-        } catch (NumberFormatException e) {
-            throw new StudentManagementException("Age must be a valid number");
+        long age = parseInt(ageStr.trim());
+        if (age == NOT_A_NUMBER) {
+            throw AGE_NOT_A_NUMBER;
         }
         
         if (age < 16 || age > 100) {
-            throw new StudentManagementException("Age must be between 16 and 100");
+            throw AGE_OUT_OF_RANGE;
         }
         
         if (email == null || email.trim().isEmpty()) {
-            throw new StudentManagementException("Email is required");
+            throw EMAIL_REQUIRED;
         }
         
         if (!isValidEmail(email)) {
-            throw new StudentManagementException("Invalid email format");
+            throw INVALID_EMAIL;
         }
         
         if (courseIdStr == null || courseIdStr.trim().isEmpty()) {
-            throw new StudentManagementException("Course selection is required");
+            throw COURSE_REQUIRED;
         }
         
-        int courseId;
-        try {
-            courseId = Integer.parseInt(courseIdStr.trim());
-        } catch (NumberFormatException e) {
-            throw new StudentManagementException("Invalid course selection");
+        long courseId = parseInt(courseIdStr.trim());
+        if (courseId == NOT_A_NUMBER || courseId <= 0) {
+            throw INVALID_COURSE;
         }
-        
-        if (courseId <= 0) {
-            throw new StudentManagementException("Invalid course selection");
+    }
+    
+    /**
+     * Integer.parseInt without the exception, whose stack trace is the
+     * expensive part of rejecting a row
+     * @return the value, or NOT_A_NUMBER if the text is not an int
+     */
+    private static long parseInt(String text) {
+        int length = text.length();
+        int start = length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+') ? 1 : 0;
+        // More than 10 digits cannot be an int and could overflow the long
+        if (start == length || length - start > 10) {
+            return NOT_A_NUMBER;
+        }
+        long value = 0;
+        for (int i = start; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_A_NUMBER;
+            }
+            value = value * 10 + (c - '0');
+        }
+        if (text.charAt(0) == '-') {
+            value = -value;
+        }
+        return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? NOT_A_NUMBER : value;
+    }
+    
+    private static String trimToNull(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return null;
         }
+        return text.trim();
     }
     
     /**
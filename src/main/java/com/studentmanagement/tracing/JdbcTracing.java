@@ -0,0 +1,193 @@
+package com.studentmanagement.tracing;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+/**
+ * Wraps JDBC statements so each execute is a CLIENT span under the current
+ * span, with the SQL, its ID and the rows read or changed.
+ *
+ * Only statements created while tracing are wrapped. A query's span stays
+ * open while its ResultSet is read and ends when the ResultSet or statement
+ * is closed, so it covers the fetch as well as the execute.
+ */
+public final class JdbcTracing {
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private JdbcTracing() {
+    }
+
+    /**
+     * @param sql the statement's SQL for prepared and callable statements, null for plain ones
+     * @return the statement, traced if this thread is tracing
+     */
+    public static Statement wrap(Statement statement, String sql) {
+        if (!Tracer.isRecording()) {
+            return statement;
+        }
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return (Statement) Proxy.newProxyInstance(JdbcTracing.class.getClassLoader(), new Class<?>[] {type},
+                new StatementHandler(statement, sql));
+    }
+
+    /**
+     * SQL with literals replaced by ? and whitespace collapsed, so the same
+     * statement with different values gets the same ID and no data leaks
+     */
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    /**
+     * @return 8 hex digits identifying the normalized SQL
+     */
+    static String sqlId(String normalizedSql) {
+        int hash = 0x811c9dc5;
+        for (int i = 0; i < normalizedSql.length(); i++) {
+            hash ^= Character.toLowerCase(normalizedSql.charAt(i));
+            hash *= 0x01000193;
+        }
+        return String.format("%08x", hash);
+    }
+
+    /**
+     * @return the leading keyword, e.g. SELECT or CALL
+     */
+    static String operation(String normalizedSql) {
+        String sql = normalizedSql.startsWith("{") ? normalizedSql.substring(1).trim() : normalizedSql;
+        int end = sql.indexOf(' ');
+        return (end < 0 ? sql : sql.substring(0, end)).toUpperCase();
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String sql;
+        private Span openQuery;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                String statementSql = sql != null ? sql
+                        : args != null && args.length > 0 && args[0] instanceof String ? (String) args[0]
+                        : null;
+                return execute(method, args, statementSql);
+            }
+            if (name.equals("close")) {
+                endQuery();
+            }
+            return invokeTarget(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args, String statementSql) throws Throwable {
+            endQuery();
+            Span span = Tracer.startClientSpan("JDBC " + method.getName());
+            if (statementSql != null && span.isRecording()) {
+                String normalized = normalize(statementSql);
+                span.setAttribute("db.statement", normalized)
+                        .setAttribute("db.sql.id", sqlId(normalized))
+                        .setAttribute("db.operation", operation(normalized));
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                span.recordError(e.getCause());
+                span.close();
+                throw e.getCause();
+            }
+            if (result instanceof ResultSet) {
+                openQuery = span;
+                return Proxy.newProxyInstance(JdbcTracing.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                        new ResultSetHandler((ResultSet) result, span));
+            }
+            if (result instanceof Integer || result instanceof Long) {
+                span.setAttribute("db.rows", ((Number) result).longValue());
+            } else if (result instanceof int[]) {
+                span.setAttribute("db.rows", sumUpdateCounts((int[]) result));
+            } else if (result instanceof long[]) {
+                long rows = 0;
+                for (long count : (long[]) result) {
+                    rows += Math.max(count, 0);
+                }
+                span.setAttribute("db.rows", rows);
+            }
+            span.close();
+            return result;
+        }
+
+        private void endQuery() {
+            if (openQuery != null) {
+                openQuery.close();
+                openQuery = null;
+            }
+        }
+
+        private static long sumUpdateCounts(int[] counts) {
+            long rows = 0;
+            for (int count : counts) {
+                // SUCCESS_NO_INFO is negative
+                rows += Math.max(count, 0);
+            }
+            return rows;
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet target;
+        private final Span span;
+        private long rows;
+
+        ResultSetHandler(ResultSet target, Span span) {
+            this.target = target;
+            this.span = span;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("next")) {
+                Object hasRow = invokeTarget(target, method, args);
+                if (Boolean.TRUE.equals(hasRow)) {
+                    rows++;
+                }
+                return hasRow;
+            }
+            if (name.equals("close")) {
+                try {
+                    return invokeTarget(target, method, args);
+                } finally {
+                    span.setAttribute("db.rows", rows);
+                    span.close();
+                }
+            }
+            return invokeTarget(target, method, args);
+        }
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.studentmanagement.tracing;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Writes traces as an OTLP/JSON ExportTraceServiceRequest, the format an
+ * OpenTelemetry collector's otlpjsonfile receiver reads and Jaeger imports.
+ */
+public final class OtlpJsonExporter {
+    static final String SERVICE_NAME = "student-management-system";
+    private static final String SCOPE_NAME = "com.studentmanagement.tracing";
+    private static final int STATUS_ERROR = 2;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private OtlpJsonExporter() {
+    }
+
+    /**
+     * Write the traces to a file, replacing it
+     * @return number of spans written
+     */
+    public static int export(List<Trace> traces, Path target) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target))) {
+            return write(traces, out);
+        }
+    }
+
+    /**
+     * @return number of spans written
+     */
+    public static int write(List<Trace> traces, OutputStream out) throws IOException {
+        int count = 0;
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            json.writeArrayFieldStart("resourceSpans");
+            json.writeStartObject();
+
+            json.writeObjectFieldStart("resource");
+            json.writeArrayFieldStart("attributes");
+            writeAttribute(json, "service.name", SERVICE_NAME);
+            json.writeEndArray();
+            json.writeEndObject();
+
+            json.writeArrayFieldStart("scopeSpans");
+            json.writeStartObject();
+            json.writeObjectFieldStart("scope");
+            json.writeStringField("name", SCOPE_NAME);
+            json.writeEndObject();
+            json.writeArrayFieldStart("spans");
+            for (Trace trace : traces) {
+                String traceId = trace.getTraceId();
+                for (Span span : trace.getSpans()) {
+                    writeSpan(json, traceId, span);
+                    count++;
+                }
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+            json.writeEndArray();
+
+            json.writeEndObject();
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+        return count;
+    }
+
+    private static void writeSpan(JsonGenerator json, String traceId, Span span) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("traceId", traceId);
+        json.writeStringField("spanId", hex(span.getSpanId()));
+        if (span.getParentSpanId() != 0) {
+            json.writeStringField("parentSpanId", hex(span.getParentSpanId()));
+        }
+        json.writeStringField("name", span.getName());
+        json.writeNumberField("kind", span.getKind().getOtlpCode());
+        // OTLP/JSON encodes 64-bit integers as strings
+        json.writeStringField("startTimeUnixNano", Long.toString(span.getStartEpochNanos()));
+        json.writeStringField("endTimeUnixNano", Long.toString(span.getEndEpochNanos()));
+
+        json.writeArrayFieldStart("attributes");
+        List<Object> attributes = span.getAttributes();
+        for (int i = 0; i < attributes.size(); i += 2) {
+            String key = (String) attributes.get(i);
+            Object value = attributes.get(i + 1);
+            if (value instanceof Long) {
+                json.writeStartObject();
+                json.writeStringField("key", key);
+                json.writeObjectFieldStart("value");
+                json.writeStringField("intValue", value.toString());
+                json.writeEndObject();
+                json.writeEndObject();
+            } else {
+                writeAttribute(json, key, value.toString());
+            }
+        }
+        json.writeEndArray();
+
+        if (span.isError()) {
+            json.writeObjectFieldStart("status");
+            json.writeNumberField("code", STATUS_ERROR);
+            if (span.getErrorMessage() != null) {
+                json.writeStringField("message", span.getErrorMessage());
+            }
+            json.writeEndObject();
+        }
+        json.writeEndObject();
+    }
+
+    private static void writeAttribute(JsonGenerator json, String key, String value) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("key", key);
+        json.writeObjectFieldStart("value");
+        json.writeStringField("stringValue", value);
+        json.writeEndObject();
+        json.writeEndObject();
+    }
+
+    private static String hex(long id) {
+        return String.format("%016x", id);
+    }
+}
@@ -0,0 +1,186 @@
+package com.studentmanagement.tracing;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One timed step of a trace. Close it (try-with-resources) to end it.
+ *
+ * Spans that are not sampled are the shared NOOP instance, whose methods
+ * do nothing, so untraced code pays only for the Tracer's thread-local lookup.
+ */
+public final class Span implements AutoCloseable {
+
+    /**
+     * Role of the span, as in OTLP
+     */
+    public enum Kind {
+        INTERNAL(1), SERVER(2), CLIENT(3);
+
+        private final int otlpCode;
+
+        Kind(int otlpCode) {
+            this.otlpCode = otlpCode;
+        }
+
+        int getOtlpCode() {
+            return otlpCode;
+        }
+    }
+
+    static final Span NOOP = new Span();
+
+    private final Trace trace;
+    private final long spanId;
+    private final long parentSpanId;
+    private final String name;
+    private final Kind kind;
+    private final long startEpochNanos;
+    private final long startNanoTime;
+    private final Span previous;
+    private final boolean current;
+    private final AtomicBoolean ended = new AtomicBoolean();
+    private final List<Object> attributes;
+    private volatile long durationNanos;
+    private volatile String errorMessage;
+    private volatile boolean error;
+
+    private Span() {
+        this.trace = null;
+        this.spanId = 0;
+        this.parentSpanId = 0;
+        this.name = "";
+        this.kind = Kind.INTERNAL;
+        this.startEpochNanos = 0;
+        this.startNanoTime = 0;
+        this.previous = null;
+        this.current = false;
+        this.attributes = Collections.emptyList();
+        this.ended.set(true);
+    }
+
+    /**
+     * @param previous the thread's current span before this one, restored on close
+     * @param current whether this span became the thread's current span
+     */
+    Span(Trace trace, long spanId, long parentSpanId, String name, Kind kind, Span previous, boolean current) {
+        this.trace = trace;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.kind = kind;
+        Instant now = Instant.now();
+        this.startEpochNanos = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+        this.startNanoTime = System.nanoTime();
+        this.previous = previous;
+        this.current = current;
+        this.attributes = new ArrayList<>(4);
+    }
+
+    /**
+     * @return false for the no-op span of untraced work
+     */
+    public boolean isRecording() {
+        return this != NOOP;
+    }
+
+    public Span setAttribute(String key, String value) {
+        if (this != NOOP && value != null) {
+            addAttribute(key, value);
+        }
+        return this;
+    }
+
+    public Span setAttribute(String key, long value) {
+        if (this != NOOP) {
+            addAttribute(key, value);
+        }
+        return this;
+    }
+
+    /**
+     * Mark the span failed
+     */
+    public Span recordError(Throwable error) {
+        if (this != NOOP) {
+            this.error = true;
+            this.errorMessage = error.getClass().getSimpleName()
+                    + (error.getMessage() != null ? ": " + error.getMessage() : "");
+        }
+        return this;
+    }
+
+    private void addAttribute(String key, Object value) {
+        synchronized (attributes) {
+            attributes.add(key);
+            attributes.add(value);
+        }
+    }
+
+    /**
+     * End the span; later calls do nothing
+     */
+    @Override
+    public void close() {
+        if (!ended.compareAndSet(false, true)) {
+            return;
+        }
+        durationNanos = System.nanoTime() - startNanoTime;
+        if (current) {
+            Tracer.restore(this, previous);
+        }
+        trace.finished(this);
+    }
+
+    Trace getTrace() {
+        return trace;
+    }
+
+    long getSpanId() {
+        return spanId;
+    }
+
+    long getParentSpanId() {
+        return parentSpanId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    long getStartEpochNanos() {
+        return startEpochNanos;
+    }
+
+    long getEndEpochNanos() {
+        return startEpochNanos + durationNanos;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    boolean isError() {
+        return error;
+    }
+
+    String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * @return attribute keys and values, alternating
+     */
+    List<Object> getAttributes() {
+        synchronized (attributes) {
+            return new ArrayList<>(attributes);
+        }
+    }
+}
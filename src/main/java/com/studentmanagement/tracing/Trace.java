@@ -0,0 +1,55 @@
+package com.studentmanagement.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The spans of one sampled request, handed to the TraceBuffer when its root
+ * span ends. Children finished later on other threads are still added.
+ */
+public final class Trace {
+    private final long traceIdHigh;
+    private final long traceIdLow;
+    private final TraceBuffer buffer;
+    private final List<Span> spans = new ArrayList<>();
+    private Span root;
+
+    Trace(long traceIdHigh, long traceIdLow, TraceBuffer buffer) {
+        this.traceIdHigh = traceIdHigh;
+        this.traceIdLow = traceIdLow;
+        this.buffer = buffer;
+    }
+
+    void setRoot(Span root) {
+        this.root = root;
+    }
+
+    void finished(Span span) {
+        synchronized (spans) {
+            spans.add(span);
+        }
+        if (span == root) {
+            buffer.add(this);
+        }
+    }
+
+    /**
+     * @return 32 hex digits
+     */
+    public String getTraceId() {
+        return String.format("%016x%016x", traceIdHigh, traceIdLow);
+    }
+
+    public Span getRoot() {
+        return root;
+    }
+
+    /**
+     * @return the finished spans, in the order they ended
+     */
+    public List<Span> getSpans() {
+        synchronized (spans) {
+            return new ArrayList<>(spans);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.studentmanagement.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size ring of the most recently finished traces; older ones are overwritten
+ */
+public class TraceBuffer {
+    private final AtomicReferenceArray<Trace> slots;
+    private final AtomicLong added = new AtomicLong();
+
+    public TraceBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    void add(Trace trace) {
+        long index = added.getAndIncrement();
+        slots.set((int) (index % slots.length()), trace);
+    }
+
+    /**
+     * @return the buffered traces, oldest first
+     */
+    public List<Trace> snapshot() {
+        long end = added.get();
+        long start = Math.max(0, end - slots.length());
+        List<Trace> traces = new ArrayList<>((int) (end - start));
+        for (long i = start; i < end; i++) {
+            Trace trace = slots.get((int) (i % slots.length()));
+            if (trace != null) {
+                traces.add(trace);
+            }
+        }
+        return traces;
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    /**
+     * @return traces finished since startup, including those overwritten
+     */
+    public long getTracesRecorded() {
+        return added.get();
+    }
+}
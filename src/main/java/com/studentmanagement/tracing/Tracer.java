@@ -0,0 +1,207 @@
+package com.studentmanagement.tracing;
+
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.util.DatabaseConnection;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Entry point for tracing: starts spans, tracks the current one per thread
+ * and keeps finished traces in a TraceBuffer.
+ *
+ * A trace starts at the outermost span (an API request or a service call),
+ * sampled at db.tracing.sampleRate. Spans started below it become its
+ * children; without a sampled trace on the thread every start method returns
+ * a shared no-op span after one thread-local read, so with sampling off the
+ * cost is that read. Work handed to another thread carries the trace along
+ * when submitted through wrap(). Service methods run their body through
+ * inSpan().
+ */
+public final class Tracer {
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+
+    /**
+     * A call made inside a span
+     */
+    @FunctionalInterface
+    public interface SpanCall<T> {
+        T call() throws StudentManagementException;
+    }
+
+    private Tracer() {
+    }
+
+    private static final class Holder {
+        static volatile double sampleRate = DatabaseConnection.getConfig().getTracingSampleRate();
+        static final TraceBuffer BUFFER = new TraceBuffer(DatabaseConnection.getConfig().getTracingBufferSize());
+    }
+
+    /**
+     * Start a span as a child of the current one, or as the root of a new
+     * trace if this thread has none and the sampler picks it
+     */
+    public static Span startSpan(String name) {
+        return startSpan(name, Span.Kind.INTERNAL);
+    }
+
+    /**
+     * Run a call in a span started with startSpan, recording its failure on the span
+     */
+    public static <T> T inSpan(String name, SpanCall<T> call) throws StudentManagementException {
+        Span span = startSpan(name);
+        try {
+            return call.call();
+        } catch (StudentManagementException | RuntimeException e) {
+            span.recordError(e);
+            throw e;
+        } finally {
+            span.close();
+        }
+    }
+
+    /**
+     * Start the root span of an incoming request, named e.g. "GET /api/students"
+     */
+    public static Span startServerSpan(String method, String route) {
+        Span parent = CURRENT.get();
+        if (parent == null && !sample()) {
+            return Span.NOOP;
+        }
+        return start(parent, method + " " + route, Span.Kind.SERVER, true);
+    }
+
+    /**
+     * Start a span named "component.operation" only if this thread is tracing
+     */
+    public static Span startChildSpan(String component, String operation) {
+        Span parent = CURRENT.get();
+        if (parent == null) {
+            return Span.NOOP;
+        }
+        return start(parent, component + "." + operation, Span.Kind.INTERNAL, true);
+    }
+
+    /**
+     * Start a span for a call to another system, e.g. one JDBC execute, only
+     * if this thread is tracing. It does not become the current span, so it
+     * may be ended later or on another thread.
+     */
+    public static Span startClientSpan(String name) {
+        Span parent = CURRENT.get();
+        if (parent == null) {
+            return Span.NOOP;
+        }
+        return start(parent, name, Span.Kind.CLIENT, false);
+    }
+
+    private static Span startSpan(String name, Span.Kind kind) {
+        Span parent = CURRENT.get();
+        if (parent == null && !sample()) {
+            return Span.NOOP;
+        }
+        return start(parent, name, kind, true);
+    }
+
+    private static Span start(Span parent, String name, Span.Kind kind, boolean makeCurrent) {
+        Span span;
+        if (parent == null) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Trace trace = new Trace(random.nextLong(), nonZeroId(), Holder.BUFFER);
+            span = new Span(trace, nonZeroId(), 0, name, kind, null, makeCurrent);
+            trace.setRoot(span);
+        } else {
+            span = new Span(parent.getTrace(), nonZeroId(), parent.getSpanId(), name, kind, parent, makeCurrent);
+        }
+        if (makeCurrent) {
+            CURRENT.set(span);
+        }
+        return span;
+    }
+
+    private static boolean sample() {
+        double rate = Holder.sampleRate;
+        return rate > 0 && (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private static long nonZeroId() {
+        long id;
+        do {
+            id = ThreadLocalRandom.current().nextLong();
+        } while (id == 0);
+        return id;
+    }
+
+    /**
+     * Called by Span.close: make the span's parent current again
+     */
+    static void restore(Span ending, Span previous) {
+        if (CURRENT.get() == ending) {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return the innermost open span on this thread, or a no-op span
+     */
+    public static Span current() {
+        Span span = CURRENT.get();
+        return span != null ? span : Span.NOOP;
+    }
+
+    /**
+     * @return true if this thread is inside a sampled trace
+     */
+    public static boolean isRecording() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Bind a task to the current span, so spans it starts on another thread
+     * join this trace. Returns the task itself when not tracing.
+     */
+    public static Runnable wrap(Runnable task) {
+        Span parent = CURRENT.get();
+        if (parent == null) {
+            return task;
+        }
+        return () -> {
+            Span previous = CURRENT.get();
+            CURRENT.set(parent);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    public static double getSampleRate() {
+        return Holder.sampleRate;
+    }
+
+    /**
+     * Change the sampling rate at runtime, e.g. to trace a slow period
+     * @param sampleRate 0 (off) to 1 (every request)
+     */
+    public static void setSampleRate(double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1");
+        }
+        Holder.sampleRate = sampleRate;
+    }
+
+    /**
+     * @return the most recently finished traces
+     */
+    public static TraceBuffer getBuffer() {
+        return Holder.BUFFER;
+    }
+}
@@ -0,0 +1,96 @@
+package com.studentmanagement.util;
+
+/**
+ * Immutable snapshot of cache metrics
+ */
+public class CacheStatistics {
+    private final String cacheName;
+    private final int size;
+    private final int maximumSize;
+    private final long hitCount;
+    private final long missCount;
+    private final long negativeHitCount;
+    private final long evictionCount;
+    private final long loadCount;
+    private final double loadMeanMicros;
+    private final long loadP99Micros;
+    private final long loadMaxMicros;
+
+    public CacheStatistics(String cacheName, int size, int maximumSize, long hitCount, long missCount,
+                           long negativeHitCount, long evictionCount, LatencyHistogram loadLatency) {
+        this.cacheName = cacheName;
+        this.size = size;
+        this.maximumSize = maximumSize;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.negativeHitCount = negativeHitCount;
+        this.evictionCount = evictionCount;
+        this.loadCount = loadLatency.getCount();
+        this.loadMeanMicros = loadLatency.getMeanMicros();
+        this.loadP99Micros = loadLatency.getPercentileMicros(99.0);
+        this.loadMaxMicros = loadLatency.getMaxMicros();
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return lookups answered from the cache, including cached "not found" results
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getNegativeHitCount() {
+        return negativeHitCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getLoadCount() {
+        return loadCount;
+    }
+
+    public double getLoadMeanMicros() {
+        return loadMeanMicros;
+    }
+
+    public long getLoadP99Micros() {
+        return loadP99Micros;
+    }
+
+    public long getLoadMaxMicros() {
+        return loadMaxMicros;
+    }
+
+    /**
+     * @return hits divided by all lookups, or 0 if nothing was looked up yet
+     */
+    public double getHitRatio() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s{size=%d/%d, hitRatio=%.3f, hits=%d, misses=%d, negativeHits=%d, evictions=%d, " +
+                        "loads=%d, loadMean=%.0fus, loadP99=%dus, loadMax=%dus}",
+                cacheName, size, maximumSize, getHitRatio(), hitCount, missCount, negativeHitCount, evictionCount,
+                loadCount, loadMeanMicros, loadP99Micros, loadMaxMicros);
+    }
+}
@@ -0,0 +1,158 @@
+package com.studentmanagement.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stops calls to a dependency that keeps failing, so callers fail at once
+ * instead of each waiting out a connection timeout.
+ *
+ * After failureThreshold consecutive failures the breaker opens and refuses
+ * every call for openMs. It then lets a single probe through (half-open): if
+ * the probe succeeds the breaker closes, otherwise it opens again. While
+ * closed, tryAcquire and onSuccess only read a volatile field.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    private volatile State state = State.CLOSED;
+    private long openedAtNanos;
+    private boolean probeInFlight;
+    private long openCount;
+
+    /**
+     * @param failureThreshold consecutive failures that open the breaker
+     * @param openMs how long it stays open before a probe is let through
+     */
+    public CircuitBreaker(int failureThreshold, long openMs) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("failureThreshold must be positive");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, openMs));
+    }
+
+    /**
+     * Ask to make a call; a permitted call must be followed by onSuccess or onFailure
+     * @return false if the breaker is open, or half-open with its probe already running
+     */
+    public boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        synchronized (this) {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAtNanos < openNanos) {
+                    rejected.increment();
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = false;
+            }
+            if (state == State.HALF_OPEN) {
+                if (probeInFlight) {
+                    rejected.increment();
+                    return false;
+                }
+                probeInFlight = true;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The call reached the dependency, whatever its result
+     */
+    public void onSuccess() {
+        if (state == State.CLOSED) {
+            if (consecutiveFailures.get() != 0) {
+                consecutiveFailures.set(0);
+            }
+            return;
+        }
+        synchronized (this) {
+            if (state == State.HALF_OPEN) {
+                state = State.CLOSED;
+                consecutiveFailures.set(0);
+                probeInFlight = false;
+            }
+        }
+    }
+
+    /**
+     * The permitted call never reached the dependency, e.g. no pooled
+     * connection was free. Counts as neither success nor failure; a
+     * half-open breaker lets the next call probe instead.
+     */
+    public void onNotAttempted() {
+        if (state == State.CLOSED) {
+            return;
+        }
+        synchronized (this) {
+            if (state == State.HALF_OPEN) {
+                probeInFlight = false;
+            }
+        }
+    }
+
+    /**
+     * The dependency could not be reached
+     */
+    public void onFailure() {
+        failures.increment();
+        if (state == State.CLOSED && consecutiveFailures.incrementAndGet() < failureThreshold) {
+            return;
+        }
+        synchronized (this) {
+            if (state == State.HALF_OPEN
+                    || (state == State.CLOSED && consecutiveFailures.get() >= failureThreshold)) {
+                state = State.OPEN;
+                openedAtNanos = System.nanoTime();
+                probeInFlight = false;
+                consecutiveFailures.set(0);
+                openCount++;
+            }
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * @return calls refused without reaching the dependency
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return failures reported through onFailure
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * @return times the breaker has opened
+     */
+    public synchronized long getOpenCount() {
+        return openCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CircuitBreaker[state=%s, opened=%d, rejected=%d, failures=%d]",
+                state, getOpenCount(), rejected.sum(), failures.sum());
+    }
+}
@@ -0,0 +1,85 @@
+package com.studentmanagement.util;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps how many callers run a section at once; the rest queue on a fair
+ * semaphore for up to a timeout and are then turned away.
+ *
+ * Placed in front of the connection pool it keeps the number of threads
+ * competing for connections near the pool size, however many requests are
+ * in flight. Waiting on the semaphore parks a virtual thread without pinning
+ * its carrier, so thousands of queued requests cost little more than their stacks.
+ */
+public class ConcurrencyLimiter {
+    private final int maxConcurrent;
+    private final long queueTimeoutNanos;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param maxConcurrent callers allowed inside at once
+     * @param queueTimeoutMs how long a caller may wait for a permit
+     */
+    public ConcurrencyLimiter(int maxConcurrent, long queueTimeoutMs) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("maxConcurrent must be positive");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, queueTimeoutMs));
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Wait for a permit; every successful call must be matched by release()
+     * @return false if no permit became free within the queue timeout
+     */
+    public boolean acquire() throws InterruptedException {
+        waiting.incrementAndGet();
+        try {
+            if (permits.tryAcquire(queueTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                admitted.increment();
+                return true;
+            }
+            rejected.increment();
+            return false;
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getInFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    public long getAdmitted() {
+        return admitted.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ConcurrencyLimiter[max=%d, inFlight=%d, waiting=%d, admitted=%d, rejected=%d]",
+                maxConcurrent, getInFlight(), waiting.get(), admitted.sum(), rejected.sum());
+    }
+}
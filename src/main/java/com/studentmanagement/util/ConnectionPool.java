@@ -0,0 +1,592 @@
+package com.studentmanagement.util;
+
+import com.studentmanagement.tracing.JdbcTracing;
+import com.studentmanagement.tracing.Tracer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded JDBC connection pool.
+ *
+ * Connections handed out are proxies: closing one closes the statements the
+ * borrower left open and returns the physical connection to the pool instead
+ * of closing the socket. Idle connections are reused most-recently-returned
+ * first, validated on borrow, and evicted by a background housekeeper once
+ * they have been idle longer than the idle timeout.
+ * No JDBC call is ever made while holding a lock, and waiting is done on a
+ * Semaphore and a LinkedBlockingDeque rather than monitors, so virtual
+ * threads waiting for or using a connection never pin their carrier.
+ */
+public class ConnectionPool implements DataSource, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectionPool.class);
+
+    private static final long WAIT_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final ConnectionPoolConfig config;
+    private final LinkedBlockingDeque<PooledConnection> idleConnections = new LinkedBlockingDeque<>();
+    private final Set<PooledConnection> activeConnections = ConcurrentHashMap.newKeySet();
+    private final Semaphore borrowPermits;
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final AtomicInteger waitingThreads = new AtomicInteger();
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder borrowTimeouts = new LongAdder();
+    private final LongAdder connectionsCreated = new LongAdder();
+    private final LongAdder connectionsClosed = new LongAdder();
+    private final LongAdder leaksDetected = new LongAdder();
+    private final LatencyHistogram borrowLatency = new LatencyHistogram();
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean shutdown;
+
+    public ConnectionPool(ConnectionPoolConfig config) {
+        config.validate();
+        this.config = config;
+        this.borrowPermits = new Semaphore(config.getMaxPoolSize(), true);
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, config.getPoolName() + "-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.housekeeper.scheduleWithFixedDelay(this::housekeep, 0,
+                config.getHousekeepingIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrow a connection, waiting up to the configured connection timeout
+     * @return pooled Connection; closing it returns it to the pool
+     * @throws SQLException if no connection becomes available in time or a new one cannot be opened
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (shutdown) {
+            throw new SQLNonTransientConnectionException("Connection pool '" + config.getPoolName() + "' has been shut down");
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(config.getConnectionTimeoutMs());
+
+        boolean acquired;
+        waitingThreads.incrementAndGet();
+        try {
+            acquired = borrowPermits.tryAcquire(deadline - start, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        } finally {
+            waitingThreads.decrementAndGet();
+        }
+
+        if (!acquired) {
+            throw timeoutException();
+        }
+
+        try {
+            PooledConnection pooled = acquireConnection(deadline);
+            Throwable borrowSite = config.getLeakDetectionThresholdMs() > 0
+                    ? new Throwable("Connection borrowed here") : null;
+            Connection proxy = pooled.borrow(borrowSite);
+            activeConnections.add(pooled);
+            borrowCount.increment();
+            borrowLatency.recordNanos(System.nanoTime() - start);
+            return proxy;
+        } catch (SQLException | RuntimeException e) {
+            borrowPermits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Pooled connections use the configured credentials");
+    }
+
+    /**
+     * Exclude a borrowed connection from leak detection, for scans that
+     * legitimately hold a connection for a long time
+     * @param connection connection obtained from a ConnectionPool; other connections are ignored
+     */
+    public static void disableLeakDetection(Connection connection) {
+        if (connection instanceof Lease) {
+            ((Lease) connection).disableLeakDetection();
+        }
+    }
+
+    /**
+     * Extra interface implemented by connection proxies
+     */
+    interface Lease {
+        void disableLeakDetection();
+    }
+
+    /**
+     * Get a snapshot of the pool statistics
+     * @return PoolStatistics snapshot
+     */
+    public PoolStatistics getStatistics() {
+        return new PoolStatistics(config.getPoolName(), totalConnections.get(), activeConnections.size(),
+                idleConnections.size(), waitingThreads.get(), borrowCount.sum(), borrowTimeouts.sum(),
+                connectionsCreated.sum(), connectionsClosed.sum(), leaksDetected.sum(), borrowLatency);
+    }
+
+    public ConnectionPoolConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Close all idle connections and stop the housekeeper.
+     * Connections still borrowed are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        shutdown = true;
+        housekeeper.shutdownNow();
+        PooledConnection pooled;
+        while ((pooled = idleConnections.pollFirst()) != null) {
+            destroy(pooled);
+        }
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    private PooledConnection acquireConnection(long deadline) throws SQLException {
+        while (true) {
+            PooledConnection pooled = idleConnections.pollFirst();
+            if (pooled != null) {
+                if (isUsable(pooled)) {
+                    return pooled;
+                }
+                destroy(pooled);
+                continue;
+            }
+
+            if (reserveSlot()) {
+                return openConnection();
+            }
+
+            // Every slot is taken but this thread holds a permit, so a connection is
+            // either about to be returned or being opened by the housekeeper
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw timeoutException();
+            }
+            try {
+                pooled = idleConnections.pollFirst(Math.min(remaining, WAIT_SLICE_NANOS), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+            }
+            if (pooled != null) {
+                if (isUsable(pooled)) {
+                    return pooled;
+                }
+                destroy(pooled);
+            }
+        }
+    }
+
+    private boolean reserveSlot() {
+        while (true) {
+            int current = totalConnections.get();
+            if (current >= config.getMaxPoolSize()) {
+                return false;
+            }
+            if (totalConnections.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Open a physical connection for a slot that has already been reserved
+     */
+    private PooledConnection openConnection() throws SQLException {
+        try {
+            Connection physical = DriverManager.getConnection(config.getJdbcUrl(), config.getUsername(), config.getPassword());
+            PooledConnection pooled;
+            try {
+                physical.setAutoCommit(true);
+                pooled = new PooledConnection(this, physical);
+            } catch (SQLException | RuntimeException e) {
+                try {
+                    physical.close();
+                } catch (SQLException closeFailure) {
+                    e.addSuppressed(closeFailure);
+                }
+                throw e;
+            }
+            connectionsCreated.increment();
+            return pooled;
+        } catch (SQLException | RuntimeException e) {
+            totalConnections.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private boolean isUsable(PooledConnection pooled) {
+        if (System.currentTimeMillis() - pooled.lastReturnedAt < config.getValidationIntervalMs()) {
+            return true;
+        }
+        try {
+            return pooled.physical.isValid(config.getValidationTimeoutSeconds());
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Called by the connection proxy when the borrower closes it
+     */
+    void release(PooledConnection pooled) {
+        activeConnections.remove(pooled);
+        try {
+            if (pooled.broken || shutdown) {
+                destroy(pooled);
+            } else {
+                pooled.resetState();
+                pooled.lastReturnedAt = System.currentTimeMillis();
+                idleConnections.offerFirst(pooled);
+            }
+        } catch (SQLException e) {
+            destroy(pooled);
+        } finally {
+            borrowPermits.release();
+        }
+    }
+
+    private void destroy(PooledConnection pooled) {
+        totalConnections.decrementAndGet();
+        connectionsClosed.increment();
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            LOG.warn("Error closing pooled connection: {}", e.getMessage());
+        }
+    }
+
+    private SQLException timeoutException() {
+        borrowTimeouts.increment();
+        return new SQLTransientConnectionException("Timed out after " + config.getConnectionTimeoutMs() +
+                "ms waiting for a connection from pool '" + config.getPoolName() + "' (active=" +
+                activeConnections.size() + ", idle=" + idleConnections.size() + ", waiting=" + waitingThreads.get() + ")");
+    }
+
+    private void housekeep() {
+        try {
+            evictIdleConnections();
+            fillToMinimumIdle();
+            detectLeaks();
+        } catch (RuntimeException e) {
+            LOG.error("Connection pool housekeeping failed: {}", e.getMessage());
+        }
+    }
+
+    private void evictIdleConnections() {
+        long now = System.currentTimeMillis();
+        Iterator<PooledConnection> oldestFirst = idleConnections.descendingIterator();
+        while (oldestFirst.hasNext() && totalConnections.get() > config.getMinIdle()) {
+            PooledConnection pooled = oldestFirst.next();
+            if (now - pooled.lastReturnedAt > config.getIdleTimeoutMs() && idleConnections.remove(pooled)) {
+                destroy(pooled);
+            }
+        }
+    }
+
+    private void fillToMinimumIdle() {
+        while (!shutdown && idleConnections.size() < config.getMinIdle() && reserveSlot()) {
+            try {
+                PooledConnection pooled = openConnection();
+                pooled.lastReturnedAt = System.currentTimeMillis();
+                idleConnections.offerLast(pooled);
+            } catch (SQLException e) {
+                LOG.warn("Failed to open idle connection for pool '{}': {}", config.getPoolName(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void detectLeaks() {
+        long threshold = config.getLeakDetectionThresholdMs();
+        if (threshold <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (PooledConnection pooled : activeConnections) {
+            Throwable borrowSite = pooled.borrowSite;
+            if (!pooled.leakReported && borrowSite != null && now - pooled.borrowedAt > threshold) {
+                pooled.leakReported = true;
+                leaksDetected.increment();
+                LOG.warn("Possible connection leak in pool '{}': connection held for {}ms",
+                        config.getPoolName(), now - pooled.borrowedAt, borrowSite);
+            }
+        }
+    }
+
+    // DataSource methods not used by the pool
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return 0;
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("java.util.logging is not used");
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("ConnectionPool does not wrap " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    /**
+     * A physical connection owned by the pool
+     */
+    static final class PooledConnection {
+        private final ConnectionPool pool;
+        private final Connection physical;
+        private final boolean originalReadOnly;
+        private final int originalIsolation;
+        private volatile long lastReturnedAt;
+        private volatile long borrowedAt;
+        private volatile Throwable borrowSite;
+        private volatile boolean leakReported;
+        private volatile boolean broken;
+        private boolean autoCommitChanged;
+        private boolean readOnlyChanged;
+        private boolean isolationChanged;
+
+        /**
+         * @throws SQLException if the connection's session settings cannot be read
+         */
+        PooledConnection(ConnectionPool pool, Connection physical) throws SQLException {
+            this.pool = pool;
+            this.physical = physical;
+            this.originalReadOnly = physical.isReadOnly();
+            this.originalIsolation = physical.getTransactionIsolation();
+        }
+
+        Connection borrow(Throwable borrowSite) {
+            this.borrowedAt = System.currentTimeMillis();
+            this.borrowSite = borrowSite;
+            this.leakReported = false;
+            return (Connection) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                    new Class<?>[] {Connection.class, Lease.class}, new Handler());
+        }
+
+        /**
+         * Undo session changes made by the borrower before the connection is reused,
+         * restoring the settings the connection was opened with
+         */
+        void resetState() throws SQLException {
+            if (autoCommitChanged) {
+                if (!physical.getAutoCommit()) {
+                    physical.rollback();
+                    physical.setAutoCommit(true);
+                }
+                autoCommitChanged = false;
+            }
+            if (readOnlyChanged) {
+                physical.setReadOnly(originalReadOnly);
+                readOnlyChanged = false;
+            }
+            if (isolationChanged) {
+                physical.setTransactionIsolation(originalIsolation);
+                isolationChanged = false;
+            }
+            borrowSite = null;
+        }
+
+        /**
+         * Per-borrow proxy; once closed it rejects further use even if the
+         * physical connection has been handed to another borrower. Statements
+         * created through it are closed with it and refuse use afterwards, so
+         * nothing the borrower left open can run on the next borrower's session.
+         */
+        private final class Handler implements InvocationHandler {
+            private final Set<Statement> openStatements = ConcurrentHashMap.newKeySet();
+            private volatile boolean closed;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "close":
+                        if (!closed) {
+                            closed = true;
+                            closeStatements();
+                            pool.release(PooledConnection.this);
+                        }
+                        return null;
+                    case "isClosed":
+                        return closed || physical.isClosed();
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return "PooledConnection[" + physical + "]";
+                    case "disableLeakDetection":
+                        if (!closed) {
+                            borrowSite = null;
+                        }
+                        return null;
+                    default:
+                        break;
+                }
+
+                if (closed) {
+                    throw new SQLException("Connection is closed");
+                }
+
+                switch (method.getName()) {
+                    case "setAutoCommit":
+                        autoCommitChanged = true;
+                        break;
+                    case "setReadOnly":
+                        readOnlyChanged = true;
+                        break;
+                    case "setTransactionIsolation":
+                        isolationChanged = true;
+                        break;
+                    default:
+                        break;
+                }
+
+                try {
+                    Object result = method.invoke(physical, args);
+                    if (result instanceof Statement) {
+                        Statement statement = track((Statement) result, method.getReturnType(), (Connection) proxy);
+                        return Tracer.isRecording() ? JdbcTracing.wrap(statement,
+                                args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null)
+                                : statement;
+                    }
+                    return result;
+                } catch (InvocationTargetException e) {
+                    throw failed(e.getCause());
+                }
+            }
+
+            private Statement track(Statement statement, Class<?> type, Connection connection) {
+                openStatements.add(statement);
+                return (Statement) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                        new Class<?>[] {type}, new StatementHandler(statement, connection));
+            }
+
+            private void closeStatements() {
+                for (Statement statement : openStatements) {
+                    try {
+                        statement.close();
+                    } catch (SQLException e) {
+                        // The session may still be running it; do not hand it to anyone else
+                        broken = true;
+                        LOG.warn("Error closing statement left open on pooled connection: {}", e.getMessage());
+                    }
+                }
+                openStatements.clear();
+            }
+
+            /**
+             * Statement created through this lease
+             */
+            private final class StatementHandler implements InvocationHandler {
+                private final Statement statement;
+                private final Connection connection;
+
+                StatementHandler(Statement statement, Connection connection) {
+                    this.statement = statement;
+                    this.connection = connection;
+                }
+
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                    switch (method.getName()) {
+                        case "close":
+                            if (openStatements.remove(statement)) {
+                                statement.close();
+                            }
+                            return null;
+                        case "isClosed":
+                            return closed || statement.isClosed();
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "PooledStatement[" + statement + "]";
+                        case "getConnection":
+                            return connection;
+                        default:
+                            break;
+                    }
+
+                    if (closed) {
+                        throw new SQLException("Statement is closed: its connection was returned to the pool");
+                    }
+                    try {
+                        return method.invoke(statement, args);
+                    } catch (InvocationTargetException e) {
+                        throw failed(e.getCause());
+                    }
+                }
+            }
+        }
+
+        private Throwable failed(Throwable cause) {
+            if (cause instanceof SQLException && isConnectionFailure((SQLException) cause)) {
+                broken = true;
+            }
+            return cause;
+        }
+
+        private static boolean isConnectionFailure(SQLException e) {
+            return e instanceof SQLNonTransientConnectionException ||
+                   (e.getSQLState() != null && e.getSQLState().startsWith("08"));
+        }
+    }
+}
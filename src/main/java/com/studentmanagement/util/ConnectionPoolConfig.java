@@ -0,0 +1,170 @@
+package com.studentmanagement.util;
+
+/**
+ * Configuration settings for ConnectionPool
+ */
+public class ConnectionPoolConfig {
+    private String poolName = "student-management-pool";
+    private String jdbcUrl;
+    private String username;
+    private String password;
+    private int minIdle = 2;
+    private int maxPoolSize = 10;
+    private long connectionTimeoutMs = 30_000;
+    private long idleTimeoutMs = 600_000;
+    private long validationIntervalMs = 500;
+    private int validationTimeoutSeconds = 2;
+    private long leakDetectionThresholdMs = 0;
+    private long housekeepingIntervalMs = 30_000;
+
+    // Default constructor
+    public ConnectionPoolConfig() {}
+
+    // Constructor with connection settings
+    public ConnectionPoolConfig(String jdbcUrl, String username, String password) {
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+    }
+
+    // Getters and Setters
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public void setPoolName(String poolName) {
+        this.poolName = poolName;
+    }
+
+    public String getJdbcUrl() {
+        return jdbcUrl;
+    }
+
+    public void setJdbcUrl(String jdbcUrl) {
+        this.jdbcUrl = jdbcUrl;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    public void setMinIdle(int minIdle) {
+        this.minIdle = minIdle;
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public void setMaxPoolSize(int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    public long getConnectionTimeoutMs() {
+        return connectionTimeoutMs;
+    }
+
+    public void setConnectionTimeoutMs(long connectionTimeoutMs) {
+        this.connectionTimeoutMs = connectionTimeoutMs;
+    }
+
+    public long getIdleTimeoutMs() {
+        return idleTimeoutMs;
+    }
+
+    public void setIdleTimeoutMs(long idleTimeoutMs) {
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    /**
+     * Connections returned to the pool more recently than this are handed out
+     * again without a validation round trip
+     */
+    public long getValidationIntervalMs() {
+        return validationIntervalMs;
+    }
+
+    public void setValidationIntervalMs(long validationIntervalMs) {
+        this.validationIntervalMs = validationIntervalMs;
+    }
+
+    public int getValidationTimeoutSeconds() {
+        return validationTimeoutSeconds;
+    }
+
+    public void setValidationTimeoutSeconds(int validationTimeoutSeconds) {
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
+
+    /**
+     * A connection held longer than this is reported as a possible leak,
+     * together with the stack trace of the borrower. 0 disables leak detection.
+     */
+    public long getLeakDetectionThresholdMs() {
+        return leakDetectionThresholdMs;
+    }
+
+    public void setLeakDetectionThresholdMs(long leakDetectionThresholdMs) {
+        this.leakDetectionThresholdMs = leakDetectionThresholdMs;
+    }
+
+    public long getHousekeepingIntervalMs() {
+        return housekeepingIntervalMs;
+    }
+
+    public void setHousekeepingIntervalMs(long housekeepingIntervalMs) {
+        this.housekeepingIntervalMs = housekeepingIntervalMs;
+    }
+
+    /**
+     * Check that the settings are consistent
+     * @throws IllegalArgumentException if a setting is invalid
+     */
+    public void validate() {
+        if (jdbcUrl == null || jdbcUrl.trim().isEmpty()) {
+            throw new IllegalArgumentException("JDBC URL cannot be null or empty");
+        }
+        if (maxPoolSize <= 0) {
+            throw new IllegalArgumentException("Maximum pool size must be positive");
+        }
+        if (minIdle < 0 || minIdle > maxPoolSize) {
+            throw new IllegalArgumentException("Minimum idle must be between 0 and the maximum pool size");
+        }
+        if (connectionTimeoutMs <= 0) {
+            throw new IllegalArgumentException("Connection timeout must be positive");
+        }
+        if (housekeepingIntervalMs <= 0) {
+            throw new IllegalArgumentException("Housekeeping interval must be positive");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolConfig{" +
+                "poolName='" + poolName + '\'' +
+                ", jdbcUrl='" + jdbcUrl + '\'' +
+                ", username='" + username + '\'' +
+                ", minIdle=" + minIdle +
+                ", maxPoolSize=" + maxPoolSize +
+                ", connectionTimeoutMs=" + connectionTimeoutMs +
+                ", idleTimeoutMs=" + idleTimeoutMs +
+                ", leakDetectionThresholdMs=" + leakDetectionThresholdMs +
+                '}';
+    }
+}
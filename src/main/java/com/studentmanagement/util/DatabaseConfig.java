@@ -0,0 +1,393 @@
+package com.studentmanagement.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Database settings resolved from, in increasing order of precedence:
+ * built-in defaults, the database.properties classpath resource (filtered by
+ * the active Maven profile), JVM system properties and environment variables.
+ *
+ * Every key can be overridden by an environment variable named after the key
+ * in upper case with dots replaced by underscores, e.g. db.url -> DB_URL and
+ * db.replica.urls -> DB_REPLICA_URLS.
+ */
+public class DatabaseConfig {
+    private static final Logger LOG = LoggerFactory.getLogger(DatabaseConfig.class);
+
+    public static final String RESOURCE_NAME = "database.properties";
+
+    private static final String[][] DEFAULTS = {
+        {"db.driver", "com.mysql.cj.jdbc.Driver"},
+        {"db.url", "jdbc:mysql://localhost:3306/student_management_system?rewriteBatchedStatements=true"},
+        {"db.username", "root"},
+        {"db.password", "password"},
+        {"db.pool.minIdle", "2"},
+        {"db.pool.maxSize", "20"},
+        {"db.pool.connectionTimeoutMs", "10000"},
+        {"db.pool.idleTimeoutMs", "600000"},
+        {"db.pool.leakDetectionThresholdMs", "60000"},
+        {"db.replica.urls", ""},
+        {"db.replica.maxLagSeconds", "5"},
+        {"db.replica.lagCheckIntervalMs", "5000"},
+        {"db.cache.course.ttlMs", "300000"},
+        {"db.cache.course.refreshIntervalMs", "0"},
+        {"db.cache.student.maxSize", "10000"},
+        {"db.cache.student.ttlMs", "60000"},
+        {"db.cache.student.negativeTtlMs", "5000"},
+        {"db.search.fullTextMode", "BOOLEAN"},
+        {"db.students.writeProcedures", "true"},
+        {"db.stats.reconcileIntervalMs", "0"},
+        {"db.counters.rebuildIntervalMs", "900000"},
+        {"db.api.threads", "32"},
+        {"db.api.executor", "PLATFORM"},
+        {"db.api.maxConcurrentRequests", "0"},
+        {"db.api.queueTimeoutMs", "5000"},
+        {"db.async.threads", "8"},
+        {"db.async.queueSize", "256"},
+        {"db.async.timeoutMs", "5000"},
+        {"db.retry.maxAttempts", "3"},
+        {"db.retry.baseDelayMs", "20"},
+        {"db.retry.maxDelayMs", "500"},
+        {"db.retry.budgetRatio", "0.1"},
+        {"db.retry.budgetMinPerSecond", "10"},
+        {"db.breaker.failureThreshold", "5"},
+        {"db.breaker.openMs", "5000"},
+        {"db.metrics.enabled", "true"},
+        {"db.metrics.slowQueryThresholdMs", "500"},
+        {"db.tracing.sampleRate", "0"},
+        {"db.tracing.bufferSize", "256"}
+    };
+
+    private final Properties properties;
+
+    public DatabaseConfig(Properties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Load configuration from defaults, classpath resource, system properties and environment
+     * @return resolved DatabaseConfig
+     */
+    public static DatabaseConfig load() {
+        Properties resolved = new Properties();
+        for (String[] entry : DEFAULTS) {
+            resolved.setProperty(entry[0], entry[1]);
+        }
+
+        try (InputStream in = DatabaseConfig.class.getClassLoader().getResourceAsStream(RESOURCE_NAME)) {
+            if (in != null) {
+                Properties fromFile = new Properties();
+                fromFile.load(in);
+                mergeResolved(resolved, fromFile);
+            }
+        } catch (IOException e) {
+            LOG.error("Failed to read {}: {}", RESOURCE_NAME, e.getMessage());
+        }
+
+        mergeResolved(resolved, System.getProperties());
+
+        Map<String, String> env = System.getenv();
+        for (String key : resolved.stringPropertyNames()) {
+            String value = env.get(key.toUpperCase(Locale.ROOT).replace('.', '_'));
+            if (value != null && !value.isEmpty()) {
+                resolved.setProperty(key, value);
+            }
+        }
+
+        return new DatabaseConfig(resolved);
+    }
+
+    /**
+     * Copy db.* entries, skipping placeholders left behind when the resource was not filtered
+     */
+    private static void mergeResolved(Properties target, Properties source) {
+        for (String key : source.stringPropertyNames()) {
+            String value = source.getProperty(key);
+            if (key.startsWith("db.") && value != null && !value.contains("${")) {
+                target.setProperty(key, value.trim());
+            }
+        }
+    }
+
+    public String getDriver() {
+        return properties.getProperty("db.driver");
+    }
+
+    public String getUrl() {
+        return properties.getProperty("db.url");
+    }
+
+    public String getUsername() {
+        return properties.getProperty("db.username");
+    }
+
+    public String getPassword() {
+        return properties.getProperty("db.password");
+    }
+
+    /**
+     * Get the JDBC URLs of the read replicas
+     * @return replica URLs, empty if none are configured
+     */
+    public List<String> getReplicaUrls() {
+        String value = properties.getProperty("db.replica.urls", "");
+        if (value.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> urls = new ArrayList<>();
+        for (String url : value.split(",")) {
+            if (!url.trim().isEmpty()) {
+                urls.add(url.trim());
+            }
+        }
+        return urls;
+    }
+
+    public int getReplicaMaxLagSeconds() {
+        return getInt("db.replica.maxLagSeconds");
+    }
+
+    public long getReplicaLagCheckIntervalMs() {
+        return getLong("db.replica.lagCheckIntervalMs");
+    }
+
+    public long getCourseCacheTtlMs() {
+        return getLong("db.cache.course.ttlMs");
+    }
+
+    public long getCourseCacheRefreshIntervalMs() {
+        return getLong("db.cache.course.refreshIntervalMs");
+    }
+
+    public int getStudentCacheMaxSize() {
+        return getInt("db.cache.student.maxSize");
+    }
+
+    public long getStudentCacheTtlMs() {
+        return getLong("db.cache.student.ttlMs");
+    }
+
+    public long getStudentCacheNegativeTtlMs() {
+        return getLong("db.cache.student.negativeTtlMs");
+    }
+
+    /**
+     * @return how often to reconcile the enrollment summary tables, 0 for never
+     */
+    public long getStatsReconcileIntervalMs() {
+        return getLong("db.stats.reconcileIntervalMs");
+    }
+
+    /**
+     * @return how often to rebuild the in-memory enrollment counters, 0 for never
+     */
+    public long getCountersRebuildIntervalMs() {
+        return getLong("db.counters.rebuildIntervalMs");
+    }
+
+    /**
+     * @return number of threads handling HTTP API requests
+     */
+    public int getApiThreads() {
+        return getInt("db.api.threads");
+    }
+
+    /**
+     * @return PLATFORM or VIRTUAL
+     */
+    public String getApiExecutor() {
+        return properties.getProperty("db.api.executor");
+    }
+
+    /**
+     * @return API requests allowed to run at once; defaults to the pool size
+     */
+    public int getApiMaxConcurrentRequests() {
+        int configured = getInt("db.api.maxConcurrentRequests");
+        return configured > 0 ? configured : getInt("db.pool.maxSize");
+    }
+
+    /**
+     * @return how long an API request may queue for a slot before getting 503
+     */
+    public long getApiQueueTimeoutMs() {
+        return getLong("db.api.queueTimeoutMs");
+    }
+
+    /**
+     * @return threads running queries for the asynchronous DAOs
+     */
+    public int getAsyncThreads() {
+        return getInt("db.async.threads");
+    }
+
+    /**
+     * @return asynchronous queries that may wait for a thread before new ones are refused
+     */
+    public int getAsyncQueueSize() {
+        return getInt("db.async.queueSize");
+    }
+
+    /**
+     * @return how long parallel validation queries may take before they are cancelled
+     */
+    public long getAsyncTimeoutMs() {
+        return getLong("db.async.timeoutMs");
+    }
+
+    /**
+     * @return attempts per DAO call including the first; 1 disables retries
+     */
+    public int getRetryMaxAttempts() {
+        return getInt("db.retry.maxAttempts");
+    }
+
+    public long getRetryBaseDelayMs() {
+        return getLong("db.retry.baseDelayMs");
+    }
+
+    public long getRetryMaxDelayMs() {
+        return getLong("db.retry.maxDelayMs");
+    }
+
+    /**
+     * @return retries allowed per DAO call across the process, e.g. 0.1
+     */
+    public double getRetryBudgetRatio() {
+        return Double.parseDouble(properties.getProperty("db.retry.budgetRatio").trim());
+    }
+
+    /**
+     * @return retries allowed per second regardless of traffic
+     */
+    public int getRetryBudgetMinPerSecond() {
+        return getInt("db.retry.budgetMinPerSecond");
+    }
+
+    /**
+     * @return consecutive connection failures that open the circuit breaker
+     */
+    public int getBreakerFailureThreshold() {
+        return getInt("db.breaker.failureThreshold");
+    }
+
+    /**
+     * @return how long the open circuit breaker refuses DAO calls before probing
+     */
+    public long getBreakerOpenMs() {
+        return getLong("db.breaker.openMs");
+    }
+
+    /**
+     * @return true to record latency, rows and errors of every student and course DAO call
+     */
+    public boolean isDaoMetricsEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("db.metrics.enabled").trim());
+    }
+
+    /**
+     * @return DAO calls slower than this are logged, 0 for none
+     */
+    public long getSlowQueryThresholdMs() {
+        return getLong("db.metrics.slowQueryThresholdMs");
+    }
+
+    /**
+     * @return fraction of requests traced, from 0 (tracing off) to 1
+     */
+    public double getTracingSampleRate() {
+        return Double.parseDouble(properties.getProperty("db.tracing.sampleRate").trim());
+    }
+
+    /**
+     * @return finished traces kept in memory for export
+     */
+    public int getTracingBufferSize() {
+        return getInt("db.tracing.bufferSize");
+    }
+
+    /**
+     * @return OFF, NATURAL_LANGUAGE or BOOLEAN
+     */
+    public String getFullTextMode() {
+        return properties.getProperty("db.search.fullTextMode");
+    }
+
+    /**
+     * @return false to skip the student_procedures.sql procedures, e.g. on a database without them
+     */
+    public boolean isStudentWriteProceduresEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("db.students.writeProcedures").trim());
+    }
+
+    /**
+     * Get a raw setting
+     * @param key property key
+     * @param defaultValue value returned when the key is not set
+     * @return setting value
+     */
+    public String get(String key, String defaultValue) {
+        return properties.getProperty(key, defaultValue);
+    }
+
+    /**
+     * Build the pool configuration for the primary database
+     */
+    public ConnectionPoolConfig createPrimaryPoolConfig() {
+        return createPoolConfig("primary", getUrl());
+    }
+
+    /**
+     * Build the pool configuration for a read replica
+     */
+    public ConnectionPoolConfig createReplicaPoolConfig(int index, String url) {
+        return createPoolConfig("replica-" + index, url);
+    }
+
+    private ConnectionPoolConfig createPoolConfig(String name, String url) {
+        ConnectionPoolConfig config = new ConnectionPoolConfig(url, getUsername(), getPassword());
+        config.setPoolName(name);
+        config.setMinIdle(getInt("db.pool.minIdle"));
+        config.setMaxPoolSize(getInt("db.pool.maxSize"));
+        config.setConnectionTimeoutMs(getLong("db.pool.connectionTimeoutMs"));
+        config.setIdleTimeoutMs(getLong("db.pool.idleTimeoutMs"));
+        config.setLeakDetectionThresholdMs(getLong("db.pool.leakDetectionThresholdMs"));
+        return config;
+    }
+
+    private int getInt(String key) {
+        long value = getLong(key);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Value for " + key + " is out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    private long getLong(String key) {
+        String value = properties.getProperty(key);
+        try {
+            return Long.parseLong(value == null ? null : value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + key + ": " + value, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DatabaseConfig{" +
+                "url='" + getUrl() + '\'' +
+                ", username='" + getUsername() + '\'' +
+                ", replicas=" + getReplicaUrls() +
+                '}';
+    }
+}
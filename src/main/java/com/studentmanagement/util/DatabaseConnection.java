@@ -1,43 +1,98 @@
 package com.studentmanagement.util;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.List;
 
 /**
- * Database connection utility class for MySQL
+ * Database connection utility class for MySQL.
+ * Settings come from DatabaseConfig; connections are borrowed from pooled
+ * data sources and closing them returns them to the pool. Writes always go to
+ * the primary, read-only queries may be served by a replica.
  */
 public class DatabaseConnection {
-    private static final String URL = "jdbc:mysql://localhost:3306/student_management_system";
-    private static final String USERNAME = "root";
-    private static final String PASSWORD = "password"; // Change this to your MySQL password
-    private static final String DRIVER = "com.mysql.cj.jdbc.Driver";
+    private static final Logger LOG = LoggerFactory.getLogger(DatabaseConnection.class);
+
+    private static final DatabaseConfig CONFIG = DatabaseConfig.load();
 
     static {
         try {
-            Class.forName(DRIVER);
+            Class.forName(CONFIG.getDriver());
         } catch (ClassNotFoundException e) {
-            System.err.println("MySQL Driver not found: " + e.getMessage());
-            throw new RuntimeException("Failed to load MySQL driver", e);
+            LOG.error("JDBC Driver not found: {}", e.getMessage());
+            throw new RuntimeException("Failed to load JDBC driver " + CONFIG.getDriver(), e);
         }
     }
 
     /**
-     * Get database connection
-     * @return Connection object
+     * Holder for the lazily created shared data source
+     */
+    private static final class DataSourceHolder {
+        private static final RoutingDataSource DATA_SOURCE = new RoutingDataSource(CONFIG);
+    }
+
+    /**
+     * Get database connection to the primary
+     * @return Connection object; close it to return it to the pool
      * @throws SQLException if connection fails
      */
     public static Connection getConnection() throws SQLException {
         try {
-            Connection connection = DriverManager.getConnection(URL, USERNAME, PASSWORD);
-            connection.setAutoCommit(true);
-            return connection;
+            return DataSourceHolder.DATA_SOURCE.getWriteConnection();
+        } catch (SQLException e) {
+            LOG.error("Failed to connect to database: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Get database connection for read-only queries
+     * @return Connection to a replica within the lag limit, or to the primary
+     * @throws SQLException if connection fails
+     */
+    public static Connection getReadConnection() throws SQLException {
+        try {
+            return DataSourceHolder.DATA_SOURCE.getReadConnection();
         } catch (SQLException e) {
-            System.err.println("Failed to connect to database: " + e.getMessage());
+            LOG.error("Failed to connect to database: {}", e.getMessage());
             throw e;
         }
     }
 
+    /**
+     * Get the active database configuration
+     * @return DatabaseConfig
+     */
+    public static DatabaseConfig getConfig() {
+        return CONFIG;
+    }
+
+    /**
+     * Get primary connection pool statistics
+     * @return PoolStatistics snapshot
+     */
+    public static PoolStatistics getPoolStatistics() {
+        return DataSourceHolder.DATA_SOURCE.getPrimaryPool().getStatistics();
+    }
+
+    /**
+     * Get statistics for the primary and all replica pools
+     * @return List of PoolStatistics snapshots
+     */
+    public static List<PoolStatistics> getAllPoolStatistics() {
+        return DataSourceHolder.DATA_SOURCE.getStatistics();
+    }
+
+    /**
+     * Close all pooled connections
+     */
+    public static void shutdown() {
+        DataSourceHolder.DATA_SOURCE.close();
+    }
+
     /**
      * Close database connection safely
      * @param connection Connection to close
@@ -47,7 +102,7 @@ public class DatabaseConnection {
             try {
                 connection.close();
             } catch (SQLException e) {
-                System.err.println("Error closing connection: " + e.getMessage());
+                LOG.warn("Error closing connection: {}", e.getMessage());
             }
         }
     }
@@ -60,8 +115,8 @@ public class DatabaseConnection {
         try (Connection connection = getConnection()) {
             return connection != null && !connection.isClosed();
         } catch (SQLException e) {
-            System.err.println("Database connection test failed: " + e.getMessage());
+            LOG.error("Database connection test failed: {}", e.getMessage());
             return false;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,112 @@
+package com.studentmanagement.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * OperationMetrics of the instrumented DAOs, keyed by DAO and method, readable as
+ * a table for the console or in the Prometheus text exposition format.
+ */
+public class MetricsRegistry {
+    private static final double[] QUANTILES = {0.5, 0.95, 0.99};
+
+    private final ConcurrentMap<String, ConcurrentMap<String, OperationMetrics>> components =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Get the metrics of an operation, creating them on first use
+     */
+    public OperationMetrics operation(String component, String operation) {
+        return components.computeIfAbsent(component, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(operation, name -> new OperationMetrics(component, name));
+    }
+
+    /**
+     * @return every operation, ordered by component and operation name
+     */
+    public List<OperationMetrics> getOperations() {
+        List<OperationMetrics> operations = new ArrayList<>();
+        for (ConcurrentMap<String, OperationMetrics> byName : components.values()) {
+            operations.addAll(byName.values());
+        }
+        operations.sort((a, b) -> {
+            int byComponent = a.getComponent().compareTo(b.getComponent());
+            return byComponent != 0 ? byComponent : a.getOperation().compareTo(b.getOperation());
+        });
+        return operations;
+    }
+
+    /**
+     * Write one line per operation that has been called
+     */
+    public void writeTable(Appendable out) throws IOException {
+        out.append(String.format("%-40s %9s %10s %7s %6s %9s %9s %9s %9s%n", "operation", "calls", "rows",
+                "errors", "slow", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (OperationMetrics metrics : getOperations()) {
+            if (metrics.getCalls() == 0) {
+                continue;
+            }
+            LatencyHistogram latency = metrics.getLatency();
+            out.append(String.format("%-40s %9d %10d %7d %6d %9.2f %9.2f %9.2f %9.2f%n",
+                    metrics.getComponent() + "." + metrics.getOperation(), metrics.getCalls(), metrics.getRows(),
+                    metrics.getErrors(), metrics.getSlowCalls(), latency.getPercentileMicros(50) / 1000.0,
+                    latency.getPercentileMicros(95) / 1000.0, latency.getPercentileMicros(99) / 1000.0,
+                    latency.getMaxMicros() / 1000.0));
+        }
+    }
+
+    /**
+     * Write all operations in the Prometheus text format (version 0.0.4):
+     * latency as a summary with p50/p95/p99, rows, errors and slow calls as counters
+     */
+    public void writePrometheus(Appendable out) throws IOException {
+        List<OperationMetrics> operations = getOperations();
+
+        out.append("# HELP dao_call_duration_seconds Latency of DAO calls, failed ones included\n");
+        out.append("# TYPE dao_call_duration_seconds summary\n");
+        for (OperationMetrics metrics : operations) {
+            LatencyHistogram latency = metrics.getLatency();
+            String labels = labels(metrics);
+            for (double quantile : QUANTILES) {
+                out.append("dao_call_duration_seconds{").append(labels).append(",quantile=\"")
+                        .append(Double.toString(quantile)).append("\"} ")
+                        .append(seconds(latency.getPercentileMicros(quantile * 100))).append('\n');
+            }
+            out.append("dao_call_duration_seconds_sum{").append(labels).append("} ")
+                    .append(seconds(latency.getSumMicros())).append('\n');
+            out.append("dao_call_duration_seconds_count{").append(labels).append("} ")
+                    .append(Long.toString(latency.getCount())).append('\n');
+        }
+        writeCounter(out, operations, "dao_call_rows_total", "Rows read or written by DAO calls", Counter.ROWS);
+        writeCounter(out, operations, "dao_call_errors_total", "DAO calls that threw", Counter.ERRORS);
+        writeCounter(out, operations, "dao_call_slow_total", "DAO calls over the slow query threshold",
+                Counter.SLOW);
+    }
+
+    private enum Counter {
+        ROWS, ERRORS, SLOW
+    }
+
+    private static void writeCounter(Appendable out, List<OperationMetrics> operations, String name, String help,
+                                     Counter counter) throws IOException {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" counter\n");
+        for (OperationMetrics metrics : operations) {
+            long value = counter == Counter.ROWS ? metrics.getRows()
+                    : counter == Counter.ERRORS ? metrics.getErrors() : metrics.getSlowCalls();
+            out.append(name).append('{').append(labels(metrics)).append("} ").append(Long.toString(value)).append('\n');
+        }
+    }
+
+    private static String labels(OperationMetrics metrics) {
+        return "dao=\"" + metrics.getComponent() + "\",method=\"" + metrics.getOperation() + "\"";
+    }
+
+    private static String seconds(long micros) {
+        return String.format(Locale.ROOT, "%.6f", micros / 1e6);
+    }
+}
@@ -0,0 +1,79 @@
+package com.studentmanagement.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency, row and error counts for one operation of one component,
+ * e.g. StudentDAO.getStudentById. Thread-safe.
+ */
+public class OperationMetrics {
+    private final String component;
+    private final String operation;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder slowCalls = new LongAdder();
+
+    OperationMetrics(String component, String operation) {
+        this.component = component;
+        this.operation = operation;
+    }
+
+    /**
+     * Record a call that returned
+     * @param rowCount rows read or written
+     */
+    public void recordSuccess(long elapsedNanos, long rowCount) {
+        latency.recordNanos(elapsedNanos);
+        rows.add(rowCount);
+    }
+
+    /**
+     * Record a call that threw; it counts towards the latency as well
+     */
+    public void recordError(long elapsedNanos) {
+        latency.recordNanos(elapsedNanos);
+        errors.increment();
+    }
+
+    public void recordSlowCall() {
+        slowCalls.increment();
+    }
+
+    public String getComponent() {
+        return component;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return latency of all calls, failed ones included
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public long getCalls() {
+        return latency.getCount();
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getSlowCalls() {
+        return slowCalls.sum();
+    }
+
+    @Override
+    public String toString() {
+        return component + "." + operation + ": calls=" + getCalls() + ", rows=" + getRows()
+                + ", errors=" + getErrors() + ", slow=" + getSlowCalls() + ", " + latency;
+    }
+}
@@ -0,0 +1,120 @@
+package com.studentmanagement.util;
+
+/**
+ * Point-in-time snapshot of ConnectionPool statistics
+ */
+public class PoolStatistics {
+    private final String poolName;
+    private final int totalConnections;
+    private final int activeConnections;
+    private final int idleConnections;
+    private final int waitingThreads;
+    private final long borrowCount;
+    private final long borrowTimeouts;
+    private final long connectionsCreated;
+    private final long connectionsClosed;
+    private final long leaksDetected;
+    private final double borrowMeanMicros;
+    private final long borrowP50Micros;
+    private final long borrowP95Micros;
+    private final long borrowP99Micros;
+    private final long borrowMaxMicros;
+
+    public PoolStatistics(String poolName, int totalConnections, int activeConnections, int idleConnections,
+                          int waitingThreads, long borrowCount, long borrowTimeouts, long connectionsCreated,
+                          long connectionsClosed, long leaksDetected, LatencyHistogram borrowLatency) {
+        this.poolName = poolName;
+        this.totalConnections = totalConnections;
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.waitingThreads = waitingThreads;
+        this.borrowCount = borrowCount;
+        this.borrowTimeouts = borrowTimeouts;
+        this.connectionsCreated = connectionsCreated;
+        this.connectionsClosed = connectionsClosed;
+        this.leaksDetected = leaksDetected;
+        this.borrowMeanMicros = borrowLatency.getMeanMicros();
+        this.borrowP50Micros = borrowLatency.getPercentileMicros(50);
+        this.borrowP95Micros = borrowLatency.getPercentileMicros(95);
+        this.borrowP99Micros = borrowLatency.getPercentileMicros(99);
+        this.borrowMaxMicros = borrowLatency.getMaxMicros();
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public int getTotalConnections() {
+        return totalConnections;
+    }
+
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    public int getWaitingThreads() {
+        return waitingThreads;
+    }
+
+    public long getBorrowCount() {
+        return borrowCount;
+    }
+
+    public long getBorrowTimeouts() {
+        return borrowTimeouts;
+    }
+
+    public long getConnectionsCreated() {
+        return connectionsCreated;
+    }
+
+    public long getConnectionsClosed() {
+        return connectionsClosed;
+    }
+
+    public long getLeaksDetected() {
+        return leaksDetected;
+    }
+
+    public double getBorrowMeanMicros() {
+        return borrowMeanMicros;
+    }
+
+    public long getBorrowP50Micros() {
+        return borrowP50Micros;
+    }
+
+    public long getBorrowP95Micros() {
+        return borrowP95Micros;
+    }
+
+    public long getBorrowP99Micros() {
+        return borrowP99Micros;
+    }
+
+    public long getBorrowMaxMicros() {
+        return borrowMaxMicros;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolStatistics{" +
+                "poolName='" + poolName + '\'' +
+                ", total=" + totalConnections +
+                ", active=" + activeConnections +
+                ", idle=" + idleConnections +
+                ", waiting=" + waitingThreads +
+                ", borrows=" + borrowCount +
+                ", timeouts=" + borrowTimeouts +
+                ", created=" + connectionsCreated +
+                ", closed=" + connectionsClosed +
+                ", leaks=" + leaksDetected +
+                String.format(", borrowLatency{mean=%.1fus, p50=%dus, p95=%dus, p99=%dus, max=%dus}",
+                        borrowMeanMicros, borrowP50Micros, borrowP95Micros, borrowP99Micros, borrowMaxMicros) +
+                '}';
+    }
+}
@@ -0,0 +1,87 @@
+package com.studentmanagement.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps retries at a fraction of calls, so that when the database is
+ * struggling retries cannot multiply the load on it.
+ *
+ * Every call adds `ratio` tokens and every retry spends one. A trickle of
+ * minPerSecond tokens is added over time so that a quiet process can still
+ * retry. The balance is capped at ten seconds' worth of that trickle.
+ */
+public class RetryBudget {
+    private static final long BURST_SECONDS = 10;
+
+    private final double ratio;
+    private final double minPerSecond;
+    private final double maxTokens;
+    private final LongAdder granted = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+
+    /**
+     * @param ratio retries allowed per call, e.g. 0.1 for one retry per ten calls
+     * @param minPerSecond retries allowed per second however few calls are made
+     */
+    public RetryBudget(double ratio, int minPerSecond) {
+        this.ratio = Math.max(0, ratio);
+        this.minPerSecond = Math.max(0, minPerSecond);
+        this.maxTokens = Math.max(1, this.minPerSecond * BURST_SECONDS);
+        this.tokens = maxTokens;
+    }
+
+    /**
+     * Record a first attempt
+     */
+    public synchronized void recordCall() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    /**
+     * Spend one token on a retry
+     * @return false if the budget is used up and the caller should give up
+     */
+    public boolean tryAcquire() {
+        boolean acquired;
+        synchronized (this) {
+            long now = System.nanoTime();
+            double refill = minPerSecond * (now - lastRefillNanos) / TimeUnit.SECONDS.toNanos(1);
+            tokens = Math.min(maxTokens, tokens + refill);
+            lastRefillNanos = now;
+            acquired = tokens >= 1;
+            if (acquired) {
+                tokens -= 1;
+            }
+        }
+        (acquired ? granted : denied).increment();
+        return acquired;
+    }
+
+    public synchronized double getAvailable() {
+        return tokens;
+    }
+
+    /**
+     * @return retries the budget allowed
+     */
+    public long getGranted() {
+        return granted.sum();
+    }
+
+    /**
+     * @return retries refused because the budget was used up
+     */
+    public long getDenied() {
+        return denied.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RetryBudget[ratio=%.2f, minPerSecond=%.0f, available=%.1f, granted=%d, denied=%d]",
+                ratio, minPerSecond, getAvailable(), granted.sum(), denied.sum());
+    }
+}
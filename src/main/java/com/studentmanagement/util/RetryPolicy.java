@@ -0,0 +1,50 @@
+package com.studentmanagement.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * How often and how far apart an operation is retried.
+ *
+ * Delays grow exponentially from the base delay and are drawn uniformly
+ * between zero and that bound ("full jitter"), so callers that failed
+ * together, e.g. on the same deadlock, do not retry in lockstep.
+ */
+public class RetryPolicy {
+    private final int maxAttempts;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+
+    /**
+     * @param maxAttempts attempts in total, including the first; 1 disables retries
+     * @param baseDelayMs upper bound of the delay before the first retry
+     * @param maxDelayMs upper bound of any delay
+     */
+    public RetryPolicy(int maxAttempts, long baseDelayMs, long maxDelayMs) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts must be positive");
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMs = Math.max(0, baseDelayMs);
+        this.maxDelayMs = Math.max(this.baseDelayMs, maxDelayMs);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @param retry 1 for the first retry, 2 for the second, ...
+     * @return milliseconds to wait before that retry
+     */
+    public long delayMillis(int retry) {
+        int shift = Math.min(Math.max(retry - 1, 0), 30);
+        long bound = Math.min(maxDelayMs, baseDelayMs << shift);
+        return bound <= 0 ? 0 : ThreadLocalRandom.current().nextLong(bound + 1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RetryPolicy[maxAttempts=%d, baseDelayMs=%d, maxDelayMs=%d]",
+                maxAttempts, baseDelayMs, maxDelayMs);
+    }
+}
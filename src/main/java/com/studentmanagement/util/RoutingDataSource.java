@@ -0,0 +1,165 @@
+package com.studentmanagement.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes writes to the primary pool and reads to replica pools.
+ *
+ * Replicas are chosen round-robin among those whose replication lag, sampled
+ * periodically, is within the configured limit. When no replica qualifies or
+ * borrowing from one fails, reads fall back to the primary.
+ */
+public class RoutingDataSource implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(RoutingDataSource.class);
+
+    private final ConnectionPool primary;
+    private final List<Replica> replicas;
+    private final int maxLagSeconds;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService lagMonitor;
+
+    public RoutingDataSource(DatabaseConfig config) {
+        this.primary = new ConnectionPool(config.createPrimaryPoolConfig());
+        this.maxLagSeconds = config.getReplicaMaxLagSeconds();
+
+        List<Replica> configured = new ArrayList<>();
+        List<String> urls = config.getReplicaUrls();
+        for (int i = 0; i < urls.size(); i++) {
+            configured.add(new Replica(new ConnectionPool(config.createReplicaPoolConfig(i + 1, urls.get(i)))));
+        }
+        this.replicas = Collections.unmodifiableList(configured);
+
+        if (replicas.isEmpty()) {
+            this.lagMonitor = null;
+        } else {
+            this.lagMonitor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "replica-lag-monitor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.lagMonitor.scheduleWithFixedDelay(this::checkReplicaLag, 0,
+                    config.getReplicaLagCheckIntervalMs(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Get a connection to the primary for writes and read-your-writes lookups
+     */
+    public Connection getWriteConnection() throws SQLException {
+        return primary.getConnection();
+    }
+
+    /**
+     * Get a connection for read-only queries, preferring an up-to-date replica
+     */
+    public Connection getReadConnection() throws SQLException {
+        int count = replicas.size();
+        if (count > 0) {
+            int start = Math.floorMod(nextReplica.getAndIncrement(), count);
+            for (int i = 0; i < count; i++) {
+                Replica replica = replicas.get((start + i) % count);
+                if (!replica.isEligible(maxLagSeconds)) {
+                    continue;
+                }
+                try {
+                    return replica.pool.getConnection();
+                } catch (SQLException e) {
+                    replica.healthy = false;
+                    LOG.warn("Replica '{}' unavailable, falling back: {}", replica.pool.getConfig().getPoolName(),
+                            e.getMessage());
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    public ConnectionPool getPrimaryPool() {
+        return primary;
+    }
+
+    /**
+     * Get statistics for the primary and every replica pool
+     */
+    public List<PoolStatistics> getStatistics() {
+        List<PoolStatistics> statistics = new ArrayList<>();
+        statistics.add(primary.getStatistics());
+        for (Replica replica : replicas) {
+            statistics.add(replica.pool.getStatistics());
+        }
+        return statistics;
+    }
+
+    @Override
+    public void close() {
+        if (lagMonitor != null) {
+            lagMonitor.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            replica.pool.close();
+        }
+        primary.close();
+    }
+
+    private void checkReplicaLag() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection()) {
+                Long lag = readReplicationLag(connection);
+                replica.lagSeconds = lag != null ? lag : Long.MAX_VALUE;
+                replica.healthy = lag != null;
+            } catch (SQLException | RuntimeException e) {
+                replica.healthy = false;
+            }
+        }
+    }
+
+    /**
+     * Read Seconds_Behind_Source, falling back to the pre-8.0.22 statement and column names
+     * @return lag in seconds, or null if replication is not running
+     */
+    private static Long readReplicationLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+                return resultSet.next() ? nullableLong(resultSet, "Seconds_Behind_Source") : null;
+            } catch (SQLException e) {
+                try (ResultSet resultSet = statement.executeQuery("SHOW SLAVE STATUS")) {
+                    return resultSet.next() ? nullableLong(resultSet, "Seconds_Behind_Master") : null;
+                }
+            }
+        }
+    }
+
+    private static Long nullableLong(ResultSet resultSet, String column) throws SQLException {
+        long value = resultSet.getLong(column);
+        return resultSet.wasNull() ? null : value;
+    }
+
+    /**
+     * A replica pool together with its last sampled replication state
+     */
+    private static final class Replica {
+        private final ConnectionPool pool;
+        private volatile long lagSeconds = Long.MAX_VALUE;
+        private volatile boolean healthy;
+
+        Replica(ConnectionPool pool) {
+            this.pool = pool;
+        }
+
+        boolean isEligible(int maxLagSeconds) {
+            return healthy && lagSeconds <= maxLagSeconds;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.studentmanagement.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * Size-bounded cache using the W-TinyLFU eviction policy.
+ *
+ * New entries enter a small LRU window (1% of capacity). When the window
+ * overflows, its oldest entry competes with the oldest entry of the main
+ * region, and whichever has been requested more often according to a
+ * count-min frequency sketch stays. The main region is a segmented LRU:
+ * entries hit again while on probation move to the protected segment.
+ * This keeps one-off scans from flushing frequently used entries.
+ *
+ * All operations take a single lock; they touch at most a few map entries.
+ */
+public class TinyLfuCache<K, V> {
+
+    private final int maximumSize;
+    private final int windowMaxSize;
+    private final int protectedMaxSize;
+    private final int mainMaxSize;
+
+    private final LinkedHashMap<K, V> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, V> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, V> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder evictions = new LongAdder();
+    private final BiConsumer<K, V> evictionListener;
+
+    /**
+     * @param maximumSize maximum number of entries
+     */
+    public TinyLfuCache(int maximumSize) {
+        this(maximumSize, null);
+    }
+
+    /**
+     * @param maximumSize maximum number of entries
+     * @param evictionListener called with each entry evicted for size, while the
+     *        cache lock is held; it must be quick and must not call back into the cache
+     */
+    public TinyLfuCache(int maximumSize, BiConsumer<K, V> evictionListener) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1");
+        }
+        this.maximumSize = maximumSize;
+        this.windowMaxSize = Math.max(1, maximumSize / 100);
+        this.mainMaxSize = maximumSize - windowMaxSize;
+        this.protectedMaxSize = mainMaxSize * 4 / 5;
+        this.sketch = new FrequencySketch(maximumSize);
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * Look up a value and record the access
+     * @return cached value or null
+     */
+    public V get(K key) {
+        lock.lock();
+        try {
+            sketch.increment(key);
+            V value = window.get(key);
+            if (value != null) {
+                return value;
+            }
+            value = protectedSegment.get(key);
+            if (value != null) {
+                return value;
+            }
+            value = probation.remove(key);
+            if (value != null) {
+                promote(key, value);
+            }
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Look up a value without recording an access in the frequency sketch or
+     * promoting it; like any LinkedHashMap lookup it still refreshes its recency
+     * @return cached value or null
+     */
+    public V peek(K key) {
+        lock.lock();
+        try {
+            V value = window.get(key);
+            if (value == null) {
+                value = protectedSegment.get(key);
+            }
+            if (value == null) {
+                value = probation.get(key);
+            }
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Insert or replace a value, evicting another entry if the cache is full
+     */
+    public void put(K key, V value) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("key and value cannot be null");
+        }
+        lock.lock();
+        try {
+            if (window.containsKey(key)) {
+                window.put(key, value);
+                return;
+            }
+            if (protectedSegment.containsKey(key)) {
+                protectedSegment.put(key, value);
+                return;
+            }
+            if (probation.containsKey(key)) {
+                probation.put(key, value);
+                return;
+            }
+            sketch.increment(key);
+            window.put(key, value);
+            if (window.size() > windowMaxSize) {
+                Map.Entry<K, V> candidate = removeEldest(window);
+                admit(candidate.getKey(), candidate.getValue());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove a key
+     * @return the removed value, or null if it was not cached
+     */
+    public V invalidate(K key) {
+        lock.lock();
+        try {
+            V value = window.remove(key);
+            if (value == null) {
+                value = protectedSegment.remove(key);
+            }
+            if (value == null) {
+                value = probation.remove(key);
+            }
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove every entry; access frequencies are kept
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            window.clear();
+            probation.clear();
+            protectedSegment.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return window.size() + probation.size() + protectedSegment.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return number of entries evicted to stay within the maximum size
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private void promote(K key, V value) {
+        protectedSegment.put(key, value);
+        if (protectedSegment.size() > protectedMaxSize) {
+            Map.Entry<K, V> demoted = removeEldest(protectedSegment);
+            probation.put(demoted.getKey(), demoted.getValue());
+        }
+    }
+
+    /**
+     * Move an entry leaving the window into the main region, if it is
+     * requested more often than the entry that would have to make room for it
+     */
+    private void admit(K candidateKey, V candidateValue) {
+        if (probation.size() + protectedSegment.size() < mainMaxSize) {
+            probation.put(candidateKey, candidateValue);
+            return;
+        }
+        LinkedHashMap<K, V> victimSegment = probation.isEmpty() ? protectedSegment : probation;
+        if (victimSegment.isEmpty()) {
+            evict(candidateKey, candidateValue);
+            return;
+        }
+        K victimKey = victimSegment.keySet().iterator().next();
+        if (sketch.frequency(candidateKey) > sketch.frequency(victimKey)) {
+            evict(victimKey, victimSegment.remove(victimKey));
+            probation.put(candidateKey, candidateValue);
+        } else {
+            evict(candidateKey, candidateValue);
+        }
+    }
+
+    private void evict(K key, V value) {
+        evictions.increment();
+        if (evictionListener != null) {
+            evictionListener.accept(key, value);
+        }
+    }
+
+    private static <K, V> Map.Entry<K, V> removeEldest(LinkedHashMap<K, V> segment) {
+        Iterator<Map.Entry<K, V>> iterator = segment.entrySet().iterator();
+        Map.Entry<K, V> eldest = iterator.next();
+        Map.Entry<K, V> copy = Map.entry(eldest.getKey(), eldest.getValue());
+        iterator.remove();
+        return copy;
+    }
+
+    /**
+     * Count-min sketch of 4-bit counters. All counters are halved once the
+     * number of increments reaches ten times the cache size, so the sketch
+     * forgets old popularity.
+     */
+    private static final class FrequencySketch {
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = {0x97cb3127, 0x2c1b3c6d, 0x297a2d39, 0x6a09e667};
+
+        private final byte[][] table;
+        private final int mask;
+        private final int resetThreshold;
+        private int additions;
+
+        FrequencySketch(int maximumSize) {
+            int width = Integer.highestOneBit(Math.max(16, Math.min(maximumSize, 1 << 24)) - 1) << 1;
+            this.table = new byte[DEPTH][width];
+            this.mask = width - 1;
+            this.resetThreshold = (int) Math.min(Integer.MAX_VALUE, 10L * maximumSize);
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int row = 0; row < DEPTH; row++) {
+                int index = indexOf(hash, row);
+                if (table[row][index] < MAX_COUNT) {
+                    table[row][index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= resetThreshold) {
+                reset();
+            }
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int min = MAX_COUNT;
+            for (int row = 0; row < DEPTH; row++) {
+                min = Math.min(min, table[row][indexOf(hash, row)]);
+            }
+            return min;
+        }
+
+        private void reset() {
+            for (byte[] row : table) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = (byte) (row[i] >>> 1);
+                }
+            }
+            additions /= 2;
+        }
+
+        private int indexOf(int hash, int row) {
+            int h = (hash ^ SEEDS[row]) * 0x9e3779b9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        private static int spread(int hash) {
+            int h = hash * 0x85ebca6b;
+            return h ^ (h >>> 13);
+        }
+    }
+}
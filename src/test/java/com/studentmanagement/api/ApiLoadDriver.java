@@ -0,0 +1,226 @@
+package com.studentmanagement.api;
+
+import com.studentmanagement.service.CourseService;
+import com.studentmanagement.service.ReportService;
+import com.studentmanagement.service.StudentService;
+import com.studentmanagement.util.ConcurrencyLimiter;
+import com.studentmanagement.util.DatabaseConfig;
+import com.studentmanagement.util.DatabaseConnection;
+import com.studentmanagement.util.LatencyHistogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load test for the API: a fixed number of simulated clients
+ * each send a request, wait for the answer and send the next, against an
+ * in-process server on a free port.
+ *
+ * Clients are driven by the asynchronous HttpClient, so ten thousand of them
+ * need only a handful of threads on the sending side. Running the same load
+ * once per executor mode shows what virtual threads change: with a platform
+ * pool, clients beyond the pool size queue inside the HTTP server; with
+ * virtual threads they queue on the ConcurrencyLimiter instead.
+ *
+ * Not a unit test: it needs the database. Run main with the test classpath,
+ * e.g. mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.studentmanagement.api.ApiLoadDriver -Dexec.args="[clients] [seconds] [path]"
+ */
+public class ApiLoadDriver {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int CLIENT_IO_THREADS = 4;
+    private static final int DEFAULT_CLIENTS = 1000;
+    private static final int DEFAULT_SECONDS = 20;
+
+    private final StudentService studentService;
+    private final CourseService courseService;
+    private final ReportService reportService;
+
+    /**
+     * Outcome of one run
+     */
+    public static final class Result {
+        private final RequestExecutors.Mode mode;
+        private final int clients;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private long elapsedNanos;
+
+        Result(RequestExecutors.Mode mode, int clients) {
+            this.mode = mode;
+            this.clients = clients;
+        }
+
+        public RequestExecutors.Mode getMode() {
+            return mode;
+        }
+
+        public long getSuccessful() {
+            return ok.sum();
+        }
+
+        /**
+         * @return requests answered 503 by the concurrency limiter
+         */
+        public long getRejected() {
+            return rejected.sum();
+        }
+
+        /**
+         * @return other error statuses, timeouts and connection failures
+         */
+        public long getFailed() {
+            return failed.sum();
+        }
+
+        public double getRequestsPerSecond() {
+            return elapsedNanos == 0 ? 0 : getSuccessful() * 1e9 / elapsedNanos;
+        }
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-8s clients=%d ok=%d rejected=%d failed=%d %.0f req/s "
+                            + "p50=%.1fms p99=%.1fms max=%.1fms",
+                    mode, clients, getSuccessful(), getRejected(), getFailed(), getRequestsPerSecond(),
+                    latency.getPercentileMicros(50) / 1000.0, latency.getPercentileMicros(99) / 1000.0,
+                    latency.getMaxMicros() / 1000.0);
+        }
+    }
+
+    public ApiLoadDriver(StudentService studentService, CourseService courseService, ReportService reportService) {
+        this.studentService = studentService;
+        this.courseService = courseService;
+        this.reportService = reportService;
+    }
+
+    /**
+     * Put the same closed-loop load on the API with each request executor and print both results
+     */
+    public static void main(String[] args) {
+        int clients;
+        int seconds;
+        try {
+            clients = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CLIENTS;
+            seconds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SECONDS;
+        } catch (NumberFormatException e) {
+            System.err.println("Usage: ApiLoadDriver [clients] [seconds] [path]");
+            System.exit(1);
+            return;
+        }
+        String path = args.length > 2 ? args[2] : "/api/students?limit=20";
+        DatabaseConfig config = DatabaseConnection.getConfig();
+        ApiLoadDriver loadDriver = new ApiLoadDriver(new StudentService(), new CourseService(), new ReportService());
+        Duration warmup = Duration.ofSeconds(Math.max(1, seconds / 5));
+        
+        System.out.println("Load test: " + clients + " clients for " + seconds + "s on " + path
+                + ", " + config.getApiMaxConcurrentRequests() + " concurrent API requests");
+        boolean success = true;
+        try {
+            for (RequestExecutors.Mode mode : RequestExecutors.Mode.values()) {
+                if (mode == RequestExecutors.Mode.VIRTUAL && !RequestExecutors.virtualThreadsAvailable()) {
+                    System.out.println("VIRTUAL  skipped: needs Java 21, running " + System.getProperty("java.version"));
+                    continue;
+                }
+                Result result = loadDriver.run(mode, config.getApiThreads(),
+                        config.getApiMaxConcurrentRequests(), config.getApiQueueTimeoutMs(),
+                        clients, warmup, Duration.ofSeconds(seconds), path);
+                System.out.println(result);
+            }
+        } catch (IOException e) {
+            System.err.println("Load test failed: " + e.getMessage());
+            success = false;
+        } finally {
+            DatabaseConnection.shutdown();
+        }
+        if (!success) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Start a server with the given executor mode, warm it up, then measure
+     * @param threads platform pool size (ignored for virtual threads)
+     * @param maxConcurrent limiter size for API requests
+     * @param path request path and query, e.g. "/api/students?limit=20"
+     */
+    public Result run(RequestExecutors.Mode mode, int threads, int maxConcurrent, long queueTimeoutMs,
+                      int clients, Duration warmup, Duration duration, String path) throws IOException {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(maxConcurrent, queueTimeoutMs);
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(CLIENT_IO_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-client");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (ApiServer server = new ApiServer(0, null, RequestExecutors.create(mode, threads), limiter,
+                studentService, courseService, reportService)) {
+            server.start();
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientExecutor)
+                    .build();
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Accept-Encoding", "gzip")
+                    .build();
+
+            drive(client, request, clients, warmup, new Result(mode, clients));
+            Result result = new Result(mode, clients);
+            result.elapsedNanos = drive(client, request, clients, duration, result);
+            return result;
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Keep `clients` requests outstanding until the duration has passed, then wait for the stragglers
+     * @return nanoseconds from the first request to the last response
+     */
+    private static long drive(HttpClient client, HttpRequest request, int clients, Duration duration,
+                              Result result) {
+        Semaphore outstanding = new Semaphore(clients);
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        try {
+            while (System.nanoTime() < deadline) {
+                if (!outstanding.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+                long sent = System.nanoTime();
+                client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, error) -> {
+                            if (error != null) {
+                                result.failed.increment();
+                            } else if (response.statusCode() == 503) {
+                                result.rejected.increment();
+                            } else if (response.statusCode() >= 400) {
+                                result.failed.increment();
+                            } else {
+                                result.ok.increment();
+                                result.latency.recordNanos(System.nanoTime() - sent);
+                            }
+                            outstanding.release();
+                        });
+            }
+            outstanding.tryAcquire(clients, REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,143 @@
+package com.studentmanagement.dao.impl;
+
+import com.studentmanagement.dao.StudentDAO;
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.model.Student;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CachingStudentDAOTest {
+
+    private final Map<Integer, Student> rows = new HashMap<>();
+    private final Map<String, Integer> loads = new HashMap<>();
+    private Runnable duringLoad = () -> { };
+
+    @Test
+    void servesRepeatedLookupsFromTheCache() throws StudentManagementException {
+        rows.put(1, new Student(1, "Ann", 20, "ann@example.com", 1));
+        CachingStudentDAO cache = new CachingStudentDAO(database(), 100, 60_000, 60_000);
+
+        assertEquals("Ann", cache.getStudentById(1).getName());
+        assertEquals("Ann", cache.getStudentById(1).getName());
+        assertEquals("Ann", cache.getStudentByEmail("ANN@example.com ").getName());
+
+        assertEquals(1, loads("getStudentById"));
+        assertEquals(0, loads("getStudentByEmail"));
+        assertEquals(2, cache.getStatistics().getHitCount());
+    }
+
+    @Test
+    void updateInvalidatesTheCachedStudent() throws StudentManagementException {
+        rows.put(1, new Student(1, "Ann", 20, "ann@example.com", 1));
+        CachingStudentDAO cache = new CachingStudentDAO(database(), 100, 60_000, 60_000);
+        cache.getStudentById(1);
+
+        cache.updateStudent(new Student(1, "Anna", 21, "anna@example.com", 1));
+
+        assertEquals("Anna", cache.getStudentById(1).getName());
+        assertNull(cache.getStudentByEmail("ann@example.com"));
+        assertEquals(2, loads("getStudentById"));
+    }
+
+    @Test
+    void rememberedMissIsForgottenWhenTheStudentIsAdded() throws StudentManagementException {
+        CachingStudentDAO cache = new CachingStudentDAO(database(), 100, 60_000, 60_000);
+        assertNull(cache.getStudentByEmail("new@example.com"));
+        assertNull(cache.getStudentByEmail("new@example.com"));
+        assertEquals(1, loads("getStudentByEmail"));
+
+        cache.addStudent(new Student("New", 20, "new@example.com", 1));
+
+        assertEquals("New", cache.getStudentByEmail("new@example.com").getName());
+        assertEquals(2, loads("getStudentByEmail"));
+    }
+
+    @Test
+    void loadThatRacedWithAWriteIsNotCached() throws StudentManagementException {
+        rows.put(1, new Student(1, "Ann", 20, "ann@example.com", 1));
+        CachingStudentDAO cache = new CachingStudentDAO(database(), 100, 60_000, 60_000);
+        // The row has been read when another thread's update commits and invalidates
+        duringLoad = () -> {
+            duringLoad = () -> { };
+            try {
+                cache.updateStudent(new Student(1, "Anna", 21, "anna@example.com", 1));
+            } catch (StudentManagementException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        assertEquals("Ann", cache.getStudentById(1).getName());
+
+        assertEquals("Anna", cache.getStudentById(1).getName());
+        assertEquals(2, loads("getStudentById"));
+    }
+
+    @Test
+    void missThatRacedWithAnInsertIsNotRemembered() throws StudentManagementException {
+        CachingStudentDAO cache = new CachingStudentDAO(database(), 100, 60_000, 60_000);
+        duringLoad = () -> {
+            duringLoad = () -> { };
+            try {
+                cache.addStudent(new Student("New", 20, "new@example.com", 1));
+            } catch (StudentManagementException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        assertNull(cache.getStudentById(1));
+
+        assertEquals("New", cache.getStudentById(1).getName());
+    }
+
+    private int loads(String method) {
+        return loads.getOrDefault(method, 0);
+    }
+
+    /**
+     * In-memory student table; lookups copy the row, then run duringLoad
+     */
+    private StudentDAO database() {
+        return (StudentDAO) Proxy.newProxyInstance(StudentDAO.class.getClassLoader(),
+                new Class<?>[] {StudentDAO.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getStudentById": {
+                            loads.merge(method.getName(), 1, Integer::sum);
+                            Student row = rows.get((Integer) args[0]);
+                            Student copy = row == null ? null : new Student(row);
+                            duringLoad.run();
+                            return copy;
+                        }
+                        case "getStudentByEmail": {
+                            loads.merge(method.getName(), 1, Integer::sum);
+                            Student copy = null;
+                            for (Student row : rows.values()) {
+                                if (row.getEmail().equalsIgnoreCase((String) args[0])) {
+                                    copy = new Student(row);
+                                }
+                            }
+                            duringLoad.run();
+                            return copy;
+                        }
+                        case "addStudent": {
+                            Student student = new Student((Student) args[0]);
+                            student.setStudentId(rows.size() + 1);
+                            rows.put(student.getStudentId(), student);
+                            return student.getStudentId();
+                        }
+                        case "updateStudent": {
+                            Student student = (Student) args[0];
+                            return rows.replace(student.getStudentId(), new Student(student)) != null;
+                        }
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
@@ -0,0 +1,102 @@
+package com.studentmanagement.dao.impl;
+
+import com.studentmanagement.exception.DatabaseException;
+import com.studentmanagement.exception.ErrorCode;
+import com.studentmanagement.exception.TransientDatabaseException;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SqlErrorsTest {
+
+    @Test
+    void readsConstraintNamesFromMySqlMessages() {
+        assertEquals("students.email", SqlErrors.constraintName(mysql(1062,
+                "Duplicate entry 'a@b.com' for key 'students.email'")));
+        assertEquals("students_ibfk_1", SqlErrors.constraintName(mysql(1452,
+                "Cannot add or update a child row: a foreign key constraint fails (`sms`.`students`, "
+                        + "CONSTRAINT `students_ibfk_1` FOREIGN KEY (`course_id`) REFERENCES `courses` (`course_id`))")));
+        assertEquals("students_chk_1", SqlErrors.constraintName(mysql(3819,
+                "Check constraint 'students_chk_1' is violated.")));
+    }
+
+    @Test
+    void constraintNameIsNullWhenTheMessageDoesNotSayOrTheCodeIsOther() {
+        assertNull(SqlErrors.constraintName(mysql(1062, "Duplicate entry")));
+        assertNull(SqlErrors.constraintName(mysql(1062, null)));
+        assertNull(SqlErrors.constraintName(mysql(1213, "Deadlock found; for key 'students.email'")));
+    }
+
+    @Test
+    void locksAndLostConnectionsAreRetryable() {
+        SQLException[] failures = {
+                mysql(1213, "Deadlock found when trying to get lock"),
+                mysql(1205, "Lock wait timeout exceeded"),
+                new SQLException("Communications link failure", "08S01", 0),
+                new SQLRecoverableException("Connection reset"),
+                new SQLTransientConnectionException("Timed out waiting for a connection")
+        };
+        for (SQLException failure : failures) {
+            DatabaseException translated = SqlErrors.translate("Database error while adding", failure);
+
+            assertTrue(translated instanceof TransientDatabaseException, failure.getMessage());
+            assertTrue(((TransientDatabaseException) translated).isRetryable());
+            assertEquals(ErrorCode.TRANSIENT_DATABASE, translated.getErrorCode());
+            assertEquals("Database error while adding", translated.getMessage());
+            assertSame(failure, translated.getCause());
+        }
+    }
+
+    @Test
+    void constraintViolationsAndClosedPoolsAreNotRetryable() {
+        SQLException[] failures = {
+                mysql(1062, "Duplicate entry 'a@b.com' for key 'students.email'"),
+                mysql(1452, "a foreign key constraint fails"),
+                mysql(3819, "Check constraint 'students_chk_1' is violated."),
+                new SQLException("PROCEDURE sms.add_student does not exist", "42000", 1305),
+                new SQLNonTransientConnectionException("Connection pool is closed", "08003")
+        };
+        for (SQLException failure : failures) {
+            DatabaseException translated = SqlErrors.translate("Database error while adding", failure);
+
+            assertFalse(translated instanceof TransientDatabaseException, failure.getMessage());
+            assertEquals(ErrorCode.DATABASE, translated.getErrorCode());
+            assertSame(failure, translated.getCause());
+        }
+    }
+
+    @Test
+    void onlyRolledBackOrUnsentWorkCountsAsNotApplied() {
+        assertTrue(SqlErrors.wasNotApplied(mysql(1213, "Deadlock found")));
+        assertTrue(SqlErrors.wasNotApplied(mysql(1205, "Lock wait timeout exceeded")));
+        assertTrue(SqlErrors.wasNotApplied(new SQLTransientConnectionException("Timed out waiting")));
+        assertTrue(SqlErrors.wasNotApplied(new SQLException("Cannot connect", "08001")));
+        // The server may have committed before the connection dropped
+        assertFalse(SqlErrors.wasNotApplied(new SQLException("Communications link failure", "08S01")));
+        assertFalse(SqlErrors.wasNotApplied(mysql(1062, "Duplicate entry")));
+    }
+
+    @Test
+    void waitingForThePoolIsNotAConnectionFailure() {
+        SQLException poolTimeout = new SQLTransientConnectionException("Timed out waiting");
+
+        assertTrue(SqlErrors.isPoolAcquireFailure(poolTimeout));
+        assertFalse(SqlErrors.isConnectionFailure(poolTimeout));
+        assertTrue(SqlErrors.isConnectionFailure(new SQLException("Communications link failure", "08S01")));
+        assertFalse(SqlErrors.isPoolAcquireFailure(new SQLTransientConnectionException("Connect failed", "08001")));
+    }
+
+    static SQLException mysql(int code, String message) {
+        return new SQLException(message, code == 1213 || code == 1205 ? "40001" : "23000", code);
+    }
+}
@@ -0,0 +1,126 @@
+package com.studentmanagement.dao.impl;
+
+import com.studentmanagement.dao.FullTextMode;
+import com.studentmanagement.exception.CheckConstraintViolationException;
+import com.studentmanagement.exception.ConstraintViolationException;
+import com.studentmanagement.exception.DuplicateEntryException;
+import com.studentmanagement.exception.ErrorCode;
+import com.studentmanagement.exception.ForeignKeyViolationException;
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.exception.ValidationException;
+import com.studentmanagement.model.Student;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Everything here fails or is decided before a connection is needed
+ */
+class StudentDAOImplTest {
+
+    @Test
+    void cursorRoundTripsIdAndSortValue() throws StudentManagementException {
+        String cursor = StudentDAOImpl.encodeCursor(42, "Zo\u00eb O'Brien: 2nd");
+
+        String[] position = StudentDAOImpl.decodeCursor(cursor);
+
+        assertEquals("42", position[0]);
+        assertEquals("Zo\u00eb O'Brien: 2nd", position[1]);
+    }
+
+    @Test
+    void cursorIsUrlSafeWithoutPadding() {
+        for (int id = 1; id < 200; id++) {
+            String cursor = StudentDAOImpl.encodeCursor(id, "?>>" + "~".repeat(id % 3));
+            assertFalse(cursor.contains("+") || cursor.contains("/") || cursor.contains("="), cursor);
+        }
+    }
+
+    @Test
+    void cursorWithEmptySortValueDecodes() throws StudentManagementException {
+        String[] position = StudentDAOImpl.decodeCursor(StudentDAOImpl.encodeCursor(7, ""));
+
+        assertEquals("7", position[0]);
+        assertEquals("", position[1]);
+    }
+
+    @Test
+    void rejectsTamperedCursors() {
+        assertInvalid("not base64!");
+        assertInvalid(encode("no separator"));
+        assertInvalid(encode(":Smith"));
+        assertInvalid(encode("abc:Smith"));
+        assertInvalid(encode("99999999999:Smith"));
+        assertInvalid(encode("12"));
+        assertInvalid(StudentDAOImpl.encodeCursor(5, "Smith") + "*");
+    }
+
+    @Test
+    void pageQueriesRejectTamperedCursorsBeforeQuerying() {
+        StudentDAOImpl dao = new StudentDAOImpl(FullTextMode.OFF, false);
+
+        assertThrows(ValidationException.class,
+                () -> dao.getStudentsPage(encode("x:Smith"), 10, false));
+        assertThrows(ValidationException.class,
+                () -> dao.getStudentsByCourse(1, 0, 100, null, "%%%", 10));
+        // The age-range cursor carries the age of the last row as its sort value
+        assertThrows(ValidationException.class,
+                () -> dao.getStudentsByAgeRange(0, 100, null, StudentDAOImpl.encodeCursor(5, "Smith"), 10));
+    }
+
+    @Test
+    void mapsBrokenConstraintsToTypedExceptions() {
+        Student student = new Student("Ann", 20, "ann@example.com", 7);
+
+        StudentManagementException duplicate = StudentDAOImpl.translateWriteFailure(SqlErrorsTest.mysql(1062,
+                "Duplicate entry 'ann@example.com' for key 'students.email'"), student, "Email taken", "adding");
+        assertTrue(duplicate instanceof DuplicateEntryException);
+        assertEquals("Email taken", duplicate.getMessage());
+        assertEquals(ErrorCode.CONFLICT, duplicate.getErrorCode());
+        assertEquals("students.email", ((ConstraintViolationException) duplicate).getConstraintName());
+        assertEquals(1062, ((ConstraintViolationException) duplicate).getSqlErrorCode());
+
+        StudentManagementException missingCourse = StudentDAOImpl.translateWriteFailure(SqlErrorsTest.mysql(1452,
+                "a foreign key constraint fails (CONSTRAINT `students_ibfk_1` FOREIGN KEY"), student, "", "adding");
+        assertTrue(missingCourse instanceof ForeignKeyViolationException);
+        assertEquals("Course with ID 7 does not exist", missingCourse.getMessage());
+        assertEquals(ErrorCode.VALIDATION, missingCourse.getErrorCode());
+
+        StudentManagementException age = StudentDAOImpl.translateWriteFailure(SqlErrorsTest.mysql(3819,
+                "Check constraint 'students_chk_1' is violated."), student, "", "adding");
+        assertTrue(age instanceof CheckConstraintViolationException);
+        assertEquals(ErrorCode.VALIDATION, age.getErrorCode());
+        assertEquals("students_chk_1", ((ConstraintViolationException) age).getConstraintName());
+
+        StudentManagementException other = StudentDAOImpl.translateWriteFailure(SqlErrorsTest.mysql(1054,
+                "Unknown column"), student, "", "adding student");
+        assertFalse(other instanceof ConstraintViolationException);
+        assertEquals("Database error while adding student", other.getMessage());
+    }
+
+    @Test
+    void missingProcedureSwitchesToJdbcTransactions() {
+        StudentDAOImpl dao = new StudentDAOImpl(FullTextMode.OFF, true);
+
+        assertFalse(dao.procedureMissing(SqlErrorsTest.mysql(1062, "Duplicate entry")));
+        assertTrue(dao.procedureMissing(SqlErrorsTest.mysql(1305, "PROCEDURE sms.add_student does not exist")));
+        // Still reported after the first warning, so a concurrent caller also falls back
+        assertTrue(dao.procedureMissing(SqlErrorsTest.mysql(1305, "PROCEDURE sms.add_student does not exist")));
+    }
+
+    private static String encode(String position) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertInvalid(String cursor) {
+        ValidationException e = assertThrows(ValidationException.class, () -> StudentDAOImpl.decodeCursor(cursor));
+        assertEquals("Invalid page cursor", e.getMessage());
+    }
+}
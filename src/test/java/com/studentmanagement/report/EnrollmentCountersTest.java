@@ -0,0 +1,211 @@
+package com.studentmanagement.report;
+
+import com.studentmanagement.dao.RowHandler;
+import com.studentmanagement.dao.StudentDAO;
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.model.Course;
+import com.studentmanagement.model.CourseEnrollment;
+import com.studentmanagement.model.EnrollmentReport;
+import com.studentmanagement.model.Student;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EnrollmentCountersTest {
+
+    private static final List<Course> COURSES = Arrays.asList(
+            new Course(1, "Math", ""), new Course(2, "Physics", ""));
+
+    /**
+     * Runs an action before the scan hands over the row at a given position
+     */
+    private interface ScanHook {
+        void beforeRow(int position) throws StudentManagementException;
+    }
+
+    @Test
+    void countsPutsAndRemoves() {
+        EnrollmentCounters counters = new EnrollmentCounters();
+        counters.put(1, 1, 20);
+        counters.put(2, 1, 30);
+        counters.put(3, 2, 40);
+        counters.put(4, 0, 50);
+
+        counters.put(2, 2, 31);
+        counters.remove(3);
+        counters.remove(99);
+
+        EnrollmentReport report = counters.getReport(COURSES, 10);
+        assertEquals(3, report.getTotalStudents());
+        assertEquals(1, report.getUnassignedStudents());
+        assertEquals(20, report.getMinAge());
+        assertEquals(50, report.getMaxAge());
+        assertEquals((20 + 31 + 50) / 3.0, report.getAverageAge(), 1e-9);
+        assertEquals(Map.of(1, 1L, 2, 1L), studentsByCourse(report));
+        assertEquals(31.0, report.getCourses().get(1).getAverageAge(), 1e-9);
+    }
+
+    @Test
+    void deletedCourseMovesItsStudentsToUnassigned() {
+        EnrollmentCounters counters = new EnrollmentCounters();
+        counters.put(1, 1, 20);
+        counters.put(2, 2, 30);
+        counters.put(3, 2, 40);
+
+        counters.removeCourse(2);
+        counters.removeCourse(2);
+
+        EnrollmentReport report = counters.getReport(COURSES, 10);
+        assertEquals(3, report.getTotalStudents());
+        assertEquals(2, report.getUnassignedStudents());
+        assertEquals(Map.of(1, 1L), studentsByCourse(report));
+
+        // Later writes for the moved students must not take them out of the deleted course again
+        counters.put(2, 1, 31);
+        counters.remove(3);
+        counters.put(4, 2, 50);
+
+        report = counters.getReport(COURSES, 10);
+        assertEquals(3, report.getTotalStudents());
+        assertEquals(0, report.getUnassignedStudents());
+        assertEquals(Map.of(1, 2L, 2, 1L), studentsByCourse(report));
+        assertEquals(50.0, report.getCourses().get(1).getAverageAge(), 1e-9);
+    }
+
+    @Test
+    void buildCountsEveryScannedStudent() throws StudentManagementException {
+        EnrollmentCounters counters = new EnrollmentCounters();
+        assertFalse(counters.isReady());
+
+        long counted = counters.build(scanning(students(2500), position -> { }));
+
+        assertTrue(counters.isReady());
+        assertEquals(2500, counted);
+        EnrollmentReport report = counters.getReport(COURSES, 10);
+        assertEquals(2500, report.getTotalStudents());
+        assertEquals(Map.of(1, 1250L, 2, 1250L), studentsByCourse(report));
+    }
+
+    @Test
+    void writesDuringBuildWinOverScannedRows() throws StudentManagementException {
+        EnrollmentCounters counters = new EnrollmentCounters();
+        List<Student> rows = students(2500);
+        StudentDAO source = scanning(rows, position -> {
+            if (position == 10) {
+                // Not scanned yet: the scan will later see the old course and age
+                counters.put(2001, 2, 99);
+                counters.remove(2003);
+            } else if (position == 1500) {
+                // Already counted from the first batch
+                counters.put(5, 2, 98);
+                counters.remove(7);
+                counters.put(3000, 1, 97);
+            }
+        });
+
+        long counted = counters.build(source);
+
+        assertEquals(2500 - 2 + 1, counted);
+        EnrollmentReport report = counters.getReport(COURSES, 10);
+        assertEquals(2499, report.getTotalStudents());
+        assertEquals(99, report.getMaxAge());
+        // 2001 and 5 moved from course 1 to 2, 2003 and 7 left course 1 and 3000 joined it
+        assertEquals(Map.of(1, 1250L - 2 - 2 + 1, 2, 1250L + 2), studentsByCourse(report));
+    }
+
+    @Test
+    void writesAfterBuildAreCounted() throws StudentManagementException {
+        EnrollmentCounters counters = new EnrollmentCounters();
+        counters.build(scanning(students(10), position -> { }));
+
+        counters.put(1, 2, 60);
+        counters.put(100, 1, 20);
+
+        EnrollmentReport report = counters.getReport(COURSES, 10);
+        assertEquals(11, report.getTotalStudents());
+        assertEquals(60, report.getMaxAge());
+    }
+
+    @Test
+    void rebuildStartsFromScratch() throws StudentManagementException {
+        EnrollmentCounters counters = new EnrollmentCounters();
+        counters.put(500, 1, 20);
+
+        counters.build(scanning(students(4), position -> { }));
+
+        assertEquals(4, counters.getReport(COURSES, 10).getTotalStudents());
+    }
+
+    @Test
+    void failedScanLeavesCountersNotReady() {
+        EnrollmentCounters counters = new EnrollmentCounters();
+        StudentDAO source = scanning(students(10), position -> {
+            if (position == 5) {
+                throw new StudentManagementException("connection lost");
+            }
+        });
+
+        assertThrows(StudentManagementException.class, () -> counters.build(source));
+        assertFalse(counters.isReady());
+        // A write after the failed build is counted as usual
+        counters.put(1, 1, 20);
+        assertEquals(1, counters.getReport(COURSES, 10).getTotalStudents());
+    }
+
+    /**
+     * Students 1..count, odd IDs in course 1 and even IDs in course 2, aged 18 to 27
+     */
+    private static List<Student> students(int count) {
+        List<Student> students = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            students.add(new Student(id, "Student " + id, 18 + id % 10, id + "@example.com", id % 2 == 1 ? 1 : 2));
+        }
+        return students;
+    }
+
+    /**
+     * StudentDAO whose forEachStudent scans the rows, reusing one instance as
+     * the real scan does; every other method is unsupported
+     */
+    private static StudentDAO scanning(List<Student> rows, ScanHook hook) {
+        return (StudentDAO) Proxy.newProxyInstance(StudentDAO.class.getClassLoader(),
+                new Class<?>[] {StudentDAO.class}, (proxy, method, args) -> {
+                    if (!"forEachStudent".equals(method.getName())) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    @SuppressWarnings("unchecked")
+                    RowHandler<Student> handler = (RowHandler<Student>) args[0];
+                    Student reused = new Student();
+                    for (int i = 0; i < rows.size(); i++) {
+                        hook.beforeRow(i);
+                        Student row = rows.get(i);
+                        reused.setStudentId(row.getStudentId());
+                        reused.setCourseId(row.getCourseId());
+                        reused.setAge(row.getAge());
+                        handler.handle(reused);
+                    }
+                    return (long) rows.size();
+                });
+    }
+
+    private static Map<Integer, Long> studentsByCourse(EnrollmentReport report) {
+        Map<Integer, Long> counts = new HashMap<>();
+        for (CourseEnrollment course : report.getCourses()) {
+            if (course.getStudentCount() > 0) {
+                counts.put(course.getCourseId(), course.getStudentCount());
+            }
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,122 @@
+package com.studentmanagement.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FuzzyTermDictionaryTest {
+
+    @Test
+    void boundedDistanceMatchesKnownPairs() {
+        assertEquals(0, FuzzyTermDictionary.distance("smith", "smith", 2));
+        assertEquals(1, FuzzyTermDictionary.distance("smith", "smyth", 2));
+        assertEquals(1, FuzzyTermDictionary.distance("smith", "smiths", 2));
+        assertEquals(3, FuzzyTermDictionary.distance("kitten", "sitting", 3));
+        assertEquals(3, FuzzyTermDictionary.distance("", "abc", 3));
+        assertEquals(0, FuzzyTermDictionary.distance("", "", 0));
+    }
+
+    @Test
+    void boundedDistanceStopsAtLimitPlusOne() {
+        assertEquals(3, FuzzyTermDictionary.distance("kitten", "sitting", 2));
+        assertEquals(1, FuzzyTermDictionary.distance("a", "b", 0));
+        assertEquals(2, FuzzyTermDictionary.distance("ab", "abcdef", 1));
+        assertEquals(2, FuzzyTermDictionary.distance("abcdef", "uvwxyz", 1));
+    }
+
+    @Test
+    void boundedDistanceAgreesWithFullMatrix() {
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            String a = randomTerm(random, 0, 8);
+            String b = randomTerm(random, 0, 8);
+            int limit = random.nextInt(4);
+            int expected = Math.min(levenshtein(a, b), limit + 1);
+            assertEquals(expected, FuzzyTermDictionary.distance(a, b, limit));
+        }
+    }
+
+    @Test
+    void searchVisitsExactlyTheTermsWithinTheDistance() {
+        Random random = new Random(7);
+        FuzzyTermDictionary dictionary = new FuzzyTermDictionary();
+        Set<String> terms = new HashSet<>();
+        for (int i = 0; i < 2000; i++) {
+            String term = randomTerm(random, 1, 9);
+            terms.add(term);
+            dictionary.add(term, i);
+        }
+        assertEquals(terms.size(), dictionary.termCount());
+
+        for (int q = 0; q < 200; q++) {
+            String query = randomTerm(random, 1, 9);
+            int maxDistance = random.nextInt(4);
+            Map<String, Integer> expected = new HashMap<>();
+            for (String term : terms) {
+                int distance = levenshtein(query, term);
+                if (distance <= maxDistance) {
+                    expected.put(term, distance);
+                }
+            }
+            Map<String, Integer> found = new HashMap<>();
+            dictionary.search(query, maxDistance, (term, distance, postings) -> found.put(term, distance));
+            assertEquals(expected, found);
+        }
+    }
+
+    @Test
+    void postingsFollowAddsAndRemoves() {
+        FuzzyTermDictionary dictionary = new FuzzyTermDictionary();
+        dictionary.add("smith", 1);
+        dictionary.add("smith", 2);
+        dictionary.add("smyth", 3);
+        dictionary.remove("smith", 1);
+        dictionary.remove("jones", 1);
+        dictionary.remove("smyth", 99);
+
+        Map<String, String> found = new HashMap<>();
+        dictionary.search("smith", 1, (term, distance, postings) -> found.put(term, postings.toString()));
+        assertEquals(Map.of("smith", "[2]", "smyth", "[3]"), found);
+
+        dictionary.remove("smith", 2);
+        found.clear();
+        dictionary.search("smith", 1, (term, distance, postings) -> found.put(term, postings.toString()));
+        assertEquals(Map.of("smyth", "[3]"), found);
+        assertEquals(1, dictionary.termCount());
+    }
+
+    /**
+     * Small alphabet, so that random terms share prefixes and land within reach of each other
+     */
+    private static String randomTerm(Random random, int minLength, int maxLength) {
+        int length = minLength + random.nextInt(maxLength - minLength + 1);
+        StringBuilder term = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            term.append((char) ('a' + random.nextInt(4)));
+        }
+        return term.toString();
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+}
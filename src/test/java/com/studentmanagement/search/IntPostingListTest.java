@@ -0,0 +1,89 @@
+package com.studentmanagement.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntPostingListTest {
+
+    @Test
+    void keepsValuesSortedAndUnique() {
+        IntPostingList list = of(5, 1, 9, 3, 5, 7, 1);
+
+        assertEquals("[1, 3, 5, 7, 9]", list.toString());
+        assertFalse(list.add(9));
+        assertTrue(list.contains(7));
+        assertFalse(list.contains(4));
+        assertEquals(1, list.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(5));
+    }
+
+    @Test
+    void removesValuesAndShrinks() {
+        IntPostingList list = new IntPostingList();
+        for (int value = 0; value < 1000; value++) {
+            list.add(value);
+        }
+        for (int value = 0; value < 1000; value += 2) {
+            assertTrue(list.remove(value));
+        }
+        for (int value = 1; value < 999; value += 2) {
+            assertTrue(list.remove(value));
+        }
+
+        assertFalse(list.remove(0));
+        assertEquals("[999]", list.toString());
+        assertTrue(list.remove(999));
+        assertTrue(list.isEmpty());
+        list.trimToSize();
+        assertTrue(list.add(4));
+        assertEquals("[4]", list.toString());
+    }
+
+    @Test
+    void intersectsAndUnites() {
+        IntPostingList a = of(1, 2, 4, 8, 16);
+        IntPostingList b = of(2, 3, 4, 5, 16, 17);
+
+        assertEquals("[2, 4, 16]", a.intersect(b).toString());
+        assertEquals("[1, 2, 3, 4, 5, 8, 16, 17]", a.union(b).toString());
+        assertEquals("[]", a.intersect(new IntPostingList()).toString());
+        assertEquals("[1, 2, 4, 8, 16]", new IntPostingList().union(a).toString());
+        // The results are independent of their inputs
+        IntPostingList union = a.union(b);
+        union.add(100);
+        assertFalse(a.contains(100));
+    }
+
+    @Test
+    void matchesASortedSetUnderRandomEdits() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        IntPostingList list = new IntPostingList();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            int value = random.nextInt(500);
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(value), list.add(value));
+            } else {
+                assertEquals(expected.remove(value), list.remove(value));
+            }
+        }
+
+        assertEquals(expected.toString(), list.toString());
+        assertEquals(expected.size(), list.size());
+    }
+
+    private static IntPostingList of(int... values) {
+        IntPostingList list = new IntPostingList();
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,110 @@
+package com.studentmanagement.search;
+
+import com.studentmanagement.dao.RowHandler;
+import com.studentmanagement.dao.StudentDAO;
+import com.studentmanagement.exception.StudentManagementException;
+import com.studentmanagement.model.Student;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StudentNameIndexTest {
+
+    @Test
+    void ranksExactThenNamePrefixThenWordPrefixThenSubstring() {
+        StudentNameIndex index = new StudentNameIndex();
+        index.put(1, "Annabelle Smith");
+        index.put(2, "Joanna Ann");
+        index.put(3, "Ann");
+        index.put(4, "Mary-Ann Lee");
+        index.put(5, "Anne");
+        index.put(6, "Bob Jones");
+
+        assertEquals(Arrays.asList(3, 5, 1, 2, 4), index.search("ANN ", 10));
+        assertEquals(Arrays.asList(3, 5), index.search("ann", 2));
+        assertEquals(List.of(), index.search("ann", 0));
+    }
+
+    @Test
+    void shortPatternsAndMissingTrigramsStillAnswer() {
+        StudentNameIndex index = new StudentNameIndex();
+        index.put(1, "Al Green");
+        index.put(2, "Sal");
+        index.put(3, "Bo");
+
+        assertEquals(Arrays.asList(1, 2), index.search("al", 10));
+        assertEquals(List.of(3), index.search("b", 10));
+        assertEquals(List.of(), index.search("xyz", 10));
+        // Every trigram exists, but not next to each other in one name
+        assertEquals(List.of(), index.search("al green sal", 10));
+    }
+
+    @Test
+    void prefixSearchMatchesAnyWord() {
+        StudentNameIndex index = new StudentNameIndex();
+        index.put(1, "Maria Lopez");
+        index.put(2, "Lopez Martin");
+        index.put(3, "Olof Pettersson");
+
+        assertEquals(Arrays.asList(2, 1), index.searchPrefix("lop", 10));
+        assertEquals(List.of(3), index.searchPrefix("PET", 10));
+        assertEquals(List.of(), index.searchPrefix("", 10));
+        assertEquals(List.of(), index.searchPrefix("opez", 10));
+    }
+
+    @Test
+    void renameAndRemoveDropOldPostings() {
+        StudentNameIndex index = new StudentNameIndex();
+        index.put(1, "Alice Cooper");
+        index.put(2, "Alice Walker");
+
+        index.put(1, "Bob Cooper");
+        index.remove(2);
+        index.remove(99);
+
+        assertEquals(List.of(), index.search("alice", 10));
+        assertEquals(List.of(), index.searchPrefix("wal", 10));
+        assertEquals(List.of(1), index.search("cooper", 10));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void buildIndexesScannedStudentsUnderConcurrentWrites() throws StudentManagementException {
+        StudentNameIndex index = new StudentNameIndex();
+        List<Student> rows = Arrays.asList(
+                new Student(1, "Ann Lee", 20, "a@example.com", 1),
+                new Student(2, "Ben Hall", 21, "b@example.com", 1),
+                new Student(3, "Cy Ng", 22, "c@example.com", 1));
+        StudentDAO source = (StudentDAO) Proxy.newProxyInstance(StudentDAO.class.getClassLoader(),
+                new Class<?>[] {StudentDAO.class}, (proxy, method, args) -> {
+                    if (!"forEachStudent".equals(method.getName())) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    @SuppressWarnings("unchecked")
+                    RowHandler<Student> handler = (RowHandler<Student>) args[0];
+                    for (Student row : rows) {
+                        if (row.getStudentId() == 2) {
+                            // Renamed after the scan read the row but before it was indexed
+                            index.put(2, "Ben Renamed");
+                        }
+                        handler.handle(row);
+                    }
+                    return (long) rows.size();
+                });
+        assertFalse(index.isReady());
+
+        assertEquals(3, index.build(source));
+
+        assertTrue(index.isReady());
+        assertEquals(List.of(2), index.search("renamed", 10));
+        assertEquals(List.of(), index.search("hall", 10));
+        assertEquals(List.of(1), index.searchPrefix("lee", 10));
+    }
+}
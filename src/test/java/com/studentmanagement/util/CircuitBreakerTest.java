@@ -0,0 +1,118 @@
+package com.studentmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    private static final long LONG_OPEN_MS = 60_000;
+
+    @Test
+    void opensAfterThresholdConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker(3, LONG_OPEN_MS);
+
+        breaker.onFailure();
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(1, breaker.getOpenCount());
+        assertEquals(3, breaker.getFailures());
+    }
+
+    @Test
+    void successResetsTheFailureCount() {
+        CircuitBreaker breaker = new CircuitBreaker(2, LONG_OPEN_MS);
+
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void openBreakerRejectsCallsUntilOpenMsHasPassed() {
+        CircuitBreaker breaker = new CircuitBreaker(1, LONG_OPEN_MS);
+        breaker.onFailure();
+
+        assertFalse(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(2, breaker.getRejected());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void halfOpenBreakerLetsOneProbeThrough() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 0);
+        breaker.onFailure();
+
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(1, breaker.getRejected());
+    }
+
+    @Test
+    void successfulProbeClosesTheBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker(2, 0);
+        breaker.onFailure();
+        breaker.onFailure();
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        // The count starts again from zero after closing
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void failedProbeOpensTheBreakerAgain() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 0);
+        breaker.onFailure();
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(2, breaker.getOpenCount());
+    }
+
+    @Test
+    void probeThatWasNotAttemptedLetsTheNextCallProbe() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 0);
+        breaker.onFailure();
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onNotAttempted();
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void callsThatWereNotAttemptedDoNotResetTheFailureCount() {
+        CircuitBreaker breaker = new CircuitBreaker(2, LONG_OPEN_MS);
+
+        breaker.onFailure();
+        breaker.onNotAttempted();
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void rejectsNonPositiveThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(0, LONG_OPEN_MS));
+    }
+}
@@ -0,0 +1,307 @@
+package com.studentmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectionPoolTest {
+
+    private static final String URL_PREFIX = "jdbc:fakepool:";
+    private static final Map<String, List<FakeSession>> SESSIONS = new ConcurrentHashMap<>();
+
+    static {
+        try {
+            DriverManager.registerDriver(new FakeDriver());
+        } catch (SQLException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Test
+    void reusesThePhysicalConnectionAfterRelease() throws Exception {
+        try (ConnectionPool pool = pool("reuse", 2)) {
+            Connection first = pool.getConnection();
+            assertEquals(1, pool.getStatistics().getActiveConnections());
+            first.close();
+            first.close();
+
+            Connection second = pool.getConnection();
+            second.close();
+
+            PoolStatistics stats = pool.getStatistics();
+            assertEquals(1, sessions("reuse").size());
+            assertEquals(2, stats.getBorrowCount());
+            assertEquals(1, stats.getConnectionsCreated());
+            assertEquals(0, stats.getActiveConnections());
+            assertEquals(1, stats.getIdleConnections());
+            assertTrue(first.isClosed());
+            assertFalse(sessions("reuse").get(0).closed);
+        }
+        assertTrue(sessions("reuse").get(0).closed);
+    }
+
+    @Test
+    void restoresTheSettingsTheConnectionWasOpenedWith() throws Exception {
+        try (ConnectionPool pool = pool("reset;readOnly", 1)) {
+            Connection connection = pool.getConnection();
+            connection.setAutoCommit(false);
+            connection.setReadOnly(false);
+            connection.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+            connection.close();
+
+            FakeSession session = sessions("reset;readOnly").get(0);
+            assertTrue(session.autoCommit);
+            assertEquals(1, session.rollbacks);
+            assertTrue(session.readOnly);
+            assertEquals(Connection.TRANSACTION_READ_COMMITTED, session.isolation);
+        }
+    }
+
+    @Test
+    void closesStatementsLeftOpenWhenTheConnectionIsReturned() throws Exception {
+        try (ConnectionPool pool = pool("statements", 1)) {
+            Connection connection = pool.getConnection();
+            Statement closedByBorrower = connection.createStatement();
+            Statement leftOpen = connection.prepareStatement("UPDATE students SET age = 1");
+            closedByBorrower.close();
+            assertEquals(1, leftOpen.executeUpdate("UPDATE students SET age = 1"));
+            assertSame(connection, leftOpen.getConnection());
+            connection.close();
+
+            FakeSession session = sessions("statements").get(0);
+            assertEquals(2, session.statements.size());
+            for (FakeStatement statement : session.statements) {
+                assertTrue(statement.closed);
+            }
+            assertTrue(leftOpen.isClosed());
+            assertThrows(SQLException.class, () -> leftOpen.executeUpdate("UPDATE students SET age = 2"));
+            assertEquals(1, session.updates);
+        }
+    }
+
+    @Test
+    void staleHandleCannotTouchTheNextBorrowersSession() throws Exception {
+        try (ConnectionPool pool = pool("stale", 1)) {
+            Connection stale = pool.getConnection();
+            stale.close();
+
+            Connection current = pool.getConnection();
+            assertThrows(SQLException.class, () -> stale.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE));
+            assertThrows(SQLException.class, () -> stale.setAutoCommit(false));
+            current.close();
+
+            FakeSession session = sessions("stale").get(0);
+            assertEquals(0, session.isolationChanges);
+            assertEquals(0, session.rollbacks);
+            assertTrue(session.autoCommit);
+        }
+    }
+
+    @Test
+    void timesOutWhenEveryConnectionIsBorrowed() throws Exception {
+        try (ConnectionPool pool = pool("timeout", 1)) {
+            Connection held = pool.getConnection();
+
+            assertThrows(SQLTransientConnectionException.class, pool::getConnection);
+            assertEquals(1, pool.getStatistics().getBorrowTimeouts());
+
+            held.close();
+            pool.getConnection().close();
+            assertEquals(1, sessions("timeout").size());
+        }
+    }
+
+    @Test
+    void reportsConnectionsHeldPastTheLeakThreshold() throws Exception {
+        ConnectionPoolConfig config = config("leak", 2);
+        config.setLeakDetectionThresholdMs(20);
+        config.setHousekeepingIntervalMs(10);
+        try (ConnectionPool pool = new ConnectionPool(config)) {
+            Connection leaked = pool.getConnection();
+            Connection scan = pool.getConnection();
+            ConnectionPool.disableLeakDetection(scan);
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (pool.getStatistics().getLeaksDetected() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(50);
+
+            assertEquals(1, pool.getStatistics().getLeaksDetected());
+            leaked.close();
+            scan.close();
+        }
+    }
+
+    private static ConnectionPool pool(String name, int maxPoolSize) {
+        return new ConnectionPool(config(name, maxPoolSize));
+    }
+
+    private static ConnectionPoolConfig config(String name, int maxPoolSize) {
+        SESSIONS.remove(name);
+        ConnectionPoolConfig config = new ConnectionPoolConfig(URL_PREFIX + name, "test", "");
+        config.setPoolName(name);
+        config.setMinIdle(0);
+        config.setMaxPoolSize(maxPoolSize);
+        config.setConnectionTimeoutMs(100);
+        return config;
+    }
+
+    private static List<FakeSession> sessions(String name) {
+        return SESSIONS.getOrDefault(name, List.of());
+    }
+
+    /**
+     * Opens in-memory fake sessions for jdbc:fakepool: URLs; a ";readOnly"
+     * suffix opens them read-only
+     */
+    private static final class FakeDriver implements Driver {
+        @Override
+        public Connection connect(String url, Properties info) {
+            if (!acceptsURL(url)) {
+                return null;
+            }
+            String name = url.substring(URL_PREFIX.length());
+            FakeSession session = new FakeSession(name.endsWith(";readOnly"));
+            SESSIONS.computeIfAbsent(name, key -> new CopyOnWriteArrayList<>()).add(session);
+            return session.connection;
+        }
+
+        @Override
+        public boolean acceptsURL(String url) {
+            return url.startsWith(URL_PREFIX);
+        }
+
+        @Override
+        public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+            return new DriverPropertyInfo[0];
+        }
+
+        @Override
+        public int getMajorVersion() {
+            return 1;
+        }
+
+        @Override
+        public int getMinorVersion() {
+            return 0;
+        }
+
+        @Override
+        public boolean jdbcCompliant() {
+            return false;
+        }
+
+        @Override
+        public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            throw new SQLFeatureNotSupportedException();
+        }
+    }
+
+    private static final class FakeSession {
+        final Connection connection;
+        final List<FakeStatement> statements = new CopyOnWriteArrayList<>();
+        volatile boolean autoCommit = true;
+        volatile boolean readOnly;
+        volatile int isolation = Connection.TRANSACTION_READ_COMMITTED;
+        volatile int isolationChanges;
+        volatile int rollbacks;
+        volatile int updates;
+        volatile boolean closed;
+
+        FakeSession(boolean readOnly) {
+            this.readOnly = readOnly;
+            this.connection = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "setAutoCommit":
+                                autoCommit = (Boolean) args[0];
+                                return null;
+                            case "getAutoCommit":
+                                return autoCommit;
+                            case "setReadOnly":
+                                this.readOnly = (Boolean) args[0];
+                                return null;
+                            case "isReadOnly":
+                                return this.readOnly;
+                            case "setTransactionIsolation":
+                                isolation = (Integer) args[0];
+                                isolationChanges++;
+                                return null;
+                            case "getTransactionIsolation":
+                                return isolation;
+                            case "rollback":
+                                rollbacks++;
+                                return null;
+                            case "isValid":
+                                return !closed;
+                            case "isClosed":
+                                return closed;
+                            case "close":
+                                closed = true;
+                                return null;
+                            case "clearWarnings":
+                                return null;
+                            case "createStatement":
+                                return statement(Statement.class);
+                            case "prepareStatement":
+                                return statement(java.sql.PreparedStatement.class);
+                            case "toString":
+                                return "FakeSession";
+                            default:
+                                throw new SQLFeatureNotSupportedException(method.getName());
+                        }
+                    });
+        }
+
+        private Statement statement(Class<? extends Statement> type) {
+            FakeStatement statement = new FakeStatement();
+            statements.add(statement);
+            return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {type},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "close":
+                                statement.closed = true;
+                                return null;
+                            case "isClosed":
+                                return statement.closed;
+                            case "executeUpdate":
+                                updates++;
+                                return 1;
+                            case "equals":
+                                return proxy == args[0];
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "toString":
+                                return "FakeStatement";
+                            default:
+                                throw new SQLFeatureNotSupportedException(method.getName());
+                        }
+                    });
+        }
+    }
+
+    private static final class FakeStatement {
+        volatile boolean closed;
+    }
+}
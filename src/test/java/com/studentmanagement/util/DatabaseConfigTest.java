@@ -0,0 +1,47 @@
+package com.studentmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DatabaseConfigTest {
+
+    @Test
+    void numbersMayBeSurroundedByWhitespace() {
+        DatabaseConfig config = config("db.api.threads", " 16\t", "db.api.queueTimeoutMs", "2500 ");
+
+        assertEquals(16, config.getApiThreads());
+        assertEquals(2500, config.getApiQueueTimeoutMs());
+    }
+
+    @Test
+    void intSettingOutOfRangeIsRejectedInsteadOfWrapping() {
+        DatabaseConfig config = config("db.api.threads", "4294967312");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, config::getApiThreads);
+        assertTrue(e.getMessage().contains("db.api.threads"), e.getMessage());
+    }
+
+    @Test
+    void malformedOrMissingNumberNamesTheKey() {
+        DatabaseConfig config = config("db.api.queueTimeoutMs", "5s");
+
+        IllegalArgumentException malformed = assertThrows(IllegalArgumentException.class,
+                config::getApiQueueTimeoutMs);
+        assertTrue(malformed.getMessage().contains("db.api.queueTimeoutMs"), malformed.getMessage());
+        IllegalArgumentException missing = assertThrows(IllegalArgumentException.class, config::getApiThreads);
+        assertTrue(missing.getMessage().contains("db.api.threads"), missing.getMessage());
+    }
+
+    private static DatabaseConfig config(String... keysAndValues) {
+        Properties properties = new Properties();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            properties.setProperty(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return new DatabaseConfig(properties);
+    }
+}
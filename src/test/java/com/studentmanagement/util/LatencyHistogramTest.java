@@ -0,0 +1,115 @@
+package com.studentmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileMicros(99));
+        assertEquals(0.0, histogram.getMeanMicros(), 0.0);
+    }
+
+    @Test
+    void smallValuesHaveExactBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int micros = 0; micros < 8; micros++) {
+            histogram.record(micros);
+        }
+
+        assertEquals(0, histogram.getPercentileMicros(0));
+        assertEquals(3, histogram.getPercentileMicros(50));
+        assertEquals(6, histogram.getPercentileMicros(87.5));
+        assertEquals(7, histogram.getPercentileMicros(100));
+    }
+
+    @Test
+    void bucketsSplitEachPowerOfTwoInEight() {
+        // 8..15 are one microsecond wide, 16..31 two wide
+        assertEquals(8, percentileOfFirst(8, 1000));
+        assertEquals(15, percentileOfFirst(15, 1000));
+        assertEquals(17, percentileOfFirst(16, 1000));
+        assertEquals(17, percentileOfFirst(17, 1000));
+        assertEquals(19, percentileOfFirst(18, 1000));
+        // 960..1023 is the last sub-bucket of 512..1023
+        assertEquals(1023, percentileOfFirst(960, 5000));
+        assertEquals(1023, percentileOfFirst(1023, 5000));
+        assertEquals(1151, percentileOfFirst(1024, 5000));
+    }
+
+    @Test
+    void percentileIsWithinOneEighthAboveTheValue() {
+        for (long micros = 1; micros < 10_000_000; micros = micros * 3 + 1) {
+            long reported = percentileOfFirst(micros, micros * 10);
+            assertTrue(reported >= micros && reported <= micros + micros / 8,
+                    micros + "us reported as " + reported + "us");
+        }
+    }
+
+    @Test
+    void percentileNeverExceedsTheMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(16);
+
+        assertEquals(16, histogram.getPercentileMicros(100));
+
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getPercentileMicros(100));
+    }
+
+    @Test
+    void percentilesUseTheNearestRank() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int micros = 1; micros <= 100; micros++) {
+            histogram.record(micros);
+        }
+
+        assertEquals(1, histogram.getPercentileMicros(0));
+        assertEquals(51, histogram.getPercentileMicros(50));
+        assertEquals(100, histogram.getPercentileMicros(99));
+        assertEquals(100, histogram.getPercentileMicros(150));
+        assertEquals(50.5, histogram.getMeanMicros(), 1e-9);
+        assertEquals(100, histogram.getMaxMicros());
+    }
+
+    @Test
+    void negativeValuesCountAsZeroAndNanosAreConverted() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.recordNanos(2_500);
+
+        assertEquals(2, histogram.getCount());
+        assertEquals(0, histogram.getPercentileMicros(50));
+        assertEquals(2, histogram.getPercentileMicros(100));
+    }
+
+    @Test
+    void resetClearsEverything() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getSumMicros());
+        assertEquals(0, histogram.getMaxMicros());
+        assertEquals(0, histogram.getPercentileMicros(50));
+    }
+
+    /**
+     * Median of a histogram holding `micros` and a larger value, i.e. the
+     * reported upper bound of the bucket that holds `micros`
+     */
+    private static long percentileOfFirst(long micros, long larger) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(micros);
+        histogram.record(larger);
+        return histogram.getPercentileMicros(50);
+    }
+}
@@ -0,0 +1,68 @@
+package com.studentmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetryBudgetTest {
+
+    @Test
+    void startsWithTenSecondsOfTheMinimumRate() {
+        RetryBudget budget = new RetryBudget(0, 2);
+
+        assertEquals(20, budget.getAvailable(), 1e-9);
+        for (int i = 0; i < 20; i++) {
+            assertTrue(budget.tryAcquire());
+        }
+        assertFalse(budget.tryAcquire());
+        assertEquals(20, budget.getGranted());
+        assertEquals(1, budget.getDenied());
+    }
+
+    @Test
+    void holdsAtLeastOneRetryWithoutAMinimumRate() {
+        RetryBudget budget = new RetryBudget(0, 0);
+
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+    }
+
+    @Test
+    void callsEarnRetriesAtTheRatio() {
+        RetryBudget budget = new RetryBudget(0.5, 0);
+        assertTrue(budget.tryAcquire());
+
+        budget.recordCall();
+        assertFalse(budget.tryAcquire());
+
+        budget.recordCall();
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+        assertEquals(2, budget.getGranted());
+        assertEquals(2, budget.getDenied());
+    }
+
+    @Test
+    void balanceIsCapped() {
+        RetryBudget budget = new RetryBudget(1, 1);
+
+        for (int i = 0; i < 100; i++) {
+            budget.recordCall();
+        }
+
+        assertEquals(10, budget.getAvailable(), 1e-9);
+    }
+
+    @Test
+    void negativeRatioEarnsNothing() {
+        RetryBudget budget = new RetryBudget(-1, 0);
+        assertTrue(budget.tryAcquire());
+
+        budget.recordCall();
+
+        assertEquals(0, budget.getAvailable(), 1e-9);
+        assertFalse(budget.tryAcquire());
+    }
+}
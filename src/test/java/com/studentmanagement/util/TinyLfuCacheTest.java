@@ -0,0 +1,104 @@
+package com.studentmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TinyLfuCacheTest {
+
+    @Test
+    void putsReplacesAndInvalidates() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>(100);
+
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(1, "c");
+
+        assertEquals("c", cache.get(1));
+        assertEquals("b", cache.peek(2));
+        assertEquals(2, cache.size());
+        assertEquals("b", cache.invalidate(2));
+        assertNull(cache.invalidate(2));
+        assertNull(cache.get(2));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get(1));
+    }
+
+    @Test
+    void rejectsNullKeysAndValuesAndEmptyCaches() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>(10);
+
+        assertThrows(IllegalArgumentException.class, () -> cache.put(null, "a"));
+        assertThrows(IllegalArgumentException.class, () -> cache.put(1, null));
+        assertThrows(IllegalArgumentException.class, () -> new TinyLfuCache<Integer, String>(0));
+    }
+
+    @Test
+    void staysWithinMaximumSizeAndReportsEvictions() {
+        Map<Integer, String> evicted = new HashMap<>();
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>(50, evicted::put);
+
+        for (int key = 0; key < 500; key++) {
+            cache.put(key, "v" + key);
+            assertTrue(cache.size() <= 50);
+        }
+
+        assertEquals(50, cache.size());
+        assertEquals(450, cache.getEvictionCount());
+        assertEquals(450, evicted.size());
+        for (Map.Entry<Integer, String> entry : evicted.entrySet()) {
+            assertEquals("v" + entry.getKey(), entry.getValue());
+            assertNull(cache.peek(entry.getKey()));
+        }
+    }
+
+    @Test
+    void frequentlyReadEntriesSurviveAScan() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>(100);
+        for (int key = 0; key < 50; key++) {
+            cache.put(key, "hot");
+        }
+        // Move the last hot key out of the window so that every read promotes
+        cache.put(999, "filler");
+        for (int round = 0; round < 5; round++) {
+            for (int key = 0; key < 50; key++) {
+                assertEquals("hot", cache.get(key));
+            }
+        }
+
+        for (int key = 1000; key < 3000; key++) {
+            cache.put(key, "scan");
+        }
+
+        for (int key = 0; key < 50; key++) {
+            assertEquals("hot", cache.peek(key));
+        }
+        assertEquals(100, cache.size());
+    }
+
+    @Test
+    void newEntryWithMoreRequestsReplacesAnUnpopularOne() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>(100);
+        for (int key = 0; key < 100; key++) {
+            cache.put(key, "old");
+        }
+        // Misses still count towards a key's popularity
+        for (int i = 0; i < 10; i++) {
+            assertNull(cache.get(500));
+        }
+
+        cache.put(500, "popular");
+        cache.put(501, "pushes 500 out of the window");
+
+        assertEquals("popular", cache.peek(500));
+        assertEquals(100, cache.size());
+    }
+}